@@ -0,0 +1,18 @@
+# Copyright 2018 Oracle Corporation and/or its affiliates.  All rights reserved.
+# Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+{{- define "operator.operatorRole" }}
+---
+kind: "Role"
+apiVersion: "rbac.authorization.k8s.io/v1beta1"
+metadata:
+  name: "weblogic-operator-role"
+  namespace: {{ .operatorNamespace | quote }}
+  labels:
+    weblogic.resourceVersion: "operator-v1"
+    weblogic.operatorName: {{ .operatorNamespace | quote }}
+rules:
+- apiGroups: [""]
+  resources: ["configmaps"]
+  verbs: ["get", "create", "update"]
+{{- end }}
@@ -0,0 +1,23 @@
+# Copyright 2018 Oracle Corporation and/or its affiliates.  All rights reserved.
+# Licensed under the Universal Permissive License v 1.0 as shown at http://oss.oracle.com/licenses/upl.
+
+{{- define "operator.operatorRoleBindingOperatorNamespace" }}
+---
+kind: "RoleBinding"
+apiVersion: "rbac.authorization.k8s.io/v1beta1"
+metadata:
+  name: "weblogic-operator-rolebinding-operator-namespace"
+  namespace: {{ .operatorNamespace | quote }}
+  labels:
+    weblogic.resourceVersion: "operator-v1"
+    weblogic.operatorName: {{ .operatorNamespace | quote }}
+subjects:
+- kind: "ServiceAccount"
+  name: {{ .operatorServiceAccount | quote }}
+  namespace: {{ .operatorNamespace | quote }}
+  apiGroup: ""
+roleRef:
+  kind: "Role"
+  name: "weblogic-operator-role"
+  apiGroup: ""
+{{- end }}
@@ -8,6 +8,8 @@
 {{- include "operator.clusterRoleBindingNonResource" . }}
 {{- include "operator.operatorNamespace" . }}
 {{- include "operator.operatorServiceAccount" . }}
+{{- include "operator.operatorRole" . }}
+{{- include "operator.operatorRoleBindingOperatorNamespace" . }}
 {{- include "operator.operatorConfigMap" . }}
 {{- include "operator.operatorSecrets" . }}
 {{- include "operator.operatorDeployment" . }}
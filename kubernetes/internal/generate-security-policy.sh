@@ -239,6 +239,40 @@ rules:
   resources: ["podsecuritypolicies", "networkpolicies"]
   verbs: ["get", "list", "watch", "create", "update", "patch", "delete", "deletecollection"]
 ---
+#
+# creating the role and role-binding in the operator namespace
+#
+kind: Role
+apiVersion: rbac.authorization.k8s.io/v1beta1
+metadata:
+  name: weblogic-operator-role
+  namespace: ${NAMESPACE}
+  labels:
+    weblogic.resourceVersion: operator-v1
+    weblogic.operatorName: ${NAMESPACE}
+rules:
+- apiGroups: [""]
+  resources: ["configmaps"]
+  verbs: ["get", "create", "update"]
+---
+kind: RoleBinding
+apiVersion: rbac.authorization.k8s.io/v1beta1
+metadata:
+  name: weblogic-operator-rolebinding-operator-namespace
+  namespace: ${NAMESPACE}
+  labels:
+    weblogic.resourceVersion: operator-v1
+    weblogic.operatorName: ${NAMESPACE}
+subjects:
+- kind: ServiceAccount
+  name: ${ACCOUNT_NAME}
+  namespace: ${NAMESPACE}
+  apiGroup: ""
+roleRef:
+  kind: Role
+  name: weblogic-operator-role
+  apiGroup: ""
+---
 EOF
 
   # Generate a RoleBinding for each target namespace
@@ -27,6 +27,7 @@ import static oracle.kubernetes.operator.utils.KubernetesArtifactUtils.newPodSpe
 import static oracle.kubernetes.operator.utils.KubernetesArtifactUtils.newPodTemplateSpec;
 import static oracle.kubernetes.operator.utils.KubernetesArtifactUtils.newPolicyRule;
 import static oracle.kubernetes.operator.utils.KubernetesArtifactUtils.newProbe;
+import static oracle.kubernetes.operator.utils.KubernetesArtifactUtils.newRole;
 import static oracle.kubernetes.operator.utils.KubernetesArtifactUtils.newRoleBinding;
 import static oracle.kubernetes.operator.utils.KubernetesArtifactUtils.newRoleRef;
 import static oracle.kubernetes.operator.utils.KubernetesArtifactUtils.newSecret;
@@ -52,6 +53,7 @@ import io.kubernetes.client.models.V1ServiceAccount;
 import io.kubernetes.client.models.V1ServiceSpec;
 import io.kubernetes.client.models.V1beta1ClusterRole;
 import io.kubernetes.client.models.V1beta1ClusterRoleBinding;
+import io.kubernetes.client.models.V1beta1Role;
 import io.kubernetes.client.models.V1beta1RoleBinding;
 import oracle.kubernetes.operator.utils.GeneratedOperatorObjects;
 import oracle.kubernetes.operator.utils.OperatorValues;
@@ -691,6 +693,52 @@ public abstract class CreateOperatorGeneratedFilesTestBase {
         .roleRef(newRoleRef().name("weblogic-operator-namespace-role").apiGroup(""));
   }
 
+  @Test
+  public void generatesCorrect_weblogicOperatorRole() {
+    assertThat(
+        getGeneratedFiles().getWeblogicOperatorRole(),
+        yamlEqualTo(getExpectedWeblogicOperatorRole()));
+  }
+
+  private V1beta1Role getExpectedWeblogicOperatorRole() {
+    return newRole()
+        .metadata(
+            newObjectMeta()
+                .name("weblogic-operator-role")
+                .namespace(getInputs().getNamespace())
+                .putLabelsItem(RESOURCE_VERSION_LABEL, OPERATOR_V1)
+                .putLabelsItem(OPERATORNAME_LABEL, getInputs().getNamespace()))
+        .addRulesItem(
+            newPolicyRule()
+                .addApiGroupsItem("")
+                .resources(singletonList("configmaps"))
+                .verbs(asList("get", "create", "update")));
+  }
+
+  @Test
+  public void generatesCorrect_weblogicOperatorRoleBindingOperatorNamespace() {
+    assertThat(
+        getGeneratedFiles().getWeblogicOperatorRoleBindingOperatorNamespace(),
+        yamlEqualTo(getExpectedWeblogicOperatorRoleBindingOperatorNamespace()));
+  }
+
+  private V1beta1RoleBinding getExpectedWeblogicOperatorRoleBindingOperatorNamespace() {
+    return newRoleBinding()
+        .metadata(
+            newObjectMeta()
+                .name("weblogic-operator-rolebinding-operator-namespace")
+                .namespace(getInputs().getNamespace())
+                .putLabelsItem(RESOURCE_VERSION_LABEL, OPERATOR_V1)
+                .putLabelsItem(OPERATORNAME_LABEL, getInputs().getNamespace()))
+        .addSubjectsItem(
+            newSubject()
+                .kind("ServiceAccount")
+                .name(getInputs().getServiceAccount())
+                .namespace(getInputs().getNamespace())
+                .apiGroup(""))
+        .roleRef(newRoleRef().kind("Role").name("weblogic-operator-role").apiGroup(""));
+  }
+
   @SuppressWarnings("unused")
   protected V1Service getExpectedExternalOperatorService(
       boolean debuggingEnabled, boolean externalRestEnabled) {
@@ -12,6 +12,7 @@ import io.kubernetes.client.models.V1Service;
 import io.kubernetes.client.models.V1ServiceAccount;
 import io.kubernetes.client.models.V1beta1ClusterRole;
 import io.kubernetes.client.models.V1beta1ClusterRoleBinding;
+import io.kubernetes.client.models.V1beta1Role;
 import io.kubernetes.client.models.V1beta1RoleBinding;
 
 /**
@@ -97,4 +98,12 @@ public class GeneratedOperatorObjects {
   public V1beta1RoleBinding getWeblogicOperatorRoleBinding(String namespace) {
     return securityYaml.getWeblogicOperatorRoleBinding(namespace);
   }
+
+  public V1beta1Role getWeblogicOperatorRole() {
+    return securityYaml.getWeblogicOperatorRole();
+  }
+
+  public V1beta1RoleBinding getWeblogicOperatorRoleBindingOperatorNamespace() {
+    return securityYaml.getWeblogicOperatorRoleBindingOperatorNamespace();
+  }
 }
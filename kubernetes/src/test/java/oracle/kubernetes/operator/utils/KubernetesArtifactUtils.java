@@ -62,6 +62,7 @@ import io.kubernetes.client.models.V1beta1APIServiceSpec;
 import io.kubernetes.client.models.V1beta1ClusterRole;
 import io.kubernetes.client.models.V1beta1ClusterRoleBinding;
 import io.kubernetes.client.models.V1beta1PolicyRule;
+import io.kubernetes.client.models.V1beta1Role;
 import io.kubernetes.client.models.V1beta1RoleBinding;
 import io.kubernetes.client.models.V1beta1RoleRef;
 import io.kubernetes.client.models.V1beta1Subject;
@@ -212,6 +213,10 @@ public class KubernetesArtifactUtils {
         .kind(KIND_CLUSTER_ROLE_BINDING);
   }
 
+  public static V1beta1Role newRole() {
+    return (new V1beta1Role()).apiVersion(API_VERSION_RBAC_V1BETA1).kind(KIND_ROLE);
+  }
+
   public static V1beta1RoleBinding newRoleBinding() {
     return (new V1beta1RoleBinding()).apiVersion(API_VERSION_RBAC_V1BETA1).kind(KIND_ROLE_BINDING);
   }
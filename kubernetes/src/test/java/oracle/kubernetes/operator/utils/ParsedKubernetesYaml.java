@@ -15,6 +15,7 @@ import static oracle.kubernetes.operator.utils.KubernetesArtifactUtils.KIND_JOB;
 import static oracle.kubernetes.operator.utils.KubernetesArtifactUtils.KIND_NAMESPACE;
 import static oracle.kubernetes.operator.utils.KubernetesArtifactUtils.KIND_PERSISTENT_VOLUME;
 import static oracle.kubernetes.operator.utils.KubernetesArtifactUtils.KIND_PERSISTENT_VOLUME_CLAIM;
+import static oracle.kubernetes.operator.utils.KubernetesArtifactUtils.KIND_ROLE;
 import static oracle.kubernetes.operator.utils.KubernetesArtifactUtils.KIND_ROLE_BINDING;
 import static oracle.kubernetes.operator.utils.KubernetesArtifactUtils.KIND_SECRET;
 import static oracle.kubernetes.operator.utils.KubernetesArtifactUtils.KIND_SERVICE;
@@ -35,6 +36,7 @@ import io.kubernetes.client.models.V1ServiceAccount;
 import io.kubernetes.client.models.V1beta1APIService;
 import io.kubernetes.client.models.V1beta1ClusterRole;
 import io.kubernetes.client.models.V1beta1ClusterRoleBinding;
+import io.kubernetes.client.models.V1beta1Role;
 import io.kubernetes.client.models.V1beta1RoleBinding;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -71,6 +73,7 @@ public class ParsedKubernetesYaml {
     kindToHandler.put(KIND_NAMESPACE, new NamespaceHandler());
     kindToHandler.put(KIND_PERSISTENT_VOLUME, new PersistentVolumeHandler());
     kindToHandler.put(KIND_PERSISTENT_VOLUME_CLAIM, new PersistentVolumeClaimHandler());
+    kindToHandler.put(KIND_ROLE, new RoleHandler());
     kindToHandler.put(KIND_ROLE_BINDING, new RoleBindingHandler());
     kindToHandler.put(KIND_SECRET, new SecretHandler());
     kindToHandler.put(KIND_SERVICE, new ServiceHandler());
@@ -168,6 +171,10 @@ public class ParsedKubernetesYaml {
     return (TypeHandler<V1PersistentVolumeClaim>) getHandler(KIND_PERSISTENT_VOLUME_CLAIM);
   }
 
+  TypeHandler<V1beta1Role> getRoles() {
+    return (TypeHandler<V1beta1Role>) getHandler(KIND_ROLE);
+  }
+
   TypeHandler<V1beta1RoleBinding> getRoleBindings() {
     return (TypeHandler<V1beta1RoleBinding>) getHandler(KIND_ROLE_BINDING);
   }
@@ -431,6 +438,17 @@ public class ParsedKubernetesYaml {
     }
   }
 
+  private static class RoleHandler extends TypeHandler<V1beta1Role> {
+    private RoleHandler() {
+      super(V1beta1Role.class);
+    }
+
+    @Override
+    protected V1ObjectMeta getMetadata(V1beta1Role instance) {
+      return instance.getMetadata();
+    }
+  }
+
   private static class RoleBindingHandler extends TypeHandler<V1beta1RoleBinding> {
     private RoleBindingHandler() {
       super(V1beta1RoleBinding.class);
@@ -8,6 +8,7 @@ import io.kubernetes.client.models.V1Namespace;
 import io.kubernetes.client.models.V1ServiceAccount;
 import io.kubernetes.client.models.V1beta1ClusterRole;
 import io.kubernetes.client.models.V1beta1ClusterRoleBinding;
+import io.kubernetes.client.models.V1beta1Role;
 import io.kubernetes.client.models.V1beta1RoleBinding;
 import java.nio.file.Path;
 
@@ -69,8 +70,17 @@ public class ParsedWeblogicOperatorSecurityYaml extends ParsedKubernetesYaml {
     return getRoleBindings().find("weblogic-operator-rolebinding", namespace);
   }
 
+  public V1beta1Role getWeblogicOperatorRole() {
+    return getRoles().find("weblogic-operator-role", inputs.getNamespace());
+  }
+
+  public V1beta1RoleBinding getWeblogicOperatorRoleBindingOperatorNamespace() {
+    return getRoleBindings()
+        .find("weblogic-operator-rolebinding-operator-namespace", inputs.getNamespace());
+  }
+
   public int getExpectedObjectCount() {
-    int rtn = 9;
+    int rtn = 11;
     // add one role binding for each namespace
     for (@SuppressWarnings("unused")
     String targetNamespace : inputs.getTargetNamespaces().split(",")) {
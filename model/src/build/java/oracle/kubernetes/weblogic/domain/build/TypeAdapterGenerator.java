@@ -0,0 +1,267 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.build;
+
+import com.google.gson.annotations.SerializedName;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import oracle.kubernetes.weblogic.domain.v1.AutoscalingMetric;
+import oracle.kubernetes.weblogic.domain.v1.Cluster;
+import oracle.kubernetes.weblogic.domain.v1.ClusterAutoscaling;
+import oracle.kubernetes.weblogic.domain.v1.ClusterParams;
+import oracle.kubernetes.weblogic.domain.v1.ClusterStartup;
+import oracle.kubernetes.weblogic.domain.v1.ClusteredServer;
+import oracle.kubernetes.weblogic.domain.v1.Domain;
+import oracle.kubernetes.weblogic.domain.v1.DomainCondition;
+import oracle.kubernetes.weblogic.domain.v1.DomainList;
+import oracle.kubernetes.weblogic.domain.v1.DomainSpec;
+import oracle.kubernetes.weblogic.domain.v1.DomainStatus;
+import oracle.kubernetes.weblogic.domain.v1.NonClusteredServer;
+import oracle.kubernetes.weblogic.domain.v1.Server;
+import oracle.kubernetes.weblogic.domain.v1.ServerHealth;
+import oracle.kubernetes.weblogic.domain.v1.ServerStartup;
+import oracle.kubernetes.weblogic.domain.v1.ServerStatus;
+import oracle.kubernetes.weblogic.domain.v1.SubsystemHealth;
+
+/**
+ * Generates DomainModelTypeAdapterFactory, the streaming Gson type adapters for the domain model,
+ * from the serialized fields of the model classes. Each adapter reads and writes the fields through
+ * their accessors, in the order in which Gson's reflective adapter would write them, and leaves the
+ * field values to the adapters Gson has for their types. Run with {@code mvn -P generate-codecs
+ * process-classes} in the model module whenever a model class changes, and commit the result.
+ */
+public class TypeAdapterGenerator {
+  private static final String PACKAGE = Domain.class.getPackage().getName();
+  private static final String FACTORY = "DomainModelTypeAdapterFactory";
+
+  private static final List<Class<?>> MODEL_CLASSES =
+      Arrays.asList(
+          Domain.class,
+          DomainList.class,
+          DomainSpec.class,
+          DomainStatus.class,
+          DomainCondition.class,
+          ServerStatus.class,
+          ServerHealth.class,
+          SubsystemHealth.class,
+          ServerStartup.class,
+          ClusterStartup.class,
+          ClusterAutoscaling.class,
+          AutoscalingMetric.class,
+          Server.class,
+          NonClusteredServer.class,
+          ClusteredServer.class,
+          ClusterParams.class,
+          Cluster.class);
+
+  private final Set<String> imports = new TreeSet<>();
+
+  /**
+   * Writes the generated source below a source directory.
+   *
+   * @param args the source directory
+   * @throws IOException if the source cannot be written
+   */
+  public static void main(String[] args) throws IOException {
+    Path sourceDirectory = Paths.get(args.length > 0 ? args[0] : "src/main/java");
+    Path file =
+        sourceDirectory.resolve(PACKAGE.replace('.', '/')).resolve(FACTORY + ".java");
+    Files.write(file, new TypeAdapterGenerator().generate().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Returns the source of the factory.
+   *
+   * @return the source
+   */
+  public String generate() {
+    imports.add("com.google.gson.Gson");
+    imports.add("com.google.gson.TypeAdapter");
+    imports.add("com.google.gson.TypeAdapterFactory");
+    imports.add("com.google.gson.reflect.TypeToken");
+    imports.add("com.google.gson.stream.JsonReader");
+    imports.add("com.google.gson.stream.JsonToken");
+    imports.add("com.google.gson.stream.JsonWriter");
+    imports.add("java.io.IOException");
+
+    StringWriter body = new StringWriter();
+    PrintWriter out = new PrintWriter(body);
+    out.println("/**");
+    out.println(" * Streaming Gson type adapters for the domain model, which read and write the model");
+    out.println(" * classes without reflection. Generated by TypeAdapterGenerator; do not edit.");
+    out.println(" */");
+    out.println("public class " + FACTORY + " implements TypeAdapterFactory {");
+    out.println("  @Override");
+    out.println("  @SuppressWarnings(\"unchecked\")");
+    out.println("  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {");
+    out.println("    Class<? super T> rawType = type.getRawType();");
+    for (Class<?> modelClass : MODEL_CLASSES) {
+      String name = modelClass.getSimpleName();
+      out.println("    if (rawType == " + name + ".class) {");
+      out.println("      return (TypeAdapter<T>) new " + name + "Adapter(gson);");
+      out.println("    }");
+    }
+    out.println("    return null;");
+    out.println("  }");
+    for (Class<?> modelClass : MODEL_CLASSES) {
+      out.println();
+      generateAdapter(out, modelClass);
+    }
+    out.println("}");
+    out.flush();
+
+    StringBuilder source = new StringBuilder();
+    source.append("// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.\n");
+    source.append("// Licensed under the Universal Permissive License v 1.0 as shown at\n");
+    source.append("// http://oss.oracle.com/licenses/upl.\n\n");
+    source.append("package ").append(PACKAGE).append(";\n\n");
+    for (String name : imports) {
+      source.append("import ").append(name).append(";\n");
+    }
+    return source.append("\n").append(body).toString();
+  }
+
+  private void generateAdapter(PrintWriter out, Class<?> modelClass) {
+    String name = modelClass.getSimpleName();
+    List<Field> fields = getSerializedFields(modelClass);
+
+    out.println("  private static class " + name + "Adapter extends TypeAdapter<" + name + "> {");
+    for (Field field : fields) {
+      String typeName = getTypeName(field.getGenericType());
+      out.println(
+          "    private final TypeAdapter<" + typeName + "> " + field.getName() + "Adapter;");
+    }
+    out.println();
+    out.println("    " + name + "Adapter(Gson gson) {");
+    for (Field field : fields) {
+      out.println("      " + field.getName() + "Adapter = " + getAdapterLookup(field) + ";");
+    }
+    out.println("    }");
+
+    out.println();
+    out.println("    @Override");
+    out.println("    public void write(JsonWriter out, " + name + " value) throws IOException {");
+    out.println("      if (value == null) {");
+    out.println("        out.nullValue();");
+    out.println("        return;");
+    out.println("      }");
+    out.println("      out.beginObject();");
+    for (Field field : fields) {
+      String getter = "value." + getAccessor(modelClass, field, "get") + "()";
+      out.println("      if (" + getter + " != null) {");
+      out.println("        out.name(\"" + getSerializedName(field) + "\");");
+      out.println("        " + field.getName() + "Adapter.write(out, " + getter + ");");
+      out.println("      }");
+    }
+    out.println("      out.endObject();");
+    out.println("    }");
+
+    out.println();
+    out.println("    @Override");
+    out.println("    public " + name + " read(JsonReader in) throws IOException {");
+    out.println("      if (in.peek() == JsonToken.NULL) {");
+    out.println("        in.nextNull();");
+    out.println("        return null;");
+    out.println("      }");
+    out.println("      " + name + " value = new " + name + "();");
+    out.println("      in.beginObject();");
+    out.println("      while (in.hasNext()) {");
+    out.println("        switch (in.nextName()) {");
+    for (Field field : fields) {
+      out.println("          case \"" + getSerializedName(field) + "\":");
+      out.println(
+          "            value."
+              + getAccessor(modelClass, field, "set")
+              + "("
+              + field.getName()
+              + "Adapter.read(in));");
+      out.println("            break;");
+    }
+    out.println("          default:");
+    out.println("            in.skipValue();");
+    out.println("        }");
+    out.println("      }");
+    out.println("      in.endObject();");
+    out.println("      return value;");
+    out.println("    }");
+    out.println("  }");
+  }
+
+  // Gson writes the fields declared by a class before those of its superclasses
+  private static List<Field> getSerializedFields(Class<?> modelClass) {
+    List<Field> fields = new ArrayList<>();
+    for (Class<?> c = modelClass; c != Object.class; c = c.getSuperclass()) {
+      for (Field field : c.getDeclaredFields()) {
+        int modifiers = field.getModifiers();
+        if (!Modifier.isStatic(modifiers)
+            && !Modifier.isTransient(modifiers)
+            && field.getAnnotation(SerializedName.class) != null) {
+          fields.add(field);
+        }
+      }
+    }
+    return fields;
+  }
+
+  private static String getSerializedName(Field field) {
+    return field.getAnnotation(SerializedName.class).value();
+  }
+
+  private static String getAccessor(Class<?> modelClass, Field field, String prefix) {
+    String name = prefix + Character.toUpperCase(field.getName().charAt(0));
+    name += field.getName().substring(1);
+    try {
+      if (prefix.equals("get")) {
+        modelClass.getMethod(name);
+      } else {
+        modelClass.getMethod(name, field.getType());
+      }
+      return name;
+    } catch (NoSuchMethodException e) {
+      throw new IllegalStateException(modelClass.getName() + " has no method " + name, e);
+    }
+  }
+
+  private String getAdapterLookup(Field field) {
+    Type type = field.getGenericType();
+    if (type instanceof Class) {
+      return "gson.getAdapter(" + getTypeName(type) + ".class)";
+    }
+    return "gson.getAdapter(new TypeToken<" + getTypeName(type) + ">() {})";
+  }
+
+  private String getTypeName(Type type) {
+    if (type instanceof ParameterizedType) {
+      ParameterizedType parameterized = (ParameterizedType) type;
+      StringBuilder name = new StringBuilder(getTypeName(parameterized.getRawType())).append('<');
+      Type[] arguments = parameterized.getActualTypeArguments();
+      for (int i = 0; i < arguments.length; i++) {
+        name.append(i > 0 ? ", " : "").append(getTypeName(arguments[i]));
+      }
+      return name.append('>').toString();
+    }
+
+    Class<?> c = (Class<?>) type;
+    String packageName = c.getPackage().getName();
+    if (!packageName.equals("java.lang") && !packageName.equals(PACKAGE)) {
+      imports.add(c.getName());
+    }
+    return c.getSimpleName();
+  }
+}
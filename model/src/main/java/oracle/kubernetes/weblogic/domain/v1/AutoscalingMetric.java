@@ -0,0 +1,163 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.v1;
+
+import com.google.gson.annotations.Expose;
+import com.google.gson.annotations.SerializedName;
+import javax.validation.constraints.NotNull;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * AutoscalingMetric describes a metric published by the WebLogic Monitoring Exporter and the
+ * average value per managed server at which to hold it.
+ */
+public class AutoscalingMetric {
+
+  /**
+   * The name of the metric, such as threadpool_queue_length. The values of all series with this
+   * name are summed for each server. (Required)
+   */
+  @SerializedName("name")
+  @Expose
+  @NotNull
+  private String name;
+  /** The value of the metric per managed server at which to hold the cluster. (Required) */
+  @SerializedName("targetAverageValue")
+  @Expose
+  @NotNull
+  private Double targetAverageValue;
+  /**
+   * If true, the metric is a counter, such as a count of requests, and its increase per second is
+   * held at the target instead of its value. Defaults to false.
+   */
+  @SerializedName("rate")
+  @Expose
+  private Boolean rate;
+
+  /**
+   * The name of the metric, such as threadpool_queue_length. The values of all series with this
+   * name are summed for each server. (Required)
+   *
+   * @return metric name
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * The name of the metric, such as threadpool_queue_length. The values of all series with this
+   * name are summed for each server. (Required)
+   *
+   * @param name metric name
+   */
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  /**
+   * The name of the metric, such as threadpool_queue_length. The values of all series with this
+   * name are summed for each server. (Required)
+   *
+   * @param name metric name
+   * @return this
+   */
+  public AutoscalingMetric withName(String name) {
+    this.name = name;
+    return this;
+  }
+
+  /**
+   * The value of the metric per managed server at which to hold the cluster. (Required)
+   *
+   * @return target average value
+   */
+  public Double getTargetAverageValue() {
+    return targetAverageValue;
+  }
+
+  /**
+   * The value of the metric per managed server at which to hold the cluster. (Required)
+   *
+   * @param targetAverageValue target average value
+   */
+  public void setTargetAverageValue(Double targetAverageValue) {
+    this.targetAverageValue = targetAverageValue;
+  }
+
+  /**
+   * The value of the metric per managed server at which to hold the cluster. (Required)
+   *
+   * @param targetAverageValue target average value
+   * @return this
+   */
+  public AutoscalingMetric withTargetAverageValue(Double targetAverageValue) {
+    this.targetAverageValue = targetAverageValue;
+    return this;
+  }
+
+  /**
+   * If true, the metric is a counter, such as a count of requests, and its increase per second is
+   * held at the target instead of its value. Defaults to false.
+   *
+   * @return true if the rate of the metric is held at the target
+   */
+  public Boolean getRate() {
+    return rate;
+  }
+
+  /**
+   * If true, the metric is a counter, such as a count of requests, and its increase per second is
+   * held at the target instead of its value. Defaults to false.
+   *
+   * @param rate true if the rate of the metric is held at the target
+   */
+  public void setRate(Boolean rate) {
+    this.rate = rate;
+  }
+
+  /**
+   * If true, the metric is a counter, such as a count of requests, and its increase per second is
+   * held at the target instead of its value. Defaults to false.
+   *
+   * @param rate true if the rate of the metric is held at the target
+   * @return this
+   */
+  public AutoscalingMetric withRate(Boolean rate) {
+    this.rate = rate;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .append("name", name)
+        .append("targetAverageValue", targetAverageValue)
+        .append("rate", rate)
+        .toString();
+  }
+
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder().append(name).append(targetAverageValue).append(rate).toHashCode();
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) {
+      return true;
+    }
+    if ((other instanceof AutoscalingMetric) == false) {
+      return false;
+    }
+    AutoscalingMetric rhs = ((AutoscalingMetric) other);
+    return new EqualsBuilder()
+        .append(name, rhs.name)
+        .append(targetAverageValue, rhs.targetAverageValue)
+        .append(rate, rhs.rate)
+        .isEquals();
+  }
+}
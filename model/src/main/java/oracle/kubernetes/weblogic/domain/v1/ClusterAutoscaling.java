@@ -0,0 +1,328 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.v1;
+
+import com.google.gson.annotations.Expose;
+import com.google.gson.annotations.SerializedName;
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * ClusterAutoscaling describes how the operator scales a cluster from the metrics its managed
+ * servers publish through the WebLogic Monitoring Exporter.
+ */
+public class ClusterAutoscaling {
+
+  /** The fewest managed servers to which the cluster is scaled. Defaults to 1. */
+  @SerializedName("minReplicas")
+  @Expose
+  private Integer minReplicas;
+  /**
+   * The most managed servers to which the cluster is scaled. The number of servers configured in
+   * the WebLogic cluster also limits it. (Required)
+   */
+  @SerializedName("maxReplicas")
+  @Expose
+  @NotNull
+  private Integer maxReplicas;
+  /**
+   * The metrics whose average over the running managed servers is held near a target. The cluster
+   * is scaled to the largest number of servers that any metric calls for. (Required)
+   */
+  @SerializedName("metrics")
+  @Expose
+  @Valid
+  @NotNull
+  private List<AutoscalingMetric> metrics = new ArrayList<AutoscalingMetric>();
+  /** How often the metrics are read, in seconds. Defaults to 10. */
+  @SerializedName("periodSeconds")
+  @Expose
+  private Integer periodSeconds;
+  /**
+   * The cluster is scaled up only to the fewest servers called for throughout this many seconds.
+   * Defaults to 0.
+   */
+  @SerializedName("scaleUpStabilizationSeconds")
+  @Expose
+  private Integer scaleUpStabilizationSeconds;
+  /**
+   * The cluster is scaled down only to the most servers called for throughout this many seconds.
+   * Defaults to 300.
+   */
+  @SerializedName("scaleDownStabilizationSeconds")
+  @Expose
+  private Integer scaleDownStabilizationSeconds;
+  /** The least time, in seconds, between one change to replicas and the next. Defaults to 30. */
+  @SerializedName("cooldownSeconds")
+  @Expose
+  private Integer cooldownSeconds;
+
+  /**
+   * The fewest managed servers to which the cluster is scaled. Defaults to 1.
+   *
+   * @return minimum replicas
+   */
+  public Integer getMinReplicas() {
+    return minReplicas;
+  }
+
+  /**
+   * The fewest managed servers to which the cluster is scaled. Defaults to 1.
+   *
+   * @param minReplicas minimum replicas
+   */
+  public void setMinReplicas(Integer minReplicas) {
+    this.minReplicas = minReplicas;
+  }
+
+  /**
+   * The fewest managed servers to which the cluster is scaled. Defaults to 1.
+   *
+   * @param minReplicas minimum replicas
+   * @return this
+   */
+  public ClusterAutoscaling withMinReplicas(Integer minReplicas) {
+    this.minReplicas = minReplicas;
+    return this;
+  }
+
+  /**
+   * The most managed servers to which the cluster is scaled. The number of servers configured in
+   * the WebLogic cluster also limits it. (Required)
+   *
+   * @return maximum replicas
+   */
+  public Integer getMaxReplicas() {
+    return maxReplicas;
+  }
+
+  /**
+   * The most managed servers to which the cluster is scaled. The number of servers configured in
+   * the WebLogic cluster also limits it. (Required)
+   *
+   * @param maxReplicas maximum replicas
+   */
+  public void setMaxReplicas(Integer maxReplicas) {
+    this.maxReplicas = maxReplicas;
+  }
+
+  /**
+   * The most managed servers to which the cluster is scaled. The number of servers configured in
+   * the WebLogic cluster also limits it. (Required)
+   *
+   * @param maxReplicas maximum replicas
+   * @return this
+   */
+  public ClusterAutoscaling withMaxReplicas(Integer maxReplicas) {
+    this.maxReplicas = maxReplicas;
+    return this;
+  }
+
+  /**
+   * The metrics whose average over the running managed servers is held near a target. The cluster
+   * is scaled to the largest number of servers that any metric calls for. (Required)
+   *
+   * @return metrics
+   */
+  public List<AutoscalingMetric> getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * The metrics whose average over the running managed servers is held near a target. The cluster
+   * is scaled to the largest number of servers that any metric calls for. (Required)
+   *
+   * @param metrics metrics
+   */
+  public void setMetrics(List<AutoscalingMetric> metrics) {
+    this.metrics = metrics;
+  }
+
+  /**
+   * The metrics whose average over the running managed servers is held near a target. The cluster
+   * is scaled to the largest number of servers that any metric calls for. (Required)
+   *
+   * @param metrics metrics
+   * @return this
+   */
+  public ClusterAutoscaling withMetrics(List<AutoscalingMetric> metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
+  /**
+   * How often the metrics are read, in seconds. Defaults to 10.
+   *
+   * @return period in seconds
+   */
+  public Integer getPeriodSeconds() {
+    return periodSeconds;
+  }
+
+  /**
+   * How often the metrics are read, in seconds. Defaults to 10.
+   *
+   * @param periodSeconds period in seconds
+   */
+  public void setPeriodSeconds(Integer periodSeconds) {
+    this.periodSeconds = periodSeconds;
+  }
+
+  /**
+   * How often the metrics are read, in seconds. Defaults to 10.
+   *
+   * @param periodSeconds period in seconds
+   * @return this
+   */
+  public ClusterAutoscaling withPeriodSeconds(Integer periodSeconds) {
+    this.periodSeconds = periodSeconds;
+    return this;
+  }
+
+  /**
+   * The cluster is scaled up only to the fewest servers called for throughout this many seconds.
+   * Defaults to 0.
+   *
+   * @return scale up stabilization window in seconds
+   */
+  public Integer getScaleUpStabilizationSeconds() {
+    return scaleUpStabilizationSeconds;
+  }
+
+  /**
+   * The cluster is scaled up only to the fewest servers called for throughout this many seconds.
+   * Defaults to 0.
+   *
+   * @param scaleUpStabilizationSeconds scale up stabilization window in seconds
+   */
+  public void setScaleUpStabilizationSeconds(Integer scaleUpStabilizationSeconds) {
+    this.scaleUpStabilizationSeconds = scaleUpStabilizationSeconds;
+  }
+
+  /**
+   * The cluster is scaled up only to the fewest servers called for throughout this many seconds.
+   * Defaults to 0.
+   *
+   * @param scaleUpStabilizationSeconds scale up stabilization window in seconds
+   * @return this
+   */
+  public ClusterAutoscaling withScaleUpStabilizationSeconds(Integer scaleUpStabilizationSeconds) {
+    this.scaleUpStabilizationSeconds = scaleUpStabilizationSeconds;
+    return this;
+  }
+
+  /**
+   * The cluster is scaled down only to the most servers called for throughout this many seconds.
+   * Defaults to 300.
+   *
+   * @return scale down stabilization window in seconds
+   */
+  public Integer getScaleDownStabilizationSeconds() {
+    return scaleDownStabilizationSeconds;
+  }
+
+  /**
+   * The cluster is scaled down only to the most servers called for throughout this many seconds.
+   * Defaults to 300.
+   *
+   * @param scaleDownStabilizationSeconds scale down stabilization window in seconds
+   */
+  public void setScaleDownStabilizationSeconds(Integer scaleDownStabilizationSeconds) {
+    this.scaleDownStabilizationSeconds = scaleDownStabilizationSeconds;
+  }
+
+  /**
+   * The cluster is scaled down only to the most servers called for throughout this many seconds.
+   * Defaults to 300.
+   *
+   * @param scaleDownStabilizationSeconds scale down stabilization window in seconds
+   * @return this
+   */
+  public ClusterAutoscaling withScaleDownStabilizationSeconds(
+      Integer scaleDownStabilizationSeconds) {
+    this.scaleDownStabilizationSeconds = scaleDownStabilizationSeconds;
+    return this;
+  }
+
+  /**
+   * The least time, in seconds, between one change to replicas and the next. Defaults to 30.
+   *
+   * @return cooldown in seconds
+   */
+  public Integer getCooldownSeconds() {
+    return cooldownSeconds;
+  }
+
+  /**
+   * The least time, in seconds, between one change to replicas and the next. Defaults to 30.
+   *
+   * @param cooldownSeconds cooldown in seconds
+   */
+  public void setCooldownSeconds(Integer cooldownSeconds) {
+    this.cooldownSeconds = cooldownSeconds;
+  }
+
+  /**
+   * The least time, in seconds, between one change to replicas and the next. Defaults to 30.
+   *
+   * @param cooldownSeconds cooldown in seconds
+   * @return this
+   */
+  public ClusterAutoscaling withCooldownSeconds(Integer cooldownSeconds) {
+    this.cooldownSeconds = cooldownSeconds;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return new ToStringBuilder(this)
+        .append("minReplicas", minReplicas)
+        .append("maxReplicas", maxReplicas)
+        .append("metrics", metrics)
+        .append("periodSeconds", periodSeconds)
+        .append("scaleUpStabilizationSeconds", scaleUpStabilizationSeconds)
+        .append("scaleDownStabilizationSeconds", scaleDownStabilizationSeconds)
+        .append("cooldownSeconds", cooldownSeconds)
+        .toString();
+  }
+
+  @Override
+  public int hashCode() {
+    return new HashCodeBuilder()
+        .append(minReplicas)
+        .append(maxReplicas)
+        .append(metrics)
+        .append(periodSeconds)
+        .append(scaleUpStabilizationSeconds)
+        .append(scaleDownStabilizationSeconds)
+        .append(cooldownSeconds)
+        .toHashCode();
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) {
+      return true;
+    }
+    if ((other instanceof ClusterAutoscaling) == false) {
+      return false;
+    }
+    ClusterAutoscaling rhs = ((ClusterAutoscaling) other);
+    return new EqualsBuilder()
+        .append(minReplicas, rhs.minReplicas)
+        .append(maxReplicas, rhs.maxReplicas)
+        .append(metrics, rhs.metrics)
+        .append(periodSeconds, rhs.periodSeconds)
+        .append(scaleUpStabilizationSeconds, rhs.scaleUpStabilizationSeconds)
+        .append(scaleDownStabilizationSeconds, rhs.scaleDownStabilizationSeconds)
+        .append(cooldownSeconds, rhs.cooldownSeconds)
+        .isEquals();
+  }
+}
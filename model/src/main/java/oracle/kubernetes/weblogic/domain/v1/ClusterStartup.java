@@ -6,6 +6,7 @@ package oracle.kubernetes.weblogic.domain.v1;
 
 import com.google.gson.annotations.Expose;
 import com.google.gson.annotations.SerializedName;
+import io.kubernetes.client.custom.IntOrString;
 import io.kubernetes.client.models.V1EnvVar;
 import java.util.ArrayList;
 import java.util.List;
@@ -43,11 +44,33 @@ public class ClusterStartup {
   @SerializedName("replicas")
   @Expose
   private Integer replicas;
+  /**
+   * The maximum number of servers in this cluster that may be unavailable during a rolling restart,
+   * as an absolute number or a percentage of replicas.
+   */
+  @SerializedName("maxUnavailable")
+  @Expose
+  private IntOrString maxUnavailable;
+  /**
+   * The maximum number of servers in this cluster that may be started beyond replicas during a
+   * rolling restart, as an absolute number or a percentage of replicas.
+   */
+  @SerializedName("maxSurge")
+  @Expose
+  private IntOrString maxSurge;
   /** Environment variables to pass while starting managed servers in this cluster. */
   @SerializedName("env")
   @Expose
   @Valid
   private List<V1EnvVar> env = new ArrayList<V1EnvVar>();
+  /**
+   * Scales this cluster's replicas from the metrics of its running managed servers. If not
+   * specified, replicas change only when set.
+   */
+  @SerializedName("autoscaling")
+  @Expose
+  @Valid
+  private ClusterAutoscaling autoscaling;
 
   /**
    * Desired startup state for any managed server started in this cluster. Legal values are RUNNING
@@ -142,6 +165,72 @@ public class ClusterStartup {
     return this;
   }
 
+  /**
+   * The maximum number of servers in this cluster that may be unavailable during a rolling restart.
+   * The value can be an absolute number (ex: 2) or a percentage of replicas (ex: 10%); the absolute
+   * number is calculated from the percentage by rounding up. If not specified, the servers are
+   * restarted one at a time.
+   *
+   * @return max unavailable
+   */
+  public IntOrString getMaxUnavailable() {
+    return maxUnavailable;
+  }
+
+  /**
+   * The maximum number of servers in this cluster that may be unavailable during a rolling restart.
+   *
+   * @param maxUnavailable max unavailable
+   */
+  public void setMaxUnavailable(IntOrString maxUnavailable) {
+    this.maxUnavailable = maxUnavailable;
+  }
+
+  /**
+   * The maximum number of servers in this cluster that may be unavailable during a rolling restart.
+   *
+   * @param maxUnavailable max unavailable
+   * @return this
+   */
+  public ClusterStartup withMaxUnavailable(IntOrString maxUnavailable) {
+    this.maxUnavailable = maxUnavailable;
+    return this;
+  }
+
+  /**
+   * The maximum number of servers in this cluster that may be started beyond replicas during a
+   * rolling restart. The value can be an absolute number (ex: 2) or a percentage of replicas (ex:
+   * 10%); the absolute number is calculated from the percentage by rounding up. If not specified,
+   * no servers are started beyond replicas.
+   *
+   * @return max surge
+   */
+  public IntOrString getMaxSurge() {
+    return maxSurge;
+  }
+
+  /**
+   * The maximum number of servers in this cluster that may be started beyond replicas during a
+   * rolling restart.
+   *
+   * @param maxSurge max surge
+   */
+  public void setMaxSurge(IntOrString maxSurge) {
+    this.maxSurge = maxSurge;
+  }
+
+  /**
+   * The maximum number of servers in this cluster that may be started beyond replicas during a
+   * rolling restart.
+   *
+   * @param maxSurge max surge
+   * @return this
+   */
+  public ClusterStartup withMaxSurge(IntOrString maxSurge) {
+    this.maxSurge = maxSurge;
+    return this;
+  }
+
   /**
    * Environment variables to pass while starting managed servers in this cluster.
    *
@@ -171,13 +260,48 @@ public class ClusterStartup {
     return this;
   }
 
+  /**
+   * Scales this cluster's replicas from the metrics of its running managed servers. If not
+   * specified, replicas change only when set.
+   *
+   * @return autoscaling
+   */
+  public ClusterAutoscaling getAutoscaling() {
+    return autoscaling;
+  }
+
+  /**
+   * Scales this cluster's replicas from the metrics of its running managed servers. If not
+   * specified, replicas change only when set.
+   *
+   * @param autoscaling autoscaling
+   */
+  public void setAutoscaling(ClusterAutoscaling autoscaling) {
+    this.autoscaling = autoscaling;
+  }
+
+  /**
+   * Scales this cluster's replicas from the metrics of its running managed servers. If not
+   * specified, replicas change only when set.
+   *
+   * @param autoscaling autoscaling
+   * @return this
+   */
+  public ClusterStartup withAutoscaling(ClusterAutoscaling autoscaling) {
+    this.autoscaling = autoscaling;
+    return this;
+  }
+
   @Override
   public String toString() {
     return new ToStringBuilder(this)
         .append("desiredState", desiredState)
         .append("clusterName", clusterName)
         .append("replicas", replicas)
+        .append("maxUnavailable", maxUnavailable)
+        .append("maxSurge", maxSurge)
         .append("env", env)
+        .append("autoscaling", autoscaling)
         .toString();
   }
 
@@ -187,7 +311,10 @@ public class ClusterStartup {
         .append(desiredState)
         .append(env)
         .append(replicas)
+        .append(maxUnavailable)
+        .append(maxSurge)
         .append(clusterName)
+        .append(autoscaling)
         .toHashCode();
   }
 
@@ -204,7 +331,10 @@ public class ClusterStartup {
         .append(desiredState, rhs.desiredState)
         .append(env, rhs.env)
         .append(replicas, rhs.replicas)
+        .append(maxUnavailable, rhs.maxUnavailable)
+        .append(maxSurge, rhs.maxSurge)
         .append(clusterName, rhs.clusterName)
+        .append(autoscaling, rhs.autoscaling)
         .isEquals();
   }
 }
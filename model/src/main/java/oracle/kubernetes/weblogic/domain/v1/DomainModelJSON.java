@@ -0,0 +1,51 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.v1;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.kubernetes.client.JSON;
+import org.joda.time.DateTime;
+import org.joda.time.LocalDate;
+
+/**
+ * The JSON serializer shared by the operator's API clients and its logging. It encodes and decodes
+ * the Kubernetes types as the client library does, and the domain model with the generated {@link
+ * DomainModelTypeAdapterFactory} instead of by reflection.
+ */
+public class DomainModelJSON {
+  private static final JSON INSTANCE = create();
+
+  private DomainModelJSON() {}
+
+  /**
+   * Returns the shared serializer.
+   *
+   * @return the serializer
+   */
+  public static JSON getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Creates a serializer that uses the generated type adapters for the domain model.
+   *
+   * @return the new serializer
+   */
+  public static JSON create() {
+    JSON json = new JSON();
+    // keeps the client library's adapters for dates and byte arrays, which its setters configure
+    Gson gson = json.getGson();
+    return json.setGson(
+        new GsonBuilder()
+            .registerTypeAdapter(java.util.Date.class, gson.getAdapter(java.util.Date.class))
+            .registerTypeAdapter(java.sql.Date.class, gson.getAdapter(java.sql.Date.class))
+            .registerTypeAdapter(DateTime.class, gson.getAdapter(DateTime.class))
+            .registerTypeAdapter(LocalDate.class, gson.getAdapter(LocalDate.class))
+            .registerTypeAdapter(byte[].class, gson.getAdapter(byte[].class))
+            .registerTypeAdapterFactory(new DomainModelTypeAdapterFactory())
+            .create());
+  }
+}
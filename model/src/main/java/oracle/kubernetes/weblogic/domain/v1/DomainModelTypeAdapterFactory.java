@@ -0,0 +1,1724 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.v1;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.models.V1EnvVar;
+import io.kubernetes.client.models.V1ListMeta;
+import io.kubernetes.client.models.V1LocalObjectReference;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1SecretReference;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.joda.time.DateTime;
+
+/**
+ * Streaming Gson type adapters for the domain model, which read and write the model classes without
+ * reflection. Generated by TypeAdapterGenerator; do not edit.
+ */
+public class DomainModelTypeAdapterFactory implements TypeAdapterFactory {
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+    Class<? super T> rawType = type.getRawType();
+    if (rawType == Domain.class) {
+      return (TypeAdapter<T>) new DomainAdapter(gson);
+    }
+    if (rawType == DomainList.class) {
+      return (TypeAdapter<T>) new DomainListAdapter(gson);
+    }
+    if (rawType == DomainSpec.class) {
+      return (TypeAdapter<T>) new DomainSpecAdapter(gson);
+    }
+    if (rawType == DomainStatus.class) {
+      return (TypeAdapter<T>) new DomainStatusAdapter(gson);
+    }
+    if (rawType == DomainCondition.class) {
+      return (TypeAdapter<T>) new DomainConditionAdapter(gson);
+    }
+    if (rawType == ServerStatus.class) {
+      return (TypeAdapter<T>) new ServerStatusAdapter(gson);
+    }
+    if (rawType == ServerHealth.class) {
+      return (TypeAdapter<T>) new ServerHealthAdapter(gson);
+    }
+    if (rawType == SubsystemHealth.class) {
+      return (TypeAdapter<T>) new SubsystemHealthAdapter(gson);
+    }
+    if (rawType == ServerStartup.class) {
+      return (TypeAdapter<T>) new ServerStartupAdapter(gson);
+    }
+    if (rawType == ClusterStartup.class) {
+      return (TypeAdapter<T>) new ClusterStartupAdapter(gson);
+    }
+    if (rawType == ClusterAutoscaling.class) {
+      return (TypeAdapter<T>) new ClusterAutoscalingAdapter(gson);
+    }
+    if (rawType == AutoscalingMetric.class) {
+      return (TypeAdapter<T>) new AutoscalingMetricAdapter(gson);
+    }
+    if (rawType == Server.class) {
+      return (TypeAdapter<T>) new ServerAdapter(gson);
+    }
+    if (rawType == NonClusteredServer.class) {
+      return (TypeAdapter<T>) new NonClusteredServerAdapter(gson);
+    }
+    if (rawType == ClusteredServer.class) {
+      return (TypeAdapter<T>) new ClusteredServerAdapter(gson);
+    }
+    if (rawType == ClusterParams.class) {
+      return (TypeAdapter<T>) new ClusterParamsAdapter(gson);
+    }
+    if (rawType == Cluster.class) {
+      return (TypeAdapter<T>) new ClusterAdapter(gson);
+    }
+    return null;
+  }
+
+  private static class DomainAdapter extends TypeAdapter<Domain> {
+    private final TypeAdapter<String> apiVersionAdapter;
+    private final TypeAdapter<String> kindAdapter;
+    private final TypeAdapter<V1ObjectMeta> metadataAdapter;
+    private final TypeAdapter<DomainSpec> specAdapter;
+    private final TypeAdapter<DomainStatus> statusAdapter;
+
+    DomainAdapter(Gson gson) {
+      apiVersionAdapter = gson.getAdapter(String.class);
+      kindAdapter = gson.getAdapter(String.class);
+      metadataAdapter = gson.getAdapter(V1ObjectMeta.class);
+      specAdapter = gson.getAdapter(DomainSpec.class);
+      statusAdapter = gson.getAdapter(DomainStatus.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, Domain value) throws IOException {
+      if (value == null) {
+        out.nullValue();
+        return;
+      }
+      out.beginObject();
+      if (value.getApiVersion() != null) {
+        out.name("apiVersion");
+        apiVersionAdapter.write(out, value.getApiVersion());
+      }
+      if (value.getKind() != null) {
+        out.name("kind");
+        kindAdapter.write(out, value.getKind());
+      }
+      if (value.getMetadata() != null) {
+        out.name("metadata");
+        metadataAdapter.write(out, value.getMetadata());
+      }
+      if (value.getSpec() != null) {
+        out.name("spec");
+        specAdapter.write(out, value.getSpec());
+      }
+      if (value.getStatus() != null) {
+        out.name("status");
+        statusAdapter.write(out, value.getStatus());
+      }
+      out.endObject();
+    }
+
+    @Override
+    public Domain read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      Domain value = new Domain();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "apiVersion":
+            value.setApiVersion(apiVersionAdapter.read(in));
+            break;
+          case "kind":
+            value.setKind(kindAdapter.read(in));
+            break;
+          case "metadata":
+            value.setMetadata(metadataAdapter.read(in));
+            break;
+          case "spec":
+            value.setSpec(specAdapter.read(in));
+            break;
+          case "status":
+            value.setStatus(statusAdapter.read(in));
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+      return value;
+    }
+  }
+
+  private static class DomainListAdapter extends TypeAdapter<DomainList> {
+    private final TypeAdapter<String> apiVersionAdapter;
+    private final TypeAdapter<List<Domain>> itemsAdapter;
+    private final TypeAdapter<String> kindAdapter;
+    private final TypeAdapter<V1ListMeta> metadataAdapter;
+
+    DomainListAdapter(Gson gson) {
+      apiVersionAdapter = gson.getAdapter(String.class);
+      itemsAdapter = gson.getAdapter(new TypeToken<List<Domain>>() {});
+      kindAdapter = gson.getAdapter(String.class);
+      metadataAdapter = gson.getAdapter(V1ListMeta.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, DomainList value) throws IOException {
+      if (value == null) {
+        out.nullValue();
+        return;
+      }
+      out.beginObject();
+      if (value.getApiVersion() != null) {
+        out.name("apiVersion");
+        apiVersionAdapter.write(out, value.getApiVersion());
+      }
+      if (value.getItems() != null) {
+        out.name("items");
+        itemsAdapter.write(out, value.getItems());
+      }
+      if (value.getKind() != null) {
+        out.name("kind");
+        kindAdapter.write(out, value.getKind());
+      }
+      if (value.getMetadata() != null) {
+        out.name("metadata");
+        metadataAdapter.write(out, value.getMetadata());
+      }
+      out.endObject();
+    }
+
+    @Override
+    public DomainList read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      DomainList value = new DomainList();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "apiVersion":
+            value.setApiVersion(apiVersionAdapter.read(in));
+            break;
+          case "items":
+            value.setItems(itemsAdapter.read(in));
+            break;
+          case "kind":
+            value.setKind(kindAdapter.read(in));
+            break;
+          case "metadata":
+            value.setMetadata(metadataAdapter.read(in));
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+      return value;
+    }
+  }
+
+  private static class DomainSpecAdapter extends TypeAdapter<DomainSpec> {
+    private final TypeAdapter<String> domainUIDAdapter;
+    private final TypeAdapter<String> domainNameAdapter;
+    private final TypeAdapter<String> imageAdapter;
+    private final TypeAdapter<String> imagePullPolicyAdapter;
+    private final TypeAdapter<V1LocalObjectReference> imagePullSecretAdapter;
+    private final TypeAdapter<V1SecretReference> adminSecretAdapter;
+    private final TypeAdapter<String> asNameAdapter;
+    private final TypeAdapter<Integer> asPortAdapter;
+    private final TypeAdapter<List<String>> exportT3ChannelsAdapter;
+    private final TypeAdapter<String> startupControlAdapter;
+    private final TypeAdapter<List<ServerStartup>> serverStartupAdapter;
+    private final TypeAdapter<List<ClusterStartup>> clusterStartupAdapter;
+    private final TypeAdapter<Integer> replicasAdapter;
+    private final TypeAdapter<Server> serverDefaultsAdapter;
+    private final TypeAdapter<NonClusteredServer> nonClusteredServerDefaultsAdapter;
+    private final TypeAdapter<Map<String, NonClusteredServer>> serversAdapter;
+    private final TypeAdapter<ClusterParams> clusterDefaultsAdapter;
+    private final TypeAdapter<Map<String, Cluster>> clustersAdapter;
+
+    DomainSpecAdapter(Gson gson) {
+      domainUIDAdapter = gson.getAdapter(String.class);
+      domainNameAdapter = gson.getAdapter(String.class);
+      imageAdapter = gson.getAdapter(String.class);
+      imagePullPolicyAdapter = gson.getAdapter(String.class);
+      imagePullSecretAdapter = gson.getAdapter(V1LocalObjectReference.class);
+      adminSecretAdapter = gson.getAdapter(V1SecretReference.class);
+      asNameAdapter = gson.getAdapter(String.class);
+      asPortAdapter = gson.getAdapter(Integer.class);
+      exportT3ChannelsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+      startupControlAdapter = gson.getAdapter(String.class);
+      serverStartupAdapter = gson.getAdapter(new TypeToken<List<ServerStartup>>() {});
+      clusterStartupAdapter = gson.getAdapter(new TypeToken<List<ClusterStartup>>() {});
+      replicasAdapter = gson.getAdapter(Integer.class);
+      serverDefaultsAdapter = gson.getAdapter(Server.class);
+      nonClusteredServerDefaultsAdapter = gson.getAdapter(NonClusteredServer.class);
+      serversAdapter = gson.getAdapter(new TypeToken<Map<String, NonClusteredServer>>() {});
+      clusterDefaultsAdapter = gson.getAdapter(ClusterParams.class);
+      clustersAdapter = gson.getAdapter(new TypeToken<Map<String, Cluster>>() {});
+    }
+
+    @Override
+    public void write(JsonWriter out, DomainSpec value) throws IOException {
+      if (value == null) {
+        out.nullValue();
+        return;
+      }
+      out.beginObject();
+      if (value.getDomainUID() != null) {
+        out.name("domainUID");
+        domainUIDAdapter.write(out, value.getDomainUID());
+      }
+      if (value.getDomainName() != null) {
+        out.name("domainName");
+        domainNameAdapter.write(out, value.getDomainName());
+      }
+      if (value.getImage() != null) {
+        out.name("image");
+        imageAdapter.write(out, value.getImage());
+      }
+      if (value.getImagePullPolicy() != null) {
+        out.name("imagePullPolicy");
+        imagePullPolicyAdapter.write(out, value.getImagePullPolicy());
+      }
+      if (value.getImagePullSecret() != null) {
+        out.name("imagePullSecret");
+        imagePullSecretAdapter.write(out, value.getImagePullSecret());
+      }
+      if (value.getAdminSecret() != null) {
+        out.name("adminSecret");
+        adminSecretAdapter.write(out, value.getAdminSecret());
+      }
+      if (value.getAsName() != null) {
+        out.name("asName");
+        asNameAdapter.write(out, value.getAsName());
+      }
+      if (value.getAsPort() != null) {
+        out.name("asPort");
+        asPortAdapter.write(out, value.getAsPort());
+      }
+      if (value.getExportT3Channels() != null) {
+        out.name("exportT3Channels");
+        exportT3ChannelsAdapter.write(out, value.getExportT3Channels());
+      }
+      if (value.getStartupControl() != null) {
+        out.name("startupControl");
+        startupControlAdapter.write(out, value.getStartupControl());
+      }
+      if (value.getServerStartup() != null) {
+        out.name("serverStartup");
+        serverStartupAdapter.write(out, value.getServerStartup());
+      }
+      if (value.getClusterStartup() != null) {
+        out.name("clusterStartup");
+        clusterStartupAdapter.write(out, value.getClusterStartup());
+      }
+      if (value.getReplicas() != null) {
+        out.name("replicas");
+        replicasAdapter.write(out, value.getReplicas());
+      }
+      if (value.getServerDefaults() != null) {
+        out.name("serverDefaults");
+        serverDefaultsAdapter.write(out, value.getServerDefaults());
+      }
+      if (value.getNonClusteredServerDefaults() != null) {
+        out.name("nonClusteredServerDefaults");
+        nonClusteredServerDefaultsAdapter.write(out, value.getNonClusteredServerDefaults());
+      }
+      if (value.getServers() != null) {
+        out.name("servers");
+        serversAdapter.write(out, value.getServers());
+      }
+      if (value.getClusterDefaults() != null) {
+        out.name("clusterDefaults");
+        clusterDefaultsAdapter.write(out, value.getClusterDefaults());
+      }
+      if (value.getClusters() != null) {
+        out.name("clusters");
+        clustersAdapter.write(out, value.getClusters());
+      }
+      out.endObject();
+    }
+
+    @Override
+    public DomainSpec read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      DomainSpec value = new DomainSpec();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "domainUID":
+            value.setDomainUID(domainUIDAdapter.read(in));
+            break;
+          case "domainName":
+            value.setDomainName(domainNameAdapter.read(in));
+            break;
+          case "image":
+            value.setImage(imageAdapter.read(in));
+            break;
+          case "imagePullPolicy":
+            value.setImagePullPolicy(imagePullPolicyAdapter.read(in));
+            break;
+          case "imagePullSecret":
+            value.setImagePullSecret(imagePullSecretAdapter.read(in));
+            break;
+          case "adminSecret":
+            value.setAdminSecret(adminSecretAdapter.read(in));
+            break;
+          case "asName":
+            value.setAsName(asNameAdapter.read(in));
+            break;
+          case "asPort":
+            value.setAsPort(asPortAdapter.read(in));
+            break;
+          case "exportT3Channels":
+            value.setExportT3Channels(exportT3ChannelsAdapter.read(in));
+            break;
+          case "startupControl":
+            value.setStartupControl(startupControlAdapter.read(in));
+            break;
+          case "serverStartup":
+            value.setServerStartup(serverStartupAdapter.read(in));
+            break;
+          case "clusterStartup":
+            value.setClusterStartup(clusterStartupAdapter.read(in));
+            break;
+          case "replicas":
+            value.setReplicas(replicasAdapter.read(in));
+            break;
+          case "serverDefaults":
+            value.setServerDefaults(serverDefaultsAdapter.read(in));
+            break;
+          case "nonClusteredServerDefaults":
+            value.setNonClusteredServerDefaults(nonClusteredServerDefaultsAdapter.read(in));
+            break;
+          case "servers":
+            value.setServers(serversAdapter.read(in));
+            break;
+          case "clusterDefaults":
+            value.setClusterDefaults(clusterDefaultsAdapter.read(in));
+            break;
+          case "clusters":
+            value.setClusters(clustersAdapter.read(in));
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+      return value;
+    }
+  }
+
+  private static class DomainStatusAdapter extends TypeAdapter<DomainStatus> {
+    private final TypeAdapter<List<DomainCondition>> conditionsAdapter;
+    private final TypeAdapter<Long> observedGenerationAdapter;
+    private final TypeAdapter<String> messageAdapter;
+    private final TypeAdapter<String> reasonAdapter;
+    private final TypeAdapter<List<ServerStatus>> serversAdapter;
+    private final TypeAdapter<DateTime> startTimeAdapter;
+    private final TypeAdapter<Integer> replicasAdapter;
+    private final TypeAdapter<String> selectorAdapter;
+
+    DomainStatusAdapter(Gson gson) {
+      conditionsAdapter = gson.getAdapter(new TypeToken<List<DomainCondition>>() {});
+      observedGenerationAdapter = gson.getAdapter(Long.class);
+      messageAdapter = gson.getAdapter(String.class);
+      reasonAdapter = gson.getAdapter(String.class);
+      serversAdapter = gson.getAdapter(new TypeToken<List<ServerStatus>>() {});
+      startTimeAdapter = gson.getAdapter(DateTime.class);
+      replicasAdapter = gson.getAdapter(Integer.class);
+      selectorAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, DomainStatus value) throws IOException {
+      if (value == null) {
+        out.nullValue();
+        return;
+      }
+      out.beginObject();
+      if (value.getConditions() != null) {
+        out.name("conditions");
+        conditionsAdapter.write(out, value.getConditions());
+      }
+      if (value.getObservedGeneration() != null) {
+        out.name("observedGeneration");
+        observedGenerationAdapter.write(out, value.getObservedGeneration());
+      }
+      if (value.getMessage() != null) {
+        out.name("message");
+        messageAdapter.write(out, value.getMessage());
+      }
+      if (value.getReason() != null) {
+        out.name("reason");
+        reasonAdapter.write(out, value.getReason());
+      }
+      if (value.getServers() != null) {
+        out.name("servers");
+        serversAdapter.write(out, value.getServers());
+      }
+      if (value.getStartTime() != null) {
+        out.name("startTime");
+        startTimeAdapter.write(out, value.getStartTime());
+      }
+      if (value.getReplicas() != null) {
+        out.name("replicas");
+        replicasAdapter.write(out, value.getReplicas());
+      }
+      if (value.getSelector() != null) {
+        out.name("selector");
+        selectorAdapter.write(out, value.getSelector());
+      }
+      out.endObject();
+    }
+
+    @Override
+    public DomainStatus read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      DomainStatus value = new DomainStatus();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "conditions":
+            value.setConditions(conditionsAdapter.read(in));
+            break;
+          case "observedGeneration":
+            value.setObservedGeneration(observedGenerationAdapter.read(in));
+            break;
+          case "message":
+            value.setMessage(messageAdapter.read(in));
+            break;
+          case "reason":
+            value.setReason(reasonAdapter.read(in));
+            break;
+          case "servers":
+            value.setServers(serversAdapter.read(in));
+            break;
+          case "startTime":
+            value.setStartTime(startTimeAdapter.read(in));
+            break;
+          case "replicas":
+            value.setReplicas(replicasAdapter.read(in));
+            break;
+          case "selector":
+            value.setSelector(selectorAdapter.read(in));
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+      return value;
+    }
+  }
+
+  private static class DomainConditionAdapter extends TypeAdapter<DomainCondition> {
+    private final TypeAdapter<DateTime> lastProbeTimeAdapter;
+    private final TypeAdapter<DateTime> lastTransitionTimeAdapter;
+    private final TypeAdapter<String> messageAdapter;
+    private final TypeAdapter<String> reasonAdapter;
+    private final TypeAdapter<String> statusAdapter;
+    private final TypeAdapter<String> typeAdapter;
+
+    DomainConditionAdapter(Gson gson) {
+      lastProbeTimeAdapter = gson.getAdapter(DateTime.class);
+      lastTransitionTimeAdapter = gson.getAdapter(DateTime.class);
+      messageAdapter = gson.getAdapter(String.class);
+      reasonAdapter = gson.getAdapter(String.class);
+      statusAdapter = gson.getAdapter(String.class);
+      typeAdapter = gson.getAdapter(String.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, DomainCondition value) throws IOException {
+      if (value == null) {
+        out.nullValue();
+        return;
+      }
+      out.beginObject();
+      if (value.getLastProbeTime() != null) {
+        out.name("lastProbeTime");
+        lastProbeTimeAdapter.write(out, value.getLastProbeTime());
+      }
+      if (value.getLastTransitionTime() != null) {
+        out.name("lastTransitionTime");
+        lastTransitionTimeAdapter.write(out, value.getLastTransitionTime());
+      }
+      if (value.getMessage() != null) {
+        out.name("message");
+        messageAdapter.write(out, value.getMessage());
+      }
+      if (value.getReason() != null) {
+        out.name("reason");
+        reasonAdapter.write(out, value.getReason());
+      }
+      if (value.getStatus() != null) {
+        out.name("status");
+        statusAdapter.write(out, value.getStatus());
+      }
+      if (value.getType() != null) {
+        out.name("type");
+        typeAdapter.write(out, value.getType());
+      }
+      out.endObject();
+    }
+
+    @Override
+    public DomainCondition read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      DomainCondition value = new DomainCondition();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "lastProbeTime":
+            value.setLastProbeTime(lastProbeTimeAdapter.read(in));
+            break;
+          case "lastTransitionTime":
+            value.setLastTransitionTime(lastTransitionTimeAdapter.read(in));
+            break;
+          case "message":
+            value.setMessage(messageAdapter.read(in));
+            break;
+          case "reason":
+            value.setReason(reasonAdapter.read(in));
+            break;
+          case "status":
+            value.setStatus(statusAdapter.read(in));
+            break;
+          case "type":
+            value.setType(typeAdapter.read(in));
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+      return value;
+    }
+  }
+
+  private static class ServerStatusAdapter extends TypeAdapter<ServerStatus> {
+    private final TypeAdapter<String> serverNameAdapter;
+    private final TypeAdapter<String> stateAdapter;
+    private final TypeAdapter<String> clusterNameAdapter;
+    private final TypeAdapter<String> nodeNameAdapter;
+    private final TypeAdapter<ServerHealth> healthAdapter;
+
+    ServerStatusAdapter(Gson gson) {
+      serverNameAdapter = gson.getAdapter(String.class);
+      stateAdapter = gson.getAdapter(String.class);
+      clusterNameAdapter = gson.getAdapter(String.class);
+      nodeNameAdapter = gson.getAdapter(String.class);
+      healthAdapter = gson.getAdapter(ServerHealth.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, ServerStatus value) throws IOException {
+      if (value == null) {
+        out.nullValue();
+        return;
+      }
+      out.beginObject();
+      if (value.getServerName() != null) {
+        out.name("serverName");
+        serverNameAdapter.write(out, value.getServerName());
+      }
+      if (value.getState() != null) {
+        out.name("state");
+        stateAdapter.write(out, value.getState());
+      }
+      if (value.getClusterName() != null) {
+        out.name("clusterName");
+        clusterNameAdapter.write(out, value.getClusterName());
+      }
+      if (value.getNodeName() != null) {
+        out.name("nodeName");
+        nodeNameAdapter.write(out, value.getNodeName());
+      }
+      if (value.getHealth() != null) {
+        out.name("health");
+        healthAdapter.write(out, value.getHealth());
+      }
+      out.endObject();
+    }
+
+    @Override
+    public ServerStatus read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      ServerStatus value = new ServerStatus();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "serverName":
+            value.setServerName(serverNameAdapter.read(in));
+            break;
+          case "state":
+            value.setState(stateAdapter.read(in));
+            break;
+          case "clusterName":
+            value.setClusterName(clusterNameAdapter.read(in));
+            break;
+          case "nodeName":
+            value.setNodeName(nodeNameAdapter.read(in));
+            break;
+          case "health":
+            value.setHealth(healthAdapter.read(in));
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+      return value;
+    }
+  }
+
+  private static class ServerHealthAdapter extends TypeAdapter<ServerHealth> {
+    private final TypeAdapter<DateTime> activationTimeAdapter;
+    private final TypeAdapter<String> overallHealthAdapter;
+    private final TypeAdapter<List<SubsystemHealth>> subsystemsAdapter;
+
+    ServerHealthAdapter(Gson gson) {
+      activationTimeAdapter = gson.getAdapter(DateTime.class);
+      overallHealthAdapter = gson.getAdapter(String.class);
+      subsystemsAdapter = gson.getAdapter(new TypeToken<List<SubsystemHealth>>() {});
+    }
+
+    @Override
+    public void write(JsonWriter out, ServerHealth value) throws IOException {
+      if (value == null) {
+        out.nullValue();
+        return;
+      }
+      out.beginObject();
+      if (value.getActivationTime() != null) {
+        out.name("activationTime");
+        activationTimeAdapter.write(out, value.getActivationTime());
+      }
+      if (value.getOverallHealth() != null) {
+        out.name("overallHealth");
+        overallHealthAdapter.write(out, value.getOverallHealth());
+      }
+      if (value.getSubsystems() != null) {
+        out.name("subsystems");
+        subsystemsAdapter.write(out, value.getSubsystems());
+      }
+      out.endObject();
+    }
+
+    @Override
+    public ServerHealth read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      ServerHealth value = new ServerHealth();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "activationTime":
+            value.setActivationTime(activationTimeAdapter.read(in));
+            break;
+          case "overallHealth":
+            value.setOverallHealth(overallHealthAdapter.read(in));
+            break;
+          case "subsystems":
+            value.setSubsystems(subsystemsAdapter.read(in));
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+      return value;
+    }
+  }
+
+  private static class SubsystemHealthAdapter extends TypeAdapter<SubsystemHealth> {
+    private final TypeAdapter<String> healthAdapter;
+    private final TypeAdapter<String> subsystemNameAdapter;
+    private final TypeAdapter<List<String>> symptomsAdapter;
+
+    SubsystemHealthAdapter(Gson gson) {
+      healthAdapter = gson.getAdapter(String.class);
+      subsystemNameAdapter = gson.getAdapter(String.class);
+      symptomsAdapter = gson.getAdapter(new TypeToken<List<String>>() {});
+    }
+
+    @Override
+    public void write(JsonWriter out, SubsystemHealth value) throws IOException {
+      if (value == null) {
+        out.nullValue();
+        return;
+      }
+      out.beginObject();
+      if (value.getHealth() != null) {
+        out.name("health");
+        healthAdapter.write(out, value.getHealth());
+      }
+      if (value.getSubsystemName() != null) {
+        out.name("subsystemName");
+        subsystemNameAdapter.write(out, value.getSubsystemName());
+      }
+      if (value.getSymptoms() != null) {
+        out.name("symptoms");
+        symptomsAdapter.write(out, value.getSymptoms());
+      }
+      out.endObject();
+    }
+
+    @Override
+    public SubsystemHealth read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      SubsystemHealth value = new SubsystemHealth();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "health":
+            value.setHealth(healthAdapter.read(in));
+            break;
+          case "subsystemName":
+            value.setSubsystemName(subsystemNameAdapter.read(in));
+            break;
+          case "symptoms":
+            value.setSymptoms(symptomsAdapter.read(in));
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+      return value;
+    }
+  }
+
+  private static class ServerStartupAdapter extends TypeAdapter<ServerStartup> {
+    private final TypeAdapter<String> desiredStateAdapter;
+    private final TypeAdapter<String> serverNameAdapter;
+    private final TypeAdapter<Integer> nodePortAdapter;
+    private final TypeAdapter<List<V1EnvVar>> envAdapter;
+
+    ServerStartupAdapter(Gson gson) {
+      desiredStateAdapter = gson.getAdapter(String.class);
+      serverNameAdapter = gson.getAdapter(String.class);
+      nodePortAdapter = gson.getAdapter(Integer.class);
+      envAdapter = gson.getAdapter(new TypeToken<List<V1EnvVar>>() {});
+    }
+
+    @Override
+    public void write(JsonWriter out, ServerStartup value) throws IOException {
+      if (value == null) {
+        out.nullValue();
+        return;
+      }
+      out.beginObject();
+      if (value.getDesiredState() != null) {
+        out.name("desiredState");
+        desiredStateAdapter.write(out, value.getDesiredState());
+      }
+      if (value.getServerName() != null) {
+        out.name("serverName");
+        serverNameAdapter.write(out, value.getServerName());
+      }
+      if (value.getNodePort() != null) {
+        out.name("nodePort");
+        nodePortAdapter.write(out, value.getNodePort());
+      }
+      if (value.getEnv() != null) {
+        out.name("env");
+        envAdapter.write(out, value.getEnv());
+      }
+      out.endObject();
+    }
+
+    @Override
+    public ServerStartup read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      ServerStartup value = new ServerStartup();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "desiredState":
+            value.setDesiredState(desiredStateAdapter.read(in));
+            break;
+          case "serverName":
+            value.setServerName(serverNameAdapter.read(in));
+            break;
+          case "nodePort":
+            value.setNodePort(nodePortAdapter.read(in));
+            break;
+          case "env":
+            value.setEnv(envAdapter.read(in));
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+      return value;
+    }
+  }
+
+  private static class ClusterStartupAdapter extends TypeAdapter<ClusterStartup> {
+    private final TypeAdapter<String> desiredStateAdapter;
+    private final TypeAdapter<String> clusterNameAdapter;
+    private final TypeAdapter<Integer> replicasAdapter;
+    private final TypeAdapter<IntOrString> maxUnavailableAdapter;
+    private final TypeAdapter<IntOrString> maxSurgeAdapter;
+    private final TypeAdapter<List<V1EnvVar>> envAdapter;
+    private final TypeAdapter<ClusterAutoscaling> autoscalingAdapter;
+
+    ClusterStartupAdapter(Gson gson) {
+      desiredStateAdapter = gson.getAdapter(String.class);
+      clusterNameAdapter = gson.getAdapter(String.class);
+      replicasAdapter = gson.getAdapter(Integer.class);
+      maxUnavailableAdapter = gson.getAdapter(IntOrString.class);
+      maxSurgeAdapter = gson.getAdapter(IntOrString.class);
+      envAdapter = gson.getAdapter(new TypeToken<List<V1EnvVar>>() {});
+      autoscalingAdapter = gson.getAdapter(ClusterAutoscaling.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, ClusterStartup value) throws IOException {
+      if (value == null) {
+        out.nullValue();
+        return;
+      }
+      out.beginObject();
+      if (value.getDesiredState() != null) {
+        out.name("desiredState");
+        desiredStateAdapter.write(out, value.getDesiredState());
+      }
+      if (value.getClusterName() != null) {
+        out.name("clusterName");
+        clusterNameAdapter.write(out, value.getClusterName());
+      }
+      if (value.getReplicas() != null) {
+        out.name("replicas");
+        replicasAdapter.write(out, value.getReplicas());
+      }
+      if (value.getMaxUnavailable() != null) {
+        out.name("maxUnavailable");
+        maxUnavailableAdapter.write(out, value.getMaxUnavailable());
+      }
+      if (value.getMaxSurge() != null) {
+        out.name("maxSurge");
+        maxSurgeAdapter.write(out, value.getMaxSurge());
+      }
+      if (value.getEnv() != null) {
+        out.name("env");
+        envAdapter.write(out, value.getEnv());
+      }
+      if (value.getAutoscaling() != null) {
+        out.name("autoscaling");
+        autoscalingAdapter.write(out, value.getAutoscaling());
+      }
+      out.endObject();
+    }
+
+    @Override
+    public ClusterStartup read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      ClusterStartup value = new ClusterStartup();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "desiredState":
+            value.setDesiredState(desiredStateAdapter.read(in));
+            break;
+          case "clusterName":
+            value.setClusterName(clusterNameAdapter.read(in));
+            break;
+          case "replicas":
+            value.setReplicas(replicasAdapter.read(in));
+            break;
+          case "maxUnavailable":
+            value.setMaxUnavailable(maxUnavailableAdapter.read(in));
+            break;
+          case "maxSurge":
+            value.setMaxSurge(maxSurgeAdapter.read(in));
+            break;
+          case "env":
+            value.setEnv(envAdapter.read(in));
+            break;
+          case "autoscaling":
+            value.setAutoscaling(autoscalingAdapter.read(in));
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+      return value;
+    }
+  }
+
+  private static class ClusterAutoscalingAdapter extends TypeAdapter<ClusterAutoscaling> {
+    private final TypeAdapter<Integer> minReplicasAdapter;
+    private final TypeAdapter<Integer> maxReplicasAdapter;
+    private final TypeAdapter<List<AutoscalingMetric>> metricsAdapter;
+    private final TypeAdapter<Integer> periodSecondsAdapter;
+    private final TypeAdapter<Integer> scaleUpStabilizationSecondsAdapter;
+    private final TypeAdapter<Integer> scaleDownStabilizationSecondsAdapter;
+    private final TypeAdapter<Integer> cooldownSecondsAdapter;
+
+    ClusterAutoscalingAdapter(Gson gson) {
+      minReplicasAdapter = gson.getAdapter(Integer.class);
+      maxReplicasAdapter = gson.getAdapter(Integer.class);
+      metricsAdapter = gson.getAdapter(new TypeToken<List<AutoscalingMetric>>() {});
+      periodSecondsAdapter = gson.getAdapter(Integer.class);
+      scaleUpStabilizationSecondsAdapter = gson.getAdapter(Integer.class);
+      scaleDownStabilizationSecondsAdapter = gson.getAdapter(Integer.class);
+      cooldownSecondsAdapter = gson.getAdapter(Integer.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, ClusterAutoscaling value) throws IOException {
+      if (value == null) {
+        out.nullValue();
+        return;
+      }
+      out.beginObject();
+      if (value.getMinReplicas() != null) {
+        out.name("minReplicas");
+        minReplicasAdapter.write(out, value.getMinReplicas());
+      }
+      if (value.getMaxReplicas() != null) {
+        out.name("maxReplicas");
+        maxReplicasAdapter.write(out, value.getMaxReplicas());
+      }
+      if (value.getMetrics() != null) {
+        out.name("metrics");
+        metricsAdapter.write(out, value.getMetrics());
+      }
+      if (value.getPeriodSeconds() != null) {
+        out.name("periodSeconds");
+        periodSecondsAdapter.write(out, value.getPeriodSeconds());
+      }
+      if (value.getScaleUpStabilizationSeconds() != null) {
+        out.name("scaleUpStabilizationSeconds");
+        scaleUpStabilizationSecondsAdapter.write(out, value.getScaleUpStabilizationSeconds());
+      }
+      if (value.getScaleDownStabilizationSeconds() != null) {
+        out.name("scaleDownStabilizationSeconds");
+        scaleDownStabilizationSecondsAdapter.write(out, value.getScaleDownStabilizationSeconds());
+      }
+      if (value.getCooldownSeconds() != null) {
+        out.name("cooldownSeconds");
+        cooldownSecondsAdapter.write(out, value.getCooldownSeconds());
+      }
+      out.endObject();
+    }
+
+    @Override
+    public ClusterAutoscaling read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      ClusterAutoscaling value = new ClusterAutoscaling();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "minReplicas":
+            value.setMinReplicas(minReplicasAdapter.read(in));
+            break;
+          case "maxReplicas":
+            value.setMaxReplicas(maxReplicasAdapter.read(in));
+            break;
+          case "metrics":
+            value.setMetrics(metricsAdapter.read(in));
+            break;
+          case "periodSeconds":
+            value.setPeriodSeconds(periodSecondsAdapter.read(in));
+            break;
+          case "scaleUpStabilizationSeconds":
+            value.setScaleUpStabilizationSeconds(scaleUpStabilizationSecondsAdapter.read(in));
+            break;
+          case "scaleDownStabilizationSeconds":
+            value.setScaleDownStabilizationSeconds(scaleDownStabilizationSecondsAdapter.read(in));
+            break;
+          case "cooldownSeconds":
+            value.setCooldownSeconds(cooldownSecondsAdapter.read(in));
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+      return value;
+    }
+  }
+
+  private static class AutoscalingMetricAdapter extends TypeAdapter<AutoscalingMetric> {
+    private final TypeAdapter<String> nameAdapter;
+    private final TypeAdapter<Double> targetAverageValueAdapter;
+    private final TypeAdapter<Boolean> rateAdapter;
+
+    AutoscalingMetricAdapter(Gson gson) {
+      nameAdapter = gson.getAdapter(String.class);
+      targetAverageValueAdapter = gson.getAdapter(Double.class);
+      rateAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, AutoscalingMetric value) throws IOException {
+      if (value == null) {
+        out.nullValue();
+        return;
+      }
+      out.beginObject();
+      if (value.getName() != null) {
+        out.name("name");
+        nameAdapter.write(out, value.getName());
+      }
+      if (value.getTargetAverageValue() != null) {
+        out.name("targetAverageValue");
+        targetAverageValueAdapter.write(out, value.getTargetAverageValue());
+      }
+      if (value.getRate() != null) {
+        out.name("rate");
+        rateAdapter.write(out, value.getRate());
+      }
+      out.endObject();
+    }
+
+    @Override
+    public AutoscalingMetric read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      AutoscalingMetric value = new AutoscalingMetric();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "name":
+            value.setName(nameAdapter.read(in));
+            break;
+          case "targetAverageValue":
+            value.setTargetAverageValue(targetAverageValueAdapter.read(in));
+            break;
+          case "rate":
+            value.setRate(rateAdapter.read(in));
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+      return value;
+    }
+  }
+
+  private static class ServerAdapter extends TypeAdapter<Server> {
+    private final TypeAdapter<String> startedServerStateAdapter;
+    private final TypeAdapter<String> restartedLabelAdapter;
+    private final TypeAdapter<Integer> nodePortAdapter;
+    private final TypeAdapter<List<V1EnvVar>> envAdapter;
+    private final TypeAdapter<String> imageAdapter;
+    private final TypeAdapter<String> imagePullPolicyAdapter;
+    private final TypeAdapter<List<V1LocalObjectReference>> imagePullSecretsAdapter;
+    private final TypeAdapter<String> shutdownPolicyAdapter;
+    private final TypeAdapter<Integer> gracefulShutdownTimeoutAdapter;
+    private final TypeAdapter<Boolean> gracefulShutdownIgnoreSessionsAdapter;
+    private final TypeAdapter<Boolean> gracefulShutdownWaitForSessionsAdapter;
+
+    ServerAdapter(Gson gson) {
+      startedServerStateAdapter = gson.getAdapter(String.class);
+      restartedLabelAdapter = gson.getAdapter(String.class);
+      nodePortAdapter = gson.getAdapter(Integer.class);
+      envAdapter = gson.getAdapter(new TypeToken<List<V1EnvVar>>() {});
+      imageAdapter = gson.getAdapter(String.class);
+      imagePullPolicyAdapter = gson.getAdapter(String.class);
+      imagePullSecretsAdapter = gson.getAdapter(new TypeToken<List<V1LocalObjectReference>>() {});
+      shutdownPolicyAdapter = gson.getAdapter(String.class);
+      gracefulShutdownTimeoutAdapter = gson.getAdapter(Integer.class);
+      gracefulShutdownIgnoreSessionsAdapter = gson.getAdapter(Boolean.class);
+      gracefulShutdownWaitForSessionsAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, Server value) throws IOException {
+      if (value == null) {
+        out.nullValue();
+        return;
+      }
+      out.beginObject();
+      if (value.getStartedServerState() != null) {
+        out.name("startedServerState");
+        startedServerStateAdapter.write(out, value.getStartedServerState());
+      }
+      if (value.getRestartedLabel() != null) {
+        out.name("restartedLabel");
+        restartedLabelAdapter.write(out, value.getRestartedLabel());
+      }
+      if (value.getNodePort() != null) {
+        out.name("nodePort");
+        nodePortAdapter.write(out, value.getNodePort());
+      }
+      if (value.getEnv() != null) {
+        out.name("env");
+        envAdapter.write(out, value.getEnv());
+      }
+      if (value.getImage() != null) {
+        out.name("image");
+        imageAdapter.write(out, value.getImage());
+      }
+      if (value.getImagePullPolicy() != null) {
+        out.name("imagePullPolicy");
+        imagePullPolicyAdapter.write(out, value.getImagePullPolicy());
+      }
+      if (value.getImagePullSecrets() != null) {
+        out.name("imagePullSecrets");
+        imagePullSecretsAdapter.write(out, value.getImagePullSecrets());
+      }
+      if (value.getShutdownPolicy() != null) {
+        out.name("shutdownPolicy");
+        shutdownPolicyAdapter.write(out, value.getShutdownPolicy());
+      }
+      if (value.getGracefulShutdownTimeout() != null) {
+        out.name("gracefulShutdownTimeout");
+        gracefulShutdownTimeoutAdapter.write(out, value.getGracefulShutdownTimeout());
+      }
+      if (value.getGracefulShutdownIgnoreSessions() != null) {
+        out.name("gracefulShutdownIgnoreSessions");
+        gracefulShutdownIgnoreSessionsAdapter.write(out, value.getGracefulShutdownIgnoreSessions());
+      }
+      if (value.getGracefulShutdownWaitForSessions() != null) {
+        out.name("gracefulShutdownWaitForSessions");
+        gracefulShutdownWaitForSessionsAdapter.write(
+            out, value.getGracefulShutdownWaitForSessions());
+      }
+      out.endObject();
+    }
+
+    @Override
+    public Server read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      Server value = new Server();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "startedServerState":
+            value.setStartedServerState(startedServerStateAdapter.read(in));
+            break;
+          case "restartedLabel":
+            value.setRestartedLabel(restartedLabelAdapter.read(in));
+            break;
+          case "nodePort":
+            value.setNodePort(nodePortAdapter.read(in));
+            break;
+          case "env":
+            value.setEnv(envAdapter.read(in));
+            break;
+          case "image":
+            value.setImage(imageAdapter.read(in));
+            break;
+          case "imagePullPolicy":
+            value.setImagePullPolicy(imagePullPolicyAdapter.read(in));
+            break;
+          case "imagePullSecrets":
+            value.setImagePullSecrets(imagePullSecretsAdapter.read(in));
+            break;
+          case "shutdownPolicy":
+            value.setShutdownPolicy(shutdownPolicyAdapter.read(in));
+            break;
+          case "gracefulShutdownTimeout":
+            value.setGracefulShutdownTimeout(gracefulShutdownTimeoutAdapter.read(in));
+            break;
+          case "gracefulShutdownIgnoreSessions":
+            value.setGracefulShutdownIgnoreSessions(gracefulShutdownIgnoreSessionsAdapter.read(in));
+            break;
+          case "gracefulShutdownWaitForSessions":
+            value.setGracefulShutdownWaitForSessions(
+                gracefulShutdownWaitForSessionsAdapter.read(in));
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+      return value;
+    }
+  }
+
+  private static class NonClusteredServerAdapter extends TypeAdapter<NonClusteredServer> {
+    private final TypeAdapter<String> nonClusteredServerStartPolicyAdapter;
+    private final TypeAdapter<String> startedServerStateAdapter;
+    private final TypeAdapter<String> restartedLabelAdapter;
+    private final TypeAdapter<Integer> nodePortAdapter;
+    private final TypeAdapter<List<V1EnvVar>> envAdapter;
+    private final TypeAdapter<String> imageAdapter;
+    private final TypeAdapter<String> imagePullPolicyAdapter;
+    private final TypeAdapter<List<V1LocalObjectReference>> imagePullSecretsAdapter;
+    private final TypeAdapter<String> shutdownPolicyAdapter;
+    private final TypeAdapter<Integer> gracefulShutdownTimeoutAdapter;
+    private final TypeAdapter<Boolean> gracefulShutdownIgnoreSessionsAdapter;
+    private final TypeAdapter<Boolean> gracefulShutdownWaitForSessionsAdapter;
+
+    NonClusteredServerAdapter(Gson gson) {
+      nonClusteredServerStartPolicyAdapter = gson.getAdapter(String.class);
+      startedServerStateAdapter = gson.getAdapter(String.class);
+      restartedLabelAdapter = gson.getAdapter(String.class);
+      nodePortAdapter = gson.getAdapter(Integer.class);
+      envAdapter = gson.getAdapter(new TypeToken<List<V1EnvVar>>() {});
+      imageAdapter = gson.getAdapter(String.class);
+      imagePullPolicyAdapter = gson.getAdapter(String.class);
+      imagePullSecretsAdapter = gson.getAdapter(new TypeToken<List<V1LocalObjectReference>>() {});
+      shutdownPolicyAdapter = gson.getAdapter(String.class);
+      gracefulShutdownTimeoutAdapter = gson.getAdapter(Integer.class);
+      gracefulShutdownIgnoreSessionsAdapter = gson.getAdapter(Boolean.class);
+      gracefulShutdownWaitForSessionsAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, NonClusteredServer value) throws IOException {
+      if (value == null) {
+        out.nullValue();
+        return;
+      }
+      out.beginObject();
+      if (value.getNonClusteredServerStartPolicy() != null) {
+        out.name("nonClusteredServerStartPolicy");
+        nonClusteredServerStartPolicyAdapter.write(out, value.getNonClusteredServerStartPolicy());
+      }
+      if (value.getStartedServerState() != null) {
+        out.name("startedServerState");
+        startedServerStateAdapter.write(out, value.getStartedServerState());
+      }
+      if (value.getRestartedLabel() != null) {
+        out.name("restartedLabel");
+        restartedLabelAdapter.write(out, value.getRestartedLabel());
+      }
+      if (value.getNodePort() != null) {
+        out.name("nodePort");
+        nodePortAdapter.write(out, value.getNodePort());
+      }
+      if (value.getEnv() != null) {
+        out.name("env");
+        envAdapter.write(out, value.getEnv());
+      }
+      if (value.getImage() != null) {
+        out.name("image");
+        imageAdapter.write(out, value.getImage());
+      }
+      if (value.getImagePullPolicy() != null) {
+        out.name("imagePullPolicy");
+        imagePullPolicyAdapter.write(out, value.getImagePullPolicy());
+      }
+      if (value.getImagePullSecrets() != null) {
+        out.name("imagePullSecrets");
+        imagePullSecretsAdapter.write(out, value.getImagePullSecrets());
+      }
+      if (value.getShutdownPolicy() != null) {
+        out.name("shutdownPolicy");
+        shutdownPolicyAdapter.write(out, value.getShutdownPolicy());
+      }
+      if (value.getGracefulShutdownTimeout() != null) {
+        out.name("gracefulShutdownTimeout");
+        gracefulShutdownTimeoutAdapter.write(out, value.getGracefulShutdownTimeout());
+      }
+      if (value.getGracefulShutdownIgnoreSessions() != null) {
+        out.name("gracefulShutdownIgnoreSessions");
+        gracefulShutdownIgnoreSessionsAdapter.write(out, value.getGracefulShutdownIgnoreSessions());
+      }
+      if (value.getGracefulShutdownWaitForSessions() != null) {
+        out.name("gracefulShutdownWaitForSessions");
+        gracefulShutdownWaitForSessionsAdapter.write(
+            out, value.getGracefulShutdownWaitForSessions());
+      }
+      out.endObject();
+    }
+
+    @Override
+    public NonClusteredServer read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      NonClusteredServer value = new NonClusteredServer();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "nonClusteredServerStartPolicy":
+            value.setNonClusteredServerStartPolicy(nonClusteredServerStartPolicyAdapter.read(in));
+            break;
+          case "startedServerState":
+            value.setStartedServerState(startedServerStateAdapter.read(in));
+            break;
+          case "restartedLabel":
+            value.setRestartedLabel(restartedLabelAdapter.read(in));
+            break;
+          case "nodePort":
+            value.setNodePort(nodePortAdapter.read(in));
+            break;
+          case "env":
+            value.setEnv(envAdapter.read(in));
+            break;
+          case "image":
+            value.setImage(imageAdapter.read(in));
+            break;
+          case "imagePullPolicy":
+            value.setImagePullPolicy(imagePullPolicyAdapter.read(in));
+            break;
+          case "imagePullSecrets":
+            value.setImagePullSecrets(imagePullSecretsAdapter.read(in));
+            break;
+          case "shutdownPolicy":
+            value.setShutdownPolicy(shutdownPolicyAdapter.read(in));
+            break;
+          case "gracefulShutdownTimeout":
+            value.setGracefulShutdownTimeout(gracefulShutdownTimeoutAdapter.read(in));
+            break;
+          case "gracefulShutdownIgnoreSessions":
+            value.setGracefulShutdownIgnoreSessions(gracefulShutdownIgnoreSessionsAdapter.read(in));
+            break;
+          case "gracefulShutdownWaitForSessions":
+            value.setGracefulShutdownWaitForSessions(
+                gracefulShutdownWaitForSessionsAdapter.read(in));
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+      return value;
+    }
+  }
+
+  private static class ClusteredServerAdapter extends TypeAdapter<ClusteredServer> {
+    private final TypeAdapter<String> clusteredServerStartPolicyAdapter;
+    private final TypeAdapter<String> startedServerStateAdapter;
+    private final TypeAdapter<String> restartedLabelAdapter;
+    private final TypeAdapter<Integer> nodePortAdapter;
+    private final TypeAdapter<List<V1EnvVar>> envAdapter;
+    private final TypeAdapter<String> imageAdapter;
+    private final TypeAdapter<String> imagePullPolicyAdapter;
+    private final TypeAdapter<List<V1LocalObjectReference>> imagePullSecretsAdapter;
+    private final TypeAdapter<String> shutdownPolicyAdapter;
+    private final TypeAdapter<Integer> gracefulShutdownTimeoutAdapter;
+    private final TypeAdapter<Boolean> gracefulShutdownIgnoreSessionsAdapter;
+    private final TypeAdapter<Boolean> gracefulShutdownWaitForSessionsAdapter;
+
+    ClusteredServerAdapter(Gson gson) {
+      clusteredServerStartPolicyAdapter = gson.getAdapter(String.class);
+      startedServerStateAdapter = gson.getAdapter(String.class);
+      restartedLabelAdapter = gson.getAdapter(String.class);
+      nodePortAdapter = gson.getAdapter(Integer.class);
+      envAdapter = gson.getAdapter(new TypeToken<List<V1EnvVar>>() {});
+      imageAdapter = gson.getAdapter(String.class);
+      imagePullPolicyAdapter = gson.getAdapter(String.class);
+      imagePullSecretsAdapter = gson.getAdapter(new TypeToken<List<V1LocalObjectReference>>() {});
+      shutdownPolicyAdapter = gson.getAdapter(String.class);
+      gracefulShutdownTimeoutAdapter = gson.getAdapter(Integer.class);
+      gracefulShutdownIgnoreSessionsAdapter = gson.getAdapter(Boolean.class);
+      gracefulShutdownWaitForSessionsAdapter = gson.getAdapter(Boolean.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, ClusteredServer value) throws IOException {
+      if (value == null) {
+        out.nullValue();
+        return;
+      }
+      out.beginObject();
+      if (value.getClusteredServerStartPolicy() != null) {
+        out.name("clusteredServerStartPolicy");
+        clusteredServerStartPolicyAdapter.write(out, value.getClusteredServerStartPolicy());
+      }
+      if (value.getStartedServerState() != null) {
+        out.name("startedServerState");
+        startedServerStateAdapter.write(out, value.getStartedServerState());
+      }
+      if (value.getRestartedLabel() != null) {
+        out.name("restartedLabel");
+        restartedLabelAdapter.write(out, value.getRestartedLabel());
+      }
+      if (value.getNodePort() != null) {
+        out.name("nodePort");
+        nodePortAdapter.write(out, value.getNodePort());
+      }
+      if (value.getEnv() != null) {
+        out.name("env");
+        envAdapter.write(out, value.getEnv());
+      }
+      if (value.getImage() != null) {
+        out.name("image");
+        imageAdapter.write(out, value.getImage());
+      }
+      if (value.getImagePullPolicy() != null) {
+        out.name("imagePullPolicy");
+        imagePullPolicyAdapter.write(out, value.getImagePullPolicy());
+      }
+      if (value.getImagePullSecrets() != null) {
+        out.name("imagePullSecrets");
+        imagePullSecretsAdapter.write(out, value.getImagePullSecrets());
+      }
+      if (value.getShutdownPolicy() != null) {
+        out.name("shutdownPolicy");
+        shutdownPolicyAdapter.write(out, value.getShutdownPolicy());
+      }
+      if (value.getGracefulShutdownTimeout() != null) {
+        out.name("gracefulShutdownTimeout");
+        gracefulShutdownTimeoutAdapter.write(out, value.getGracefulShutdownTimeout());
+      }
+      if (value.getGracefulShutdownIgnoreSessions() != null) {
+        out.name("gracefulShutdownIgnoreSessions");
+        gracefulShutdownIgnoreSessionsAdapter.write(out, value.getGracefulShutdownIgnoreSessions());
+      }
+      if (value.getGracefulShutdownWaitForSessions() != null) {
+        out.name("gracefulShutdownWaitForSessions");
+        gracefulShutdownWaitForSessionsAdapter.write(
+            out, value.getGracefulShutdownWaitForSessions());
+      }
+      out.endObject();
+    }
+
+    @Override
+    public ClusteredServer read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      ClusteredServer value = new ClusteredServer();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "clusteredServerStartPolicy":
+            value.setClusteredServerStartPolicy(clusteredServerStartPolicyAdapter.read(in));
+            break;
+          case "startedServerState":
+            value.setStartedServerState(startedServerStateAdapter.read(in));
+            break;
+          case "restartedLabel":
+            value.setRestartedLabel(restartedLabelAdapter.read(in));
+            break;
+          case "nodePort":
+            value.setNodePort(nodePortAdapter.read(in));
+            break;
+          case "env":
+            value.setEnv(envAdapter.read(in));
+            break;
+          case "image":
+            value.setImage(imageAdapter.read(in));
+            break;
+          case "imagePullPolicy":
+            value.setImagePullPolicy(imagePullPolicyAdapter.read(in));
+            break;
+          case "imagePullSecrets":
+            value.setImagePullSecrets(imagePullSecretsAdapter.read(in));
+            break;
+          case "shutdownPolicy":
+            value.setShutdownPolicy(shutdownPolicyAdapter.read(in));
+            break;
+          case "gracefulShutdownTimeout":
+            value.setGracefulShutdownTimeout(gracefulShutdownTimeoutAdapter.read(in));
+            break;
+          case "gracefulShutdownIgnoreSessions":
+            value.setGracefulShutdownIgnoreSessions(gracefulShutdownIgnoreSessionsAdapter.read(in));
+            break;
+          case "gracefulShutdownWaitForSessions":
+            value.setGracefulShutdownWaitForSessions(
+                gracefulShutdownWaitForSessionsAdapter.read(in));
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+      return value;
+    }
+  }
+
+  private static class ClusterParamsAdapter extends TypeAdapter<ClusterParams> {
+    private final TypeAdapter<Integer> replicasAdapter;
+    private final TypeAdapter<IntOrString> maxSurgeAdapter;
+    private final TypeAdapter<IntOrString> maxUnavailableAdapter;
+    private final TypeAdapter<ClusteredServer> serverDefaultsAdapter;
+
+    ClusterParamsAdapter(Gson gson) {
+      replicasAdapter = gson.getAdapter(Integer.class);
+      maxSurgeAdapter = gson.getAdapter(IntOrString.class);
+      maxUnavailableAdapter = gson.getAdapter(IntOrString.class);
+      serverDefaultsAdapter = gson.getAdapter(ClusteredServer.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, ClusterParams value) throws IOException {
+      if (value == null) {
+        out.nullValue();
+        return;
+      }
+      out.beginObject();
+      if (value.getReplicas() != null) {
+        out.name("replicas");
+        replicasAdapter.write(out, value.getReplicas());
+      }
+      if (value.getMaxSurge() != null) {
+        out.name("maxSurge");
+        maxSurgeAdapter.write(out, value.getMaxSurge());
+      }
+      if (value.getMaxUnavailable() != null) {
+        out.name("maxUnavailable");
+        maxUnavailableAdapter.write(out, value.getMaxUnavailable());
+      }
+      if (value.getServerDefaults() != null) {
+        out.name("serverDefaults");
+        serverDefaultsAdapter.write(out, value.getServerDefaults());
+      }
+      out.endObject();
+    }
+
+    @Override
+    public ClusterParams read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      ClusterParams value = new ClusterParams();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "replicas":
+            value.setReplicas(replicasAdapter.read(in));
+            break;
+          case "maxSurge":
+            value.setMaxSurge(maxSurgeAdapter.read(in));
+            break;
+          case "maxUnavailable":
+            value.setMaxUnavailable(maxUnavailableAdapter.read(in));
+            break;
+          case "serverDefaults":
+            value.setServerDefaults(serverDefaultsAdapter.read(in));
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+      return value;
+    }
+  }
+
+  private static class ClusterAdapter extends TypeAdapter<Cluster> {
+    private final TypeAdapter<Map<String, ClusteredServer>> serversAdapter;
+    private final TypeAdapter<Integer> replicasAdapter;
+    private final TypeAdapter<IntOrString> maxSurgeAdapter;
+    private final TypeAdapter<IntOrString> maxUnavailableAdapter;
+    private final TypeAdapter<ClusteredServer> serverDefaultsAdapter;
+
+    ClusterAdapter(Gson gson) {
+      serversAdapter = gson.getAdapter(new TypeToken<Map<String, ClusteredServer>>() {});
+      replicasAdapter = gson.getAdapter(Integer.class);
+      maxSurgeAdapter = gson.getAdapter(IntOrString.class);
+      maxUnavailableAdapter = gson.getAdapter(IntOrString.class);
+      serverDefaultsAdapter = gson.getAdapter(ClusteredServer.class);
+    }
+
+    @Override
+    public void write(JsonWriter out, Cluster value) throws IOException {
+      if (value == null) {
+        out.nullValue();
+        return;
+      }
+      out.beginObject();
+      if (value.getServers() != null) {
+        out.name("servers");
+        serversAdapter.write(out, value.getServers());
+      }
+      if (value.getReplicas() != null) {
+        out.name("replicas");
+        replicasAdapter.write(out, value.getReplicas());
+      }
+      if (value.getMaxSurge() != null) {
+        out.name("maxSurge");
+        maxSurgeAdapter.write(out, value.getMaxSurge());
+      }
+      if (value.getMaxUnavailable() != null) {
+        out.name("maxUnavailable");
+        maxUnavailableAdapter.write(out, value.getMaxUnavailable());
+      }
+      if (value.getServerDefaults() != null) {
+        out.name("serverDefaults");
+        serverDefaultsAdapter.write(out, value.getServerDefaults());
+      }
+      out.endObject();
+    }
+
+    @Override
+    public Cluster read(JsonReader in) throws IOException {
+      if (in.peek() == JsonToken.NULL) {
+        in.nextNull();
+        return null;
+      }
+      Cluster value = new Cluster();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case "servers":
+            value.setServers(serversAdapter.read(in));
+            break;
+          case "replicas":
+            value.setReplicas(replicasAdapter.read(in));
+            break;
+          case "maxSurge":
+            value.setMaxSurge(maxSurgeAdapter.read(in));
+            break;
+          case "maxUnavailable":
+            value.setMaxUnavailable(maxUnavailableAdapter.read(in));
+            break;
+          case "serverDefaults":
+            value.setServerDefaults(serverDefaultsAdapter.read(in));
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+      return value;
+    }
+  }
+}
@@ -25,6 +25,12 @@ public class DomainStatus {
   @Expose
   @Valid
   private List<DomainCondition> conditions = new ArrayList<DomainCondition>();
+  /**
+   * The generation of the domain resource whose spec the operator most recently finished applying.
+   */
+  @SerializedName("observedGeneration")
+  @Expose
+  private Long observedGeneration;
   /** A human readable message indicating details about why the domain is in this condition. */
   @SerializedName("message")
   @Expose
@@ -45,6 +51,20 @@ public class DomainStatus {
   @SerializedName("startTime")
   @Expose
   private DateTime startTime;
+  /**
+   * The number of running managed servers in the cluster scaled by the domain's replicas count, if
+   * it is the only such cluster; read through the scale subresource.
+   */
+  @SerializedName("replicas")
+  @Expose
+  private Integer replicas;
+  /**
+   * A label selector for the pods of the cluster counted in replicas, if it is the only cluster
+   * scaled by the domain's replicas count; read through the scale subresource.
+   */
+  @SerializedName("selector")
+  @Expose
+  private String selector;
 
   /**
    * Current service state of domain.
@@ -75,6 +95,35 @@ public class DomainStatus {
     return this;
   }
 
+  /**
+   * The generation of the domain resource whose spec the operator most recently finished applying.
+   *
+   * @return observed generation
+   */
+  public Long getObservedGeneration() {
+    return observedGeneration;
+  }
+
+  /**
+   * The generation of the domain resource whose spec the operator most recently finished applying.
+   *
+   * @param observedGeneration observed generation
+   */
+  public void setObservedGeneration(Long observedGeneration) {
+    this.observedGeneration = observedGeneration;
+  }
+
+  /**
+   * The generation of the domain resource whose spec the operator most recently finished applying.
+   *
+   * @param observedGeneration observed generation
+   * @return this
+   */
+  public DomainStatus withObservedGeneration(Long observedGeneration) {
+    this.observedGeneration = observedGeneration;
+    return this;
+  }
+
   /**
    * A human readable message indicating details about why the domain is in this condition.
    *
@@ -194,14 +243,81 @@ public class DomainStatus {
     return this;
   }
 
+  /**
+   * The number of running managed servers in the cluster scaled by the domain's replicas count, if
+   * it is the only such cluster; read through the scale subresource.
+   *
+   * @return replicas
+   */
+  public Integer getReplicas() {
+    return replicas;
+  }
+
+  /**
+   * The number of running managed servers in the cluster scaled by the domain's replicas count, if
+   * it is the only such cluster; read through the scale subresource.
+   *
+   * @param replicas replicas
+   */
+  public void setReplicas(Integer replicas) {
+    this.replicas = replicas;
+  }
+
+  /**
+   * The number of running managed servers in the cluster scaled by the domain's replicas count, if
+   * it is the only such cluster; read through the scale subresource.
+   *
+   * @param replicas replicas
+   * @return this
+   */
+  public DomainStatus withReplicas(Integer replicas) {
+    this.replicas = replicas;
+    return this;
+  }
+
+  /**
+   * A label selector for the pods of the cluster counted in replicas, if it is the only cluster
+   * scaled by the domain's replicas count; read through the scale subresource.
+   *
+   * @return selector
+   */
+  public String getSelector() {
+    return selector;
+  }
+
+  /**
+   * A label selector for the pods of the cluster counted in replicas, if it is the only cluster
+   * scaled by the domain's replicas count; read through the scale subresource.
+   *
+   * @param selector selector
+   */
+  public void setSelector(String selector) {
+    this.selector = selector;
+  }
+
+  /**
+   * A label selector for the pods of the cluster counted in replicas, if it is the only cluster
+   * scaled by the domain's replicas count; read through the scale subresource.
+   *
+   * @param selector selector
+   * @return this
+   */
+  public DomainStatus withSelector(String selector) {
+    this.selector = selector;
+    return this;
+  }
+
   @Override
   public String toString() {
     return new ToStringBuilder(this)
         .append("conditions", conditions)
+        .append("observedGeneration", observedGeneration)
         .append("message", message)
         .append("reason", reason)
         .append("servers", servers)
         .append("startTime", startTime)
+        .append("replicas", replicas)
+        .append("selector", selector)
         .toString();
   }
 
@@ -212,7 +328,10 @@ public class DomainStatus {
         .append(startTime)
         .append(servers)
         .append(conditions)
+        .append(observedGeneration)
         .append(message)
+        .append(replicas)
+        .append(selector)
         .toHashCode();
   }
 
@@ -230,7 +349,10 @@ public class DomainStatus {
         .append(startTime, rhs.startTime)
         .append(servers, rhs.servers)
         .append(conditions, rhs.conditions)
+        .append(observedGeneration, rhs.observedGeneration)
         .append(message, rhs.message)
+        .append(replicas, rhs.replicas)
+        .append(selector, rhs.selector)
         .isEquals();
   }
 }
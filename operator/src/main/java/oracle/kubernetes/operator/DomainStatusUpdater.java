@@ -11,13 +11,17 @@ import java.util.Collection;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.Objects;
 import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentMap;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
+import oracle.kubernetes.operator.helpers.HealthCheckHelper.KubernetesVersion;
 import oracle.kubernetes.operator.helpers.ServerKubernetesObjects;
+import oracle.kubernetes.operator.helpers.VersionHelper;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
@@ -30,6 +34,7 @@ import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.weblogic.domain.v1.ClusterStartup;
 import oracle.kubernetes.weblogic.domain.v1.Domain;
 import oracle.kubernetes.weblogic.domain.v1.DomainCondition;
 import oracle.kubernetes.weblogic.domain.v1.DomainSpec;
@@ -50,6 +55,7 @@ public class DomainStatusUpdater {
   public static final String INSPECTING_DOMAIN_PROGRESS_REASON = "InspectingDomainPrescence";
   public static final String ADMIN_SERVER_STARTING_PROGRESS_REASON = "AdminServerStarting";
   public static final String MANAGED_SERVERS_STARTING_PROGRESS_REASON = "ManagedServersStarting";
+  public static final String ROLLING_CLUSTER_PROGRESS_REASON = "RollingCluster";
 
   public static final String SERVERS_READY_AVAILABLE_REASON = "ServersReady";
   public static final String ALL_STOPPED_AVAILABLE_REASON = "AllServersStopped";
@@ -140,13 +146,10 @@ public class DomainStatusUpdater {
                   .withState(serverState.getOrDefault(serverName, WebLogicConstants.SHUTDOWN_STATE))
                   .withServerName(serverName)
                   .withHealth(serverHealth.get(serverName));
-          outer:
           for (Map.Entry<String, WlsClusterConfig> cluster : scan.getClusterConfigs().entrySet()) {
-            for (WlsServerConfig sic : cluster.getValue().getServerConfigs()) {
-              if (serverName.equals(sic.getName())) {
-                ss.setClusterName(cluster.getKey());
-                break outer;
-              }
+            if (cluster.getValue().containsServer(serverName)) {
+              ss.setClusterName(cluster.getKey());
+              break;
             }
           }
           ServerKubernetesObjects sko = info.getServers().get(serverName);
@@ -188,6 +191,11 @@ public class DomainStatusUpdater {
         madeChange = true;
       }
 
+      if (scan != null
+          && updateScaleStatus(dom, scan.getClusterConfigs().keySet(), serverStatuses.values())) {
+        madeChange = true;
+      }
+
       // Now, we'll build the conditions.
       // Possible condition types are Progressing, Available, and Failed
       // Each condition is either True, False, or Unknown
@@ -310,6 +318,56 @@ public class DomainStatusUpdater {
     }
   }
 
+  // Records the replica count and pod selector that the scale subresource reads. The subresource
+  // scales spec.replicas, which sizes each cluster of a domain-v1 resource that does not set its
+  // own count in clusterStartup. Since spec.replicas is the size of each such cluster, rather than
+  // their total, the count and selector are only published when exactly one cluster is sized by it.
+  static boolean updateScaleStatus(
+      Domain dom, Collection<String> clusterNames, Collection<ServerStatus> serverStatuses) {
+    if (!VersionHelper.matchesResourceVersion(dom.getMetadata(), VersionConstants.DOMAIN_V1)) {
+      return false;
+    }
+
+    Collection<String> scaledClusters = new TreeSet<>(clusterNames);
+    List<ClusterStartup> clusterStartups = dom.getSpec().getClusterStartup();
+    if (clusterStartups != null) {
+      for (ClusterStartup cs : clusterStartups) {
+        if (cs.getReplicas() != null) {
+          scaledClusters.remove(cs.getClusterName());
+        }
+      }
+    }
+
+    Integer replicas = null;
+    String selector = null;
+    if (scaledClusters.size() == 1) {
+      String scaledCluster = scaledClusters.iterator().next();
+      replicas = 0;
+      for (ServerStatus ss : serverStatuses) {
+        if (scaledCluster.equals(ss.getClusterName())
+            && WebLogicConstants.RUNNING_STATE.equals(ss.getState())) {
+          replicas++;
+        }
+      }
+      selector =
+          String.format(
+              "%s=%s,%s=%s",
+              LabelConstants.DOMAINUID_LABEL,
+              dom.getSpec().getDomainUID(),
+              LabelConstants.CLUSTERNAME_LABEL,
+              scaledCluster);
+    }
+
+    DomainStatus status = dom.getStatus();
+    if (Objects.equals(status.getReplicas(), replicas)
+        && Objects.equals(status.getSelector(), selector)) {
+      return false;
+    }
+    status.setReplicas(replicas);
+    status.setSelector(selector);
+    return true;
+  }
+
   private static boolean compare(
       List<ServerStatus> currentServerStatuses, Map<String, ServerStatus> serverStatuses) {
     if (currentServerStatuses.size() == serverStatuses.size()) {
@@ -335,16 +393,50 @@ public class DomainStatusUpdater {
    * @return Step
    */
   public static Step createProgressingStep(String reason, boolean isPreserveAvailable, Step next) {
-    return new ProgressingHookStep(reason, isPreserveAvailable, next);
+    return createProgressingStep(reason, null, isPreserveAvailable, next);
+  }
+
+  /**
+   * Asynchronous step to set Domain condition to Progressing, with a message describing the
+   * progress
+   *
+   * @param reason Progressing reason
+   * @param message Progressing message, or null for none
+   * @param isPreserveAvailable true, if existing Available=True condition should be preserved
+   * @param next Next step
+   * @return Step
+   */
+  public static Step createProgressingStep(
+      String reason, String message, boolean isPreserveAvailable, Step next) {
+    return new ProgressingHookStep(reason, message, isPreserveAvailable, next);
+  }
+
+  /**
+   * Asynchronous step to set Domain condition to Progressing, with a message describing the
+   * progress. Unlike {@link #createProgressingStep(String, String, boolean, Step)}, the update is
+   * made in the calling fiber, which continues with the next step only once the status is written.
+   *
+   * @param reason Progressing reason
+   * @param message Progressing message, or null for none
+   * @param isPreserveAvailable true, if existing Available=True condition should be preserved
+   * @param next Next step
+   * @return Step
+   */
+  public static Step createProgressingUpdateStep(
+      String reason, String message, boolean isPreserveAvailable, Step next) {
+    return new ProgressingStep(reason, message, isPreserveAvailable, next);
   }
 
   private static class ProgressingHookStep extends Step {
     private final String reason;
+    private final String message;
     private final boolean isPreserveAvailable;
 
-    private ProgressingHookStep(String reason, boolean isPreserveAvailable, Step next) {
+    private ProgressingHookStep(
+        String reason, String message, boolean isPreserveAvailable, Step next) {
       super(next);
       this.reason = reason;
+      this.message = message;
       this.isPreserveAvailable = isPreserveAvailable;
     }
 
@@ -354,7 +446,7 @@ public class DomainStatusUpdater {
       Packet p = new Packet();
       p.getComponents().putAll(packet.getComponents());
       f.start(
-          new ProgressingStep(reason, isPreserveAvailable),
+          new ProgressingStep(reason, message, isPreserveAvailable, null),
           p,
           new CompletionCallback() {
             @Override
@@ -372,11 +464,13 @@ public class DomainStatusUpdater {
 
   private static class ProgressingStep extends Step {
     private final String reason;
+    private final String message;
     private final boolean isPreserveAvailable;
 
-    private ProgressingStep(String reason, boolean isPreserveAvailable) {
-      super(null);
+    private ProgressingStep(String reason, String message, boolean isPreserveAvailable, Step next) {
+      super(next);
       this.reason = reason;
+      this.message = message;
       this.isPreserveAvailable = isPreserveAvailable;
     }
 
@@ -420,6 +514,10 @@ public class DomainStatusUpdater {
               dc.setReason(reason);
               madeChange = true;
             }
+            if (!Objects.equals(message, dc.getMessage())) {
+              dc.setMessage(message);
+              madeChange = true;
+            }
             break;
           case AVAILABLE_TYPE:
             if (isPreserveAvailable) {
@@ -437,6 +535,7 @@ public class DomainStatusUpdater {
         dc.setStatus(TRUE);
         dc.setLastTransitionTime(now);
         dc.setReason(reason);
+        dc.setMessage(message);
         conditions.add(dc);
         madeChange = true;
       }
@@ -509,6 +608,18 @@ public class DomainStatusUpdater {
         }
       }
 
+      // This step ends a successful reconcile, so the generation it applied is now observed
+      Long appliedGeneration = (Long) packet.get(ProcessingConstants.APPLYING_GENERATION);
+      if (appliedGeneration != null) {
+        info.setReconciledGeneration(appliedGeneration);
+      }
+      Long reconciledGeneration = info.getReconciledGeneration();
+      if (reconciledGeneration != null
+          && !reconciledGeneration.equals(status.getObservedGeneration())) {
+        status.setObservedGeneration(reconciledGeneration);
+        madeChange = true;
+      }
+
       LOGGER.info(MessageKeys.DOMAIN_STATUS, dom.getSpec().getDomainUID(), status);
       LOGGER.exiting();
 
@@ -636,36 +747,80 @@ public class DomainStatusUpdater {
 
   private static NextAction doDomainUpdate(
       Domain dom, DomainPresenceInfo info, Packet packet, Step conflictStep, Step next) {
-    V1ObjectMeta meta = dom.getMetadata();
     NextAction na = new NextAction();
+    KubernetesVersion version = packet.getSPI(KubernetesVersion.class);
+    if (version == null || !version.isCRDSubresourcesSupported()) {
+      // the CRD has no status subresource
+      na.invoke(replaceDomain(dom, info, conflictStep, next), packet);
+      return na;
+    }
+
+    V1ObjectMeta meta = dom.getMetadata();
     na.invoke(
         new CallBuilder()
-            .replaceDomainAsync(
+            .replaceDomainStatusAsync(
                 meta.getName(),
                 meta.getNamespace(),
                 dom,
-                new DefaultResponseStep<Domain>(next) {
+                new DomainUpdateResponseStep(info, meta, conflictStep, next) {
                   @Override
                   public NextAction onFailure(Packet packet, CallResponse<Domain> callResponse) {
                     if (callResponse.getStatusCode() == CallBuilder.NOT_FOUND) {
-                      return doNext(packet); // Just ignore update
+                      // the domain is gone, or its CRD has no status subresource
+                      return doNext(replaceDomain(dom, info, conflictStep, next), packet);
                     }
-                    return super.onFailure(
-                        getRereadDomainConflictStep(info, meta, conflictStep),
-                        packet,
-                        callResponse);
-                  }
-
-                  @Override
-                  public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
-                    info.setDomain(callResponse.getResult());
-                    return doNext(packet);
+                    return super.onFailure(packet, callResponse);
                   }
                 }),
         packet);
     return na;
   }
 
+  private static Step replaceDomain(
+      Domain dom, DomainPresenceInfo info, Step conflictStep, Step next) {
+    V1ObjectMeta meta = dom.getMetadata();
+    return new CallBuilder()
+        .replaceDomainAsync(
+            meta.getName(),
+            meta.getNamespace(),
+            dom,
+            new DomainUpdateResponseStep(info, meta, conflictStep, next) {
+              @Override
+              public NextAction onFailure(Packet packet, CallResponse<Domain> callResponse) {
+                if (callResponse.getStatusCode() == CallBuilder.NOT_FOUND) {
+                  return doNext(packet); // Just ignore update
+                }
+                return super.onFailure(packet, callResponse);
+              }
+            });
+  }
+
+  private static class DomainUpdateResponseStep extends DefaultResponseStep<Domain> {
+    private final DomainPresenceInfo info;
+    private final V1ObjectMeta meta;
+    private final Step conflictStep;
+
+    DomainUpdateResponseStep(
+        DomainPresenceInfo info, V1ObjectMeta meta, Step conflictStep, Step next) {
+      super(next);
+      this.info = info;
+      this.meta = meta;
+      this.conflictStep = conflictStep;
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<Domain> callResponse) {
+      return super.onFailure(
+          getRereadDomainConflictStep(info, meta, conflictStep), packet, callResponse);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
+      info.setDomain(callResponse.getResult());
+      return doNext(packet);
+    }
+  }
+
   private static Step getRereadDomainConflictStep(
       DomainPresenceInfo info, V1ObjectMeta meta, Step next) {
     return new CallBuilder()
@@ -14,6 +14,7 @@ public interface LabelConstants {
   String CLUSTERNAME_LABEL = "weblogic.clusterName";
   String CREATEDBYOPERATOR_LABEL = "weblogic.createdByOperator";
   String OPERATORNAME_LABEL = "weblogic.operatorName";
+  String CHECKPOINT_LABEL = "weblogic.scanCheckpoint";
   String APP_LABEL = "app";
 
   static String forDomainUid(String uid) {
@@ -4,14 +4,18 @@
 
 package oracle.kubernetes.operator;
 
-import io.kubernetes.client.JSON;
 import io.kubernetes.client.models.V1ConfigMap;
 import io.kubernetes.client.models.V1Event;
 import io.kubernetes.client.models.V1EventList;
 import io.kubernetes.client.models.V1ObjectMeta;
 import io.kubernetes.client.models.V1ObjectReference;
+import io.kubernetes.client.models.V1PersistentVolume;
+import io.kubernetes.client.models.V1PersistentVolumeClaim;
+import io.kubernetes.client.models.V1PersistentVolumeClaimList;
+import io.kubernetes.client.models.V1PersistentVolumeList;
 import io.kubernetes.client.models.V1Pod;
 import io.kubernetes.client.models.V1PodList;
+import io.kubernetes.client.models.V1SecretReference;
 import io.kubernetes.client.models.V1Service;
 import io.kubernetes.client.models.V1ServiceList;
 import io.kubernetes.client.models.V1beta1Ingress;
@@ -29,6 +33,7 @@ import java.util.Properties;
 import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.TreeSet;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -38,20 +43,28 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import oracle.kubernetes.operator.TuningParameters.MainTuning;
+import oracle.kubernetes.operator.autoscaling.Autoscaler;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.CRDHelper;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.CallBuilderFactory;
+import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfoManager;
 import oracle.kubernetes.operator.helpers.HealthCheckHelper;
 import oracle.kubernetes.operator.helpers.HealthCheckHelper.KubernetesVersion;
+import oracle.kubernetes.operator.helpers.LegalNames;
+import oracle.kubernetes.operator.helpers.LifeCycleHelper;
+import oracle.kubernetes.operator.helpers.PersistentVolumeCache;
 import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.helpers.ResourceProjections;
 import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.helpers.ScanCheckpoint;
 import oracle.kubernetes.operator.helpers.ServerKubernetesObjects;
 import oracle.kubernetes.operator.helpers.ServerKubernetesObjectsManager;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
+import oracle.kubernetes.operator.http.HttpClient;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
@@ -64,7 +77,10 @@ import oracle.kubernetes.operator.steps.DomainPrescenceStep;
 import oracle.kubernetes.operator.steps.ExternalAdminChannelsStep;
 import oracle.kubernetes.operator.steps.ListPersistentVolumeClaimStep;
 import oracle.kubernetes.operator.steps.ManagedServersUpStep;
+import oracle.kubernetes.operator.steps.ParallelStep;
+import oracle.kubernetes.operator.steps.RestoreScanStep;
 import oracle.kubernetes.operator.steps.WatchPodReadyAdminStep;
+import oracle.kubernetes.operator.utils.LatencyHistogram;
 import oracle.kubernetes.operator.wlsconfig.WlsRetriever;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.Container;
@@ -72,12 +88,16 @@ import oracle.kubernetes.operator.work.Engine;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.HashedWheelTimer;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.ReconcileScheduler;
+import oracle.kubernetes.operator.work.ReconcileScheduler.Priority;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.ThreadFactorySingleton;
 import oracle.kubernetes.weblogic.domain.v1.Domain;
 import oracle.kubernetes.weblogic.domain.v1.DomainList;
+import oracle.kubernetes.weblogic.domain.v1.DomainModelJSON;
 import oracle.kubernetes.weblogic.domain.v1.DomainSpec;
 import org.joda.time.DateTime;
 
@@ -92,9 +112,13 @@ public class Main {
 
   private static final TuningParameters tuningAndConfig;
 
+  // for simulation and debugging; the operator's config map is normally mounted at /operator/config
+  private static final String CONFIG_MOUNT_POINT =
+      System.getProperty("oracle.kubernetes.operator.Main.CONFIG_MOUNT_POINT", "/operator/config");
+
   static {
     try {
-      TuningParameters.initializeInstance(getThreadFactory(), "/operator/config");
+      TuningParameters.initializeInstance(getThreadFactory(), CONFIG_MOUNT_POINT);
       tuningAndConfig = TuningParameters.getInstance();
     } catch (IOException e) {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
@@ -123,17 +147,45 @@ public class Main {
                 callBuilderFactory));
   }
 
-  private static final Engine engine = new Engine(wrappedExecutorService);
+  // runs the timeouts of calls and waits, which are nearly always cancelled before they expire
+  private static final HashedWheelTimer timer =
+      new HashedWheelTimer(wrappedExecutorService, getThreadFactory());
+  private static final Engine engine = new Engine(wrappedExecutorService, timer);
   private static final FiberGate FIBER_GATE = new FiberGate(engine);
+  // admits domain reconciles to the gate by priority and, among namespaces, by weight
+  private static final ReconcileScheduler RECONCILE_SCHEDULER =
+      new ReconcileScheduler(
+          FIBER_GATE,
+          tuningAndConfig.getReconcileTuning().maxConcurrentReconciles,
+          ns -> tuningAndConfig.getReconcileTuning().namespaceWeights.getOrDefault(ns, 1));
+  // scales the clusters whose ClusterStartup asks for autoscaling
+  private static final Autoscaler AUTOSCALER = new Autoscaler(engine);
 
   private static final Map<String, AtomicBoolean> isNamespaceStopping = new ConcurrentHashMap<>();
 
+  // spreads the periodic resyncs of the namespaces over the recheck interval
+  private static final ResyncScheduler RESYNC_SCHEDULER =
+      new ResyncScheduler(
+          timer,
+          TimeUnit.SECONDS.toMillis(
+              tuningAndConfig.getMainTuning().domainPresenceRecheckIntervalSeconds),
+          Main::resyncNamespace,
+          Math::random);
+
+  // shares the target namespaces among replicas of the operator, when sharding is enabled
+  private static ShardCoordinator shardCoordinator;
+
   private static final Map<String, ConfigMapWatcher> configMapWatchers = new ConcurrentHashMap<>();
   private static final Map<String, DomainWatcher> domainWatchers = new ConcurrentHashMap<>();
   private static final Map<String, PodWatcher> podWatchers = new ConcurrentHashMap<>();
   private static final Map<String, EventWatcher> eventWatchers = new ConcurrentHashMap<>();
   private static final Map<String, ServiceWatcher> serviceWatchers = new ConcurrentHashMap<>();
   private static final Map<String, IngressWatcher> ingressWatchers = new ConcurrentHashMap<>();
+  private static final Map<String, PersistentVolumeClaimWatcher> claimWatchers =
+      new ConcurrentHashMap<>();
+  // persistent volumes are not namespaced, so they are watched for as long as the operator runs
+  private static final AtomicBoolean isVolumeWatchStopping = new AtomicBoolean(false);
+  private static PersistentVolumeWatcher volumeWatcher;
 
   private static final String operatorNamespace = getOperatorNamespace();
 
@@ -142,6 +194,11 @@ public class Main {
   private static Thread livenessThread = null;
   private static KubernetesVersion version = null;
 
+  private static final String NAMESPACE_START_TIME = "namespaceStartTime";
+  private static long beginNanos;
+  private static volatile long timeToReadyMillis = -1;
+  private static final LatencyHistogram namespaceStartupTimes = new LatencyHistogram();
+
   static final String READINESS_PROBE_FAILURE_EVENT_FILTER =
       "reason=Unhealthy,type=Warning,involvedObject.fieldPath=spec.containers{weblogic-server}";
 
@@ -192,7 +249,40 @@ public class Main {
     }
   }
 
+  /**
+   * Returns the time the operator took from startup until it had read the existing resources in all
+   * of its target namespaces and started managing their domains.
+   *
+   * @return the time in milliseconds, or -1 if the operator is not yet ready
+   */
+  public static long getTimeToReadyMillis() {
+    return timeToReadyMillis;
+  }
+
+  /**
+   * Returns the times taken to start each target namespace, including its security checks and the
+   * listing of its existing resources.
+   *
+   * @return a histogram of namespace startup times
+   */
+  public static LatencyHistogram getNamespaceStartupTimes() {
+    return namespaceStartupTimes;
+  }
+
+  public static HashedWheelTimer getTimer() {
+    return timer;
+  }
+
+  public static ReconcileScheduler getReconcileScheduler() {
+    return RECONCILE_SCHEDULER;
+  }
+
+  static ResyncScheduler getResyncScheduler() {
+    return RESYNC_SCHEDULER;
+  }
+
   private static void begin() {
+    beginNanos = System.nanoTime();
     String serviceAccountName = tuningAndConfig.get("serviceaccount");
     if (serviceAccountName == null) {
       serviceAccountName = "default";
@@ -201,7 +291,7 @@ public class Main {
 
     LOGGER.info(MessageKeys.OP_CONFIG_NAMESPACE, operatorNamespace);
 
-    Collection<String> targetNamespaces = getTargetNamespaces();
+    Collection<String> targetNamespaces = getConfiguredNamespaces();
     StringBuilder tns = new StringBuilder();
     Iterator<String> it = targetNamespaces.iterator();
     while (it.hasNext()) {
@@ -216,38 +306,96 @@ public class Main {
     try {
       // Initialize logging factory with JSON serializer for later logging
       // that includes k8s objects
-      LoggingFactory.setJSON(new JSON());
+      LoggingFactory.setJSON(DomainModelJSON.getInstance());
 
-      // create the Custom Resource Definitions if they are not already there
-      CRDHelper.checkAndCreateCustomResourceDefinition();
+      // open the first API clients before the namespaces start competing for them
+      ClientPool.getInstance().warmUp();
 
       version = HealthCheckHelper.performK8sVersionCheck();
 
-      runSteps(new StartNamespacesStep(targetNamespaces), Main::completeBegin);
+      // create the Custom Resource Definitions if they are not already there
+      CRDHelper.checkAndCreateCustomResourceDefinition(version);
+
+      container
+          .getComponents()
+          .put(ProcessingConstants.VERSION_COMPONENT_NAME, Component.createFor(version));
+
+      ScanCheckpoint.getInstance()
+          .setEnabled(tuningAndConfig.getMainTuning().checkpointIntervalSeconds > 0);
+
+      runSteps(readExistingVolumes());
+      if (isShardingEnabled()) {
+        startShardCoordinator();
+      }
+      runSteps(new StartNamespacesStep(getTargetNamespaces()), Main::completeBegin);
     } catch (Throwable e) {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
     }
   }
 
   private static void completeBegin() {
+    timeToReadyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - beginNanos);
+    LOGGER.info(MessageKeys.OPERATOR_READY, isNamespaceStopping.size(), timeToReadyMillis);
+
     deleteStrandedResources();
 
     try {
       // start the REST server
       startRestServer(principal, isNamespaceStopping.keySet());
 
-      // start periodic retry and recheck
+      // resync the namespaces in turn, and periodically check for added or removed namespaces
+      RESYNC_SCHEDULER.setNamespaces(new ArrayList<>(isNamespaceStopping.keySet()));
       int recheckInterval = tuningAndConfig.getMainTuning().domainPresenceRecheckIntervalSeconds;
       engine
           .getExecutor()
           .scheduleWithFixedDelay(
               recheckDomains(), recheckInterval, recheckInterval, TimeUnit.SECONDS);
 
+      // periodically save the WebLogic configurations read, for a fast restart
+      int checkpointInterval = tuningAndConfig.getMainTuning().checkpointIntervalSeconds;
+      if (checkpointInterval > 0) {
+        engine
+            .getExecutor()
+            .scheduleWithFixedDelay(
+                Main::writeCheckpoints, checkpointInterval, checkpointInterval, TimeUnit.SECONDS);
+      }
+
     } catch (Throwable e) {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
     }
   }
 
+  private static boolean isShardingEnabled() {
+    return "true".equalsIgnoreCase(tuningAndConfig.get("namespaceSharding"));
+  }
+
+  private static void startShardCoordinator() {
+    TuningParameters.ShardTuning shard = tuningAndConfig.getShardTuning();
+    shardCoordinator =
+        new ShardCoordinator(
+            getOperatorIdentity(),
+            operatorNamespace,
+            TimeUnit.SECONDS.toMillis(shard.leaseDurationSeconds),
+            shard.virtualNodes,
+            Main::getConfiguredNamespaces,
+            () -> new ArrayList<>(isNamespaceStopping.keySet()),
+            () -> engine.getExecutor().execute(recheckDomains()));
+    shardCoordinator.start(engine, TimeUnit.SECONDS.toMillis(shard.renewIntervalSeconds));
+  }
+
+  // the pod name, which Kubernetes sets as the host name
+  private static String getOperatorIdentity() {
+    String identity = System.getenv("HOSTNAME");
+    return identity != null ? identity : UUID.randomUUID().toString();
+  }
+
+  private static void writeCheckpoints() {
+    ScanCheckpoint checkpoint = ScanCheckpoint.getInstance();
+    for (String ns : checkpoint.getChangedNamespaces()) {
+      runSteps(checkpoint.createWriteStep(ns, operatorNamespace));
+    }
+  }
+
   private static class StartNamespacesStep extends Step {
     private final Collection<String> targetNamespaces;
 
@@ -264,7 +412,9 @@ public class Main {
         startDetails.add(
             new StepAndPacket(
                 Step.chain(
-                    new StartNamespaceBeforeStep(ns), readExistingResources(operatorNamespace, ns)),
+                    new StartNamespaceBeforeStep(ns),
+                    readExistingResources(operatorNamespace, ns),
+                    new StartNamespaceAfterStep(ns)),
                 packet.clone()));
       }
       return doForkJoin(getNext(), packet, startDetails);
@@ -281,8 +431,9 @@ public class Main {
     @Override
     public NextAction apply(Packet packet) {
       if (isNamespaceStopping.putIfAbsent(ns, new AtomicBoolean(false)) == null) {
+        packet.put(NAMESPACE_START_TIME, System.nanoTime());
         try {
-          HealthCheckHelper.performSecurityChecks(version, operatorNamespace, ns);
+          HealthCheckHelper.performSecurityChecks(version, operatorNamespace, ns, principal);
         } catch (Throwable e) {
           LOGGER.warning(MessageKeys.EXCEPTION, e);
         }
@@ -293,12 +444,65 @@ public class Main {
     }
   }
 
+  private static class StartNamespaceAfterStep extends Step {
+    private final String ns;
+
+    StartNamespaceAfterStep(String ns) {
+      this.ns = ns;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Long startTime = (Long) packet.get(NAMESPACE_START_TIME);
+      if (startTime != null) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        namespaceStartupTimes.record(millis);
+        LOGGER.fine(MessageKeys.NAMESPACE_STARTED, ns, millis);
+      }
+      return doNext(packet);
+    }
+  }
+
   private static void stopNamespaces(Collection<String> namespacesToStop) {
     for (String ns : namespacesToStop) {
       AtomicBoolean stopping = isNamespaceStopping.remove(ns);
       if (stopping != null) {
         stopping.set(true);
       }
+      claimWatchers.remove(ns);
+      PersistentVolumeCache.getInstance().stopWatchingClaims(ns);
+      releaseDomains(ns);
+    }
+  }
+
+  // Stops processing the domains in a namespace, leaving their resources in place, so that another
+  // replica of the operator may take them over.
+  private static void releaseDomains(String ns) {
+    for (Map.Entry<String, DomainPresenceInfo> entry :
+        DomainPresenceInfoManager.getDomainPresenceInfos().entrySet()) {
+      String domainUID = entry.getKey();
+      DomainPresenceInfo info = entry.getValue();
+      if (info != null
+          && ns.equals(info.getNamespace())
+          && DomainPresenceInfoManager.remove(domainUID) != null) {
+        DomainPresenceControl.cancelDomainStatusUpdating(info);
+        AUTOSCALER.cancel(domainUID);
+        forgetAuthenticatedClient(info);
+        LifeCycleHelper.instance().forgetDomain(domainUID);
+        RECONCILE_SCHEDULER.startNow(domainUID, new EndStep(), new Packet(), andThenDo(null));
+      }
+    }
+  }
+
+  // replaces any fiber still processing a released domain
+  private static class EndStep extends Step {
+    EndStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doEnd(packet);
     }
   }
 
@@ -340,18 +544,95 @@ public class Main {
       namespacesToStop.removeAll(targetNamespaces);
       stopNamespaces(namespacesToStop);
 
-      runSteps(new StartNamespacesStep(targetNamespaces), Main::deleteStrandedResources);
+      runSteps(
+          new StartNamespacesStep(targetNamespaces),
+          () -> {
+            deleteStrandedResources();
+            RESYNC_SCHEDULER.setNamespaces(new ArrayList<>(isNamespaceStopping.keySet()));
+          });
     };
   }
 
+  // Resyncs a namespace from the state its watches have delivered, first relisting its resources
+  // if a watch has missed events.
+  private static void resyncNamespace(String ns, boolean relist) {
+    if (isNamespaceStopping(ns).get()) {
+      return;
+    }
+    if (relist) {
+      runSteps(
+          Step.chain(relistResources(ns), new RecheckDomainsStep(ns)),
+          Main::deleteStrandedResources);
+    } else {
+      recheckDomains(ns);
+    }
+  }
+
+  private static void recheckDomains(String ns) {
+    for (DomainPresenceInfo info : DomainPresenceInfoManager.getDomainPresenceInfos().values()) {
+      Domain dom = info.getDomain();
+      if (dom != null && ns.equals(dom.getMetadata().getNamespace())) {
+        doCheckAndCreateDomainPresence(dom, true, false, null, null, false, Priority.RECHECK);
+      }
+    }
+  }
+
+  private static class RecheckDomainsStep extends Step {
+    private final String ns;
+
+    RecheckDomainsStep(String ns) {
+      super(null);
+      this.ns = ns;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      recheckDomains(ns);
+      return doNext(packet);
+    }
+  }
+
+  // Relists the resources of a namespace that the operator watches, other than config maps, to
+  // recover from a watch that has missed events.
+  private static Step relistResources(String ns) {
+    return Step.chain(
+        new ParallelStep(
+            readExistingPods(ns),
+            readExistingEvents(ns),
+            readExistingServices(ns),
+            readExistingIngresses(ns),
+            readExistingClaims(ns)),
+        readExistingDomains(ns));
+  }
+
+  // A watch that has missed events is made good by relisting its namespace
+  private static <W extends Watcher<?>> W relistOnGap(String ns, W watcher) {
+    watcher.setGapListener(() -> RESYNC_SCHEDULER.reportGap(ns));
+    return watcher;
+  }
+
+  /**
+   * Creates the steps that read the existing resources in a namespace and start watching them. The
+   * resources are listed in parallel; domains are listed only after the other lists have been
+   * processed, so that domain processing starts with the operator's knowledge of the namespace
+   * complete.
+   *
+   * @param operatorNamespace the namespace of the operator
+   * @param ns the namespace to read
+   * @return the first step
+   */
   static Step readExistingResources(String operatorNamespace, String ns) {
     return Step.chain(
-        ConfigMapHelper.createScriptConfigMapStep(operatorNamespace, ns),
-        createConfigMapStep(ns),
-        readExistingPods(ns),
-        readExistingEvents(ns),
-        readExistingServices(ns),
-        readExistingIngresses(ns),
+        new ParallelStep(
+            Step.chain(
+                ConfigMapHelper.createScriptConfigMapStep(operatorNamespace, ns),
+                createConfigMapStep(ns)),
+            readExistingPods(ns),
+            readExistingEvents(ns),
+            readExistingServices(ns),
+            readExistingIngresses(ns),
+            readExistingClaims(ns),
+            ScanCheckpoint.getInstance().createReadStep(ns)),
         readExistingDomains(ns));
   }
 
@@ -372,6 +653,18 @@ public class Main {
         .listServiceAsync(ns, new ServiceListStep(ns));
   }
 
+  private static Step readExistingClaims(String ns) {
+    return new CallBuilder()
+        .withLabelSelectors(LabelConstants.DOMAINUID_LABEL)
+        .listPersistentVolumeClaimAsync(ns, new PersistentVolumeClaimListStep(ns));
+  }
+
+  private static Step readExistingVolumes() {
+    return new CallBuilder()
+        .withLabelSelectors(LabelConstants.DOMAINUID_LABEL)
+        .listPersistentVolumeAsync(new PersistentVolumeListStep());
+  }
+
   private static Step readExistingEvents(String ns) {
     return new CallBuilder()
         .withFieldSelector(Main.READINESS_PROBE_FAILURE_EVENT_FILTER)
@@ -407,7 +700,7 @@ public class Main {
     if (info != null) {
       Domain dom = info.getDomain();
       if (dom != null) {
-        doCheckAndCreateDomainPresence(dom, false, true, null, null, false);
+        doCheckAndCreateDomainPresence(dom, false, true, null, null, false, Priority.USER_ACTION);
       }
     }
   }
@@ -427,7 +720,8 @@ public class Main {
     if (info != null) {
       Domain dom = info.getDomain();
       if (dom != null) {
-        doCheckAndCreateDomainPresence(dom, false, false, servers, null, false);
+        doCheckAndCreateDomainPresence(
+            dom, false, false, servers, null, false, Priority.USER_ACTION);
       }
     }
   }
@@ -446,7 +740,8 @@ public class Main {
     if (info != null) {
       Domain dom = info.getDomain();
       if (dom != null) {
-        doCheckAndCreateDomainPresence(dom, false, false, null, clusters, false);
+        doCheckAndCreateDomainPresence(
+            dom, false, false, null, clusters, false, Priority.USER_ACTION);
       }
     }
   }
@@ -552,8 +847,16 @@ public class Main {
     }
   }
 
+  // Watch events may interrupt a running reconcile, while periodic rechecks may not
   private static void doCheckAndCreateDomainPresence(Domain dom, boolean isWillInterrupt) {
-    doCheckAndCreateDomainPresence(dom, false, false, null, null, isWillInterrupt);
+    doCheckAndCreateDomainPresence(
+        dom,
+        false,
+        false,
+        null,
+        null,
+        isWillInterrupt,
+        isWillInterrupt ? Priority.EVENT : Priority.RECHECK);
   }
 
   private static void doCheckAndCreateDomainPresence(
@@ -562,7 +865,8 @@ public class Main {
       boolean explicitRestartAdmin,
       List<String> explicitRestartServers,
       List<String> explicitRestartClusters,
-      boolean isWillInterrupt) {
+      boolean isWillInterrupt,
+      Priority priority) {
     LOGGER.entering();
 
     boolean hasExplicitRestarts =
@@ -577,13 +881,17 @@ public class Main {
     // Has the spec actually changed? We will get watch events for status updates
     Domain current = info.getDomain();
     if (existingDomain && current != null) {
-      if (!explicitRecheck && !hasExplicitRestarts && spec.equals(current.getSpec())) {
+      if (!explicitRecheck && !hasExplicitRestarts && info.hasAppliedSpec(dom)) {
         // nothing in the spec has changed
         LOGGER.fine(MessageKeys.NOT_STARTING_DOMAINUID_THREAD, domainUID);
         return;
       }
     }
     info.setDomain(dom);
+    info.setAppliedSpec(dom);
+    if (info.getUserUpdatePending().getAndSet(false)) {
+      priority = Priority.USER_ACTION;
+    }
 
     if (explicitRestartAdmin) {
       LOGGER.info(MessageKeys.RESTART_ADMIN_STARTING, domainUID);
@@ -598,11 +906,11 @@ public class Main {
       info.getExplicitRestartClusters().addAll(explicitRestartClusters);
     }
 
-    checkAndCreateDomainPresence(info, isWillInterrupt);
+    checkAndCreateDomainPresence(info, isWillInterrupt, priority);
   }
 
   private static void checkAndCreateDomainPresence(
-      DomainPresenceInfo info, boolean isWillInterrupt) {
+      DomainPresenceInfo info, boolean isWillInterrupt, Priority priority) {
     Domain dom = info.getDomain();
     DomainSpec spec = dom.getSpec();
     String domainUID = spec.getDomainUID();
@@ -627,6 +935,7 @@ public class Main {
       p.getComponents()
           .put(ProcessingConstants.DOMAIN_COMPONENT_NAME, Component.createFor(info, version, pw));
       p.put(ProcessingConstants.PRINCIPAL, principal);
+      p.put(ProcessingConstants.APPLYING_GENERATION, info.getAppliedGeneration());
 
       CompletionCallback cc =
           new CompletionCallback() {
@@ -659,19 +968,16 @@ public class Main {
               FIBER_GATE
                   .getExecutor()
                   .schedule(
-                      () -> checkAndCreateDomainPresence(info, false),
+                      () -> checkAndCreateDomainPresence(info, false, Priority.RECHECK),
                       DomainPresence.getDomainPresenceFailureRetrySeconds(),
                       TimeUnit.SECONDS);
             }
           };
 
-      if (isWillInterrupt) {
-        FIBER_GATE.startFiber(domainUID, strategy, p, cc);
-      } else {
-        FIBER_GATE.startFiberIfNoCurrentFiber(domainUID, strategy, p, cc);
-      }
+      RECONCILE_SCHEDULER.schedule(ns, domainUID, priority, isWillInterrupt, strategy, p, cc);
 
       scheduleDomainStatusUpdating(info);
+      AUTOSCALER.schedule(info);
     }
     LOGGER.exiting();
   }
@@ -685,8 +991,10 @@ public class Main {
   }
 
   private static Step connectToAdminAndInspectDomain(Step next) {
-    return new WatchPodReadyAdminStep(
-        podWatchers, WlsRetriever.readConfigStep(new ExternalAdminChannelsStep(next)));
+    return new RestoreScanStep(
+        new WatchPodReadyAdminStep(
+            podWatchers, WlsRetriever.readConfigStep(new ExternalAdminChannelsStep(next))),
+        new ExternalAdminChannelsStep(next));
   }
 
   private static Step bringManagedServersUp(Step next) {
@@ -743,6 +1051,14 @@ public class Main {
     return info;
   }
 
+  private static void forgetAuthenticatedClient(DomainPresenceInfo info) {
+    Domain dom = info.getDomain();
+    V1SecretReference adminSecret = dom == null ? null : dom.getSpec().getAdminSecret();
+    if (adminSecret != null) {
+      HttpClient.forgetAuthenticatedClient(info.getNamespace(), adminSecret.getName());
+    }
+  }
+
   private static void deleteDomainPresence(
       String namespace, String domainUID, DateTime deleteDomainDateTime) {
     LOGGER.entering();
@@ -752,8 +1068,12 @@ public class Main {
       return;
     }
     DomainPresenceControl.cancelDomainStatusUpdating(info);
+    AUTOSCALER.cancel(domainUID);
+    forgetAuthenticatedClient(info);
+    LifeCycleHelper.instance().forgetDomain(domainUID);
+    ScanCheckpoint.getInstance().remove(namespace, domainUID);
 
-    FIBER_GATE.startFiber(
+    RECONCILE_SCHEDULER.startNow(
         domainUID,
         new DeleteDomainStep(namespace, domainUID),
         new Packet(),
@@ -828,13 +1148,15 @@ public class Main {
   }
 
   private static EventWatcher createEventWatcher(String ns, String initialResourceVersion) {
-    return EventWatcher.create(
-        getThreadFactory(),
+    return relistOnGap(
         ns,
-        READINESS_PROBE_FAILURE_EVENT_FILTER,
-        initialResourceVersion,
-        Main::dispatchEventWatch,
-        isNamespaceStopping(ns));
+        EventWatcher.create(
+            getThreadFactory(),
+            ns,
+            READINESS_PROBE_FAILURE_EVENT_FILTER,
+            initialResourceVersion,
+            Main::dispatchEventWatch,
+            isNamespaceStopping(ns)));
   }
 
   private static void dispatchEventWatch(Watch.Response<V1Event> item) {
@@ -870,12 +1192,14 @@ public class Main {
   }
 
   private static PodWatcher createPodWatcher(String ns, String initialResourceVersion) {
-    return PodWatcher.create(
-        getThreadFactory(),
+    return relistOnGap(
         ns,
-        initialResourceVersion,
-        Main::dispatchPodWatch,
-        isNamespaceStopping(ns));
+        PodWatcher.create(
+            getThreadFactory(),
+            ns,
+            initialResourceVersion,
+            Main::dispatchPodWatch,
+            isNamespaceStopping(ns)));
   }
 
   private static void dispatchPodWatch(Watch.Response<V1Pod> item) {
@@ -892,14 +1216,14 @@ public class Main {
           if (sko != null) {
             switch (item.type) {
               case "ADDED":
-                sko.getPod().set(p);
+                sko.getPod().set(ResourceProjections.project(p));
                 break;
               case "MODIFIED":
                 V1Pod skoPod = sko.getPod().get();
                 if (skoPod != null) {
                   // If the skoPod is null then the operator deleted this pod
                   // and modifications are to the terminating pod
-                  sko.getPod().compareAndSet(skoPod, p);
+                  sko.getPod().compareAndSet(skoPod, ResourceProjections.project(p));
                 }
                 break;
               case "DELETED":
@@ -923,12 +1247,14 @@ public class Main {
   }
 
   private static ServiceWatcher createServiceWatcher(String ns, String initialResourceVersion) {
-    return ServiceWatcher.create(
-        getThreadFactory(),
+    return relistOnGap(
         ns,
-        initialResourceVersion,
-        Main::dispatchServiceWatch,
-        isNamespaceStopping(ns));
+        ServiceWatcher.create(
+            getThreadFactory(),
+            ns,
+            initialResourceVersion,
+            Main::dispatchServiceWatch,
+            isNamespaceStopping(ns)));
   }
 
   private static void dispatchServiceWatch(Watch.Response<V1Service> item) {
@@ -950,12 +1276,12 @@ public class Main {
             case "ADDED":
               if (sko != null) {
                 if (channelName != null) {
-                  sko.getChannels().put(channelName, s);
+                  sko.getChannels().put(channelName, ResourceProjections.project(s));
                 } else {
-                  sko.getService().set(s);
+                  sko.getService().set(ResourceProjections.project(s));
                 }
               } else if (clusterName != null) {
-                info.getClusters().put(clusterName, s);
+                info.getClusters().put(clusterName, ResourceProjections.project(s));
               }
               break;
             case "MODIFIED":
@@ -963,18 +1289,20 @@ public class Main {
                 if (channelName != null) {
                   V1Service skoService = sko.getChannels().get(channelName);
                   if (skoService != null) {
-                    sko.getChannels().replace(channelName, skoService, s);
+                    sko.getChannels()
+                        .replace(channelName, skoService, ResourceProjections.project(s));
                   }
                 } else {
                   V1Service skoService = sko.getService().get();
                   if (skoService != null) {
-                    sko.getService().compareAndSet(skoService, s);
+                    sko.getService().compareAndSet(skoService, ResourceProjections.project(s));
                   }
                 }
               } else if (clusterName != null) {
                 V1Service clusterService = info.getClusters().get(clusterName);
                 if (clusterService != null) {
-                  info.getClusters().replace(clusterName, clusterService, s);
+                  info.getClusters()
+                      .replace(clusterName, clusterService, ResourceProjections.project(s));
                 }
               }
               break;
@@ -1026,12 +1354,14 @@ public class Main {
   }
 
   private static IngressWatcher createIngressWatcher(String ns, String initialResourceVersion) {
-    return IngressWatcher.create(
-        getThreadFactory(),
+    return relistOnGap(
         ns,
-        initialResourceVersion,
-        Main::dispatchIngressWatch,
-        isNamespaceStopping(ns));
+        IngressWatcher.create(
+            getThreadFactory(),
+            ns,
+            initialResourceVersion,
+            Main::dispatchIngressWatch,
+            isNamespaceStopping(ns)));
   }
 
   private static void dispatchIngressWatch(Watch.Response<V1beta1Ingress> item) {
@@ -1045,12 +1375,13 @@ public class Main {
         if (info != null && clusterName != null) {
           switch (item.type) {
             case "ADDED":
-              info.getIngresses().put(clusterName, i);
+              info.getIngresses().put(clusterName, ResourceProjections.project(i));
               break;
             case "MODIFIED":
               V1beta1Ingress skoIngress = info.getIngresses().get(clusterName);
               if (skoIngress != null) {
-                info.getIngresses().replace(clusterName, skoIngress, i);
+                info.getIngresses()
+                    .replace(clusterName, skoIngress, ResourceProjections.project(i));
               }
               break;
             case "DELETED":
@@ -1071,6 +1402,38 @@ public class Main {
     }
   }
 
+  private static PersistentVolumeClaimWatcher createClaimWatcher(
+      String ns, String initialResourceVersion) {
+    return relistOnGap(
+        ns,
+        PersistentVolumeClaimWatcher.create(
+            getThreadFactory(),
+            ns,
+            initialResourceVersion,
+            Main::dispatchClaimWatch,
+            isNamespaceStopping(ns)));
+  }
+
+  private static void dispatchClaimWatch(Watch.Response<V1PersistentVolumeClaim> item) {
+    PersistentVolumeCache.getInstance().onClaimWatchEvent(item);
+  }
+
+  // Volumes belong to no namespace, so a volume watch that has missed events relists them alone
+  private static PersistentVolumeWatcher createVolumeWatcher(String initialResourceVersion) {
+    PersistentVolumeWatcher watcher =
+        PersistentVolumeWatcher.create(
+            getThreadFactory(),
+            initialResourceVersion,
+            Main::dispatchVolumeWatch,
+            isVolumeWatchStopping);
+    watcher.setGapListener(() -> runSteps(readExistingVolumes()));
+    return watcher;
+  }
+
+  private static void dispatchVolumeWatch(Watch.Response<V1PersistentVolume> item) {
+    PersistentVolumeCache.getInstance().onVolumeWatchEvent(item);
+  }
+
   private static void dispatchConfigMapWatch(Watch.Response<V1ConfigMap> item) {
     V1ConfigMap c = item.object;
     if (c != null) {
@@ -1125,12 +1488,21 @@ public class Main {
     return namespace;
   }
 
-  private static Collection<String> getTargetNamespaces() {
+  private static Collection<String> getConfiguredNamespaces() {
     String namespace = getOperatorNamespace();
 
     return getTargetNamespaces(tuningAndConfig.get("targetNamespaces"), namespace);
   }
 
+  // the configured namespaces, less any that belong to other replicas
+  private static Collection<String> getTargetNamespaces() {
+    Collection<String> namespaces = getConfiguredNamespaces();
+    if (shardCoordinator != null) {
+      namespaces.retainAll(shardCoordinator.getOwnedNamespaces());
+    }
+    return namespaces;
+  }
+
   private static class IngressListStep extends ResponseStep<V1beta1IngressList> {
     private final String ns;
 
@@ -1155,10 +1527,13 @@ public class Main {
           if (domainUID != null && clusterName != null) {
             DomainPresenceInfoManager.getOrCreate(ns, domainUID)
                 .getIngresses()
-                .put(clusterName, ingress);
+                .put(clusterName, ResourceProjections.project(ingress));
           }
         }
       }
+      if (result != null && hasMorePages(result.getMetadata())) {
+        return doContinueList(packet, result.getMetadata());
+      }
       if (!ingressWatchers.containsKey(ns)) {
         ingressWatchers.put(ns, createIngressWatcher(ns, getInitialResourceVersion(result)));
       }
@@ -1170,7 +1545,77 @@ public class Main {
     }
   }
 
+  private static class PersistentVolumeClaimListStep
+      extends ResponseStep<V1PersistentVolumeClaimList> {
+    private static final String LISTED_CLAIMS = "listedClaims";
+    private final String ns;
+
+    PersistentVolumeClaimListStep(String ns) {
+      this.ns = ns;
+    }
+
+    @Override
+    public NextAction onFailure(
+        Packet packet, CallResponse<V1PersistentVolumeClaimList> callResponse) {
+      return callResponse.getStatusCode() == CallBuilder.NOT_FOUND
+          ? onSuccess(packet, callResponse)
+          : super.onFailure(packet, callResponse);
+    }
+
+    @Override
+    public NextAction onSuccess(
+        Packet packet, CallResponse<V1PersistentVolumeClaimList> callResponse) {
+      Set<String> listed = getListedKeys(packet, LISTED_CLAIMS);
+      V1PersistentVolumeClaimList result = callResponse.getResult();
+      if (result != null) {
+        PersistentVolumeCache.getInstance().addClaims(result.getItems());
+        for (V1PersistentVolumeClaim claim : result.getItems()) {
+          listed.add(claim.getMetadata().getName());
+        }
+      }
+      if (result != null && hasMorePages(result.getMetadata())) {
+        return doContinueList(packet, result.getMetadata());
+      }
+      packet.remove(LISTED_CLAIMS);
+      PersistentVolumeCache.getInstance().evictUnlistedClaims(ns, listed);
+      if (!claimWatchers.containsKey(ns)) {
+        claimWatchers.put(ns, createClaimWatcher(ns, getInitialResourceVersion(result)));
+      }
+      PersistentVolumeCache.getInstance().startWatchingClaims(ns);
+      return doNext(packet);
+    }
+
+    private String getInitialResourceVersion(V1PersistentVolumeClaimList result) {
+      return result != null ? result.getMetadata().getResourceVersion() : "";
+    }
+  }
+
+  private static class PersistentVolumeListStep extends ResponseStep<V1PersistentVolumeList> {
+    private static final String LISTED_VOLUMES = "listedVolumes";
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1PersistentVolumeList> callResponse) {
+      Set<String> listed = getListedKeys(packet, LISTED_VOLUMES);
+      V1PersistentVolumeList result = callResponse.getResult();
+      PersistentVolumeCache.getInstance().addVolumes(result.getItems());
+      for (V1PersistentVolume volume : result.getItems()) {
+        listed.add(volume.getMetadata().getName());
+      }
+      if (hasMorePages(result.getMetadata())) {
+        return doContinueList(packet, result.getMetadata());
+      }
+      packet.remove(LISTED_VOLUMES);
+      PersistentVolumeCache.getInstance().evictUnlistedVolumes(listed);
+      if (volumeWatcher == null) {
+        volumeWatcher = createVolumeWatcher(result.getMetadata().getResourceVersion());
+      }
+      PersistentVolumeCache.getInstance().startWatchingVolumes();
+      return doNext(packet);
+    }
+  }
+
   private static class DomainListStep extends ResponseStep<DomainList> {
+    private static final String LISTED_DOMAIN_UIDS = "listedDomainUIDs";
     private final String ns;
 
     DomainListStep(String ns) {
@@ -1186,13 +1631,18 @@ public class Main {
 
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<DomainList> callResponse) {
-      Set<String> domainUIDs = new HashSet<>();
-      if (callResponse.getResult() != null) {
-        for (Domain dom : callResponse.getResult().getItems()) {
+      Set<String> domainUIDs = getListedDomainUIDs(packet);
+      DomainList result = callResponse.getResult();
+      if (result != null) {
+        for (Domain dom : result.getItems()) {
           domainUIDs.add(dom.getSpec().getDomainUID());
           doCheckAndCreateDomainPresence(dom, false);
         }
       }
+      if (result != null && hasMorePages(result.getMetadata())) {
+        return doContinueList(packet, result.getMetadata());
+      }
+      packet.remove(LISTED_DOMAIN_UIDS);
 
       getDomainPresenceInfos()
           .forEach(
@@ -1208,27 +1658,36 @@ public class Main {
               });
 
       if (!domainWatchers.containsKey(ns)) {
-        domainWatchers.put(
-            ns, createDomainWatcher(ns, getResourceVersion(callResponse.getResult())));
+        domainWatchers.put(ns, createDomainWatcher(ns, getResourceVersion(result)));
       }
       return doNext(packet);
     }
 
+    // The UIDs of the domains on the pages read so far; domains on earlier pages must not be
+    // mistaken for stranded ones when the last page arrives.
+    @SuppressWarnings("unchecked")
+    private Set<String> getListedDomainUIDs(Packet packet) {
+      return (Set<String>) packet.computeIfAbsent(LISTED_DOMAIN_UIDS, k -> new HashSet<String>());
+    }
+
     String getResourceVersion(DomainList result) {
       return result != null ? result.getMetadata().getResourceVersion() : "";
     }
 
     private static DomainWatcher createDomainWatcher(String ns, String initialResourceVersion) {
-      return DomainWatcher.create(
-          getThreadFactory(),
+      return relistOnGap(
           ns,
-          initialResourceVersion,
-          Main::dispatchDomainWatch,
-          isNamespaceStopping(ns));
+          DomainWatcher.create(
+              getThreadFactory(),
+              ns,
+              initialResourceVersion,
+              Main::dispatchDomainWatch,
+              isNamespaceStopping(ns)));
     }
   }
 
   private static class ServiceListStep extends ResponseStep<V1ServiceList> {
+    private static final String LISTED_SERVICES = "listedServices";
     private final String ns;
 
     ServiceListStep(String ns) {
@@ -1244,6 +1703,7 @@ public class Main {
 
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<V1ServiceList> callResponse) {
+      Set<String> listed = getListedKeys(packet, LISTED_SERVICES);
       V1ServiceList result = callResponse.getResult();
       if (result != null) {
         for (V1Service service : result.getItems()) {
@@ -1251,17 +1711,24 @@ public class Main {
           String serverName = ServiceWatcher.getServiceServerName(service);
           String channelName = ServiceWatcher.getServiceChannelName(service);
           if (domainUID != null && serverName != null) {
+            listed.add(toListedKey(domainUID, serverName, channelName));
             DomainPresenceInfo info = DomainPresenceInfoManager.getOrCreate(ns, domainUID);
             ServerKubernetesObjects sko =
                 ServerKubernetesObjectsManager.getOrCreate(info, domainUID, serverName);
             if (channelName != null) {
-              sko.getChannels().put(channelName, service);
+              sko.getChannels().put(channelName, ResourceProjections.project(service));
             } else {
-              sko.getService().set(service);
+              sko.getService().set(ResourceProjections.project(service));
             }
           }
         }
       }
+      if (result != null && hasMorePages(result.getMetadata())) {
+        return doContinueList(packet, result.getMetadata());
+      }
+      packet.remove(LISTED_SERVICES);
+      evictUnlisted(
+          ns, (domainUID, serverName, sko) -> evictServices(listed, domainUID, serverName, sko));
       if (!serviceWatchers.containsKey(ns)) {
         serviceWatchers.put(ns, createServiceWatcher(ns, getInitialResourceVersion(result)));
       }
@@ -1271,6 +1738,24 @@ public class Main {
     private String getInitialResourceVersion(V1ServiceList result) {
       return result != null ? result.getMetadata().getResourceVersion() : "";
     }
+
+    private boolean evictServices(
+        Set<String> listed, String domainUID, String serverName, ServerKubernetesObjects sko) {
+      boolean evicted = false;
+      if (!listed.contains(toListedKey(domainUID, serverName, null))
+          && sko.getService().getAndSet(null) != null) {
+        LOGGER.info(MessageKeys.SERVER_SERVICE_DELETED, domainUID, ns, serverName);
+        evicted = true;
+      }
+      for (String channelName : sko.getChannels().keySet()) {
+        if (!listed.contains(toListedKey(domainUID, serverName, channelName))
+            && sko.getChannels().remove(channelName) != null) {
+          LOGGER.info(MessageKeys.SERVER_SERVICE_DELETED, domainUID, ns, serverName);
+          evicted = true;
+        }
+      }
+      return evicted;
+    }
   }
 
   private static class EventListStep extends ResponseStep<V1EventList> {
@@ -1295,6 +1780,9 @@ public class Main {
           onEvent(event);
         }
       }
+      if (result != null && hasMorePages(result.getMetadata())) {
+        return doContinueList(packet, result.getMetadata());
+      }
       if (!eventWatchers.containsKey(ns)) {
         eventWatchers.put(ns, createEventWatcher(ns, getInitialResourceVersion(result)));
       }
@@ -1307,6 +1795,7 @@ public class Main {
   }
 
   private static class PodListStep extends ResponseStep<V1PodList> {
+    private static final String LISTED_PODS = "listedPods";
     private final String ns;
 
     PodListStep(String ns) {
@@ -1322,19 +1811,27 @@ public class Main {
 
     @Override
     public NextAction onSuccess(Packet packet, CallResponse<V1PodList> callResponse) {
+      Set<String> listed = getListedKeys(packet, LISTED_PODS);
       V1PodList result = callResponse.getResult();
       if (result != null) {
         for (V1Pod pod : result.getItems()) {
           String domainUID = PodWatcher.getPodDomainUID(pod);
           String serverName = PodWatcher.getPodServerName(pod);
           if (domainUID != null && serverName != null) {
+            listed.add(toListedKey(domainUID, serverName, null));
             DomainPresenceInfo info = DomainPresenceInfoManager.getOrCreate(ns, domainUID);
             ServerKubernetesObjects sko =
                 ServerKubernetesObjectsManager.getOrCreate(info, domainUID, serverName);
-            sko.getPod().set(pod);
+            sko.getPod().set(ResourceProjections.project(pod));
           }
         }
       }
+      if (result != null && hasMorePages(result.getMetadata())) {
+        return doContinueList(packet, result.getMetadata());
+      }
+      packet.remove(LISTED_PODS);
+      evictUnlisted(
+          ns, (domainUID, serverName, sko) -> evictPod(listed, domainUID, serverName, sko));
       if (!podWatchers.containsKey(ns)) {
         podWatchers.put(ns, createPodWatcher(ns, getInitialResourceVersion(result)));
       }
@@ -1344,6 +1841,83 @@ public class Main {
     private String getInitialResourceVersion(V1PodList result) {
       return result != null ? result.getMetadata().getResourceVersion() : "";
     }
+
+    private boolean evictPod(
+        Set<String> listed, String domainUID, String serverName, ServerKubernetesObjects sko) {
+      if (listed.contains(toListedKey(domainUID, serverName, null))
+          || sko.getPod().getAndSet(null) == null) {
+        return false;
+      }
+      sko.getLastKnownStatus().set(WebLogicConstants.SHUTDOWN_STATE);
+      LOGGER.info(MessageKeys.POD_DELETED, domainUID, ns, serverName);
+      return true;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Set<String> getListedKeys(Packet packet, String name) {
+    return (Set<String>) packet.computeIfAbsent(name, k -> new HashSet<String>());
+  }
+
+  private static String toListedKey(String domainUID, String serverName, String channelName) {
+    String key = LegalNames.toServerName(domainUID, serverName);
+    return channelName == null ? key : key + "/" + channelName;
+  }
+
+  /** Evicts, from the cached objects of a server, those that a relist did not find. */
+  @FunctionalInterface
+  private interface ServerEviction {
+    /**
+     * Evicts the server's cached objects that were not listed.
+     *
+     * @param domainUID the domain UID
+     * @param serverName the server name
+     * @param sko the server's cached objects
+     * @return true, if any object was evicted
+     */
+    boolean evict(String domainUID, String serverName, ServerKubernetesObjects sko);
+  }
+
+  // A relist of pods or services only adds to the cache, so the objects deleted during a gap in
+  // their watch are evicted afterwards. Servers, and domains with no Domain resource, that this
+  // leaves with nothing cached are forgotten; domains that lost objects are rechecked.
+  private static void evictUnlisted(String ns, ServerEviction eviction) {
+    for (Map.Entry<String, DomainPresenceInfo> entry : getDomainPresenceInfos().entrySet()) {
+      String domainUID = entry.getKey();
+      DomainPresenceInfo info = entry.getValue();
+      if (!ns.equals(info.getNamespace())) {
+        continue;
+      }
+
+      boolean evicted = false;
+      for (Map.Entry<String, ServerKubernetesObjects> server : info.getServers().entrySet()) {
+        ServerKubernetesObjects sko = server.getValue();
+        if (eviction.evict(domainUID, server.getKey(), sko)) {
+          evicted = true;
+          if (isEmpty(sko)) {
+            info.getServers().remove(server.getKey());
+          }
+        }
+      }
+      if (!evicted) {
+        continue;
+      }
+
+      Domain dom = info.getDomain();
+      if (dom != null) {
+        doCheckAndCreateDomainPresence(dom, true);
+      } else if (info.getServers().isEmpty()
+          && info.getClusters().isEmpty()
+          && info.getIngresses().isEmpty()) {
+        DomainPresenceInfoManager.remove(domainUID);
+      }
+    }
+  }
+
+  private static boolean isEmpty(ServerKubernetesObjects sko) {
+    return sko.getPod().get() == null
+        && sko.getService().get() == null
+        && sko.getChannels().isEmpty();
   }
 
   private static class NullCompletionCallback implements CompletionCallback {
@@ -0,0 +1,50 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import io.kubernetes.client.ApiException;
+import io.kubernetes.client.models.V1PersistentVolumeClaim;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.builders.WatchI;
+import oracle.kubernetes.operator.watcher.WatchListener;
+
+/**
+ * This class handles PersistentVolumeClaim watching. It receives change events for claims labeled
+ * with a domain UID and sends them into the operator for processing.
+ */
+public class PersistentVolumeClaimWatcher extends Watcher<V1PersistentVolumeClaim> {
+  private final String ns;
+
+  public static PersistentVolumeClaimWatcher create(
+      ThreadFactory factory,
+      String ns,
+      String initialResourceVersion,
+      WatchListener<V1PersistentVolumeClaim> listener,
+      AtomicBoolean isStopping) {
+    PersistentVolumeClaimWatcher watcher =
+        new PersistentVolumeClaimWatcher(ns, initialResourceVersion, listener, isStopping);
+    watcher.start(factory);
+    return watcher;
+  }
+
+  private PersistentVolumeClaimWatcher(
+      String ns,
+      String initialResourceVersion,
+      WatchListener<V1PersistentVolumeClaim> listener,
+      AtomicBoolean isStopping) {
+    super(initialResourceVersion, isStopping, listener);
+    this.ns = ns;
+  }
+
+  @Override
+  public WatchI<V1PersistentVolumeClaim> initiateWatch(WatchBuilder watchBuilder)
+      throws ApiException {
+    return watchBuilder
+        .withLabelSelectors(LabelConstants.DOMAINUID_LABEL)
+        .createPersistentVolumeClaimWatch(ns);
+  }
+}
@@ -0,0 +1,45 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import io.kubernetes.client.ApiException;
+import io.kubernetes.client.models.V1PersistentVolume;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import oracle.kubernetes.operator.builders.WatchBuilder;
+import oracle.kubernetes.operator.builders.WatchI;
+import oracle.kubernetes.operator.watcher.WatchListener;
+
+/**
+ * This class handles PersistentVolume watching. Persistent volumes are not namespaced, so a single
+ * watcher receives change events for all volumes labeled with a domain UID.
+ */
+public class PersistentVolumeWatcher extends Watcher<V1PersistentVolume> {
+
+  public static PersistentVolumeWatcher create(
+      ThreadFactory factory,
+      String initialResourceVersion,
+      WatchListener<V1PersistentVolume> listener,
+      AtomicBoolean isStopping) {
+    PersistentVolumeWatcher watcher =
+        new PersistentVolumeWatcher(initialResourceVersion, listener, isStopping);
+    watcher.start(factory);
+    return watcher;
+  }
+
+  private PersistentVolumeWatcher(
+      String initialResourceVersion,
+      WatchListener<V1PersistentVolume> listener,
+      AtomicBoolean isStopping) {
+    super(initialResourceVersion, isStopping, listener);
+  }
+
+  @Override
+  public WatchI<V1PersistentVolume> initiateWatch(WatchBuilder watchBuilder) throws ApiException {
+    return watchBuilder
+        .withLabelSelectors(LabelConstants.DOMAINUID_LABEL)
+        .createPersistentVolumeWatch();
+  }
+}
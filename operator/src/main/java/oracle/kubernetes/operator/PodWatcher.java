@@ -12,37 +12,49 @@ import io.kubernetes.client.models.V1PodStatus;
 import io.kubernetes.client.util.Watch;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.builders.WatchI;
-import oracle.kubernetes.operator.helpers.CallBuilder;
-import oracle.kubernetes.operator.helpers.CallBuilderFactory;
-import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.helpers.ServerKubernetesObjects;
 import oracle.kubernetes.operator.helpers.ServerKubernetesObjectsManager;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.utils.LatencyHistogram;
 import oracle.kubernetes.operator.watcher.WatchListener;
-import oracle.kubernetes.operator.work.Container;
-import oracle.kubernetes.operator.work.ContainerResolver;
+import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.ReconcileScheduler;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.TimeoutScheduler.Timeout;
 
 /** Watches for Pods to become Ready or leave Ready state */
 public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod> {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final int DEFAULT_READY_WAIT_TIMEOUT_SECONDS = 600;
 
   private final String ns;
   private final WatchListener<V1Pod> listener;
 
-  // Map of Pod name to OnReady
-  private final ConcurrentMap<String, OnReady> readyCallbackRegistrations =
-      new ConcurrentHashMap<>();
+  // Map of Pod name to the UID of that pod, for pods last reported as Ready
+  private final ConcurrentMap<String, String> readyPods = new ConcurrentHashMap<>();
+
+  // Map of Pod UID to the fibers waiting for that pod to become Ready
+  private final ConcurrentMap<String, Set<ReadyWait>> readyWaits = new ConcurrentHashMap<>();
+
+  private final AtomicInteger pendingReadyWaitCount = new AtomicInteger();
+  private final LatencyHistogram readyWaitTimes = new LatencyHistogram();
+  private final LatencyHistogram failedWaitTimes = new LatencyHistogram();
 
   /**
    * Factory for PodWatcher
@@ -92,7 +104,6 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod> {
         V1Pod pod = item.object;
         Boolean isReady = isReady(pod);
         String podName = pod.getMetadata().getName();
-        Container c = ContainerResolver.getInstance().getContainer();
         ServerKubernetesObjects sko = ServerKubernetesObjectsManager.lookup(podName);
         if (sko != null) {
           sko.getLastKnownStatus().set(isReady ? WebLogicConstants.RUNNING_STATE : null);
@@ -101,17 +112,17 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod> {
           if (sko != null) {
             sko.getLastKnownStatus().set(WebLogicConstants.RUNNING_STATE);
           }
-          OnReady ready = readyCallbackRegistrations.remove(podName);
-          if (ready != null) {
-            ready.onReady();
-          }
+          onReady(pod.getMetadata());
         } else {
+          readyPods.remove(podName);
           if (sko != null) {
             sko.getLastKnownStatus().compareAndSet(WebLogicConstants.RUNNING_STATE, null);
           }
         }
         break;
       case "DELETED":
+        onDeleted(item.object.getMetadata());
+        break;
       case "ERROR":
       default:
     }
@@ -125,7 +136,14 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod> {
     return isReady(pod, false);
   }
 
-  static boolean isReady(V1Pod pod, boolean isStatusCheck) {
+  /**
+   * Returns true if the pod is running and ready.
+   *
+   * @param pod the pod
+   * @param isStatusCheck true if the check is routine, so that a ready pod is not logged
+   * @return true if the pod is ready
+   */
+  public static boolean isReady(V1Pod pod, boolean isStatusCheck) {
     V1PodStatus status = pod.getStatus();
     if (status != null) {
       if ("Running".equals(status.getPhase())) {
@@ -178,7 +196,8 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod> {
   }
 
   /**
-   * Waits until the Pod is Ready
+   * Waits until the Pod is Ready. The wait ends with a failure if the pod is deleted, or if it does
+   * not become ready within the configured readiness wait timeout.
    *
    * @param pod Pod to watch
    * @param next Next processing step once Pod is ready
@@ -188,6 +207,73 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod> {
     return new WaitForPodReadyStep(pod, next);
   }
 
+  /**
+   * Returns the number of steps currently waiting for pods in this namespace to become ready.
+   *
+   * @return the number of pending waits
+   */
+  public int getPendingReadyWaitCount() {
+    return pendingReadyWaitCount.get();
+  }
+
+  /**
+   * Returns the times taken by waits that ended with the pod becoming ready.
+   *
+   * @return a histogram of wait times
+   */
+  public LatencyHistogram getReadyWaitTimes() {
+    return readyWaitTimes;
+  }
+
+  /**
+   * Returns the times taken by waits that ended because the pod was deleted or the wait timed out.
+   *
+   * @return a histogram of wait times
+   */
+  public LatencyHistogram getFailedWaitTimes() {
+    return failedWaitTimes;
+  }
+
+  private static int getReadyWaitTimeoutSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(parameters -> parameters.getPodTuning().readyWaitTimeoutSeconds)
+        .orElse(DEFAULT_READY_WAIT_TIMEOUT_SECONDS);
+  }
+
+  // Waits registered before the pod has a UID, as in tests, are keyed by pod name
+  private static String getWaitKey(V1ObjectMeta metadata) {
+    return metadata.getUid() != null ? metadata.getUid() : metadata.getName();
+  }
+
+  private boolean isKnownReady(V1ObjectMeta metadata) {
+    String readyUid = readyPods.get(metadata.getName());
+    return readyUid != null && (metadata.getUid() == null || metadata.getUid().equals(readyUid));
+  }
+
+  private void onReady(V1ObjectMeta metadata) {
+    readyPods.put(metadata.getName(), Optional.ofNullable(metadata.getUid()).orElse(""));
+    completeWaits(metadata, ReadyWait::onReady);
+  }
+
+  private void onDeleted(V1ObjectMeta metadata) {
+    readyPods.remove(metadata.getName());
+    completeWaits(
+        metadata,
+        wait ->
+            wait.onFailure(
+                new IllegalStateException(
+                    "Pod " + metadata.getName() + " was deleted before it became ready")));
+  }
+
+  private void completeWaits(V1ObjectMeta metadata, Consumer<ReadyWait> completion) {
+    Optional.ofNullable(readyWaits.remove(getWaitKey(metadata)))
+        .ifPresent(w -> w.forEach(completion));
+    if (metadata.getUid() != null) {
+      Optional.ofNullable(readyWaits.remove(metadata.getName()))
+          .ifPresent(w -> w.forEach(completion));
+    }
+  }
+
   private class WaitForPodReadyStep extends Step {
     private final V1Pod pod;
 
@@ -198,72 +284,111 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod> {
 
     @Override
     public NextAction apply(Packet packet) {
-      if (isReady(pod)) {
+      V1ObjectMeta metadata = pod.getMetadata();
+      if (isReady(pod) || isKnownReady(metadata)) {
         return doNext(packet);
       }
 
-      V1ObjectMeta metadata = pod.getMetadata();
-
       LOGGER.info(MessageKeys.WAITING_FOR_POD_READY, metadata.getName());
 
-      AtomicBoolean didResume = new AtomicBoolean(false);
       return doSuspend(
           (fiber) -> {
-            OnReady ready =
-                () -> {
-                  if (didResume.compareAndSet(false, true)) {
-                    fiber.resume(packet);
-                  }
-                };
-            readyCallbackRegistrations.put(metadata.getName(), ready);
+            ReconcileScheduler.beginWait(packet);
+            ReadyWait wait = new ReadyWait(metadata, fiber, packet);
+            wait.register();
+            wait.scheduleDeadline(getReadyWaitTimeoutSeconds());
 
             // Timing window -- pod may have come ready before registration for callback
-            CallBuilderFactory factory =
-                ContainerResolver.getInstance().getContainer().getSPI(CallBuilderFactory.class);
-            fiber
-                .createChildFiber()
-                .start(
-                    factory
-                        .create()
-                        .readPodAsync(
-                            metadata.getName(),
-                            metadata.getNamespace(),
-                            new ResponseStep<V1Pod>(null) {
-                              @Override
-                              public NextAction onFailure(
-                                  Packet packet,
-                                  ApiException e,
-                                  int statusCode,
-                                  Map<String, List<String>> responseHeaders) {
-                                if (statusCode == CallBuilder.NOT_FOUND) {
-                                  return onSuccess(packet, null, statusCode, responseHeaders);
-                                }
-                                return super.onFailure(packet, e, statusCode, responseHeaders);
-                              }
-
-                              @Override
-                              public NextAction onSuccess(
-                                  Packet packet,
-                                  V1Pod result,
-                                  int statusCode,
-                                  Map<String, List<String>> responseHeaders) {
-                                if (result != null && isReady(result)) {
-                                  if (didResume.compareAndSet(false, true)) {
-                                    readyCallbackRegistrations.remove(metadata.getName(), ready);
-                                    fiber.resume(packet);
-                                  }
-                                }
-                                return doNext(packet);
-                              }
-                            }),
-                    packet.clone(),
-                    null);
+            if (isKnownReady(metadata)) {
+              wait.onReady();
+            }
           });
     }
   }
 
-  @FunctionalInterface
-  private interface OnReady {
-    void onReady();
+  /** A suspended fiber waiting for a pod to become ready. */
+  private class ReadyWait {
+    private final V1ObjectMeta metadata;
+    private final String key;
+    private final Fiber fiber;
+    private final Packet packet;
+    private final long startNanos = System.nanoTime();
+    private final AtomicBoolean didResume = new AtomicBoolean(false);
+    private volatile Timeout deadline;
+
+    ReadyWait(V1ObjectMeta metadata, Fiber fiber, Packet packet) {
+      this.metadata = metadata;
+      this.key = getWaitKey(metadata);
+      this.fiber = fiber;
+      this.packet = packet;
+    }
+
+    void register() {
+      pendingReadyWaitCount.incrementAndGet();
+      readyWaits.compute(
+          key,
+          (k, waits) -> {
+            Set<ReadyWait> result = waits != null ? waits : ConcurrentHashMap.newKeySet();
+            result.add(this);
+            return result;
+          });
+    }
+
+    void scheduleDeadline(int timeoutSeconds) {
+      deadline =
+          fiber
+              .owner
+              .getTimeoutScheduler()
+              .schedule(this::onTimeout, timeoutSeconds, TimeUnit.SECONDS);
+      if (didResume.get()) {
+        deadline.cancel();
+      }
+    }
+
+    void onReady() {
+      if (complete(readyWaitTimes)) {
+        ReconcileScheduler.endWait(packet, () -> fiber.resume(packet));
+      }
+    }
+
+    void onFailure(Throwable throwable) {
+      if (complete(failedWaitTimes)) {
+        ReconcileScheduler.endWait(packet, () -> terminate(throwable));
+      }
+    }
+
+    private void terminate(Throwable throwable) {
+      if (!fiber.isCancelled() && !fiber.isDone()) {
+        fiber.terminate(throwable, packet);
+      }
+    }
+
+    private void onTimeout() {
+      int timeoutSeconds = getReadyWaitTimeoutSeconds();
+      LOGGER.warning(MessageKeys.POD_READY_TIMED_OUT, metadata.getName(), timeoutSeconds);
+      onFailure(
+          new TimeoutException(
+              "Pod "
+                  + metadata.getName()
+                  + " did not become ready within "
+                  + timeoutSeconds
+                  + " seconds"));
+    }
+
+    private boolean complete(LatencyHistogram waitTimes) {
+      if (!didResume.compareAndSet(false, true)) {
+        return false;
+      }
+      readyWaits.computeIfPresent(
+          key,
+          (k, waits) -> {
+            waits.remove(this);
+            return waits.isEmpty() ? null : waits;
+          });
+      pendingReadyWaitCount.decrementAndGet();
+      Optional.ofNullable(deadline).ifPresent(Timeout::cancel);
+      waitTimes.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+      return true;
+    }
   }
 }
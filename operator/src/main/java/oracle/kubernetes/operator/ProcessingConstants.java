@@ -11,6 +11,7 @@ public interface ProcessingConstants {
   public static final String DOMAIN_COMPONENT_NAME = "domain";
   public static final String FIBER_COMPONENT_NAME = "fiber";
   public static final String PODWATCHER_COMPONENT_NAME = "podWatcher";
+  public static final String VERSION_COMPONENT_NAME = "version";
 
   public static final String PRINCIPAL = "principal";
   public static final String SERVER_SCAN = "serverScan";
@@ -24,10 +25,12 @@ public interface ProcessingConstants {
   public static final String NETWORK_ACCESS_POINT = "nap";
 
   public static final String SERVERS_TO_ROLL = "roll";
+  public static final String APPLYING_GENERATION = "applyingGeneration";
 
   public static final String SCRIPT_CONFIG_MAP = "scriptConfigMap";
   public static final String SERVER_STATE_MAP = "serverStateMap";
   public static final String SERVER_HEALTH_MAP = "serverHealthMap";
+  public static final String SERVER_METRICS_MAP = "serverMetricsMap";
 
   public static final String STATUS_UNCHANGED = "statusUnchanged";
 }
@@ -0,0 +1,179 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.DoubleSupplier;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.TimeoutScheduler;
+import oracle.kubernetes.operator.work.TimeoutScheduler.Timeout;
+
+/**
+ * Resyncs each managed namespace once per interval, spreading the namespaces over the interval so
+ * that they are not all resynced at once. Namespaces added together are given evenly spaced turns,
+ * and each turn after the first comes after the interval, varied by up to a tenth either way so
+ * that the turns do not fall into step.
+ *
+ * <p>A resync works from what the watches have already delivered. Only when a watch reports that it
+ * has missed events is the namespace relisted, at its next turn, which is brought forward to a
+ * random time within the next tenth of the interval; so a server that breaks every watch at once
+ * does not bring every relist at once.
+ */
+class ResyncScheduler {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final double JITTER = 0.1;
+
+  private final TimeoutScheduler timer;
+  private final long intervalMillis;
+  private final BiConsumer<String, Boolean> resync;
+  private final DoubleSupplier random;
+
+  // guarded by this
+  private final Map<String, Turn> turns = new HashMap<>();
+
+  private final AtomicLong resyncCount = new AtomicLong();
+  private final AtomicLong relistCount = new AtomicLong();
+
+  /**
+   * Creates a scheduler.
+   *
+   * @param timer the timer on which to schedule the turns
+   * @param intervalMillis the average time between the resyncs of a namespace
+   * @param resync resyncs a namespace; the flag is true if the namespace must be relisted
+   * @param random supplies random numbers from 0 up to 1
+   */
+  ResyncScheduler(
+      TimeoutScheduler timer,
+      long intervalMillis,
+      BiConsumer<String, Boolean> resync,
+      DoubleSupplier random) {
+    this.timer = timer;
+    this.intervalMillis = intervalMillis;
+    this.resync = resync;
+    this.random = random;
+  }
+
+  /**
+   * Sets the namespaces to resync. Namespaces not already being resynced are given turns spread
+   * evenly over the next interval, and namespaces no longer listed are resynced no more.
+   *
+   * @param namespaces the managed namespaces
+   */
+  void setNamespaces(Collection<String> namespaces) {
+    Set<String> added = new TreeSet<>(namespaces);
+    synchronized (this) {
+      added.removeAll(turns.keySet());
+      Set<String> removed = new HashSet<>(turns.keySet());
+      removed.removeAll(namespaces);
+      for (String ns : removed) {
+        turns.remove(ns).cancel();
+      }
+
+      int i = 0;
+      for (String ns : added) {
+        Turn turn = new Turn(ns);
+        turns.put(ns, turn);
+        turn.schedule((long) (intervalMillis * (i++ + random.getAsDouble()) / added.size()));
+      }
+    }
+  }
+
+  /**
+   * Notes that a watch in a namespace has missed events, so that the namespace is relisted soon.
+   *
+   * @param ns the namespace
+   */
+  void reportGap(String ns) {
+    synchronized (this) {
+      Turn turn = turns.get(ns);
+      if (turn == null || turn.isRelist) {
+        return;
+      }
+      turn.isRelist = true;
+      turn.cancel();
+      turn.schedule((long) (intervalMillis * JITTER * random.getAsDouble()));
+    }
+    LOGGER.info(MessageKeys.WATCH_GAP, ns);
+  }
+
+  /**
+   * Returns the number of resyncs started, including relists.
+   *
+   * @return the count
+   */
+  long getResyncCount() {
+    return resyncCount.get();
+  }
+
+  /**
+   * Returns the number of relists started.
+   *
+   * @return the count
+   */
+  long getRelistCount() {
+    return relistCount.get();
+  }
+
+  // The namespaces now scheduled, for unit testing only
+  synchronized List<String> getNamespaces() {
+    return new ArrayList<>(turns.keySet());
+  }
+
+  private long getJitteredInterval() {
+    return (long) (intervalMillis * (1 + JITTER * (2 * random.getAsDouble() - 1)));
+  }
+
+  private class Turn {
+    private final String ns;
+    private boolean isRelist;
+    private Timeout timeout;
+    // distinguishes the latest scheduling from one cancelled too late to stop it running
+    private long generation;
+
+    Turn(String ns) {
+      this.ns = ns;
+    }
+
+    void schedule(long delayMillis) {
+      long scheduled = ++generation;
+      timeout = timer.schedule(() -> run(scheduled), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    void cancel() {
+      generation++;
+      timeout.cancel();
+    }
+
+    private void run(long scheduled) {
+      boolean relist;
+      synchronized (ResyncScheduler.this) {
+        if (turns.get(ns) != this || generation != scheduled) {
+          return;
+        }
+        relist = isRelist;
+        isRelist = false;
+        schedule(getJitteredInterval());
+      }
+
+      resyncCount.incrementAndGet();
+      if (relist) {
+        relistCount.incrementAndGet();
+      }
+      resync.accept(ns, relist);
+    }
+  }
+}
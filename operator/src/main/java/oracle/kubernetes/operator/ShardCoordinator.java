@@ -0,0 +1,393 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+
+import io.kubernetes.client.models.V1ConfigMap;
+import io.kubernetes.client.models.V1ObjectMeta;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.utils.ConsistentHashRing;
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+
+/**
+ * Shares the target namespaces among the replicas of the operator. The replicas coordinate through
+ * a config map in the operator's namespace, which each replaces using its resource version so that
+ * concurrent updates are rejected rather than lost. Each replica renews a heartbeat there; one
+ * replica is elected leader and publishes the replicas that are live; and each namespace belongs to
+ * one of the published replicas by consistent hashing, so a replica joining or leaving moves only
+ * its share of the namespaces.
+ *
+ * <p>A replica lists a namespace in the config map before it starts managing it, and keeps it
+ * listed until it has stopped, and it claims only namespaces that no other live replica lists, so
+ * no namespace is managed by two replicas at once. Liveness is judged from when this replica saw
+ * each heartbeat change, by its own clock, so the replicas' clocks need not agree. A replica that
+ * cannot renew its heartbeat in time releases its namespaces, since others may then claim them.
+ */
+public class ShardCoordinator {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  static final String LEADER_KEY = "leader";
+  static final String MEMBERS_KEY = "members";
+  static final String HEARTBEAT_PREFIX = "heartbeat.";
+  static final String HELD_PREFIX = "held.";
+
+  private final String identity;
+  private final String namespace;
+  private final long leaseNanos;
+  private final int virtualNodes;
+  private final Supplier<Collection<String>> targetNamespaces;
+  private final Supplier<Collection<String>> managedNamespaces;
+  private final Runnable onOwnershipChange;
+
+  private final String instance = UUID.randomUUID().toString();
+  private long heartbeat;
+  private final Map<String, Observation> observations = new HashMap<>();
+  private final AtomicBoolean renewing = new AtomicBoolean();
+
+  private long renewIntervalNanos;
+  private long lastRenewNanos;
+  private Renewal pending;
+  private String leader;
+  private List<String> members = Collections.emptyList();
+  private volatile Set<String> ownedNamespaces = Collections.emptySet();
+
+  /**
+   * Creates a coordinator.
+   *
+   * @param identity the name of this replica, unique among the replicas
+   * @param namespace the namespace of the operator
+   * @param leaseMillis the time after which a replica that has not renewed is considered gone
+   * @param virtualNodes the number of points on the hash ring for each replica
+   * @param targetNamespaces supplies the namespaces to share
+   * @param managedNamespaces supplies the namespaces this replica has not yet stopped managing
+   * @param onOwnershipChange run when the namespaces owned by this replica change
+   */
+  ShardCoordinator(
+      String identity,
+      String namespace,
+      long leaseMillis,
+      int virtualNodes,
+      Supplier<Collection<String>> targetNamespaces,
+      Supplier<Collection<String>> managedNamespaces,
+      Runnable onOwnershipChange) {
+    this.identity = identity;
+    this.namespace = namespace;
+    this.leaseNanos = TimeUnit.MILLISECONDS.toNanos(leaseMillis);
+    this.virtualNodes = virtualNodes;
+    this.targetNamespaces = targetNamespaces;
+    this.managedNamespaces = managedNamespaces;
+    this.onOwnershipChange = onOwnershipChange;
+  }
+
+  /**
+   * Returns the namespaces this replica may manage.
+   *
+   * @return the owned namespaces
+   */
+  Set<String> getOwnedNamespaces() {
+    return ownedNamespaces;
+  }
+
+  /**
+   * Renews this replica's membership periodically.
+   *
+   * @param engine the engine on which to run the renewals
+   * @param renewIntervalMillis the time between renewals, which should be well under the lease
+   */
+  void start(Engine engine, long renewIntervalMillis) {
+    renewIntervalNanos = TimeUnit.MILLISECONDS.toNanos(renewIntervalMillis);
+    engine
+        .getExecutor()
+        .scheduleWithFixedDelay(() -> renew(engine), 0, renewIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private void renew(Engine engine) {
+    checkLease(System.nanoTime());
+    if (renewing.compareAndSet(false, true)) {
+      engine
+          .createFiber()
+          .start(
+              createRenewStep(),
+              new Packet(),
+              new CompletionCallback() {
+                @Override
+                public void onCompletion(Packet packet) {
+                  renewing.set(false);
+                }
+
+                @Override
+                public void onThrowable(Packet packet, Throwable throwable) {
+                  renewing.set(false);
+                  LOGGER.warning(MessageKeys.EXCEPTION, throwable);
+                }
+              });
+    }
+  }
+
+  Step createRenewStep() {
+    return new CallBuilder()
+        .readConfigMapAsync(
+            KubernetesConstants.SHARDS_CONFIG_MAP_NAME, namespace, new ReadResponseStep());
+  }
+
+  private class ReadResponseStep extends ResponseStep<V1ConfigMap> {
+    ReadResponseStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+      if (callResponse.getStatusCode() == HTTP_NOT_FOUND) {
+        return doNext(createWriteStep(null), packet);
+      }
+      return doEnd(packet);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+      return doNext(createWriteStep(callResponse.getResult()), packet);
+    }
+  }
+
+  private Step createWriteStep(V1ConfigMap current) {
+    V1ConfigMap updated = update(current, System.nanoTime());
+    if (current == null) {
+      return new CallBuilder().createConfigMapAsync(namespace, updated, new WriteResponseStep());
+    }
+    return new CallBuilder()
+        .replaceConfigMapAsync(
+            KubernetesConstants.SHARDS_CONFIG_MAP_NAME,
+            namespace,
+            updated,
+            new WriteResponseStep());
+  }
+
+  // A conflicting write by another replica is expected; the next renewal reads it and tries again.
+  private class WriteResponseStep extends ResponseStep<V1ConfigMap> {
+    WriteResponseStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+      return doEnd(packet);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+      recordRenewed();
+      return doNext(packet);
+    }
+  }
+
+  /**
+   * Computes the contents of the config map that renew this replica's membership.
+   *
+   * @param current the config map as read, or null if it does not exist
+   * @param now the current value of {@link System#nanoTime()}
+   * @return the config map to write
+   */
+  synchronized V1ConfigMap update(V1ConfigMap current, long now) {
+    Map<String, String> data = new TreeMap<>();
+    if (current != null && current.getData() != null) {
+      data.putAll(current.getData());
+    }
+    observeHeartbeats(data, now);
+    data.put(HEARTBEAT_PREFIX + identity, instance + ":" + ++heartbeat);
+
+    String currentLeader = data.get(LEADER_KEY);
+    if (currentLeader == null || !isLive(currentLeader, now)) {
+      data.put(LEADER_KEY, identity);
+    }
+    if (identity.equals(data.get(LEADER_KEY))) {
+      publishLiveMembers(data, now);
+    }
+
+    List<String> published = split(data.get(MEMBERS_KEY));
+    Set<String> claims = new TreeSet<>();
+    if (published.contains(identity)) {
+      Set<String> heldByOthers = getHeldByOthers(data, now);
+      ConsistentHashRing ring = new ConsistentHashRing(published, virtualNodes);
+      for (String ns : targetNamespaces.get()) {
+        if (identity.equals(ring.getOwner(ns)) && !heldByOthers.contains(ns)) {
+          claims.add(ns);
+        }
+      }
+    }
+    Set<String> held = new TreeSet<>(claims);
+    held.addAll(managedNamespaces.get());
+    data.put(HELD_PREFIX + identity, String.join(",", held));
+
+    pending = new Renewal(now, data.get(LEADER_KEY), published, claims);
+    return new V1ConfigMap()
+        .metadata(current != null ? current.getMetadata() : createMetadata())
+        .data(data);
+  }
+
+  private V1ObjectMeta createMetadata() {
+    return new V1ObjectMeta().name(KubernetesConstants.SHARDS_CONFIG_MAP_NAME).namespace(namespace);
+  }
+
+  private void observeHeartbeats(Map<String, String> data, long now) {
+    Set<String> replicas = getReplicas(data);
+    observations.keySet().retainAll(replicas);
+    for (String replica : replicas) {
+      String value = data.get(HEARTBEAT_PREFIX + replica);
+      Observation observation = observations.get(replica);
+      if (observation == null || !observation.value.equals(value)) {
+        observations.put(replica, new Observation(value, now));
+      }
+    }
+  }
+
+  private static Set<String> getReplicas(Map<String, String> data) {
+    Set<String> replicas = new TreeSet<>();
+    for (String key : data.keySet()) {
+      if (key.startsWith(HEARTBEAT_PREFIX)) {
+        replicas.add(key.substring(HEARTBEAT_PREFIX.length()));
+      }
+    }
+    return replicas;
+  }
+
+  private boolean isLive(String replica, long now) {
+    if (identity.equals(replica)) {
+      return true;
+    }
+    Observation observation = observations.get(replica);
+    return observation != null && now - observation.nanos < leaseNanos;
+  }
+
+  private void publishLiveMembers(Map<String, String> data, long now) {
+    List<String> live = new ArrayList<>();
+    for (String replica : getReplicas(data)) {
+      if (isLive(replica, now)) {
+        live.add(replica);
+      } else {
+        data.remove(HEARTBEAT_PREFIX + replica);
+        data.remove(HELD_PREFIX + replica);
+      }
+    }
+    data.put(MEMBERS_KEY, String.join(",", live));
+  }
+
+  private Set<String> getHeldByOthers(Map<String, String> data, long now) {
+    Set<String> held = new HashSet<>();
+    for (String replica : getReplicas(data)) {
+      if (!identity.equals(replica) && isLive(replica, now)) {
+        held.addAll(split(data.get(HELD_PREFIX + replica)));
+      }
+    }
+    return held;
+  }
+
+  private static List<String> split(String value) {
+    if (value == null || value.isEmpty()) {
+      return Collections.emptyList();
+    }
+    return Arrays.asList(value.split(","));
+  }
+
+  /** Records that the config map computed by the last {@link #update} was written. */
+  void recordRenewed() {
+    boolean changed;
+    synchronized (this) {
+      Renewal renewal = pending;
+      lastRenewNanos = renewal.nanos;
+      if (identity.equals(renewal.leader) && !identity.equals(leader)) {
+        LOGGER.info(MessageKeys.SHARD_LEADER_ELECTED, identity);
+      }
+      leader = renewal.leader;
+      if (!renewal.members.equals(members)) {
+        members = renewal.members;
+        LOGGER.info(MessageKeys.SHARD_MEMBERS_CHANGED, String.join(", ", members));
+      }
+      changed = setOwnedNamespaces(renewal.claims);
+    }
+    if (changed) {
+      onOwnershipChange.run();
+    }
+  }
+
+  /**
+   * Releases the owned namespaces if this replica has not renewed its membership in time. Other
+   * replicas may consider it gone a lease after they last saw its heartbeat change, which is after
+   * this replica began its last successful renewal; as this check runs only once per renewal
+   * interval, it allows for that interval.
+   *
+   * @param now the current value of {@link System#nanoTime()}
+   */
+  void checkLease(long now) {
+    boolean changed;
+    synchronized (this) {
+      if (ownedNamespaces.isEmpty() || now - lastRenewNanos < leaseNanos - renewIntervalNanos) {
+        return;
+      }
+      LOGGER.warning(MessageKeys.SHARD_LEASE_EXPIRED, identity);
+      changed = setOwnedNamespaces(Collections.emptySet());
+    }
+    if (changed) {
+      onOwnershipChange.run();
+    }
+  }
+
+  private boolean setOwnedNamespaces(Set<String> owned) {
+    if (owned.equals(ownedNamespaces)) {
+      return false;
+    }
+    ownedNamespaces = Collections.unmodifiableSet(owned);
+    LOGGER.info(MessageKeys.SHARD_NAMESPACES_CHANGED, identity, String.join(", ", owned));
+    return true;
+  }
+
+  private static class Observation {
+    private final String value;
+    private final long nanos;
+
+    Observation(String value, long nanos) {
+      this.value = value;
+      this.nanos = nanos;
+    }
+  }
+
+  private static class Renewal {
+    private final long nanos;
+    private final String leader;
+    private final List<String> members;
+    private final Set<String> claims;
+
+    Renewal(long nanos, String leader, List<String> members, Set<String> claims) {
+      this.nanos = nanos;
+      this.leader = leader;
+      this.members = members;
+      this.claims = claims;
+    }
+  }
+}
@@ -26,6 +26,7 @@ public interface TuningParameters extends Map<String, String> {
     public final int unchangedCountToDelayStatusRecheck;
     public final long initialShortDelay;
     public final long eventualLongDelay;
+    public final int checkpointIntervalSeconds;
 
     public MainTuning(
         int domainPresenceFailureRetrySeconds,
@@ -33,13 +34,15 @@ public interface TuningParameters extends Map<String, String> {
         int statusUpdateTimeoutSeconds,
         int unchangedCountToDelayStatusRecheck,
         long initialShortDelay,
-        long eventualLongDelay) {
+        long eventualLongDelay,
+        int checkpointIntervalSeconds) {
       this.domainPresenceFailureRetrySeconds = domainPresenceFailureRetrySeconds;
       this.domainPresenceRecheckIntervalSeconds = domainPresenceRecheckIntervalSeconds;
       this.statusUpdateTimeoutSeconds = statusUpdateTimeoutSeconds;
       this.unchangedCountToDelayStatusRecheck = unchangedCountToDelayStatusRecheck;
       this.initialShortDelay = initialShortDelay;
       this.eventualLongDelay = eventualLongDelay;
+      this.checkpointIntervalSeconds = checkpointIntervalSeconds;
     }
   }
 
@@ -70,6 +73,7 @@ public interface TuningParameters extends Map<String, String> {
     public final int livenessProbeInitialDelaySeconds;
     public final int livenessProbeTimeoutSeconds;
     public final int livenessProbePeriodSeconds;
+    public final int readyWaitTimeoutSeconds;
 
     public PodTuning(
         int readinessProbeInitialDelaySeconds,
@@ -77,13 +81,58 @@ public interface TuningParameters extends Map<String, String> {
         int readinessProbePeriodSeconds,
         int livenessProbeInitialDelaySeconds,
         int livenessProbeTimeoutSeconds,
-        int livenessProbePeriodSeconds) {
+        int livenessProbePeriodSeconds,
+        int readyWaitTimeoutSeconds) {
       this.readinessProbeInitialDelaySeconds = readinessProbeInitialDelaySeconds;
       this.readinessProbeTimeoutSeconds = readinessProbeTimeoutSeconds;
       this.readinessProbePeriodSeconds = readinessProbePeriodSeconds;
       this.livenessProbeInitialDelaySeconds = livenessProbeInitialDelaySeconds;
       this.livenessProbeTimeoutSeconds = livenessProbeTimeoutSeconds;
       this.livenessProbePeriodSeconds = livenessProbePeriodSeconds;
+      this.readyWaitTimeoutSeconds = readyWaitTimeoutSeconds;
+    }
+  }
+
+  public static class ClientTuning {
+    public final int clientPoolMinIdle;
+    public final int clientPoolMaxIdle;
+    public final int maxConcurrentRequests;
+    public final int maxIdleConnections;
+    public final int connectionKeepAliveSeconds;
+
+    public ClientTuning(
+        int clientPoolMinIdle,
+        int clientPoolMaxIdle,
+        int maxConcurrentRequests,
+        int maxIdleConnections,
+        int connectionKeepAliveSeconds) {
+      this.clientPoolMinIdle = clientPoolMinIdle;
+      this.clientPoolMaxIdle = clientPoolMaxIdle;
+      this.maxConcurrentRequests = maxConcurrentRequests;
+      this.maxIdleConnections = maxIdleConnections;
+      this.connectionKeepAliveSeconds = connectionKeepAliveSeconds;
+    }
+  }
+
+  public static class ShardTuning {
+    public final int leaseDurationSeconds;
+    public final int renewIntervalSeconds;
+    public final int virtualNodes;
+
+    public ShardTuning(int leaseDurationSeconds, int renewIntervalSeconds, int virtualNodes) {
+      this.leaseDurationSeconds = leaseDurationSeconds;
+      this.renewIntervalSeconds = renewIntervalSeconds;
+      this.virtualNodes = virtualNodes;
+    }
+  }
+
+  public static class ReconcileTuning {
+    public final int maxConcurrentReconciles;
+    public final Map<String, Integer> namespaceWeights;
+
+    public ReconcileTuning(int maxConcurrentReconciles, Map<String, Integer> namespaceWeights) {
+      this.maxConcurrentReconciles = maxConcurrentReconciles;
+      this.namespaceWeights = namespaceWeights;
     }
   }
 
@@ -94,4 +143,10 @@ public interface TuningParameters extends Map<String, String> {
   public WatchTuning getWatchTuning();
 
   public PodTuning getPodTuning();
+
+  public ClientTuning getClientTuning();
+
+  public ShardTuning getShardTuning();
+
+  public ReconcileTuning getReconcileTuning();
 }
@@ -5,6 +5,8 @@
 package oracle.kubernetes.operator;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -22,6 +24,9 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
   private CallBuilderTuning callBuilder = null;
   private WatchTuning watch = null;
   private PodTuning pod = null;
+  private ClientTuning client = null;
+  private ShardTuning shard = null;
+  private ReconcileTuning reconcile = null;
 
   static synchronized TuningParameters initializeInstance(ThreadFactory factory, String mountPoint)
       throws IOException {
@@ -55,7 +60,8 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
             (int) readTuningParameter("statusUpdateTimeoutSeconds", 10),
             (int) readTuningParameter("statusUpdateUnchangedCountToDelayStatusRecheck", 10),
             readTuningParameter("statusUpdateInitialShortDelay", 3),
-            readTuningParameter("statusUpdateEventualLongDelay", 30));
+            readTuningParameter("statusUpdateEventualLongDelay", 30),
+            (int) readTuningParameter("checkpointIntervalSeconds", 0));
 
     CallBuilderTuning callBuilder =
         new CallBuilderTuning(
@@ -72,7 +78,27 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
             (int) readTuningParameter("readinessProbePeriodSeconds", 5),
             (int) readTuningParameter("livenessProbeInitialDelaySeconds", 10),
             (int) readTuningParameter("livenessProbeTimeoutSeconds", 5),
-            (int) readTuningParameter("livenessProbePeriodSeconds", 10));
+            (int) readTuningParameter("livenessProbePeriodSeconds", 10),
+            (int) readTuningParameter("podReadyWaitTimeoutSeconds", 600));
+
+    ClientTuning client =
+        new ClientTuning(
+            (int) readTuningParameter("clientPoolMinIdle", 2),
+            (int) readTuningParameter("clientPoolMaxIdle", 16),
+            (int) readTuningParameter("clientMaxConcurrentRequests", 64),
+            (int) readTuningParameter("clientMaxIdleConnections", 16),
+            (int) readTuningParameter("clientConnectionKeepAliveSeconds", 300));
+
+    ShardTuning shard =
+        new ShardTuning(
+            (int) readTuningParameter("shardLeaseDurationSeconds", 15),
+            (int) readTuningParameter("shardRenewIntervalSeconds", 5),
+            (int) readTuningParameter("shardVirtualNodes", 64));
+
+    ReconcileTuning reconcile =
+        new ReconcileTuning(
+            (int) readTuningParameter("maxConcurrentReconciles", 64),
+            readNamespaceWeights("reconcileNamespaceWeights"));
 
     lock.writeLock().lock();
     try {
@@ -80,11 +106,33 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
       this.callBuilder = callBuilder;
       this.watch = watch;
       this.pod = pod;
+      this.client = client;
+      this.shard = shard;
+      this.reconcile = reconcile;
     } finally {
       lock.writeLock().unlock();
     }
   }
 
+  // The weights are given as a comma-separated list of namespace=weight
+  private Map<String, Integer> readNamespaceWeights(String parameter) {
+    Map<String, Integer> weights = new HashMap<>();
+    String val = get(parameter);
+    if (val != null) {
+      for (String item : val.split(",")) {
+        String[] pair = item.split("=");
+        if (pair.length == 2) {
+          try {
+            weights.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+          } catch (NumberFormatException nfe) {
+            LOGGER.warning(MessageKeys.EXCEPTION, nfe);
+          }
+        }
+      }
+    }
+    return weights;
+  }
+
   @Override
   public MainTuning getMainTuning() {
     lock.readLock().lock();
@@ -124,4 +172,34 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
       lock.readLock().unlock();
     }
   }
+
+  @Override
+  public ClientTuning getClientTuning() {
+    lock.readLock().lock();
+    try {
+      return client;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public ShardTuning getShardTuning() {
+    lock.readLock().lock();
+    try {
+      return shard;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public ReconcileTuning getReconcileTuning() {
+    lock.readLock().lock();
+    try {
+      return reconcile;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
 }
@@ -37,6 +37,10 @@ abstract class Watcher<T> {
   private WatchListener<T> listener;
   private Thread thread = null;
 
+  // guarded by this
+  private Runnable gapListener;
+  private boolean hasUnreportedGap;
+
   /**
    * Constructs a watcher without specifying a listener. Needed when the listener is the watch
    * subclass itself.
@@ -80,6 +84,36 @@ abstract class Watcher<T> {
     this.listener = listener;
   }
 
+  /**
+   * Sets the action to run when this watcher has missed events, because the server no longer holds
+   * the changes since the last resource version seen. A gap found before the action is set is
+   * reported when it is set.
+   *
+   * @param gapListener the action
+   */
+  void setGapListener(Runnable gapListener) {
+    boolean report;
+    synchronized (this) {
+      this.gapListener = gapListener;
+      report = hasUnreportedGap;
+      hasUnreportedGap = false;
+    }
+    if (report) {
+      gapListener.run();
+    }
+  }
+
+  private void reportGap() {
+    Runnable listener;
+    synchronized (this) {
+      listener = gapListener;
+      hasUnreportedGap = listener == null;
+    }
+    if (listener != null) {
+      listener.run();
+    }
+  }
+
   /** Kick off the watcher processing that runs in a separate thread. */
   void start(ThreadFactory factory) {
     thread = factory.newThread(this::doWatch);
@@ -147,6 +181,7 @@ abstract class Watcher<T> {
   private void handleErrorResponse(Watch.Response<T> item) {
     V1Status status = item.status;
     if (status != null && status.getCode() == HTTP_GONE) {
+      reportGap();
       String message = status.getMessage();
       int index1 = message.indexOf('(');
       if (index1 > 0) {
@@ -18,6 +18,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.weblogic.domain.v1.DomainModelJSON;
 
 /**
  * This class contains methods to authenticate to the Kubernetes API Server in different ways and to
@@ -169,6 +170,7 @@ public class Authenticator {
     newClient.setBasePath(serviceUrl);
     newClient.setApiKey("Bearer " + token);
     newClient.setSslCaCert(new ByteArrayInputStream(caCert));
+    newClient.setJSON(DomainModelJSON.getInstance());
 
     LOGGER.exiting(newClient);
     return newClient;
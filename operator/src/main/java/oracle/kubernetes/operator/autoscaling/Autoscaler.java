@@ -0,0 +1,192 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.autoscaling;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfoManager;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.ThreadFactorySingleton;
+import oracle.kubernetes.weblogic.domain.v1.ClusterAutoscaling;
+import oracle.kubernetes.weblogic.domain.v1.ClusterStartup;
+import oracle.kubernetes.weblogic.domain.v1.Domain;
+
+/**
+ * Runs the autoscaling of every cluster whose ClusterStartup asks for it, each at its own period. A
+ * round which has not finished when the next is due, because an exporter or the API server is slow,
+ * causes that round to be skipped rather than overlapped. The exporters are read on threads of the
+ * autoscaler's own, so that a slow exporter does not hold a thread of the engine. The
+ * recommendations made for a cluster are kept while its domain changes, so that a change to the
+ * domain, including one made by the autoscaler itself, does not reset the stabilization windows or
+ * the cooldown.
+ */
+public class Autoscaler {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  // the most exporters read at once, each of which holds a thread until it answers or times out
+  private static final int SCRAPE_THREAD_COUNT = 8;
+
+  private final Engine engine;
+  private final LongSupplier clock;
+  private final Executor scrapeExecutor;
+
+  // guarded by this
+  private final Map<String, Map<String, ClusterAutoscaler>> domains = new HashMap<>();
+
+  /**
+   * Creates an autoscaler.
+   *
+   * @param engine the engine on which to read metrics and scale clusters
+   */
+  public Autoscaler(Engine engine) {
+    this(
+        engine,
+        System::currentTimeMillis,
+        Executors.newFixedThreadPool(SCRAPE_THREAD_COUNT, ThreadFactorySingleton.getInstance()));
+  }
+
+  Autoscaler(Engine engine, LongSupplier clock, Executor scrapeExecutor) {
+    this.engine = engine;
+    this.clock = clock;
+    this.scrapeExecutor = scrapeExecutor;
+  }
+
+  /**
+   * Starts, changes or stops the autoscaling of the clusters of a domain to match its spec.
+   *
+   * @param info the domain
+   */
+  public synchronized void schedule(DomainPresenceInfo info) {
+    Domain dom = info.getDomain();
+    String domainUID = dom.getSpec().getDomainUID();
+    Map<String, ClusterAutoscaler> clusters =
+        domains.computeIfAbsent(domainUID, k -> new HashMap<>());
+
+    Map<String, ClusterAutoscaling> desired = new HashMap<>();
+    if (dom.getSpec().getClusterStartup() != null) {
+      for (ClusterStartup clusterStartup : dom.getSpec().getClusterStartup()) {
+        if (clusterStartup.getAutoscaling() != null) {
+          desired.put(clusterStartup.getClusterName(), clusterStartup.getAutoscaling());
+        }
+      }
+    }
+
+    Iterator<Map.Entry<String, ClusterAutoscaler>> it = clusters.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<String, ClusterAutoscaler> entry = it.next();
+      if (!desired.containsKey(entry.getKey())) {
+        cancel(entry.getValue());
+        it.remove();
+      }
+    }
+    for (Map.Entry<String, ClusterAutoscaling> entry : desired.entrySet()) {
+      ClusterAutoscaler cluster = clusters.get(entry.getKey());
+      if (cluster == null) {
+        cluster = new ClusterAutoscaler(entry.getKey(), entry.getValue(), clock, scrapeExecutor);
+        clusters.put(entry.getKey(), cluster);
+        start(domainUID, cluster);
+      } else if (!entry.getValue().equals(cluster.getRecommender().getAutoscaling())) {
+        int period = cluster.getRecommender().getPeriodSeconds();
+        cluster.getRecommender().setAutoscaling(entry.getValue());
+        if (period != cluster.getRecommender().getPeriodSeconds()) {
+          start(domainUID, cluster);
+        }
+      }
+    }
+
+    if (clusters.isEmpty()) {
+      domains.remove(domainUID);
+    }
+  }
+
+  /**
+   * Stops the autoscaling of the clusters of a domain.
+   *
+   * @param domainUID the UID of the domain
+   */
+  public synchronized void cancel(String domainUID) {
+    Map<String, ClusterAutoscaler> clusters = domains.remove(domainUID);
+    if (clusters != null) {
+      clusters.values().forEach(Autoscaler::cancel);
+    }
+  }
+
+  synchronized ClusterAutoscaler getClusterAutoscaler(String domainUID, String clusterName) {
+    Map<String, ClusterAutoscaler> clusters = domains.get(domainUID);
+    return clusters == null ? null : clusters.get(clusterName);
+  }
+
+  private void start(String domainUID, ClusterAutoscaler cluster) {
+    int period = cluster.getRecommender().getPeriodSeconds();
+    ScheduledFuture<?> existing =
+        cluster
+            .getFuture()
+            .getAndSet(
+                engine
+                    .getExecutor()
+                    .scheduleWithFixedDelay(
+                        () -> runRound(domainUID, cluster), period, period, TimeUnit.SECONDS));
+    if (existing != null) {
+      existing.cancel(false);
+    }
+  }
+
+  private static void cancel(ClusterAutoscaler cluster) {
+    ScheduledFuture<?> existing = cluster.getFuture().getAndSet(null);
+    if (existing != null) {
+      existing.cancel(false);
+    }
+  }
+
+  void runRound(String domainUID, ClusterAutoscaler cluster) {
+    DomainPresenceInfo info = DomainPresenceInfoManager.lookup(domainUID);
+    if (info == null || info.getDomain() == null) {
+      return;
+    }
+    if (!cluster.isRunning().compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      Packet packet = new Packet();
+      packet
+          .getComponents()
+          .put(ProcessingConstants.DOMAIN_COMPONENT_NAME, Component.createFor(info));
+      engine
+          .createFiber()
+          .start(
+              cluster.createStep(info),
+              packet,
+              new CompletionCallback() {
+                @Override
+                public void onCompletion(Packet packet) {
+                  cluster.isRunning().set(false);
+                }
+
+                @Override
+                public void onThrowable(Packet packet, Throwable throwable) {
+                  cluster.isRunning().set(false);
+                  LOGGER.warning(MessageKeys.EXCEPTION, throwable);
+                }
+              });
+    } catch (Throwable t) {
+      cluster.isRunning().set(false);
+      LOGGER.severe(MessageKeys.EXCEPTION, t);
+    }
+  }
+}
@@ -0,0 +1,375 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.autoscaling;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1Service;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.PodWatcher;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.helpers.AnnotationHelper;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.helpers.ServerKubernetesObjects;
+import oracle.kubernetes.operator.http.HttpClient;
+import oracle.kubernetes.operator.http.Result;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.weblogic.domain.v1.ClusterAutoscaling;
+import oracle.kubernetes.weblogic.domain.v1.ClusterStartup;
+import oracle.kubernetes.weblogic.domain.v1.Domain;
+
+/**
+ * Scales one cluster of a domain. Each round reads the metrics of the cluster's ready managed
+ * servers from their exporters, all at once, asks the recommender for the replicas, and writes any
+ * change to the cluster's ClusterStartup in the domain resource, from which the operator then
+ * starts or stops servers as it does when a user scales the cluster.
+ *
+ * <p>The client that reads the exporters is authenticated with the domain's admin credentials. It
+ * is created again when the domain names another secret, or when an exporter rejects the
+ * credentials, as it does once the secret has been changed.
+ */
+class ClusterAutoscaler {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  // the longest wait for the metrics of a server, which is shortened to the period if that is less
+  static final int SCRAPE_TIMEOUT_MILLIS = 5000;
+
+  private final String clusterName;
+  private final ReplicaRecommender recommender;
+  private final LongSupplier clock;
+  private final Executor scrapeExecutor;
+  private final AtomicBoolean isRunning = new AtomicBoolean();
+  private final AtomicReference<HttpClient> httpClient = new AtomicReference<>();
+  private volatile String httpClientSecretName;
+  private final AtomicReference<ScheduledFuture<?>> future = new AtomicReference<>();
+
+  ClusterAutoscaler(
+      String clusterName,
+      ClusterAutoscaling autoscaling,
+      LongSupplier clock,
+      Executor scrapeExecutor) {
+    this.clusterName = clusterName;
+    this.recommender = new ReplicaRecommender(autoscaling);
+    this.clock = clock;
+    this.scrapeExecutor = scrapeExecutor;
+  }
+
+  String getClusterName() {
+    return clusterName;
+  }
+
+  ReplicaRecommender getRecommender() {
+    return recommender;
+  }
+
+  AtomicBoolean isRunning() {
+    return isRunning;
+  }
+
+  AtomicReference<ScheduledFuture<?>> getFuture() {
+    return future;
+  }
+
+  /**
+   * Sets the client with which the exporters are read, in place of one authenticated with the
+   * domain's admin credentials.
+   *
+   * @param client the HTTP client
+   */
+  void setHttpClient(HttpClient client) {
+    httpClient.set(client);
+  }
+
+  HttpClient getHttpClient() {
+    return httpClient.get();
+  }
+
+  /**
+   * Creates the steps of one round of autoscaling.
+   *
+   * @param info the domain of the cluster
+   * @return the first step
+   */
+  Step createStep(DomainPresenceInfo info) {
+    return new HttpClientStep(info, new ReadMetricsStep(info, new RecommendStep(info)));
+  }
+
+  private class HttpClientStep extends Step {
+    private final DomainPresenceInfo info;
+
+    HttpClientStep(DomainPresenceInfo info, Step next) {
+      super(next);
+      this.info = info;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      Domain dom = info.getDomain();
+      String adminSecretName =
+          dom.getSpec().getAdminSecret() == null ? null : dom.getSpec().getAdminSecret().getName();
+      HttpClient client = httpClient.get();
+      if (client != null && Objects.equals(adminSecretName, httpClientSecretName)) {
+        packet.put(HttpClient.KEY, client);
+        return doNext(packet);
+      }
+
+      return doNext(
+          HttpClient.createAuthenticatedClientForServer(
+              info.getNamespace(),
+              adminSecretName,
+              new SaveHttpClientStep(adminSecretName, getNext())),
+          packet);
+    }
+  }
+
+  private class SaveHttpClientStep extends Step {
+    private final String adminSecretName;
+
+    SaveHttpClientStep(String adminSecretName, Step next) {
+      super(next);
+      this.adminSecretName = adminSecretName;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      httpClientSecretName = adminSecretName;
+      httpClient.set((HttpClient) packet.get(HttpClient.KEY));
+      return doNext(packet);
+    }
+  }
+
+  private class ReadMetricsStep extends Step {
+    private final DomainPresenceInfo info;
+
+    ReadMetricsStep(DomainPresenceInfo info, Step next) {
+      super(next);
+      this.info = info;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      ConcurrentMap<String, Map<String, Double>> serverMetrics = new ConcurrentHashMap<>();
+      packet.put(ProcessingConstants.SERVER_METRICS_MAP, serverMetrics);
+
+      Collection<StepAndPacket> startDetails = new ArrayList<>();
+      for (Map.Entry<String, ServerKubernetesObjects> entry : info.getServers().entrySet()) {
+        V1Pod pod = entry.getValue().getPod().get();
+        V1Service service = entry.getValue().getService().get();
+        if (pod != null
+            && service != null
+            && isClusterMember(pod)
+            && PodWatcher.isReady(pod, true)) {
+          startDetails.add(
+              new StepAndPacket(
+                  new ReadServerMetricsStep(entry.getKey(), service), packet.clone()));
+        }
+      }
+
+      if (startDetails.isEmpty()) {
+        return doNext(packet);
+      }
+      return doForkJoin(getNext(), packet, startDetails);
+    }
+
+    private boolean isClusterMember(V1Pod pod) {
+      V1ObjectMeta meta = pod.getMetadata();
+      return meta != null
+          && meta.getLabels() != null
+          && clusterName.equals(meta.getLabels().get(LabelConstants.CLUSTERNAME_LABEL));
+    }
+  }
+
+  private class ReadServerMetricsStep extends Step {
+    private final String serverName;
+    private final V1Service service;
+
+    ReadServerMetricsStep(String serverName, V1Service service) {
+      super(null);
+      this.serverName = serverName;
+      this.service = service;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      @SuppressWarnings("unchecked")
+      ConcurrentMap<String, Map<String, Double>> serverMetrics =
+          (ConcurrentMap<String, Map<String, Double>>)
+              packet.get(ProcessingConstants.SERVER_METRICS_MAP);
+      HttpClient client = (HttpClient) packet.get(HttpClient.KEY);
+      int timeoutMillis = Math.min(SCRAPE_TIMEOUT_MILLIS, recommender.getPeriodSeconds() * 1000);
+
+      return doSuspend(
+          fiber ->
+              scrapeExecutor.execute(
+                  () -> {
+                    readMetrics(client, timeoutMillis, serverMetrics);
+                    fiber.resume(packet);
+                  }));
+    }
+
+    private void readMetrics(
+        HttpClient client, int timeoutMillis, Map<String, Map<String, Double>> serverMetrics) {
+      try {
+        Result result =
+            client.executeGetTextOnServiceClusterIP(
+                AnnotationHelper.METRICS_PATH, HttpClient.getServiceURL(service), timeoutMillis);
+        if (result.isSuccessful()) {
+          serverMetrics.put(serverName, ExporterMetrics.parse(result.getResponse()));
+        } else if (isRejectedCredentials(result.getStatus())) {
+          httpClient.compareAndSet(client, null);
+        }
+      } catch (RuntimeException e) {
+        LOGGER.fine(MessageKeys.METRICS_UNAVAILABLE, serverName, e.getMessage());
+      }
+    }
+
+    private boolean isRejectedCredentials(int status) {
+      return status == HttpURLConnection.HTTP_UNAUTHORIZED
+          || status == HttpURLConnection.HTTP_FORBIDDEN;
+    }
+  }
+
+  private class RecommendStep extends Step {
+    private final DomainPresenceInfo info;
+
+    RecommendStep(DomainPresenceInfo info) {
+      super(null);
+      this.info = info;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      @SuppressWarnings("unchecked")
+      Map<String, Map<String, Double>> serverMetrics =
+          (Map<String, Map<String, Double>>) packet.get(ProcessingConstants.SERVER_METRICS_MAP);
+
+      Domain dom = info.getDomain();
+      int currentReplicas = getReplicas(dom);
+      Integer replicas =
+          recommender.recommend(
+              clock.getAsLong(), currentReplicas, getCapacity(info.getScan()), serverMetrics);
+      if (replicas == null) {
+        return doNext(packet);
+      }
+
+      LOGGER.info(
+          MessageKeys.AUTOSCALING_CLUSTER,
+          dom.getSpec().getDomainUID(),
+          clusterName,
+          currentReplicas,
+          replicas);
+      return doNext(createScaleStep(dom.getMetadata(), replicas), packet);
+    }
+
+    private int getReplicas(Domain dom) {
+      ClusterStartup clusterStartup = getClusterStartup(dom);
+      if (clusterStartup != null && clusterStartup.getReplicas() != null) {
+        return clusterStartup.getReplicas();
+      }
+      Integer replicas = dom.getSpec().getReplicas();
+      return replicas != null ? replicas : 0;
+    }
+
+    private int getCapacity(WlsDomainConfig scan) {
+      WlsClusterConfig clusterConfig = scan == null ? null : scan.getClusterConfig(clusterName);
+      if (clusterConfig == null) {
+        return 0;
+      }
+      int capacity = clusterConfig.getClusterSize();
+      if (clusterConfig.hasDynamicServers()) {
+        capacity += clusterConfig.getMaxDynamicClusterSize();
+      }
+      return capacity;
+    }
+  }
+
+  private ClusterStartup getClusterStartup(Domain dom) {
+    List<ClusterStartup> clusterStartups = dom.getSpec().getClusterStartup();
+    if (clusterStartups != null) {
+      for (ClusterStartup clusterStartup : clusterStartups) {
+        if (clusterName.equals(clusterStartup.getClusterName())) {
+          return clusterStartup;
+        }
+      }
+    }
+    return null;
+  }
+
+  // Reads the domain and replaces it with the new replicas, reading it again on a conflict
+  private Step createScaleStep(V1ObjectMeta meta, int replicas) {
+    return new CallBuilder()
+        .readDomainAsync(meta.getName(), meta.getNamespace(), new ReadDomainResponseStep(replicas));
+  }
+
+  private class ReadDomainResponseStep extends ResponseStep<Domain> {
+    private final int replicas;
+
+    ReadDomainResponseStep(int replicas) {
+      this.replicas = replicas;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
+      Domain dom = callResponse.getResult();
+      ClusterStartup clusterStartup = dom == null ? null : getClusterStartup(dom);
+      if (clusterStartup == null || clusterStartup.getAutoscaling() == null) {
+        return doNext(packet);
+      }
+
+      clusterStartup.setReplicas(replicas);
+      V1ObjectMeta meta = dom.getMetadata();
+      return doNext(
+          new CallBuilder()
+              .replaceDomainAsync(
+                  meta.getName(),
+                  meta.getNamespace(),
+                  dom,
+                  new ReplaceDomainResponseStep(createScaleStep(meta, replicas))),
+          packet);
+    }
+  }
+
+  private class ReplaceDomainResponseStep extends ResponseStep<Domain> {
+    private final Step conflictStep;
+
+    ReplaceDomainResponseStep(Step conflictStep) {
+      this.conflictStep = conflictStep;
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<Domain> callResponse) {
+      return super.onFailure(conflictStep, packet, callResponse);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
+      recommender.scaled(clock.getAsLong());
+      return doNext(packet);
+    }
+  }
+}
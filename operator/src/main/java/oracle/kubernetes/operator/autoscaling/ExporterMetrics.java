@@ -0,0 +1,85 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.autoscaling;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads the metrics of a server from the Prometheus text format served by the WebLogic Monitoring
+ * Exporter. The exporter publishes a series for each MBean instance, distinguished by labels, so
+ * the values of all series of a metric are summed: the queue lengths of all thread pools, or the
+ * invocations of all servlets.
+ */
+class ExporterMetrics {
+
+  private ExporterMetrics() {}
+
+  /**
+   * Sums the values of each metric in the text. Comments, malformed lines and values which are not
+   * finite are skipped.
+   *
+   * @param text the metrics, one sample per line
+   * @return the sum of the samples of each metric, by name
+   */
+  static Map<String, Double> parse(String text) {
+    Map<String, Double> metrics = new HashMap<>();
+    if (text == null) {
+      return metrics;
+    }
+    for (String line : text.split("\n")) {
+      line = line.trim();
+      if (line.isEmpty() || line.startsWith("#")) {
+        continue;
+      }
+      int nameEnd = getNameEnd(line);
+      int valueStart = getValueStart(line, nameEnd);
+      if (nameEnd == 0 || valueStart < 0) {
+        continue;
+      }
+      Double value = parseValue(line.substring(valueStart).trim().split("\\s+")[0]);
+      if (value != null) {
+        metrics.merge(line.substring(0, nameEnd), value, Double::sum);
+      }
+    }
+    return metrics;
+  }
+
+  private static int getNameEnd(String line) {
+    int i = 0;
+    while (i < line.length() && line.charAt(i) != '{' && !Character.isWhitespace(line.charAt(i))) {
+      i++;
+    }
+    return i;
+  }
+
+  // Returns the index after the labels, if any, skipping braces within quoted label values
+  private static int getValueStart(String line, int nameEnd) {
+    if (nameEnd >= line.length() || line.charAt(nameEnd) != '{') {
+      return nameEnd;
+    }
+    boolean quoted = false;
+    for (int i = nameEnd + 1; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted && c == '\\') {
+        i++;
+      } else if (c == '"') {
+        quoted = !quoted;
+      } else if (!quoted && c == '}') {
+        return i + 1;
+      }
+    }
+    return -1;
+  }
+
+  private static Double parseValue(String text) {
+    try {
+      double value = Double.parseDouble(text);
+      return Double.isNaN(value) || Double.isInfinite(value) ? null : value;
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+}
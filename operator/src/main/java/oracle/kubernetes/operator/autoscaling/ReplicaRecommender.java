@@ -0,0 +1,204 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.autoscaling;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import oracle.kubernetes.weblogic.domain.v1.AutoscalingMetric;
+import oracle.kubernetes.weblogic.domain.v1.ClusterAutoscaling;
+
+/**
+ * Decides the replicas of an autoscaled cluster from the metrics of its running servers.
+ *
+ * <p>Each metric calls for as many servers as it takes to bring its average to the target: its sum
+ * over the servers divided by the target, rounded up. A metric within a tenth of its target calls
+ * for the current replicas, so that the cluster does not follow noise. The cluster is held between
+ * its minimum and maximum replicas, and the capacity of the WebLogic cluster, at the largest number
+ * any metric calls for.
+ *
+ * <p>The recommendations are kept for the longer of the two stabilization windows. The cluster is
+ * scaled up to the smallest recommendation within the scale up window and down to the largest
+ * within the scale down window, so it grows only on a sustained rise and shrinks only on a
+ * sustained fall; and it is not scaled again until the cooldown after its last change has passed.
+ */
+class ReplicaRecommender {
+  static final int DEFAULT_MIN_REPLICAS = 1;
+  static final int DEFAULT_PERIOD_SECONDS = 10;
+  static final int DEFAULT_SCALE_UP_STABILIZATION_SECONDS = 0;
+  static final int DEFAULT_SCALE_DOWN_STABILIZATION_SECONDS = 300;
+  static final int DEFAULT_COOLDOWN_SECONDS = 30;
+  static final double TOLERANCE = 0.1;
+
+  private ClusterAutoscaling autoscaling;
+  private final Map<String, Map<String, Sample>> lastCounters = new HashMap<>();
+  private final Deque<Sample> recommendations = new ArrayDeque<>();
+  private Long lastScaledMillis;
+
+  ReplicaRecommender(ClusterAutoscaling autoscaling) {
+    this.autoscaling = autoscaling;
+  }
+
+  /**
+   * Replaces the settings, keeping the recommendations made so far.
+   *
+   * @param autoscaling the autoscaling settings of the cluster
+   */
+  synchronized void setAutoscaling(ClusterAutoscaling autoscaling) {
+    this.autoscaling = autoscaling;
+  }
+
+  synchronized ClusterAutoscaling getAutoscaling() {
+    return autoscaling;
+  }
+
+  /**
+   * Records the metrics read from the running servers of the cluster, and returns the replicas to
+   * which the cluster should now be scaled.
+   *
+   * @param nowMillis the time at which the metrics were read
+   * @param currentReplicas the replicas in the cluster's spec
+   * @param capacity the number of servers configured in the WebLogic cluster, or 0 if not known
+   * @param serverMetrics the metrics of each server read, by server name
+   * @return the new replicas, or null if the cluster should not be scaled now
+   */
+  synchronized Integer recommend(
+      long nowMillis,
+      int currentReplicas,
+      int capacity,
+      Map<String, Map<String, Double>> serverMetrics) {
+    Integer desired = getDesiredReplicas(nowMillis, currentReplicas, serverMetrics);
+    lastCounters.keySet().retainAll(serverMetrics.keySet());
+    if (desired == null) {
+      return null;
+    }
+    desired = clamp(desired, capacity);
+
+    long window =
+        Math.max(getScaleUpStabilizationSeconds(), getScaleDownStabilizationSeconds()) * 1000L;
+    while (!recommendations.isEmpty() && recommendations.peekFirst().millis < nowMillis - window) {
+      recommendations.removeFirst();
+    }
+    recommendations.addLast(new Sample(nowMillis, desired));
+
+    if (lastScaledMillis != null && nowMillis - lastScaledMillis < getCooldownSeconds() * 1000L) {
+      return null;
+    }
+    if (desired > currentReplicas) {
+      int stable = getStableRecommendation(nowMillis, getScaleUpStabilizationSeconds(), true);
+      return stable > currentReplicas ? stable : null;
+    } else if (desired < currentReplicas) {
+      int stable = getStableRecommendation(nowMillis, getScaleDownStabilizationSeconds(), false);
+      return stable < currentReplicas ? stable : null;
+    }
+    return null;
+  }
+
+  /**
+   * Records that the cluster has been scaled, which starts its cooldown.
+   *
+   * @param nowMillis the time at which the cluster was scaled
+   */
+  synchronized void scaled(long nowMillis) {
+    lastScaledMillis = nowMillis;
+  }
+
+  private Integer getDesiredReplicas(
+      long nowMillis, int currentReplicas, Map<String, Map<String, Double>> serverMetrics) {
+    Integer desired = null;
+    for (AutoscalingMetric metric : autoscaling.getMetrics()) {
+      Double target = metric.getTargetAverageValue();
+      if (metric.getName() == null || target == null || target <= 0) {
+        continue;
+      }
+
+      double sum = 0;
+      int count = 0;
+      for (Map.Entry<String, Map<String, Double>> server : serverMetrics.entrySet()) {
+        Double value = server.getValue().get(metric.getName());
+        if (value != null && Boolean.TRUE.equals(metric.getRate())) {
+          value = getRate(server.getKey(), metric.getName(), nowMillis, value);
+        }
+        if (value != null) {
+          sum += value;
+          count++;
+        }
+      }
+      if (count == 0) {
+        continue;
+      }
+
+      double ratio = sum / count / target;
+      int replicas =
+          Math.abs(ratio - 1) <= TOLERANCE ? currentReplicas : (int) Math.ceil(sum / target);
+      desired = desired == null ? replicas : Math.max(desired, replicas);
+    }
+    return desired;
+  }
+
+  // Returns the increase per second of a counter since it was last read, or null if it was not
+  // read before or has since been reset
+  private Double getRate(String serverName, String metricName, long nowMillis, double value) {
+    Sample last =
+        lastCounters
+            .computeIfAbsent(serverName, k -> new HashMap<>())
+            .put(metricName, new Sample(nowMillis, value));
+    if (last == null || nowMillis <= last.millis || value < last.value) {
+      return null;
+    }
+    return (value - last.value) * 1000 / (nowMillis - last.millis);
+  }
+
+  private int clamp(int replicas, int capacity) {
+    int max = Optional.ofNullable(autoscaling.getMaxReplicas()).orElse(Integer.MAX_VALUE);
+    if (capacity > 0) {
+      max = Math.min(max, capacity);
+    }
+    int min = Optional.ofNullable(autoscaling.getMinReplicas()).orElse(DEFAULT_MIN_REPLICAS);
+    return Math.min(Math.max(replicas, min), max);
+  }
+
+  private int getStableRecommendation(long nowMillis, int windowSeconds, boolean isScaleUp) {
+    long since = nowMillis - windowSeconds * 1000L;
+    int stable = isScaleUp ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+    for (Sample recommendation : recommendations) {
+      if (recommendation.millis >= since) {
+        int replicas = (int) recommendation.value;
+        stable = isScaleUp ? Math.min(stable, replicas) : Math.max(stable, replicas);
+      }
+    }
+    return stable;
+  }
+
+  int getPeriodSeconds() {
+    return Optional.ofNullable(getAutoscaling().getPeriodSeconds()).orElse(DEFAULT_PERIOD_SECONDS);
+  }
+
+  private int getScaleUpStabilizationSeconds() {
+    return Optional.ofNullable(autoscaling.getScaleUpStabilizationSeconds())
+        .orElse(DEFAULT_SCALE_UP_STABILIZATION_SECONDS);
+  }
+
+  private int getScaleDownStabilizationSeconds() {
+    return Optional.ofNullable(autoscaling.getScaleDownStabilizationSeconds())
+        .orElse(DEFAULT_SCALE_DOWN_STABILIZATION_SECONDS);
+  }
+
+  private int getCooldownSeconds() {
+    return Optional.ofNullable(autoscaling.getCooldownSeconds()).orElse(DEFAULT_COOLDOWN_SECONDS);
+  }
+
+  private static class Sample {
+    private final long millis;
+    private final double value;
+
+    private Sample(long millis, double value) {
+      this.millis = millis;
+      this.value = value;
+    }
+  }
+}
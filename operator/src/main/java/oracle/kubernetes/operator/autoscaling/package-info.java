@@ -0,0 +1,9 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+/**
+ * Scales clusters from the metrics their managed servers publish through the WebLogic Monitoring
+ * Exporter, for clusters whose ClusterStartup asks for autoscaling.
+ */
+package oracle.kubernetes.operator.autoscaling;
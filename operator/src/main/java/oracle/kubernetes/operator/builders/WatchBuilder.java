@@ -13,6 +13,8 @@ import io.kubernetes.client.apis.CoreV1Api;
 import io.kubernetes.client.apis.ExtensionsV1beta1Api;
 import io.kubernetes.client.models.V1ConfigMap;
 import io.kubernetes.client.models.V1Event;
+import io.kubernetes.client.models.V1PersistentVolume;
+import io.kubernetes.client.models.V1PersistentVolumeClaim;
 import io.kubernetes.client.models.V1Pod;
 import io.kubernetes.client.models.V1Service;
 import io.kubernetes.client.models.V1beta1Ingress;
@@ -161,6 +163,89 @@ public class WatchBuilder {
     }
   }
 
+  /**
+   * Creates a web hook object to track persistent volume claims
+   *
+   * @param namespace the namespace
+   * @return the active web hook
+   * @throws ApiException if there is an error on the call that sets up the web hook.
+   */
+  public WatchI<V1PersistentVolumeClaim> createPersistentVolumeClaimWatch(String namespace)
+      throws ApiException {
+    return FACTORY.createWatch(
+        ClientPool.getInstance(),
+        callParams,
+        V1PersistentVolumeClaim.class,
+        new ListPersistentVolumeClaimCall(namespace));
+  }
+
+  private class ListPersistentVolumeClaimCall implements BiFunction<ApiClient, CallParams, Call> {
+    private String namespace;
+
+    ListPersistentVolumeClaimCall(String namespace) {
+      this.namespace = namespace;
+    }
+
+    @Override
+    public Call apply(ApiClient client, CallParams callParams) {
+      try {
+        return new CoreV1Api(client)
+            .listNamespacedPersistentVolumeClaimCall(
+                namespace,
+                callParams.getPretty(),
+                START_LIST,
+                callParams.getFieldSelector(),
+                callParams.getIncludeUninitialized(),
+                callParams.getLabelSelector(),
+                callParams.getLimit(),
+                callParams.getResourceVersion(),
+                callParams.getTimeoutSeconds(),
+                WATCH,
+                null,
+                null);
+      } catch (ApiException e) {
+        throw new UncheckedApiException(e);
+      }
+    }
+  }
+
+  /**
+   * Creates a web hook object to track persistent volumes, which are not namespaced
+   *
+   * @return the active web hook
+   * @throws ApiException if there is an error on the call that sets up the web hook.
+   */
+  public WatchI<V1PersistentVolume> createPersistentVolumeWatch() throws ApiException {
+    return FACTORY.createWatch(
+        ClientPool.getInstance(),
+        callParams,
+        V1PersistentVolume.class,
+        new ListPersistentVolumeCall());
+  }
+
+  private class ListPersistentVolumeCall implements BiFunction<ApiClient, CallParams, Call> {
+    @Override
+    public Call apply(ApiClient client, CallParams callParams) {
+      try {
+        return new CoreV1Api(client)
+            .listPersistentVolumeCall(
+                callParams.getPretty(),
+                START_LIST,
+                callParams.getFieldSelector(),
+                callParams.getIncludeUninitialized(),
+                callParams.getLabelSelector(),
+                callParams.getLimit(),
+                callParams.getResourceVersion(),
+                callParams.getTimeoutSeconds(),
+                WATCH,
+                null,
+                null);
+      } catch (ApiException e) {
+        throw new UncheckedApiException(e);
+      }
+    }
+  }
+
   /**
    * Creates a web hook object to track events
    *
@@ -7,14 +7,13 @@ package oracle.kubernetes.operator.calls;
 import io.kubernetes.client.ApiCallback;
 import io.kubernetes.client.ApiClient;
 import io.kubernetes.client.ApiException;
-import io.kubernetes.client.models.V1ListMeta;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.ResponseStep;
@@ -25,6 +24,7 @@ import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.TimeoutScheduler.Timeout;
 
 /**
  * A Step driven by an asynchronous call to the Kubernetes API, which results in a series of
@@ -32,6 +32,7 @@ import oracle.kubernetes.operator.work.Step;
  */
 public class AsyncRequestStep<T> extends Step {
   public static final String RESPONSE_COMPONENT_NAME = "response";
+  public static final String CONTINUE = "continue";
   private static final Random R = new Random();
   private static final int HIGH = 200;
   private static final int LOW = 10;
@@ -72,18 +73,12 @@ public class AsyncRequestStep<T> extends Step {
 
   @Override
   public NextAction apply(Packet packet) {
-    // clear out earlier results
-    String cont = null;
+    // clear out earlier results; a continue value is left only by a list step asking for the next
+    // page
+    String cont = (String) packet.remove(CONTINUE);
     RetryStrategy retry = null;
     Component oldResponse = packet.getComponents().remove(RESPONSE_COMPONENT_NAME);
     if (oldResponse != null) {
-      @SuppressWarnings("unchecked")
-      CallResponse<T> old = oldResponse.getSPI(CallResponse.class);
-      if (old != null && old.getResult() != null) {
-        // called again, access continue value, if available
-        cont = accessContinue(old.getResult());
-      }
-
       retry = oldResponse.getSPI(RetryStrategy.class);
     }
     String _continue = (cont != null) ? cont : "";
@@ -104,6 +99,7 @@ public class AsyncRequestStep<T> extends Step {
         resourceVersion);
 
     AtomicBoolean didResume = new AtomicBoolean(false);
+    AtomicReference<Timeout> timeout = new AtomicReference<>();
     ApiClient client = helper.take();
     return doSuspend(
         (fiber) -> {
@@ -113,6 +109,7 @@ public class AsyncRequestStep<T> extends Step {
                 public void onFailure(
                     ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
                   if (didResume.compareAndSet(false, true)) {
+                    Optional.ofNullable(timeout.get()).ifPresent(Timeout::cancel);
                     if (statusCode != CallBuilder.NOT_FOUND) {
                       LOGGER.info(
                           MessageKeys.ASYNC_FAILURE,
@@ -145,6 +142,7 @@ public class AsyncRequestStep<T> extends Step {
                 public void onSuccess(
                     T result, int statusCode, Map<String, List<String>> responseHeaders) {
                   if (didResume.compareAndSet(false, true)) {
+                    Optional.ofNullable(timeout.get()).ifPresent(Timeout::cancel);
                     LOGGER.fine(MessageKeys.ASYNC_SUCCESS, result, statusCode, responseHeaders);
 
                     helper.recycle(client);
@@ -162,36 +160,40 @@ public class AsyncRequestStep<T> extends Step {
           try {
             CancellableCall c = factory.generate(requestParams, client, _continue, callback);
 
-            // timeout handling
-            fiber
-                .owner
-                .getExecutor()
-                .schedule(
-                    () -> {
-                      if (didResume.compareAndSet(false, true)) {
-                        try {
-                          c.cancel();
-                        } finally {
-                          LOGGER.info(
-                              MessageKeys.ASYNC_TIMEOUT,
-                              requestParams.call,
-                              requestParams.namespace,
-                              requestParams.name,
-                              requestParams.body,
-                              fieldSelector,
-                              labelSelector,
-                              resourceVersion);
-                          packet
-                              .getComponents()
-                              .put(
-                                  RESPONSE_COMPONENT_NAME,
-                                  Component.createFor(RetryStrategy.class, _retry));
-                          fiber.resume(packet);
-                        }
-                      }
-                    },
-                    timeoutSeconds,
-                    TimeUnit.SECONDS);
+            // timeout handling; cancelled when a response arrives first
+            timeout.set(
+                fiber
+                    .owner
+                    .getTimeoutScheduler()
+                    .schedule(
+                        () -> {
+                          if (didResume.compareAndSet(false, true)) {
+                            try {
+                              c.cancel();
+                            } finally {
+                              LOGGER.info(
+                                  MessageKeys.ASYNC_TIMEOUT,
+                                  requestParams.call,
+                                  requestParams.namespace,
+                                  requestParams.name,
+                                  requestParams.body,
+                                  fieldSelector,
+                                  labelSelector,
+                                  resourceVersion);
+                              packet
+                                  .getComponents()
+                                  .put(
+                                      RESPONSE_COMPONENT_NAME,
+                                      Component.createFor(RetryStrategy.class, _retry));
+                              fiber.resume(packet);
+                            }
+                          }
+                        },
+                        timeoutSeconds,
+                        TimeUnit.SECONDS));
+            if (didResume.get()) {
+              timeout.get().cancel();
+            }
           } catch (Throwable t) {
             LOGGER.warning(
                 MessageKeys.ASYNC_FAILURE,
@@ -215,26 +217,6 @@ public class AsyncRequestStep<T> extends Step {
         });
   }
 
-  private static String accessContinue(Object result) {
-    String cont = "";
-    if (result != null) {
-      try {
-        Method m = result.getClass().getMethod("getMetadata");
-        Object meta = m.invoke(result);
-        if (meta instanceof V1ListMeta) {
-          return ((V1ListMeta) meta).getContinue();
-        }
-      } catch (NoSuchMethodException
-          | SecurityException
-          | IllegalAccessException
-          | IllegalArgumentException
-          | InvocationTargetException e) {
-        // no-op, no-log
-      }
-    }
-    return cont;
-  }
-
   private final class DefaultRetryStrategy implements RetryStrategy {
     private long retryCount = 0;
     private Step retryStep = null;
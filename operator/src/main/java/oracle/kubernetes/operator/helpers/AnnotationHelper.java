@@ -4,10 +4,26 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import io.kubernetes.client.JSON;
 import io.kubernetes.client.models.V1ObjectMeta;
+import java.util.Map;
+import java.util.TreeMap;
+import org.apache.commons.codec.digest.DigestUtils;
 
 /** Annotates pods, services with details about the Domain instance and checks these annotations. */
 public class AnnotationHelper {
+  /** The path at which the WebLogic Monitoring Exporter serves the metrics of its server. */
+  public static final String METRICS_PATH = "/wls-exporter/metrics";
+
+  static final String SHA256_ANNOTATION = "weblogic.sha256";
+  static final String SPEC_SHA256_ANNOTATION = "weblogic.specSha256";
+
+  private static final Gson GSON = new JSON().getGson();
+
   /**
    * Marks metadata with annotations that let Prometheus know how to retrieve metrics from the
    * wls-exporter web-app. The specified httpPort should be the listen port of the WebLogic server
@@ -19,7 +35,104 @@ public class AnnotationHelper {
   public static void annotateForPrometheus(V1ObjectMeta meta, int httpPort) {
     meta.putAnnotationsItem(
         "prometheus.io/port", "" + httpPort); // should be the ListenPort of the server in the pod
-    meta.putAnnotationsItem("prometheus.io/path", "/wls-exporter/metrics");
+    meta.putAnnotationsItem("prometheus.io/path", METRICS_PATH);
     meta.putAnnotationsItem("prometheus.io/scrape", "true");
   }
+
+  /**
+   * Stamps the metadata of a desired Kubernetes object with a hash of that object, so that a later
+   * reconcile can tell whether the object in the cluster still matches what the operator would
+   * create, without comparing individual fields. Must be called after the model is complete.
+   *
+   * @param meta the metadata of the model
+   * @param model the complete desired object which owns the metadata
+   */
+  static void addHash(V1ObjectMeta meta, Object model) {
+    meta.putAnnotationsItem(SHA256_ANNOTATION, createHash(model));
+  }
+
+  /**
+   * Stamps the metadata of a desired Kubernetes object with a hash of the inputs from which it was
+   * built. Comparing such a hash with that of the current inputs needs no model at all.
+   *
+   * @param meta the metadata of the model
+   * @param hash a hash created by {@link #createHash(Object)} from the inputs to the model
+   */
+  static void setHash(V1ObjectMeta meta, String hash) {
+    meta.putAnnotationsItem(SHA256_ANNOTATION, hash);
+  }
+
+  /**
+   * Stamps the metadata of a desired Kubernetes object with a hash of its spec alone. Objects whose
+   * spec hashes match differ, if at all, only in metadata, which can be patched in place. Must be
+   * called before {@link #addHash(V1ObjectMeta, Object)}.
+   *
+   * @param meta the metadata of the model
+   * @param spec the complete desired spec
+   */
+  static void addSpecHash(V1ObjectMeta meta, Object spec) {
+    meta.putAnnotationsItem(SPEC_SHA256_ANNOTATION, createHash(spec));
+  }
+
+  /**
+   * Returns true if both objects were stamped by {@link #addSpecHash(V1ObjectMeta, Object)} with
+   * the same hash.
+   *
+   * @param current the metadata of the object in the cluster
+   * @param desired the metadata of the model
+   * @return true if the specs are known to be the same
+   */
+  static boolean hasSameSpec(V1ObjectMeta current, V1ObjectMeta desired) {
+    String currentHash = getAnnotation(current, SPEC_SHA256_ANNOTATION);
+    return currentHash != null
+        && currentHash.equals(getAnnotation(desired, SPEC_SHA256_ANNOTATION));
+  }
+
+  /**
+   * Returns the hash recorded on an object by {@link #addHash(V1ObjectMeta, Object)} or {@link
+   * #setHash(V1ObjectMeta, String)}.
+   *
+   * @param meta the metadata of the object
+   * @return the hash, or null if the object was not created with one
+   */
+  static String getHash(V1ObjectMeta meta) {
+    return getAnnotation(meta, SHA256_ANNOTATION);
+  }
+
+  private static String getAnnotation(V1ObjectMeta meta, String name) {
+    if (meta == null || meta.getAnnotations() == null) {
+      return null;
+    }
+    return meta.getAnnotations().get(name);
+  }
+
+  static String createHash(Object model) {
+    return DigestUtils.sha256Hex(toCanonicalJson(model));
+  }
+
+  // The JSON form of an object orders map entries by insertion, which is not stable for labels
+  // and annotations; sorting object keys makes equal models produce identical text.
+  private static String toCanonicalJson(Object model) {
+    return canonicalize(GSON.toJsonTree(model)).toString();
+  }
+
+  private static JsonElement canonicalize(JsonElement element) {
+    if (element.isJsonArray()) {
+      JsonArray result = new JsonArray();
+      for (JsonElement item : element.getAsJsonArray()) {
+        result.add(canonicalize(item));
+      }
+      return result;
+    } else if (element.isJsonObject()) {
+      Map<String, JsonElement> sorted = new TreeMap<>();
+      for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+        sorted.put(entry.getKey(), canonicalize(entry.getValue()));
+      }
+      JsonObject result = new JsonObject();
+      sorted.forEach(result::add);
+      return result;
+    } else {
+      return element;
+    }
+  }
 }
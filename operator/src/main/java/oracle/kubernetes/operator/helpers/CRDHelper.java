@@ -9,8 +9,12 @@ import io.kubernetes.client.models.V1ObjectMeta;
 import io.kubernetes.client.models.V1beta1CustomResourceDefinition;
 import io.kubernetes.client.models.V1beta1CustomResourceDefinitionNames;
 import io.kubernetes.client.models.V1beta1CustomResourceDefinitionSpec;
+import io.kubernetes.client.models.V1beta1CustomResourceSubresourceScale;
+import io.kubernetes.client.models.V1beta1CustomResourceSubresources;
 import java.util.Collections;
+import java.util.HashMap;
 import oracle.kubernetes.operator.KubernetesConstants;
+import oracle.kubernetes.operator.helpers.HealthCheckHelper.KubernetesVersion;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
@@ -19,32 +23,25 @@ import oracle.kubernetes.operator.logging.MessageKeys;
 public class CRDHelper {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
+  // the paths within a domain that the scale subresource reads and writes
+  static final String SPEC_REPLICAS_PATH = ".spec.replicas";
+  static final String STATUS_REPLICAS_PATH = ".status.replicas";
+  static final String LABEL_SELECTOR_PATH = ".status.selector";
+
   private CRDHelper() {}
 
   /**
    * Validates and, if necessary, created domains.weblogic.oracle CRD. No need to be async as
-   * operator can not begin processing until CRD exists
+   * operator can not begin processing until CRD exists. A CRD created by an earlier version of the
+   * operator, which lacks the status and scale subresources, is replaced when the API server
+   * supports them.
+   *
+   * @param version Version of the Kubernetes API server
    */
-  public static void checkAndCreateCustomResourceDefinition() {
+  public static void checkAndCreateCustomResourceDefinition(KubernetesVersion version) {
     LOGGER.entering();
 
-    V1beta1CustomResourceDefinition crd = new V1beta1CustomResourceDefinition();
-    crd.setApiVersion("apiextensions.k8s.io/v1beta1");
-    crd.setKind("CustomResourceDefinition");
-    V1ObjectMeta om = new V1ObjectMeta();
-    om.setName("domains.weblogic.oracle");
-    crd.setMetadata(om);
-    V1beta1CustomResourceDefinitionSpec crds = new V1beta1CustomResourceDefinitionSpec();
-    crds.setGroup(KubernetesConstants.DOMAIN_GROUP);
-    crds.setVersion(KubernetesConstants.DOMAIN_VERSION);
-    crds.setScope("Namespaced");
-    V1beta1CustomResourceDefinitionNames crdn = new V1beta1CustomResourceDefinitionNames();
-    crdn.setPlural(KubernetesConstants.DOMAIN_PLURAL);
-    crdn.setSingular(KubernetesConstants.DOMAIN_SINGULAR);
-    crdn.setKind("Domain");
-    crdn.setShortNames(Collections.singletonList(KubernetesConstants.DOMAIN_SHORT));
-    crds.setNames(crdn);
-    crd.setSpec(crds);
+    V1beta1CustomResourceDefinition crd = createModel(version);
 
     CallBuilderFactory factory = new CallBuilderFactory();
     V1beta1CustomResourceDefinition existingCRD = null;
@@ -61,10 +58,61 @@ public class CRDHelper {
       if (existingCRD == null) {
         LOGGER.info(MessageKeys.CREATING_CRD, crd.toString());
         factory.create().createCustomResourceDefinition(crd);
+      } else if (!isCurrent(existingCRD, crd)) {
+        LOGGER.info(MessageKeys.REPLACING_CRD, crd.toString());
+        crd.getMetadata().setResourceVersion(existingCRD.getMetadata().getResourceVersion());
+        factory.create().replaceCustomResourceDefinition(crd.getMetadata().getName(), crd);
       }
     } catch (ApiException e) {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
     }
     LOGGER.exiting();
   }
+
+  static V1beta1CustomResourceDefinition createModel(KubernetesVersion version) {
+    V1beta1CustomResourceDefinition crd = new V1beta1CustomResourceDefinition();
+    crd.setApiVersion("apiextensions.k8s.io/v1beta1");
+    crd.setKind("CustomResourceDefinition");
+    V1ObjectMeta om = new V1ObjectMeta();
+    om.setName("domains.weblogic.oracle");
+    crd.setMetadata(om);
+    V1beta1CustomResourceDefinitionSpec crds = new V1beta1CustomResourceDefinitionSpec();
+    crds.setGroup(KubernetesConstants.DOMAIN_GROUP);
+    crds.setVersion(KubernetesConstants.DOMAIN_VERSION);
+    crds.setScope("Namespaced");
+    V1beta1CustomResourceDefinitionNames crdn = new V1beta1CustomResourceDefinitionNames();
+    crdn.setPlural(KubernetesConstants.DOMAIN_PLURAL);
+    crdn.setSingular(KubernetesConstants.DOMAIN_SINGULAR);
+    crdn.setKind("Domain");
+    crdn.setShortNames(Collections.singletonList(KubernetesConstants.DOMAIN_SHORT));
+    crds.setNames(crdn);
+    if (version != null && version.isCRDSubresourcesSupported()) {
+      crds.setSubresources(createSubresources());
+    }
+    crd.setSpec(crds);
+    return crd;
+  }
+
+  private static V1beta1CustomResourceSubresources createSubresources() {
+    V1beta1CustomResourceSubresourceScale scale = new V1beta1CustomResourceSubresourceScale();
+    scale.setSpecReplicasPath(SPEC_REPLICAS_PATH);
+    scale.setStatusReplicasPath(STATUS_REPLICAS_PATH);
+    scale.setLabelSelectorPath(LABEL_SELECTOR_PATH);
+
+    V1beta1CustomResourceSubresources subresources = new V1beta1CustomResourceSubresources();
+    // the status subresource has no fields
+    subresources.setStatus(new HashMap<String, Object>());
+    subresources.setScale(scale);
+    return subresources;
+  }
+
+  // An API server which does not support subresources would drop them from any replacement, so a
+  // CRD is only replaced for them when they are wanted.
+  static boolean isCurrent(
+      V1beta1CustomResourceDefinition existing, V1beta1CustomResourceDefinition desired) {
+    V1beta1CustomResourceSubresources subresources =
+        existing.getSpec() == null ? null : existing.getSpec().getSubresources();
+    return desired.getSpec().getSubresources() == null
+        || desired.getSpec().getSubresources().equals(subresources);
+  }
 }
@@ -16,6 +16,7 @@ import io.kubernetes.client.apis.CoreV1Api;
 import io.kubernetes.client.apis.ExtensionsV1beta1Api;
 import io.kubernetes.client.apis.VersionApi;
 import io.kubernetes.client.models.V1ConfigMap;
+import io.kubernetes.client.models.V1ConfigMapList;
 import io.kubernetes.client.models.V1DeleteOptions;
 import io.kubernetes.client.models.V1EventList;
 import io.kubernetes.client.models.V1Job;
@@ -326,6 +327,41 @@ public class CallBuilder {
         responseStep, new RequestParams("replaceDomain", namespace, name, body), REPLACE_DOMAIN);
   }
 
+  private com.squareup.okhttp.Call replaceDomainStatusAsync(
+      ApiClient client, String name, String namespace, Domain body, ApiCallback<Domain> callback)
+      throws ApiException {
+    return new WeblogicApi(client)
+        .replaceWebLogicOracleV1NamespacedDomainStatusAsync(
+            name, namespace, body, pretty, callback);
+  }
+
+  private final CallFactory<Domain> REPLACE_DOMAIN_STATUS =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              replaceDomainStatusAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (Domain) requestParams.body,
+                  callback));
+
+  /**
+   * Asynchronous step for replacing the status of a domain through its status subresource
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param body Body
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step replaceDomainStatusAsync(
+      String name, String namespace, Domain body, ResponseStep<Domain> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("replaceDomainStatus", namespace, name, body),
+        REPLACE_DOMAIN_STATUS);
+  }
+
   /* Custom Resource Definitions */
 
   /**
@@ -362,6 +398,24 @@ public class CallBuilder {
     }
   }
 
+  /**
+   * Replace custom resource definition
+   *
+   * @param name Name
+   * @param body Body
+   * @return Replaced custom resource definition
+   * @throws ApiException API Exception
+   */
+  public V1beta1CustomResourceDefinition replaceCustomResourceDefinition(
+      String name, V1beta1CustomResourceDefinition body) throws ApiException {
+    ApiClient client = helper.take();
+    try {
+      return CALL_FACTORY.replaceCustomResourceDefinition(client, name, body, pretty);
+    } finally {
+      helper.recycle(client);
+    }
+  }
+
   /* Config Maps */
 
   private com.squareup.okhttp.Call readConfigMapAsync(
@@ -455,6 +509,89 @@ public class CallBuilder {
         REPLACE_CONFIGMAP);
   }
 
+  private com.squareup.okhttp.Call listConfigMapAsync(
+      ApiClient client, String namespace, String _continue, ApiCallback<V1ConfigMapList> callback)
+      throws ApiException {
+    return new CoreV1Api(client)
+        .listNamespacedConfigMapAsync(
+            namespace,
+            pretty,
+            _continue,
+            fieldSelector,
+            includeUninitialized,
+            labelSelector,
+            limit,
+            resourceVersion,
+            timeoutSeconds,
+            watch,
+            callback);
+  }
+
+  private final CallFactory<V1ConfigMapList> LIST_CONFIGMAP =
+      (requestParams, usage, cont, callback) ->
+          wrap(listConfigMapAsync(usage, requestParams.namespace, cont, callback));
+
+  /**
+   * Asynchronous step for listing config maps
+   *
+   * @param namespace Namespace
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step listConfigMapAsync(String namespace, ResponseStep<V1ConfigMapList> responseStep) {
+    return createRequestAsync(
+        responseStep, new RequestParams("listConfigMap", namespace, null, null), LIST_CONFIGMAP);
+  }
+
+  private com.squareup.okhttp.Call deleteConfigMapAsync(
+      ApiClient client,
+      String name,
+      String namespace,
+      V1DeleteOptions deleteOptions,
+      ApiCallback<V1Status> callback)
+      throws ApiException {
+    return new CoreV1Api(client)
+        .deleteNamespacedConfigMapAsync(
+            name,
+            namespace,
+            deleteOptions,
+            pretty,
+            gracePeriodSeconds,
+            orphanDependents,
+            propagationPolicy,
+            callback);
+  }
+
+  private final CallFactory<V1Status> DELETE_CONFIGMAP =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              deleteConfigMapAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1DeleteOptions) requestParams.body,
+                  callback));
+
+  /**
+   * Asynchronous step for deleting config map
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param deleteOptions Delete options
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step deleteConfigMapAsync(
+      String name,
+      String namespace,
+      V1DeleteOptions deleteOptions,
+      ResponseStep<V1Status> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("deleteConfigMap", namespace, name, deleteOptions),
+        DELETE_CONFIGMAP);
+  }
+
   /* Pods */
 
   private com.squareup.okhttp.Call listPodAsync(
@@ -586,6 +723,39 @@ public class CallBuilder {
         responseStep, new RequestParams("deletePod", namespace, name, deleteOptions), DELETE_POD);
   }
 
+  private com.squareup.okhttp.Call patchPodAsync(
+      ApiClient client, String name, String namespace, Object body, ApiCallback<V1Pod> callback)
+      throws ApiException {
+    return new CoreV1Api(client).patchNamespacedPodAsync(name, namespace, body, pretty, callback);
+  }
+
+  private final CallFactory<V1Pod> PATCH_POD =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              patchPodAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  requestParams.body,
+                  callback));
+
+  /**
+   * Asynchronous step for patching pod
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param patch Patch
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step patchPodAsync(
+      String name, String namespace, JsonPatch patch, ResponseStep<V1Pod> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("patchPod", namespace, name, patch.getOperations()),
+        PATCH_POD);
+  }
+
   private com.squareup.okhttp.Call deleteCollectionPodAsync(
       ApiClient client, String namespace, String _continue, ApiCallback<V1Status> callback)
       throws ApiException {
@@ -898,6 +1068,40 @@ public class CallBuilder {
         DELETE_SERVICE);
   }
 
+  private com.squareup.okhttp.Call patchServiceAsync(
+      ApiClient client, String name, String namespace, Object body, ApiCallback<V1Service> callback)
+      throws ApiException {
+    return new CoreV1Api(client)
+        .patchNamespacedServiceAsync(name, namespace, body, pretty, callback);
+  }
+
+  private final CallFactory<V1Service> PATCH_SERVICE =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              patchServiceAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  requestParams.body,
+                  callback));
+
+  /**
+   * Asynchronous step for patching service
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param patch Patch
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step patchServiceAsync(
+      String name, String namespace, JsonPatch patch, ResponseStep<V1Service> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("patchService", namespace, name, patch.getOperations()),
+        PATCH_SERVICE);
+  }
+
   /* Events */
 
   private com.squareup.okhttp.Call listEventAsync(
@@ -1408,6 +1612,44 @@ public class CallBuilder {
         responseStep, new RequestParams("replaceIngress", namespace, name, body), REPLACE_INGRESS);
   }
 
+  private com.squareup.okhttp.Call patchIngressAsync(
+      ApiClient client,
+      String name,
+      String namespace,
+      Object body,
+      ApiCallback<V1beta1Ingress> callback)
+      throws ApiException {
+    return new ExtensionsV1beta1Api(client)
+        .patchNamespacedIngressAsync(name, namespace, body, pretty, callback);
+  }
+
+  private final CallFactory<V1beta1Ingress> PATCH_INGRESS =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              patchIngressAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  requestParams.body,
+                  callback));
+
+  /**
+   * Asynchronous step for patching ingress
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param patch Patch
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step patchIngressAsync(
+      String name, String namespace, JsonPatch patch, ResponseStep<V1beta1Ingress> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("patchIngress", namespace, name, patch.getOperations()),
+        PATCH_INGRESS);
+  }
+
   /**
    * Delete ingress
    *
@@ -1484,6 +1726,42 @@ public class CallBuilder {
         DELETE_INGRESS);
   }
 
+  private com.squareup.okhttp.Call deleteCollectionIngressAsync(
+      ApiClient client, String namespace, String _continue, ApiCallback<V1Status> callback)
+      throws ApiException {
+    return new ExtensionsV1beta1Api(client)
+        .deleteCollectionNamespacedIngressAsync(
+            namespace,
+            pretty,
+            _continue,
+            fieldSelector,
+            includeUninitialized,
+            labelSelector,
+            limit,
+            resourceVersion,
+            timeoutSeconds,
+            watch,
+            callback);
+  }
+
+  private final CallFactory<V1Status> DELETECOLLECTION_INGRESS =
+      (requestParams, usage, cont, callback) ->
+          wrap(deleteCollectionIngressAsync(usage, requestParams.namespace, cont, callback));
+
+  /**
+   * Asynchronous step for deleting collection of ingresses
+   *
+   * @param namespace Namespace
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step deleteCollectionIngressAsync(String namespace, ResponseStep<V1Status> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("deleteIngressCollection", namespace, null, null),
+        DELETECOLLECTION_INGRESS);
+  }
+
   private static final AsyncRequestStepFactory STEP_FACTORY = AsyncRequestStep::new;
 
   private <T> Step createRequestAsync(
@@ -1515,6 +1793,14 @@ public class CallBuilder {
       return new ApiextensionsV1beta1Api(client).createCustomResourceDefinition(body, pretty);
     }
 
+    @Override
+    public V1beta1CustomResourceDefinition replaceCustomResourceDefinition(
+        ApiClient client, String name, V1beta1CustomResourceDefinition body, String pretty)
+        throws ApiException {
+      return new ApiextensionsV1beta1Api(client)
+          .replaceCustomResourceDefinition(name, body, pretty);
+    }
+
     @Override
     public V1SelfSubjectRulesReview createSelfSubjectRulesReview(
         ApiClient client, V1SelfSubjectRulesReview body, String pretty) throws ApiException {
@@ -1,26 +1,57 @@
-// Copyright 2017, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Copyright 2017, 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
 // Licensed under the Universal Permissive License v 1.0 as shown at
 // http://oss.oracle.com/licenses/upl.
 
 package oracle.kubernetes.operator.helpers;
 
+import com.squareup.okhttp.ConnectionPool;
+import com.squareup.okhttp.Dispatcher;
+import com.squareup.okhttp.OkHttpClient;
+import com.squareup.okhttp.Protocol;
 import io.kubernetes.client.ApiClient;
 import io.kubernetes.client.Configuration;
 import io.kubernetes.client.util.Config;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.TuningParameters.ClientTuning;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.work.Container;
 import oracle.kubernetes.operator.work.ContainerResolver;
+import oracle.kubernetes.weblogic.domain.v1.DomainModelJSON;
 
+/**
+ * A pool of Kubernetes API clients. All of the clients share one HTTP dispatcher, which bounds the
+ * number of concurrent asynchronous requests for the operator as a whole, and one connection pool,
+ * so that a client taken from the pool reuses connections opened by any other.
+ */
 public class ClientPool extends Pool<ApiClient> {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final ClientFactory FACTORY = new DefaultClientFactory();
+
+  private static final ClientTuning DEFAULT_TUNING = new ClientTuning(2, 16, 64, 16, 300);
+
+  // HTTP/2 is negotiated during the TLS handshake, where the platform supports it; otherwise, and
+  // for plain connections, HTTP/1.1 is used.
+  private static final List<Protocol> PROTOCOLS = Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1);
+
   private static final ClientPool SINGLETON = new ClientPool();
 
-  private static final ClientFactory FACTORY = new DefaultClientFactory();
+  private final ClientTuning tuning = getClientTuning();
+  private final Dispatcher dispatcher = createDispatcher(tuning);
+  private final ConnectionPool connectionPool =
+      new ConnectionPool(
+          tuning.maxIdleConnections, tuning.connectionKeepAliveSeconds, TimeUnit.SECONDS);
+
+  // the transport settings of the first client created, to be copied to later ones
+  private ApiClient template;
 
   public static ClientPool getInstance() {
     return SINGLETON;
@@ -28,11 +59,35 @@ public class ClientPool extends Pool<ApiClient> {
 
   private ClientPool() {}
 
+  private static ClientTuning getClientTuning() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getClientTuning)
+        .orElse(DEFAULT_TUNING);
+  }
+
+  private static Dispatcher createDispatcher(ClientTuning tuning) {
+    Dispatcher dispatcher = new Dispatcher();
+    dispatcher.setMaxRequests(tuning.maxConcurrentRequests);
+    // all requests go to the same API server, so the per-host limit must not be lower
+    dispatcher.setMaxRequestsPerHost(tuning.maxConcurrentRequests);
+    return dispatcher;
+  }
+
   @Override
   protected ApiClient create() {
     return getApiClient();
   }
 
+  @Override
+  protected int getMinIdle() {
+    return tuning.clientPoolMinIdle;
+  }
+
+  @Override
+  protected int getMaxIdle() {
+    return tuning.clientPoolMaxIdle;
+  }
+
   private ApiClient getApiClient() {
     LOGGER.entering();
 
@@ -56,11 +111,75 @@ public class ClientPool extends Pool<ApiClient> {
 
     // Ensure that client doesn't time out before call or watch
     client.getHttpClient().setReadTimeout(5, TimeUnit.MINUTES);
+    shareTransport(client);
 
     LOGGER.exiting(client);
     return client;
   }
 
+  private void shareTransport(ApiClient client) {
+    OkHttpClient httpClient = client.getHttpClient();
+    httpClient.setDispatcher(dispatcher);
+    httpClient.setConnectionPool(connectionPool);
+    httpClient.setProtocols(PROTOCOLS);
+
+    // Pooled connections are matched by address, which includes the TLS socket factory; each
+    // client configured for the same server must use the same factory to reuse connections.
+    synchronized (this) {
+      if (template == null) {
+        template = client;
+      } else if (Objects.equals(template.getBasePath(), client.getBasePath())) {
+        httpClient.setSslSocketFactory(template.getHttpClient().getSslSocketFactory());
+        httpClient.setHostnameVerifier(template.getHttpClient().getHostnameVerifier());
+      }
+    }
+  }
+
+  /**
+   * Returns the number of asynchronous requests in progress.
+   *
+   * @return the count
+   */
+  public int getRunningCallCount() {
+    return dispatcher.getRunningCallCount();
+  }
+
+  /**
+   * Returns the number of asynchronous requests waiting for the dispatcher.
+   *
+   * @return the count
+   */
+  public int getQueuedCallCount() {
+    return dispatcher.getQueuedCallCount();
+  }
+
+  /**
+   * Returns the number of open connections to the API server.
+   *
+   * @return the count
+   */
+  public int getConnectionCount() {
+    return connectionPool.getConnectionCount();
+  }
+
+  /**
+   * Returns the number of open connections not carrying a request.
+   *
+   * @return the count
+   */
+  public int getIdleConnectionCount() {
+    return connectionPool.getIdleConnectionCount();
+  }
+
+  /**
+   * Returns the number of open connections which can carry several requests at once.
+   *
+   * @return the count
+   */
+  public int getMultiplexedConnectionCount() {
+    return connectionPool.getMultiplexedConnectionCount();
+  }
+
   private static class DefaultClientFactory implements ClientFactory {
     private final AtomicBoolean first = new AtomicBoolean(true);
 
@@ -69,6 +188,7 @@ public class ClientPool extends Pool<ApiClient> {
       ApiClient client;
       try {
         client = Config.defaultClient();
+        client.setJSON(DomainModelJSON.getInstance());
         if (first.getAndSet(false)) {
           Configuration.setDefaultApiClient(client);
         }
@@ -10,6 +10,7 @@ import static oracle.kubernetes.operator.helpers.ClusteredServerConfig.*;
 import static oracle.kubernetes.operator.helpers.NonClusteredServerConfig.*;
 import static oracle.kubernetes.operator.helpers.ServerConfig.*;
 
+import io.kubernetes.client.custom.IntOrString;
 import io.kubernetes.client.models.V1EnvVar;
 import java.util.ArrayList;
 import java.util.List;
@@ -100,7 +101,7 @@ public class DomainConfigBuilderV1 extends DomainConfigBuilder {
     initClusterConfigFromDefaults(result);
     initClusterConfigFromDomainSpec(result);
     initClusterConfigFromClusterStartup(result, clusterStartup);
-    result.withMinReplicas(result.getReplicas()).withMaxReplicas(result.getReplicas());
+    initClusterConfigRollingLimits(result, clusterStartup);
     LOGGER.exiting(result);
     return result;
   }
@@ -167,6 +168,17 @@ public class DomainConfigBuilderV1 extends DomainConfigBuilder {
     }
   }
 
+  protected void initClusterConfigRollingLimits(
+      ClusterConfig clusterConfig, ClusterStartup clusterStartup) {
+    int replicas = clusterConfig.getReplicas();
+    IntOrString maxUnavailable = clusterStartup == null ? null : clusterStartup.getMaxUnavailable();
+    IntOrString maxSurge = clusterStartup == null ? null : clusterStartup.getMaxSurge();
+    clusterConfig
+        .withMinReplicas(
+            maxUnavailable == null ? replicas : getMinReplicas(replicas, maxUnavailable))
+        .withMaxReplicas(maxSurge == null ? replicas : getMaxReplicas(replicas, maxSurge));
+  }
+
   protected void initClusterConfigFromDomainSpec(ClusterConfig clusterConfig) {
     Integer replicas = domainSpec.getReplicas();
     if (replicas != null) {
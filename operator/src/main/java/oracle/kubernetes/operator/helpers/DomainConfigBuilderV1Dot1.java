@@ -230,39 +230,6 @@ public class DomainConfigBuilderV1Dot1 extends DomainConfigBuilder {
     }
   }
 
-  protected int getMaxReplicas(int replicas, IntOrString maxSurge) {
-    String context = "maxSurge " + maxSurge;
-    int delta = 0;
-    if (maxSurge.isInteger()) {
-      delta = getNonNegativeInt("maxSurge", toInt(maxSurge.getIntValue()));
-    } else {
-      int percent = getPercent(context, maxSurge.getStrValue());
-      delta = getPercentage(replicas, percent);
-    }
-    return replicas + delta;
-  }
-
-  protected int getMinReplicas(int replicas, IntOrString maxUnavailable) {
-    String context = "maxUnavailable " + maxUnavailable;
-    int delta = 0;
-    if (maxUnavailable.isInteger()) {
-      delta = getNonNegativeInt("maxUnavailable", toInt(maxUnavailable.getIntValue()));
-    } else {
-      int percent = getPercent(context, maxUnavailable.getStrValue());
-      delta = getPercentage(replicas, percent);
-    }
-    if (delta > replicas) {
-      logWarning(
-          context,
-          " maxUnavailable must be less or equal to replicas ("
-              + replicas
-              + "), using "
-              + replicas);
-      delta = replicas;
-    }
-    return replicas - delta;
-  }
-
   protected NonClusteredServer getEffectiveNonClusteredServer(String serverName) {
     NonClusteredServer rtn = new NonClusteredServer();
     getEffectiveProperties(
@@ -386,52 +353,6 @@ public class DomainConfigBuilderV1Dot1 extends DomainConfigBuilder {
     }
   }
 
-  protected int getPercentage(double value, double percent) {
-    double percentage = value * (percent / 100.0);
-    return (int) (Math.ceil(percentage)); // round up to the next integer
-  }
-
-  protected int getPercent(String context, String val) {
-    if (val == null) {
-      logWarning(context, "value must not be null, using 0");
-      return 0;
-    }
-    String percentSuffix = "%";
-    if (!val.endsWith(percentSuffix)) {
-      logWarning(context, "value must end with '%', using 0");
-      return 0;
-    }
-    String percentString = val.substring(0, val.length() - percentSuffix.length());
-    int percent = 0;
-    try {
-      percent = Integer.parseInt(percentString);
-    } catch (NumberFormatException e) {
-      logWarning(context, "percent must be an integer, using 0");
-      return 0;
-    }
-    if (percent < 0 || 100 < percent) {
-      logWarning(context, "percent must >= 0 and <= 100, using 0");
-      return 0;
-    }
-    return percent;
-  }
-
-  protected int getNonNegativeInt(String context, int val) {
-    if (val < 0) {
-      logWarning(context, ": " + val + ", must be >= 0, using 0");
-      return 0;
-    }
-    return val;
-  }
-
-  protected void logWarning(String context, String message) {
-    LOGGER.warning(context + ": " + message); // TBD - do we need to i18n this?
-  }
-
-  protected int toInt(Integer val) {
-    return (val != null) ? val.intValue() : 0;
-  }
-
   protected boolean toBool(Boolean val) {
     return (val != null) ? val.booleanValue() : false;
   }
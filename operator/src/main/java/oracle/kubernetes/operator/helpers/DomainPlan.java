@@ -0,0 +1,148 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The changes needed to bring the pods, services and ingresses of a domain to the state described
+ * by its domain resource and WebLogic configuration, in the order in which the operator makes them.
+ * An empty plan means that the domain needs no writes.
+ */
+public class DomainPlan {
+
+  /** What must be done to a resource. */
+  public enum Operation {
+    CREATE,
+    PATCH,
+    REPLACE,
+    DELETE
+  }
+
+  /** The type of a planned resource. */
+  public enum Kind {
+    POD,
+    SERVICE,
+    INGRESS
+  }
+
+  /** A single planned change. */
+  public static class Action {
+    private final Operation operation;
+    private final Kind kind;
+    private final String name;
+    private final String serverName;
+    private final String clusterName;
+
+    Action(Operation operation, Kind kind, String name, String serverName, String clusterName) {
+      this.operation = operation;
+      this.kind = kind;
+      this.name = name;
+      this.serverName = serverName;
+      this.clusterName = clusterName;
+    }
+
+    public Operation getOperation() {
+      return operation;
+    }
+
+    public Kind getKind() {
+      return kind;
+    }
+
+    /**
+     * The name of the Kubernetes resource.
+     *
+     * @return the resource name
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * The WebLogic server to which the resource belongs.
+     *
+     * @return the server name, or null for a cluster resource
+     */
+    public String getServerName() {
+      return serverName;
+    }
+
+    /**
+     * The WebLogic cluster to which the resource belongs.
+     *
+     * @return the cluster name, or null for a server resource
+     */
+    public String getClusterName() {
+      return clusterName;
+    }
+
+    @Override
+    public String toString() {
+      return operation + " " + kind + " " + name;
+    }
+  }
+
+  private final List<Action> actions = new ArrayList<>();
+  private final boolean complete;
+
+  DomainPlan(boolean complete) {
+    this.complete = complete;
+  }
+
+  void addServerAction(Operation operation, Kind kind, String name, String serverName) {
+    actions.add(new Action(operation, kind, name, serverName, null));
+  }
+
+  void addClusterAction(Operation operation, Kind kind, String name, String clusterName) {
+    actions.add(new Action(operation, kind, name, null, clusterName));
+  }
+
+  /**
+   * Returns the planned changes, in order.
+   *
+   * @return an unmodifiable list of actions
+   */
+  public List<Action> getActions() {
+    return Collections.unmodifiableList(actions);
+  }
+
+  public boolean isEmpty() {
+    return actions.isEmpty();
+  }
+
+  /**
+   * Returns true if the plan covers the managed servers and clusters. Until the WebLogic
+   * configuration has been read, only the admin server can be planned.
+   *
+   * @return true if the WebLogic configuration was known
+   */
+  public boolean isComplete() {
+    return complete;
+  }
+
+  /**
+   * Returns true if any resource of the specified server must change.
+   *
+   * @param serverName the name of a WebLogic server
+   * @return true if the server has planned actions
+   */
+  public boolean hasActionsForServer(String serverName) {
+    return actions.stream().anyMatch(a -> Objects.equals(serverName, a.getServerName()));
+  }
+
+  /**
+   * Returns true if any resource of the specified cluster must change.
+   *
+   * @param clusterName the name of a WebLogic cluster
+   * @return true if the cluster has planned actions
+   */
+  public boolean hasActionsForCluster(String clusterName) {
+    return actions.stream().anyMatch(a -> Objects.equals(clusterName, a.getClusterName()));
+  }
+}
@@ -0,0 +1,187 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1Service;
+import io.kubernetes.client.models.V1beta1Ingress;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.StartupControlConstants;
+import oracle.kubernetes.operator.helpers.DomainPlan.Kind;
+import oracle.kubernetes.operator.helpers.DomainPlan.Operation;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
+import oracle.kubernetes.operator.steps.BeforeAdminServiceStep;
+import oracle.kubernetes.operator.steps.ClusterServicesStep;
+import oracle.kubernetes.operator.steps.ExternalAdminChannelsStep;
+import oracle.kubernetes.operator.steps.ManagedServerUpIteratorStep;
+import oracle.kubernetes.operator.steps.ManagedServersUpStep;
+import oracle.kubernetes.operator.wlsconfig.NetworkAccessPoint;
+import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.weblogic.domain.v1.DomainSpec;
+
+/**
+ * Computes the {@link DomainPlan} for a domain. Each pod, service and ingress is decided by the
+ * same method that its step calls, applied to the resource recorded in the {@link
+ * DomainPresenceInfo}, which the watchers keep current. Planning makes no calls to Kubernetes.
+ *
+ * <p>The plan describes what a reconciliation would do; it does not drive the steps, which read the
+ * recorded resources again when they run.
+ */
+public class DomainPlanner {
+  private final Packet packet;
+  private final DomainPresenceInfo info;
+  private final DomainSpec spec;
+  private final DomainPlan plan;
+
+  private DomainPlanner(Packet packet) {
+    this.packet = packet;
+    this.info = packet.getSPI(DomainPresenceInfo.class);
+    this.spec = info.getDomain().getSpec();
+    this.plan = new DomainPlan(info.getScan() != null);
+  }
+
+  /**
+   * Computes the plan for a domain.
+   *
+   * @param packet a packet with the {@link DomainPresenceInfo} of the domain and, if known, the
+   *     Kubernetes version
+   * @return the plan
+   */
+  public static DomainPlan createPlan(Packet packet) {
+    return new DomainPlanner(packet).plan();
+  }
+
+  private DomainPlan plan() {
+    WlsDomainConfig scan = info.getScan();
+    boolean stopAll = isStopAll();
+    if (!stopAll) {
+      planAdminServer(scan);
+    }
+
+    if (scan != null) {
+      Collection<ServerStartupInfo> startups = ManagedServersUpStep.getServersToStart(spec, scan);
+      planServerRemovals(startups, stopAll);
+      for (WlsClusterConfig clusterConfig : scan.getClusterConfigs().values()) {
+        planCluster(clusterConfig);
+      }
+      for (ServerStartupInfo ssi : startups) {
+        planManagedServer(ssi);
+      }
+    }
+    return plan;
+  }
+
+  private boolean isStopAll() {
+    String sc = spec.getStartupControl();
+    return sc != null && StartupControlConstants.NONE_STARTUPCONTROL.equals(sc.toUpperCase());
+  }
+
+  private void planAdminServer(WlsDomainConfig scan) {
+    String asName = spec.getAsName();
+    ServerKubernetesObjects sko = info.getServers().get(asName);
+
+    Packet p = packet.clone();
+    BeforeAdminServiceStep.addToPacket(p, spec);
+    planPod(asName, new PodHelper.AdminPodStepContext(null, p), sko);
+    planServerService(asName, ServiceHelper.createServerServiceContext(p), getService(sko));
+
+    if (scan != null && scan.getServerConfig(asName) != null) {
+      Collection<NetworkAccessPoint> channels =
+          ExternalAdminChannelsStep.adminChannelsToCreate(scan, info.getDomain());
+      if (channels != null) {
+        for (NetworkAccessPoint nap : channels) {
+          Packet channelPacket = p.clone();
+          channelPacket.put(ProcessingConstants.NETWORK_ACCESS_POINT, nap);
+          planServerService(
+              asName,
+              ServiceHelper.createExternalChannelServiceContext(channelPacket),
+              sko == null ? null : sko.getChannels().get(nap.getName()));
+        }
+      }
+    }
+  }
+
+  private void planServerRemovals(Collection<ServerStartupInfo> startups, boolean stopAll) {
+    Set<String> serverNames = new HashSet<>();
+    for (ServerStartupInfo ssi : startups) {
+      serverNames.add(ssi.serverConfig.getName());
+    }
+
+    for (Map.Entry<String, ServerKubernetesObjects> entry : info.getServers().entrySet()) {
+      String serverName = entry.getKey();
+      if ((stopAll || !serverName.equals(spec.getAsName())) && !serverNames.contains(serverName)) {
+        V1Pod pod = entry.getValue().getPod().get();
+        if (pod != null) {
+          plan.addServerAction(Operation.DELETE, Kind.POD, getName(pod), serverName);
+        }
+        V1Service service = entry.getValue().getService().get();
+        if (service != null) {
+          plan.addServerAction(
+              Operation.DELETE, Kind.SERVICE, service.getMetadata().getName(), serverName);
+        }
+      }
+    }
+  }
+
+  private void planCluster(WlsClusterConfig clusterConfig) {
+    String clusterName = clusterConfig.getClusterName();
+    Packet p = ClusterServicesStep.createClusterPacket(packet, clusterConfig);
+
+    ServiceHelper.ServiceStepContext service = ServiceHelper.createClusterServiceContext(p);
+    Operation serviceOperation = service.getServiceOperation(info.getClusters().get(clusterName));
+    if (serviceOperation != null) {
+      plan.addClusterAction(
+          serviceOperation, Kind.SERVICE, service.createServiceName(), clusterName);
+    }
+
+    V1beta1Ingress ingress = IngressHelper.createClusterModel(p);
+    if (ingress != null) {
+      Operation ingressOperation =
+          IngressHelper.getIngressOperation(ingress, info.getIngresses().get(clusterName));
+      if (ingressOperation != null) {
+        plan.addClusterAction(
+            ingressOperation, Kind.INGRESS, ingress.getMetadata().getName(), clusterName);
+      }
+    }
+  }
+
+  private void planManagedServer(ServerStartupInfo ssi) {
+    String serverName = ssi.serverConfig.getName();
+    ServerKubernetesObjects sko = info.getServers().get(serverName);
+
+    Packet p = ManagedServerUpIteratorStep.createServerPacket(packet, ssi);
+    planPod(serverName, new PodHelper.ManagedPodStepContext(null, p), sko);
+    planServerService(serverName, ServiceHelper.createServerServiceContext(p), getService(sko));
+  }
+
+  private void planPod(String serverName, PodStepContext context, ServerKubernetesObjects sko) {
+    Operation operation = context.getPodOperation(sko == null ? null : sko.getPod().get());
+    if (operation != null) {
+      plan.addServerAction(operation, Kind.POD, context.getPodName(), serverName);
+    }
+  }
+
+  private void planServerService(
+      String serverName, ServiceHelper.ServiceStepContext service, V1Service current) {
+    Operation operation = service.getServiceOperation(current);
+    if (operation != null) {
+      plan.addServerAction(operation, Kind.SERVICE, service.createServiceName(), serverName);
+    }
+  }
+
+  private static V1Service getService(ServerKubernetesObjects sko) {
+    return sko == null ? null : sko.getService().get();
+  }
+
+  private static String getName(V1Pod pod) {
+    return pod.getMetadata().getName();
+  }
+}
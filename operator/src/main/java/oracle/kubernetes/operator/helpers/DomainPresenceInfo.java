@@ -42,11 +42,16 @@ public class DomainPresenceInfo {
   private final ConcurrentMap<String, V1beta1Ingress> ingresses = new ConcurrentHashMap<>();
 
   private final AtomicBoolean explicitRestartAdmin = new AtomicBoolean(false);
+  private final AtomicBoolean userUpdatePending = new AtomicBoolean(false);
   private final Set<String> explicitRestartServers = new CopyOnWriteArraySet<>();
   private final Set<String> explicitRestartClusters = new CopyOnWriteArraySet<>();
 
   private V1PersistentVolumeClaimList claims = null;
 
+  private Long appliedGeneration;
+  private String appliedSpecDigest;
+  private Long reconciledGeneration;
+
   private WlsDomainConfig domainConfig;
   private DateTime lastScanTime;
   private DateTime lastCompletionTime;
@@ -75,6 +80,74 @@ public class DomainPresenceInfo {
     this.statusUpdater = new AtomicReference<>(null);
   }
 
+  /**
+   * Records the domain's spec as the one the operator has begun to apply. The spec must be
+   * normalized.
+   *
+   * @param domain the domain
+   */
+  public synchronized void setAppliedSpec(Domain domain) {
+    appliedGeneration = getGeneration(domain);
+    appliedSpecDigest = AnnotationHelper.createHash(domain.getSpec());
+  }
+
+  /**
+   * Returns true if the domain's spec is the one the operator last began to apply. The domain's
+   * generation is compared first; only if it differs, or is not assigned, is a digest of the spec
+   * compared. Generations which are found to have the applied spec, as when the API server counts a
+   * status update as a new generation, are then recognized directly. The spec must be normalized.
+   *
+   * @param domain the domain
+   * @return true if the spec is unchanged
+   */
+  public synchronized boolean hasAppliedSpec(Domain domain) {
+    Long generation = getGeneration(domain);
+    if (generation != null && generation.equals(appliedGeneration)) {
+      return true;
+    }
+    if (appliedSpecDigest == null
+        || !appliedSpecDigest.equals(AnnotationHelper.createHash(domain.getSpec()))) {
+      return false;
+    }
+    if (reconciledGeneration != null && reconciledGeneration.equals(appliedGeneration)) {
+      reconciledGeneration = generation;
+    }
+    appliedGeneration = generation;
+    return true;
+  }
+
+  /**
+   * Returns the generation of the domain whose spec the operator last began to apply.
+   *
+   * @return the generation, or null if none has been assigned
+   */
+  public synchronized Long getAppliedGeneration() {
+    return appliedGeneration;
+  }
+
+  /**
+   * Records that a reconcile of the domain has completed successfully.
+   *
+   * @param generation the generation which the reconcile began to apply
+   */
+  public synchronized void setReconciledGeneration(Long generation) {
+    reconciledGeneration = generation;
+  }
+
+  /**
+   * Returns the generation of the domain which the operator last reconciled successfully. This is
+   * the generation to report as observed.
+   *
+   * @return the generation, or null if no reconcile of a generation has completed
+   */
+  public synchronized Long getReconciledGeneration() {
+    return reconciledGeneration;
+  }
+
+  private static Long getGeneration(Domain domain) {
+    return domain.getMetadata() == null ? null : domain.getMetadata().getGeneration();
+  }
+
   /**
    * Claims associated with the domain
    *
@@ -186,7 +259,8 @@ public class DomainPresenceInfo {
   }
 
   /**
-   * Map from cluster name to Service objects
+   * Map from cluster name to Service objects, which are partial projections that keep only the
+   * fields listed by {@link ResourceProjections}
    *
    * @return Cluster object map
    */
@@ -195,7 +269,8 @@ public class DomainPresenceInfo {
   }
 
   /**
-   * Map from cluster name to Ingress
+   * Map from cluster name to Ingress, whose ingresses are partial projections which keep only the
+   * fields listed by {@link ResourceProjections}
    *
    * @return Cluster object map
    */
@@ -212,6 +287,16 @@ public class DomainPresenceInfo {
     return explicitRestartAdmin;
   }
 
+  /**
+   * Control for if a user has changed the domain through the REST interface, so that the reconcile
+   * of the change, when its watch event arrives, is given the priority of a user action
+   *
+   * @return Control for pending user update
+   */
+  public AtomicBoolean getUserUpdatePending() {
+    return userUpdatePending;
+  }
+
   /**
    * Control list for outstanding server restarts
    *
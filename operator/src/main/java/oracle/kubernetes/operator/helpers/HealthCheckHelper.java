@@ -13,6 +13,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
@@ -68,6 +70,10 @@ public final class HealthCheckHelper {
 
   private static final String MINIMUM_K8S_VERSION = "v1.7.5";
 
+  // Service account principals whose cluster-scoped access has already been verified; a principal
+  // is added only once all its checks have passed, so that one lacking access is checked again
+  private static final Set<String> clusterAccessVerified = ConcurrentHashMap.newKeySet();
+
   static {
     // CRUD resources
     namespaceAccessChecks.put(AuthorizationProxy.Resource.PODS, crudOperations);
@@ -111,6 +117,21 @@ public final class HealthCheckHelper {
    */
   public static void performSecurityChecks(
       KubernetesVersion version, String operatorNamespace, String ns) {
+    performSecurityChecks(version, operatorNamespace, ns, null);
+  }
+
+  /**
+   * Verify Access. When individual access reviews are needed, the cluster-scoped checks are made
+   * only for the first namespace checked on behalf of a principal.
+   *
+   * @param version Kubernetes version
+   * @param operatorNamespace operator namespace
+   * @param ns target namespace
+   * @param principal the service account principal of the operator, or null to always make the
+   *     cluster-scoped checks
+   */
+  public static void performSecurityChecks(
+      KubernetesVersion version, String operatorNamespace, String ns, String principal) {
 
     // Validate namespace
     if (DEFAULT_NAMESPACE.equals(operatorNamespace)) {
@@ -156,14 +177,24 @@ public final class HealthCheckHelper {
       }
     }
 
+    if (principal != null && clusterAccessVerified.contains(principal)) {
+      return;
+    }
+
+    boolean verified = true;
     for (AuthorizationProxy.Resource r : clusterAccessChecks.keySet()) {
       for (AuthorizationProxy.Operation op : clusterAccessChecks.get(r)) {
 
         if (!ap.check(op, r, null, AuthorizationProxy.Scope.cluster, null)) {
           LOGGER.warning(MessageKeys.VERIFY_ACCESS_DENIED, op, r.getResource());
+          verified = false;
         }
       }
     }
+
+    if (principal != null && verified) {
+      clusterAccessVerified.add(principal);
+    }
   }
 
   private static void check(
@@ -212,6 +243,15 @@ public final class HealthCheckHelper {
       return this.major > 1 || (this.major == 1 && this.minor >= 8);
     }
 
+    /**
+     * Whether custom resource definitions may declare status and scale subresources
+     *
+     * @return true if the API server is 1.10 or later
+     */
+    public boolean isCRDSubresourcesSupported() {
+      return this.major > 1 || (this.major == 1 && this.minor >= 10);
+    }
+
     @Override
     public boolean equals(Object o) {
       return this == o || o instanceof KubernetesVersion && equals((KubernetesVersion) o);
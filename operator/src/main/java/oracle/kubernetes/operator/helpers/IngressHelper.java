@@ -13,6 +13,7 @@ import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.RESOURCE_VERSION_LABEL;
 import static oracle.kubernetes.operator.VersionConstants.DOMAIN_V1;
 import static oracle.kubernetes.operator.Workarounds.INTORSTRING_BAD_EQUALS;
+import static oracle.kubernetes.operator.logging.MessageKeys.INGRESS_PATCHED;
 
 import io.kubernetes.client.custom.IntOrString;
 import io.kubernetes.client.models.V1ObjectMeta;
@@ -27,6 +28,8 @@ import java.util.Optional;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
@@ -35,6 +38,8 @@ import org.yaml.snakeyaml.Yaml;
 
 /** Helper class to add/remove server from Ingress. */
 public class IngressHelper {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
   private IngressHelper() {}
 
   /**
@@ -47,6 +52,69 @@ public class IngressHelper {
     return new CreateClusterStep(next);
   }
 
+  /**
+   * Creates the desired ingress for the cluster described by a packet prepared for {@link
+   * #createClusterStep(Step)}.
+   *
+   * @param packet the packet
+   * @return the ingress model, or null if the packet does not describe a cluster with a port
+   */
+  static V1beta1Ingress createClusterModel(Packet packet) {
+    CreateClusterStep step = new CreateClusterStep(null);
+    step.init(packet);
+    return step.hasClusterData() ? step.defineIngress() : null;
+  }
+
+  /**
+   * Returns true if an existing ingress matches its desired model. Ingresses created by this
+   * operator record a hash of their model; older ones, created before the hash was introduced, are
+   * checked by comparing their specs.
+   *
+   * @param current the existing ingress, or its projection
+   * @param model the desired ingress
+   * @return true if the ingress need not be changed
+   */
+  static boolean isCurrentIngressValid(V1beta1Ingress current, V1beta1Ingress model) {
+    String currentHash = AnnotationHelper.getHash(current.getMetadata());
+    if (currentHash != null) {
+      return currentHash.equals(AnnotationHelper.getHash(model.getMetadata()));
+    }
+
+    return VersionHelper.matchesResourceVersion(current.getMetadata(), DOMAIN_V1)
+        && equalObjects(current.getSpec(), model.getSpec());
+  }
+
+  /**
+   * Returns the change that the cluster ingress step makes to an ingress, if any. The step and the
+   * {@link DomainPlanner} both decide through this method. An ingress has no immutable fields that
+   * the operator sets, so it is never replaced.
+   *
+   * @param model the desired ingress
+   * @param current the existing ingress, or null if there is none
+   * @return the change to make, or null if the current ingress may be kept as it is
+   */
+  static DomainPlan.Operation getIngressOperation(V1beta1Ingress model, V1beta1Ingress current) {
+    if (current == null) {
+      return DomainPlan.Operation.CREATE;
+    } else if (isCurrentIngressValid(current, model)) {
+      return null;
+    } else {
+      return DomainPlan.Operation.PATCH;
+    }
+  }
+
+  private static boolean equalObjects(V1beta1IngressSpec object1, V1beta1IngressSpec object2) {
+    return INTORSTRING_BAD_EQUALS ? yamlEquals(object1, object2) : Objects.equals(object1, object2);
+  }
+
+  private static boolean yamlEquals(Object actual, Object expected) {
+    return Objects.equals(objectToYaml(actual), objectToYaml(expected));
+  }
+
+  private static String objectToYaml(Object object) {
+    return new Yaml().dump(object);
+  }
+
   private static class CreateClusterStep extends Step {
 
     private DomainPresenceInfo info;
@@ -58,14 +126,18 @@ public class IngressHelper {
     }
 
     private void addToDomainInfo(V1beta1Ingress ingress) {
-      info.getIngresses().put(clusterName, ingress);
+      info.getIngresses().put(clusterName, ResourceProjections.project(ingress));
     }
 
-    @Override
-    public NextAction apply(Packet packet) {
+    private void init(Packet packet) {
       info = packet.getSPI(DomainPresenceInfo.class);
       clusterName = (String) packet.get(ProcessingConstants.CLUSTER_NAME);
       port = (Integer) packet.get(ProcessingConstants.PORT);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      init(packet);
 
       if (hasClusterData()) {
         return doNext(verifyIngressStep(getNext()), packet);
@@ -102,12 +174,13 @@ public class IngressHelper {
       @Override
       public NextAction onSuccess(Packet packet, CallResponse<V1beta1Ingress> callResponse) {
         V1beta1Ingress result = callResponse.getResult();
-        if (result == null) {
+        DomainPlan.Operation operation = getIngressOperation(defineIngress(), result);
+        if (operation == null) {
+          return doNext(packet);
+        } else if (operation == DomainPlan.Operation.CREATE) {
           return doNext(createIngressStep(next), packet);
-        } else if (!isCompatible(result)) {
-          return doNext(replaceIngressStep(next), packet);
         } else {
-          return doNext(packet);
+          return doNext(patchIngressStep(result, next), packet);
         }
       }
 
@@ -116,46 +189,38 @@ public class IngressHelper {
             .createIngressAsync(getNamespace(), defineIngress(), new UpdateStep(next));
       }
 
-      Step replaceIngressStep(Step next) {
+      // An ingress has no immutable fields that the operator sets, so it is always changed in
+      // place.
+      Step patchIngressStep(V1beta1Ingress current, Step next) {
+        V1beta1Ingress model = defineIngress();
+        JsonPatch patch =
+            new JsonPatch()
+                .addMetadataChanges(current.getMetadata(), model.getMetadata())
+                .add("/spec", model.getSpec());
+        LOGGER.info(INGRESS_PATCHED, getUid(), getName());
         return new CallBuilder()
-            .replaceIngressAsync(getName(), getNamespace(), defineIngress(), new UpdateStep(next));
-      }
-
-      private boolean isCompatible(V1beta1Ingress result) {
-        return VersionHelper.matchesResourceVersion(result.getMetadata(), DOMAIN_V1)
-            && equalObjects(result.getSpec(), createIngressSpec());
-      }
-
-      private boolean equalObjects(V1beta1IngressSpec object1, V1beta1IngressSpec object2) {
-        return INTORSTRING_BAD_EQUALS
-            ? yamlEquals(object1, object2)
-            : Objects.equals(object1, object2);
-      }
-
-      private boolean yamlEquals(Object actual, Object expected) {
-        return Objects.equals(objectToYaml(actual), objectToYaml(expected));
-      }
-
-      private String objectToYaml(Object object) {
-        return new Yaml().dump(object);
+            .patchIngressAsync(getName(), getNamespace(), patch, new UpdateStep(next));
       }
     }
 
     V1beta1Ingress defineIngress() {
-      return new V1beta1Ingress()
-          .apiVersion(KubernetesConstants.EXTENSIONS_API_VERSION)
-          .kind(KubernetesConstants.KIND_INGRESS)
-          .metadata(
-              new V1ObjectMeta()
-                  .name(getName())
-                  .namespace(getNamespace())
-                  .putAnnotationsItem(CLASS_INGRESS, CLASS_INGRESS_VALUE)
-                  .putLabelsItem(RESOURCE_VERSION_LABEL, DOMAIN_V1)
-                  .putLabelsItem(DOMAINUID_LABEL, getUid())
-                  .putLabelsItem(DOMAINNAME_LABEL, getDomainName())
-                  .putLabelsItem(CLUSTERNAME_LABEL, clusterName)
-                  .putLabelsItem(CREATEDBYOPERATOR_LABEL, "true"))
-          .spec(createIngressSpec());
+      V1beta1Ingress ingress =
+          new V1beta1Ingress()
+              .apiVersion(KubernetesConstants.EXTENSIONS_API_VERSION)
+              .kind(KubernetesConstants.KIND_INGRESS)
+              .metadata(
+                  new V1ObjectMeta()
+                      .name(getName())
+                      .namespace(getNamespace())
+                      .putAnnotationsItem(CLASS_INGRESS, CLASS_INGRESS_VALUE)
+                      .putLabelsItem(RESOURCE_VERSION_LABEL, DOMAIN_V1)
+                      .putLabelsItem(DOMAINUID_LABEL, getUid())
+                      .putLabelsItem(DOMAINNAME_LABEL, getDomainName())
+                      .putLabelsItem(CLUSTERNAME_LABEL, clusterName)
+                      .putLabelsItem(CREATEDBYOPERATOR_LABEL, "true"))
+              .spec(createIngressSpec());
+      AnnotationHelper.addHash(ingress.getMetadata(), ingress);
+      return ingress;
     }
 
     private String getUid() {
@@ -0,0 +1,100 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Builds a JSON patch (RFC 6902), the patch format which the Kubernetes client sends by default, to
+ * change an existing object in place.
+ */
+public class JsonPatch {
+  private final List<Map<String, Object>> operations = new ArrayList<>();
+
+  /**
+   * Adds an operation which sets the value at a path, adding the member if it is not present.
+   *
+   * @param path the path, with each segment escaped as by {@link #escape(String)}
+   * @param value the new value
+   * @return this patch
+   */
+  public JsonPatch add(String path, Object value) {
+    Map<String, Object> operation = new LinkedHashMap<>();
+    operation.put("op", "add");
+    operation.put("path", path);
+    operation.put("value", value);
+    operations.add(operation);
+    return this;
+  }
+
+  /**
+   * Adds operations which set each label and annotation of the desired metadata that differs from
+   * the current one. Labels and annotations added by others are left in place.
+   *
+   * @param current the metadata of the object in the cluster
+   * @param desired the metadata of the desired object
+   * @return this patch
+   */
+  public JsonPatch addMetadataChanges(V1ObjectMeta current, V1ObjectMeta desired) {
+    addMapChanges("/metadata/labels", current.getLabels(), desired.getLabels());
+    addMapChanges("/metadata/annotations", current.getAnnotations(), desired.getAnnotations());
+    return this;
+  }
+
+  private void addMapChanges(
+      String path, Map<String, String> current, Map<String, String> desired) {
+    if (desired == null || desired.isEmpty()) {
+      return;
+    }
+    if (current == null) {
+      add(path, desired);
+      return;
+    }
+    for (Map.Entry<String, String> entry : desired.entrySet()) {
+      if (!Objects.equals(entry.getValue(), current.get(entry.getKey()))) {
+        add(path + "/" + escape(entry.getKey()), entry.getValue());
+      }
+    }
+  }
+
+  /**
+   * Returns true if this patch would change nothing.
+   *
+   * @return true if there are no operations
+   */
+  public boolean isEmpty() {
+    return operations.isEmpty();
+  }
+
+  /**
+   * Returns the operations in the form sent as the body of a patch request.
+   *
+   * @return the list of operations
+   */
+  public List<Map<String, Object>> getOperations() {
+    return Collections.unmodifiableList(operations);
+  }
+
+  /**
+   * Escapes a member name, such as a label key, for use as a segment of a JSON pointer.
+   *
+   * @param name the member name
+   * @return the escaped name
+   */
+  static String escape(String name) {
+    return name.replace("~", "~0").replace("/", "~1");
+  }
+
+  @Override
+  public String toString() {
+    return operations.toString();
+  }
+}
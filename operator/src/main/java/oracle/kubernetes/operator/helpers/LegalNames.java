@@ -13,6 +13,7 @@ public class LegalNames {
   private static final String SERVER_PATTERN = "%s-%s";
   private static final String CLUSTER_SERVICE_PATTERN = "%s-cluster-%s";
   private static final String NAP_PATTERN = "%s-%s-extchannel-%s";
+  private static final String CHECKPOINT_PATTERN = "%s-scan-checkpoint";
 
   static String toIngressName(String domainUID, String clusterName) {
     return toDNS1123LegalName(String.format(INGRESS_PATTERN, domainUID, clusterName));
@@ -34,6 +35,10 @@ public class LegalNames {
     return toDNS1123LegalName(String.format(CLUSTER_SERVICE_PATTERN, domainUID, clusterName));
   }
 
+  static String toCheckpointConfigMapName(String domainUID) {
+    return toDNS1123LegalName(String.format(CHECKPOINT_PATTERN, domainUID));
+  }
+
   static String toNAPName(String domainUID, String serverName, NetworkAccessPoint nap) {
     return toDNS1123LegalName(String.format(NAP_PATTERN, domainUID, serverName, nap.getName()));
   }
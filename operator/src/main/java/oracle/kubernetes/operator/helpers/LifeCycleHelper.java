@@ -4,8 +4,11 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import io.kubernetes.client.models.V1ObjectMeta;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.VersionConstants;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -22,6 +25,9 @@ public class LifeCycleHelper {
 
   private static final LifeCycleHelper INSTANCE = new LifeCycleHelper();
 
+  // domainUID -> builder whose results are remembered for one generation of the domain
+  private final Map<String, MemoizedDomainConfigBuilder> builders = new ConcurrentHashMap<>();
+
   protected LifeCycleHelper() {}
 
   /**
@@ -42,10 +48,23 @@ public class LifeCycleHelper {
   public void updateDomainSpec(Domain domain, ClusterConfig clusterConfig) {
     LOGGER.entering(domain, clusterConfig);
     getDomainConfigBuilder(domain).updateDomainSpec(clusterConfig);
+    forgetDomain(domain.getSpec().getDomainUID());
     LOGGER.finer("Updated domainSpec: " + domain.getSpec());
     LOGGER.exiting();
   }
 
+  /**
+   * Discards the effective configurations remembered for a domain. Call this when the domain is
+   * deleted; a new generation of the domain replaces them without it.
+   *
+   * @param domainUID the UID of the domain
+   */
+  public void forgetDomain(String domainUID) {
+    if (domainUID != null) {
+      builders.remove(domainUID);
+    }
+  }
+
   /**
    * Get the effective configurations of the clusters and servers in this domain.
    *
@@ -60,7 +79,7 @@ public class LifeCycleHelper {
       Domain domain, Set<String> servers, Map<String, Set<String>> clusters) {
     LOGGER.entering(domain, servers, clusters);
     DomainConfig result = new DomainConfig();
-    DomainConfigBuilder bldr = getDomainConfigBuilder(domain);
+    DomainConfigBuilder bldr = getMemoizedDomainConfigBuilder(domain);
     getEffectiveNonClusteredServerConfigs(bldr, result, servers);
     getEffectiveClusterConfigs(bldr, result, clusters);
     LOGGER.exiting(result);
@@ -78,7 +97,7 @@ public class LifeCycleHelper {
       Domain domain, String serverName) {
     LOGGER.entering(domain, serverName);
     NonClusteredServerConfig result =
-        getDomainConfigBuilder(domain).getEffectiveNonClusteredServerConfig(serverName);
+        getMemoizedDomainConfigBuilder(domain).getEffectiveNonClusteredServerConfig(serverName);
     LOGGER.exiting(result);
     return result;
   }
@@ -95,7 +114,8 @@ public class LifeCycleHelper {
       Domain domain, String clusterName, String serverName) {
     LOGGER.entering(domain, clusterName, serverName);
     ClusteredServerConfig result =
-        getDomainConfigBuilder(domain).getEffectiveClusteredServerConfig(clusterName, serverName);
+        getMemoizedDomainConfigBuilder(domain)
+            .getEffectiveClusteredServerConfig(clusterName, serverName);
     LOGGER.exiting(result);
     return result;
   }
@@ -109,7 +129,8 @@ public class LifeCycleHelper {
    */
   public ClusterConfig getEffectiveClusterConfig(Domain domain, String clusterName) {
     LOGGER.entering(domain, clusterName);
-    ClusterConfig result = getDomainConfigBuilder(domain).getEffectiveClusterConfig(clusterName);
+    ClusterConfig result =
+        getMemoizedDomainConfigBuilder(domain).getEffectiveClusterConfig(clusterName);
     LOGGER.exiting(result);
     return result;
   }
@@ -161,6 +182,42 @@ public class LifeCycleHelper {
     clusterConfig.setServer(csc.getServerName(), csc);
   }
 
+  /**
+   * Returns a builder that remembers the configurations it computes for one generation of the
+   * domain. The API server increments the generation of a domain resource whenever its spec
+   * changes, so the domain's UID, its generation and its resource version label identify the spec.
+   * A domain without a generation is not remembered.
+   *
+   * @param domain the domain that the customer configured
+   * @return a builder for the domain's current spec
+   */
+  protected DomainConfigBuilder getMemoizedDomainConfigBuilder(Domain domain) {
+    String domainUID = domain.getSpec() == null ? null : domain.getSpec().getDomainUID();
+    String stamp = getGenerationStamp(domain.getMetadata());
+    if (domainUID == null || stamp == null) {
+      return getDomainConfigBuilder(domain);
+    }
+
+    MemoizedDomainConfigBuilder bldr = builders.get(domainUID);
+    if (bldr == null || !bldr.stamp.equals(stamp)) {
+      bldr = new MemoizedDomainConfigBuilder(stamp, getDomainConfigBuilder(domain));
+      builders.put(domainUID, bldr);
+    }
+    return bldr;
+  }
+
+  private static String getGenerationStamp(V1ObjectMeta meta) {
+    if (meta == null || meta.getGeneration() == null || meta.getGeneration() == 0) {
+      return null;
+    }
+
+    String version =
+        meta.getLabels() == null
+            ? null
+            : meta.getLabels().get(LabelConstants.RESOURCE_VERSION_LABEL);
+    return meta.getUid() + ":" + meta.getGeneration() + ":" + version;
+  }
+
   protected DomainConfigBuilder getDomainConfigBuilder(Domain domain) {
     if (VersionHelper.matchesResourceVersion(domain.getMetadata(), VersionConstants.DOMAIN_V1)) {
       return new DomainConfigBuilderV1(domain.getSpec());
@@ -180,4 +237,82 @@ public class LifeCycleHelper {
             + ". "
             + domain);
   }
+
+  /**
+   * Remembers the configurations computed by another builder. Callers may change what they are
+   * given, for example by adding servers to a cluster, so each request returns a copy.
+   */
+  private static class MemoizedDomainConfigBuilder extends DomainConfigBuilder {
+    private final String stamp;
+    private final DomainConfigBuilder delegate;
+    private final Map<String, NonClusteredServerConfig> nonClusteredServers =
+        new ConcurrentHashMap<>();
+    private final Map<String, ClusteredServerConfig> clusteredServers = new ConcurrentHashMap<>();
+    private final Map<String, ClusterConfig> clusters = new ConcurrentHashMap<>();
+
+    MemoizedDomainConfigBuilder(String stamp, DomainConfigBuilder delegate) {
+      this.stamp = stamp;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void updateDomainSpec(ClusterConfig clusterConfig) {
+      delegate.updateDomainSpec(clusterConfig);
+      nonClusteredServers.clear();
+      clusteredServers.clear();
+      clusters.clear();
+    }
+
+    @Override
+    public NonClusteredServerConfig getEffectiveNonClusteredServerConfig(String serverName) {
+      NonClusteredServerConfig ncsc =
+          nonClusteredServers.computeIfAbsent(
+              serverName, delegate::getEffectiveNonClusteredServerConfig);
+      NonClusteredServerConfig copy =
+          new NonClusteredServerConfig()
+              .withNonClusteredServerStartPolicy(ncsc.getNonClusteredServerStartPolicy());
+      return copyServerConfig(ncsc, copy);
+    }
+
+    @Override
+    public ClusteredServerConfig getEffectiveClusteredServerConfig(
+        String clusterName, String serverName) {
+      ClusteredServerConfig csc =
+          clusteredServers.computeIfAbsent(
+              clusterName + "/" + serverName,
+              k -> delegate.getEffectiveClusteredServerConfig(clusterName, serverName));
+      ClusteredServerConfig copy =
+          new ClusteredServerConfig()
+              .withClusterName(csc.getClusterName())
+              .withClusteredServerStartPolicy(csc.getClusteredServerStartPolicy());
+      return copyServerConfig(csc, copy);
+    }
+
+    @Override
+    public ClusterConfig getEffectiveClusterConfig(String clusterName) {
+      ClusterConfig cc = clusters.computeIfAbsent(clusterName, delegate::getEffectiveClusterConfig);
+      return new ClusterConfig()
+          .withClusterName(cc.getClusterName())
+          .withReplicas(cc.getReplicas())
+          .withMinReplicas(cc.getMinReplicas())
+          .withMaxReplicas(cc.getMaxReplicas());
+    }
+
+    private static <T extends ServerConfig> T copyServerConfig(ServerConfig from, T to) {
+      to.setServerName(from.getServerName());
+      to.setStartedServerState(from.getStartedServerState());
+      to.setRestartedLabel(from.getRestartedLabel());
+      to.setNodePort(from.getNodePort());
+      to.setEnv(from.getEnv() == null ? null : new ArrayList<>(from.getEnv()));
+      to.setImage(from.getImage());
+      to.setImagePullPolicy(from.getImagePullPolicy());
+      to.setImagePullSecrets(
+          from.getImagePullSecrets() == null ? null : new ArrayList<>(from.getImagePullSecrets()));
+      to.setShutdownPolicy(from.getShutdownPolicy());
+      to.setGracefulShutdownTimeout(from.getGracefulShutdownTimeout());
+      to.setGracefulShutdownIgnoreSessions(from.getGracefulShutdownIgnoreSessions());
+      to.setGracefulShutdownWaitForSessions(from.getGracefulShutdownWaitForSessions());
+      return to;
+    }
+  }
 }
@@ -0,0 +1,252 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1PersistentVolume;
+import io.kubernetes.client.models.V1PersistentVolumeClaim;
+import io.kubernetes.client.models.V1PersistentVolumeClaimList;
+import io.kubernetes.client.util.Watch;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import oracle.kubernetes.operator.LabelConstants;
+
+/**
+ * The persistent volumes and claims labeled with a domain UID, indexed by that UID and kept current
+ * by watches. Until the volumes, or the claims in a namespace, are being watched, the cache reports
+ * them as unknown, and callers must list them instead.
+ */
+public class PersistentVolumeCache {
+  private static PersistentVolumeCache INSTANCE = new PersistentVolumeCache();
+
+  /** A map of domain UID to claims, each keyed by namespace and name. */
+  private final Map<String, Map<String, V1PersistentVolumeClaim>> claims =
+      new ConcurrentHashMap<>();
+  /** A map of domain UID to volumes, each keyed by name. */
+  private final Map<String, Map<String, V1PersistentVolume>> volumes = new ConcurrentHashMap<>();
+
+  private final Set<String> watchedNamespaces = ConcurrentHashMap.newKeySet();
+  private volatile boolean volumesWatched;
+
+  public static PersistentVolumeCache getInstance() {
+    return INSTANCE;
+  }
+
+  PersistentVolumeCache() {}
+
+  /**
+   * Records claims found by listing them.
+   *
+   * @param listed the claims
+   */
+  public void addClaims(Collection<V1PersistentVolumeClaim> listed) {
+    listed.forEach(this::putClaim);
+  }
+
+  /**
+   * Forgets the claims in a namespace which a complete list of that namespace did not find, such as
+   * those deleted while its watch was broken.
+   *
+   * @param ns the namespace
+   * @param listedNames the names of all the claims listed in the namespace
+   */
+  public void evictUnlistedClaims(String ns, Set<String> listedNames) {
+    for (Map<String, V1PersistentVolumeClaim> domainClaims : claims.values()) {
+      domainClaims
+          .values()
+          .removeIf(
+              claim ->
+                  ns.equals(claim.getMetadata().getNamespace())
+                      && !listedNames.contains(claim.getMetadata().getName()));
+    }
+  }
+
+  /**
+   * Marks the claims in a namespace as watched, after which the cache answers for that namespace.
+   *
+   * @param ns the namespace
+   */
+  public void startWatchingClaims(String ns) {
+    watchedNamespaces.add(ns);
+  }
+
+  /**
+   * Forgets the claims in a namespace which is no longer watched.
+   *
+   * @param ns the namespace
+   */
+  public void stopWatchingClaims(String ns) {
+    watchedNamespaces.remove(ns);
+    removeClaims(ns);
+  }
+
+  /**
+   * Records volumes found by listing them.
+   *
+   * @param listed the volumes
+   */
+  public void addVolumes(Collection<V1PersistentVolume> listed) {
+    listed.forEach(this::putVolume);
+  }
+
+  /**
+   * Forgets the volumes which a complete list did not find, such as those deleted while the volume
+   * watch was broken.
+   *
+   * @param listedNames the names of all the volumes listed
+   */
+  public void evictUnlistedVolumes(Set<String> listedNames) {
+    for (Map<String, V1PersistentVolume> domainVolumes : volumes.values()) {
+      domainVolumes.keySet().removeIf(name -> !listedNames.contains(name));
+    }
+  }
+
+  /** Marks the volumes as watched, after which the cache answers for volumes. */
+  public void startWatchingVolumes() {
+    volumesWatched = true;
+  }
+
+  /**
+   * Applies a change reported by a claim watch.
+   *
+   * @param item the watch response
+   */
+  public void onClaimWatchEvent(Watch.Response<V1PersistentVolumeClaim> item) {
+    V1PersistentVolumeClaim claim = item.object;
+    if (claim != null) {
+      switch (item.type) {
+        case "ADDED":
+          putClaim(claim);
+          break;
+        case "MODIFIED":
+          // the domain UID label may have changed
+          removeClaim(claim);
+          putClaim(claim);
+          break;
+        case "DELETED":
+          removeClaim(claim);
+          break;
+
+        case "ERROR":
+        default:
+      }
+    }
+  }
+
+  /**
+   * Applies a change reported by a volume watch.
+   *
+   * @param item the watch response
+   */
+  public void onVolumeWatchEvent(Watch.Response<V1PersistentVolume> item) {
+    V1PersistentVolume volume = item.object;
+    if (volume != null) {
+      switch (item.type) {
+        case "ADDED":
+          putVolume(volume);
+          break;
+        case "MODIFIED":
+          removeVolume(volume);
+          putVolume(volume);
+          break;
+        case "DELETED":
+          removeVolume(volume);
+          break;
+
+        case "ERROR":
+        default:
+      }
+    }
+  }
+
+  /**
+   * Returns the claims for a domain in a namespace, in the form returned by a list call.
+   *
+   * @param ns the namespace
+   * @param domainUID the domain UID
+   * @return the claims, or null if the namespace is not being watched
+   */
+  public V1PersistentVolumeClaimList getClaims(String ns, String domainUID) {
+    if (!watchedNamespaces.contains(ns)) {
+      return null;
+    }
+
+    List<V1PersistentVolumeClaim> items = new ArrayList<>();
+    for (V1PersistentVolumeClaim claim :
+        claims.getOrDefault(domainUID, Collections.emptyMap()).values()) {
+      if (ns.equals(claim.getMetadata().getNamespace())) {
+        items.add(claim);
+      }
+    }
+    return new V1PersistentVolumeClaimList().items(items);
+  }
+
+  /**
+   * Returns the volumes for a domain.
+   *
+   * @param domainUID the domain UID
+   * @return the volumes, or null if volumes are not being watched
+   */
+  public List<V1PersistentVolume> getVolumes(String domainUID) {
+    if (!volumesWatched) {
+      return null;
+    }
+    return new ArrayList<>(volumes.getOrDefault(domainUID, Collections.emptyMap()).values());
+  }
+
+  private void putClaim(V1PersistentVolumeClaim claim) {
+    String domainUID = getDomainUID(claim.getMetadata());
+    if (domainUID != null) {
+      getClaimsFor(domainUID).put(getClaimKey(claim.getMetadata()), claim);
+    }
+  }
+
+  private void putVolume(V1PersistentVolume volume) {
+    String domainUID = getDomainUID(volume.getMetadata());
+    if (domainUID != null) {
+      getVolumesFor(domainUID).put(volume.getMetadata().getName(), volume);
+    }
+  }
+
+  private void removeClaim(V1PersistentVolumeClaim claim) {
+    String key = getClaimKey(claim.getMetadata());
+    claims.values().forEach(domainClaims -> domainClaims.remove(key));
+  }
+
+  private void removeVolume(V1PersistentVolume volume) {
+    String name = volume.getMetadata().getName();
+    volumes.values().forEach(domainVolumes -> domainVolumes.remove(name));
+  }
+
+  private void removeClaims(String ns) {
+    for (Map<String, V1PersistentVolumeClaim> domainClaims : claims.values()) {
+      domainClaims.values().removeIf(claim -> ns.equals(claim.getMetadata().getNamespace()));
+    }
+  }
+
+  private Map<String, V1PersistentVolumeClaim> getClaimsFor(String domainUID) {
+    return claims.computeIfAbsent(domainUID, k -> new ConcurrentHashMap<>());
+  }
+
+  private Map<String, V1PersistentVolume> getVolumesFor(String domainUID) {
+    return volumes.computeIfAbsent(domainUID, k -> new ConcurrentHashMap<>());
+  }
+
+  private static String getClaimKey(V1ObjectMeta meta) {
+    return meta.getNamespace() + "/" + meta.getName();
+  }
+
+  private static String getDomainUID(V1ObjectMeta meta) {
+    return Optional.ofNullable(meta.getLabels())
+        .map(labels -> labels.get(LabelConstants.DOMAINUID_LABEL))
+        .orElse(null);
+  }
+}
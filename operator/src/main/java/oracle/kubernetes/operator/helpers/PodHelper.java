@@ -197,7 +197,7 @@ public class PodHelper {
     }
 
     @Override
-    // let the pod rolling step update the pod
+    // let the pod rolling step update the pod, and report its progress
     Step replaceCurrentPod(Step next) {
       synchronized (packet) {
         @SuppressWarnings("unchecked")
@@ -205,13 +205,7 @@ public class PodHelper {
             (Map<String, Step.StepAndPacket>) packet.get(ProcessingConstants.SERVERS_TO_ROLL);
         if (rolling != null) {
           rolling.put(
-              getServerName(),
-              new Step.StepAndPacket(
-                  DomainStatusUpdater.createProgressingStep(
-                      DomainStatusUpdater.MANAGED_SERVERS_STARTING_PROGRESS_REASON,
-                      false,
-                      createCyclePodStep(next)),
-                  packet.clone()));
+              getServerName(), new Step.StepAndPacket(createCyclePodStep(next), packet.clone()));
         }
       }
       return null;
@@ -265,6 +259,13 @@ public class PodHelper {
       return cluster == null ? null : cluster.getClusterName();
     }
 
+    @Override
+    Map<String, Object> createModelInputs(TuningParameters tuningParameters) {
+      Map<String, Object> inputs = super.createModelInputs(tuningParameters);
+      inputs.put("clusterName", getClusterName());
+      return inputs;
+    }
+
     @Override
     protected List<String> getContainerCommand() {
       List<String> command = new ArrayList<>(super.getContainerCommand());
@@ -19,6 +19,7 @@ import io.kubernetes.client.models.V1LocalObjectReference;
 import io.kubernetes.client.models.V1ObjectMeta;
 import io.kubernetes.client.models.V1PersistentVolume;
 import io.kubernetes.client.models.V1PersistentVolumeClaim;
+import io.kubernetes.client.models.V1PersistentVolumeClaimList;
 import io.kubernetes.client.models.V1PersistentVolumeClaimVolumeSource;
 import io.kubernetes.client.models.V1PersistentVolumeList;
 import io.kubernetes.client.models.V1Pod;
@@ -32,8 +33,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import oracle.kubernetes.operator.KubernetesConstants;
@@ -74,9 +77,12 @@ public abstract class PodStepContext {
 
   private static final String READ_WRITE_MANY_ACCESS = "ReadWriteMany";
 
+  private static final String MODEL_VERSION = "1";
+
   private final DomainPresenceInfo info;
   private final Step conflictStep;
   private V1Pod podModel;
+  private String desiredHash;
   private Map<String, String> substitutionVariables = new HashMap<>();
 
   PodStepContext(Step conflictStep, Packet packet) {
@@ -86,7 +92,6 @@ public abstract class PodStepContext {
 
   void init() {
     createSubstitutionMap();
-    podModel = createPodModel();
   }
 
   private void createSubstitutionMap() {
@@ -97,10 +102,64 @@ public abstract class PodStepContext {
     substitutionVariables.put("ADMIN_PORT", getAsPort().toString());
   }
 
-  private V1Pod getPodModel() {
+  // The model is built on first use: a pod whose recorded hash matches the desired one only needs
+  // the hash, and an explicit restart never consults it before the replacement is created.
+  V1Pod getPodModel() {
+    if (podModel == null) {
+      podModel = createPodModel();
+    }
     return podModel;
   }
 
+  // The hash recorded on a pod is computed from the inputs to its model, rather than from the
+  // model itself, so that a pod can be validated without building the model.
+  String getDesiredHash() {
+    if (desiredHash == null) {
+      desiredHash = AnnotationHelper.createHash(createModelInputs(TuningParameters.getInstance()));
+    }
+    return desiredHash;
+  }
+
+  /**
+   * Returns the values from which the pod model is built. Any value that changes the model must be
+   * included, and the model version must change whenever the way the model is built from these
+   * values does.
+   *
+   * @param tuningParameters the tuning parameters of the operator
+   * @return the inputs to the pod model
+   */
+  Map<String, Object> createModelInputs(TuningParameters tuningParameters) {
+    Map<String, Object> inputs = new LinkedHashMap<>();
+    inputs.put("modelVersion", MODEL_VERSION);
+    inputs.put("podName", getPodName());
+    inputs.put("namespace", getNamespace());
+    inputs.put("domainUID", getDomainUID());
+    inputs.put("domainName", getDomainName());
+    inputs.put("serverName", getServerName());
+    inputs.put("port", getPort());
+    inputs.put("image", getImageName());
+    inputs.put("imagePullPolicy", getImagePullPolicy());
+    inputs.put("imagePullSecret", info.getDomain().getSpec().getImagePullSecret());
+    inputs.put("adminSecret", getAdminSecretName());
+    inputs.put("claimName", getClaims().isEmpty() ? null : getClaimName());
+    inputs.put("command", getContainerCommand());
+    inputs.put("env", getEnvironmentVariables(tuningParameters));
+    addProbeInputs(inputs, tuningParameters.getPodTuning());
+    return inputs;
+  }
+
+  // Only the tuning which shapes the pod is an input; settings such as the ready wait timeout are
+  // used by the operator alone, and must not cause pods to be patched when they change.
+  private static void addProbeInputs(
+      Map<String, Object> inputs, TuningParameters.PodTuning tuning) {
+    inputs.put("readinessProbeInitialDelaySeconds", tuning.readinessProbeInitialDelaySeconds);
+    inputs.put("readinessProbeTimeoutSeconds", tuning.readinessProbeTimeoutSeconds);
+    inputs.put("readinessProbePeriodSeconds", tuning.readinessProbePeriodSeconds);
+    inputs.put("livenessProbeInitialDelaySeconds", tuning.livenessProbeInitialDelaySeconds);
+    inputs.put("livenessProbeTimeoutSeconds", tuning.livenessProbeTimeoutSeconds);
+    inputs.put("livenessProbePeriodSeconds", tuning.livenessProbePeriodSeconds);
+  }
+
   private Step getConflictStep() {
     return new ConflictStep();
   }
@@ -167,8 +226,11 @@ public abstract class PodStepContext {
     return info.getDomain().getSpec().getAdminSecret().getName();
   }
 
+  // Claims are listed before the admin pod is verified, but a plan may be computed before then.
   private List<V1PersistentVolumeClaim> getClaims() {
-    return info.getClaims().getItems();
+    return Optional.ofNullable(info.getClaims())
+        .map(V1PersistentVolumeClaimList::getItems)
+        .orElse(Collections.emptyList());
   }
 
   private String getClaimName() {
@@ -192,7 +254,7 @@ public abstract class PodStepContext {
   }
 
   private void setRecordedPod(V1Pod pod) {
-    getSko().getPod().set(pod);
+    getSko().getPod().set(ResourceProjections.project(pod));
   }
 
   /**
@@ -311,15 +373,57 @@ public abstract class PodStepContext {
     }
   }
 
+  /**
+   * Returns the change that this context's pod step makes to the pod, if any. The step and the
+   * {@link DomainPlanner} both decide through this method.
+   *
+   * @param currentPod the recorded pod, or null if there is none
+   * @return the change to make, or null if the current pod may be kept as it is
+   */
+  DomainPlan.Operation getPodOperation(V1Pod currentPod) {
+    if (currentPod == null) {
+      return DomainPlan.Operation.CREATE;
+    } else if (canUseCurrentPod(currentPod)) {
+      return null;
+    } else if (canPatchCurrentPod(currentPod)) {
+      return DomainPlan.Operation.PATCH;
+    } else {
+      return DomainPlan.Operation.REPLACE;
+    }
+  }
+
   private boolean canUseCurrentPod(V1Pod currentPod) {
-    return !isExplicitRestartThisServer() && isCurrentPodValid(getPodModel(), currentPod);
+    return !isExplicitRestartThisServer() && isCurrentPodValid(currentPod);
   }
 
-  // We want to detect changes that would require replacing an existing Pod
-  // however, we've also found that Pod.equals(Pod) isn't right because k8s
-  // returns fields, such as nodeName, even when export=true is specified.
-  // Therefore, we'll just compare specific fields
-  private static boolean isCurrentPodValid(V1Pod build, V1Pod current) {
+  // Labels and annotations may be changed on a running pod; any change to its spec needs a new pod.
+  private boolean canPatchCurrentPod(V1Pod currentPod) {
+    return !isExplicitRestartThisServer()
+        && AnnotationHelper.hasSameSpec(currentPod.getMetadata(), getPodModel().getMetadata());
+  }
+
+  private Step patchCurrentPod(V1Pod currentPod, Step next) {
+    JsonPatch patch =
+        new JsonPatch().addMetadataChanges(currentPod.getMetadata(), getPodModel().getMetadata());
+    LOGGER.info(MessageKeys.POD_PATCHED, getDomainUID(), getPodName());
+    return new CallBuilder()
+        .patchPodAsync(getPodName(), getNamespace(), patch, new PatchPodResponseStep(next));
+  }
+
+  // A pod created by this operator carries a hash of the inputs from which it was built, so
+  // comparing hashes detects any change to the desired pod without building it. Pods created before
+  // the hash was introduced fall back to comparing the fields that matter; Pod.equals(Pod) isn't
+  // right because k8s returns fields, such as nodeName, even when export=true is specified.
+  private boolean isCurrentPodValid(V1Pod current) {
+    String currentHash = AnnotationHelper.getHash(current.getMetadata());
+    if (currentHash != null) {
+      return currentHash.equals(getDesiredHash());
+    }
+
+    return isCurrentPodFieldsValid(getPodModel(), current);
+  }
+
+  private static boolean isCurrentPodFieldsValid(V1Pod build, V1Pod current) {
 
     if (!VersionHelper.matchesResourceVersion(current.getMetadata(), VersionConstants.DOMAIN_V1)) {
       return false;
@@ -424,14 +528,20 @@ public abstract class PodStepContext {
     @Override
     public NextAction apply(Packet packet) {
       V1Pod currentPod = getSko().getPod().get();
-      if (currentPod == null) {
-        updateRestartForNewPod();
-        return doNext(createNewPod(getNext()), packet);
-      } else if (canUseCurrentPod(currentPod)) {
+      DomainPlan.Operation operation = getPodOperation(currentPod);
+      if (operation == null) {
         logPodExists();
         return doNext(packet);
-      } else {
-        return doNext(replaceCurrentPod(getNext()), packet);
+      }
+
+      switch (operation) {
+        case CREATE:
+          updateRestartForNewPod();
+          return doNext(createNewPod(getNext()), packet);
+        case PATCH:
+          return doNext(patchCurrentPod(currentPod, getNext()), packet);
+        default:
+          return doNext(replaceCurrentPod(getNext()), packet);
       }
     }
   }
@@ -460,6 +570,25 @@ public abstract class PodStepContext {
     }
   }
 
+  private class PatchPodResponseStep extends ResponseStep<V1Pod> {
+    PatchPodResponseStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<V1Pod> callResponse) {
+      return super.onFailure(getConflictStep(), packet, callResponse);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1Pod> callResponse) {
+      if (callResponse.getResult() != null) {
+        setRecordedPod(callResponse.getResult());
+      }
+      return doNext(packet);
+    }
+  }
+
   private ResponseStep<V1Status> deleteResponse(Step next) {
     return new DeleteResponseStep(next);
   }
@@ -527,10 +656,16 @@ public abstract class PodStepContext {
 
     @Override
     public NextAction apply(Packet packet) {
-      String domainUID = getDomainUID();
+      List<V1PersistentVolume> cached =
+          PersistentVolumeCache.getInstance().getVolumes(getDomainUID());
+      if (cached != null) {
+        verifyAccessModes(cached);
+        return doNext(packet);
+      }
+
       Step list =
           new CallBuilder()
-              .withLabelSelectors(forDomainUid(domainUID))
+              .withLabelSelectors(forDomainUid(getDomainUID()))
               .listPersistentVolumeAsync(
                   new DefaultResponseStep<V1PersistentVolumeList>(getNext()) {
                     @Override
@@ -540,31 +675,12 @@ public abstract class PodStepContext {
                         int statusCode,
                         Map<String, List<String>> responseHeaders) {
                       if (result != null) {
-                        for (V1PersistentVolume pv : result.getItems()) {
-                          List<String> accessModes = pv.getSpec().getAccessModes();
-                          boolean foundAccessMode = false;
-                          for (String accessMode : accessModes) {
-                            if (accessMode.equals(READ_WRITE_MANY_ACCESS)) {
-                              foundAccessMode = true;
-                              break;
-                            }
-                          }
-
-                          // Persistent volume does not have ReadWriteMany access mode,
-                          if (!foundAccessMode) {
-                            LOGGER.warning(
-                                MessageKeys.PV_ACCESS_MODE_FAILED,
-                                pv.getMetadata().getName(),
-                                getDomainResourceName(),
-                                domainUID,
-                                READ_WRITE_MANY_ACCESS);
-                          }
-                        }
+                        verifyAccessModes(result.getItems());
                       } else {
                         LOGGER.warning(
                             MessageKeys.PV_NOT_FOUND_FOR_DOMAIN_UID,
                             getDomainResourceName(),
-                            domainUID);
+                            getDomainUID());
                       }
                       return doNext(packet);
                     }
@@ -572,12 +688,39 @@ public abstract class PodStepContext {
 
       return doNext(list, packet);
     }
+
+    private void verifyAccessModes(List<V1PersistentVolume> volumes) {
+      for (V1PersistentVolume pv : volumes) {
+        List<String> accessModes = pv.getSpec().getAccessModes();
+        boolean foundAccessMode = false;
+        for (String accessMode : accessModes) {
+          if (accessMode.equals(READ_WRITE_MANY_ACCESS)) {
+            foundAccessMode = true;
+            break;
+          }
+        }
+
+        // Persistent volume does not have ReadWriteMany access mode,
+        if (!foundAccessMode) {
+          LOGGER.warning(
+              MessageKeys.PV_ACCESS_MODE_FAILED,
+              pv.getMetadata().getName(),
+              getDomainResourceName(),
+              getDomainUID(),
+              READ_WRITE_MANY_ACCESS);
+        }
+      }
+    }
   }
 
   // ---------------------- model methods ------------------------------
 
   private V1Pod createPodModel() {
-    return new V1Pod().metadata(createMetadata()).spec(createSpec(TuningParameters.getInstance()));
+    V1Pod pod =
+        new V1Pod().metadata(createMetadata()).spec(createSpec(TuningParameters.getInstance()));
+    AnnotationHelper.addSpecHash(pod.getMetadata(), pod.getSpec());
+    AnnotationHelper.setHash(pod.getMetadata(), getDesiredHash());
+    return pod;
   }
 
   protected V1ObjectMeta createMetadata() {
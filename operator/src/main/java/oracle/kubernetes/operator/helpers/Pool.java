@@ -4,17 +4,25 @@
 
 package oracle.kubernetes.operator.helpers;
 
-import java.lang.ref.WeakReference;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 
-/** General-purpose object pool. */
+/**
+ * General-purpose object pool. Idle instances are held strongly, up to {@link #getMaxIdle()}; any
+ * recycled beyond that are discarded.
+ */
 public abstract class Pool<T> {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
-  // volatile since multiple threads may access queue reference
-  private volatile WeakReference<ConcurrentLinkedQueue<T>> queue;
+  private final ConcurrentLinkedQueue<T> queue = new ConcurrentLinkedQueue<>();
+  // the queue's size is not constant-time, so the idle count is tracked separately
+  private final AtomicInteger idle = new AtomicInteger();
+  private final LongAdder created = new LongAdder();
+  private final LongAdder reused = new LongAdder();
+  private final LongAdder discarded = new LongAdder();
 
   /**
    * Gets a new object from the pool. If no object is available in the pool, this method creates a
@@ -23,44 +31,45 @@ public abstract class Pool<T> {
    * @return always non-null.
    */
   public final T take() {
-    T instance = getQueue().poll();
+    T instance = queue.poll();
     if (instance == null) {
       LOGGER.finer("Creating instance");
+      created.increment();
       return create();
     }
 
+    reused.increment();
+    int remaining = idle.decrementAndGet();
     if (LOGGER.isFinerEnabled()) {
-      LOGGER.finer(
-          "Returning existing instance from pool, instances remaining: " + getQueue().size());
+      LOGGER.finer("Returning existing instance from pool, instances remaining: " + remaining);
     }
     return instance;
   }
 
-  private ConcurrentLinkedQueue<T> getQueue() {
-    WeakReference<ConcurrentLinkedQueue<T>> referenceQueue = queue;
-    if (referenceQueue != null) {
-      ConcurrentLinkedQueue<T> returnQueue = referenceQueue.get();
-      if (returnQueue != null) {
-        return returnQueue;
-      }
-    }
-
-    // overwrite the queue
-    ConcurrentLinkedQueue<T> d = new ConcurrentLinkedQueue<>();
-    queue = new WeakReference<>(d);
-
-    return d;
-  }
-
   /**
    * Returns an object back to the pool.
    *
    * @param instance Pool object to recycle
    */
   public final void recycle(T instance) {
-    getQueue().offer(instance);
+    if (idle.incrementAndGet() > getMaxIdle()) {
+      idle.decrementAndGet();
+      discarded.increment();
+      discard(instance);
+      return;
+    }
+
+    queue.offer(instance);
     if (LOGGER.isFinerEnabled()) {
-      LOGGER.finer("Recycling instance to pool, instances now in pool: " + getQueue().size());
+      LOGGER.finer("Recycling instance to pool, instances now in pool: " + idle.get());
+    }
+  }
+
+  /** Creates instances until the pool holds at least {@link #getMinIdle()} idle ones. */
+  public void warmUp() {
+    while (idle.get() < getMinIdle()) {
+      created.increment();
+      recycle(create());
     }
   }
 
@@ -73,8 +82,71 @@ public abstract class Pool<T> {
    */
   protected abstract T create();
 
+  /**
+   * Releases an instance which was recycled while the pool was full. The default does nothing.
+   *
+   * @param instance the instance
+   */
+  protected void discard(T instance) {}
+
+  /**
+   * Returns the number of idle instances which {@link #warmUp()} creates.
+   *
+   * @return the minimum idle count
+   */
+  protected int getMinIdle() {
+    return 0;
+  }
+
+  /**
+   * Returns the number of idle instances beyond which recycled ones are discarded.
+   *
+   * @return the maximum idle count
+   */
+  protected int getMaxIdle() {
+    return Integer.MAX_VALUE;
+  }
+
   /** Drains pool of all entries; useful for unit-testing */
   public void drain() {
-    getQueue().clear();
+    while (queue.poll() != null) {
+      idle.decrementAndGet();
+    }
+  }
+
+  /**
+   * Returns the number of instances waiting in the pool.
+   *
+   * @return the idle count
+   */
+  public int getIdleCount() {
+    return idle.get();
+  }
+
+  /**
+   * Returns the number of instances the pool has created.
+   *
+   * @return the count
+   */
+  public long getCreatedCount() {
+    return created.sum();
+  }
+
+  /**
+   * Returns the number of times an idle instance satisfied a {@link #take()}.
+   *
+   * @return the count
+   */
+  public long getReusedCount() {
+    return reused.sum();
+  }
+
+  /**
+   * Returns the number of recycled instances discarded because the pool was full.
+   *
+   * @return the count
+   */
+  public long getDiscardedCount() {
+    return discarded.sum();
   }
 }
@@ -0,0 +1,130 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1PodCondition;
+import io.kubernetes.client.models.V1PodSpec;
+import io.kubernetes.client.models.V1PodStatus;
+import io.kubernetes.client.models.V1Service;
+import io.kubernetes.client.models.V1ServiceSpec;
+import io.kubernetes.client.models.V1beta1Ingress;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reduces the pods, services and ingresses that the operator records for each server and cluster to
+ * the fields it reads, so that the records of many servers do not fill the heap with container
+ * specs, statuses and other fields that are never used. A projection keeps the name, namespace,
+ * uid, resource version, labels and annotations, among them the hash of the model from which the
+ * operator built the object, and:
+ *
+ * <ul>
+ *   <li>for a pod, the node on which it runs, its phase and the type and status of its conditions;
+ *   <li>for a service, its type, cluster IP and ports;
+ *   <li>for an ingress, nothing more.
+ * </ul>
+ *
+ * <p>An object without the hash was created by an earlier version of the operator, and is checked
+ * field by field, so its spec is kept whole. Projections are shared between threads, and must not
+ * be modified.
+ */
+public class ResourceProjections {
+  private ResourceProjections() {}
+
+  /**
+   * Returns the projection of a pod.
+   *
+   * @param pod the pod, or null
+   * @return the projection, or null if the pod is null
+   */
+  public static V1Pod project(V1Pod pod) {
+    if (pod == null) {
+      return null;
+    }
+    return new V1Pod()
+        .metadata(project(pod.getMetadata()))
+        .spec(isHashed(pod.getMetadata()) ? projectSpec(pod.getSpec()) : pod.getSpec())
+        .status(projectStatus(pod.getStatus()));
+  }
+
+  /**
+   * Returns the projection of a service.
+   *
+   * @param service the service, or null
+   * @return the projection, or null if the service is null
+   */
+  public static V1Service project(V1Service service) {
+    if (service == null) {
+      return null;
+    }
+    return new V1Service()
+        .metadata(project(service.getMetadata()))
+        .spec(isHashed(service.getMetadata()) ? projectSpec(service.getSpec()) : service.getSpec());
+  }
+
+  /**
+   * Returns the projection of an ingress.
+   *
+   * @param ingress the ingress, or null
+   * @return the projection, or null if the ingress is null
+   */
+  public static V1beta1Ingress project(V1beta1Ingress ingress) {
+    if (ingress == null) {
+      return null;
+    }
+    return new V1beta1Ingress()
+        .metadata(project(ingress.getMetadata()))
+        .spec(isHashed(ingress.getMetadata()) ? null : ingress.getSpec());
+  }
+
+  private static boolean isHashed(V1ObjectMeta metadata) {
+    return metadata != null && AnnotationHelper.getHash(metadata) != null;
+  }
+
+  private static V1ObjectMeta project(V1ObjectMeta metadata) {
+    if (metadata == null) {
+      return null;
+    }
+    return new V1ObjectMeta()
+        .name(metadata.getName())
+        .namespace(metadata.getNamespace())
+        .uid(metadata.getUid())
+        .resourceVersion(metadata.getResourceVersion())
+        .deletionTimestamp(metadata.getDeletionTimestamp())
+        .labels(metadata.getLabels())
+        .annotations(metadata.getAnnotations());
+  }
+
+  private static V1PodSpec projectSpec(V1PodSpec spec) {
+    return spec == null ? null : new V1PodSpec().nodeName(spec.getNodeName());
+  }
+
+  private static V1PodStatus projectStatus(V1PodStatus status) {
+    if (status == null) {
+      return null;
+    }
+    V1PodStatus projection = new V1PodStatus().phase(status.getPhase());
+    if (status.getConditions() != null) {
+      List<V1PodCondition> conditions = new ArrayList<>(status.getConditions().size());
+      for (V1PodCondition condition : status.getConditions()) {
+        conditions.add(
+            new V1PodCondition().type(condition.getType()).status(condition.getStatus()));
+      }
+      projection.setConditions(conditions);
+    }
+    return projection;
+  }
+
+  private static V1ServiceSpec projectSpec(V1ServiceSpec spec) {
+    return spec == null
+        ? null
+        : new V1ServiceSpec()
+            .type(spec.getType())
+            .clusterIP(spec.getClusterIP())
+            .ports(spec.getPorts());
+  }
+}
@@ -4,7 +4,10 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import static com.google.common.base.Strings.isNullOrEmpty;
+
 import io.kubernetes.client.ApiException;
+import io.kubernetes.client.models.V1ListMeta;
 import java.util.List;
 import java.util.Map;
 import oracle.kubernetes.operator.calls.AsyncRequestStep;
@@ -81,9 +84,11 @@ public abstract class ResponseStep<T> extends Step {
    * specified a "continue" value.
    *
    * @param packet Packet
+   * @param metadata the metadata of the list page just processed, which holds the continue value
    * @return Next action for list continue
    */
-  protected final NextAction doContinueList(Packet packet) {
+  protected final NextAction doContinueList(Packet packet, V1ListMeta metadata) {
+    packet.put(AsyncRequestStep.CONTINUE, metadata.getContinue());
     RetryStrategy retryStrategy = packet.getSPI(RetryStrategy.class);
     if (retryStrategy != null) {
       retryStrategy.reset();
@@ -91,6 +96,17 @@ public abstract class ResponseStep<T> extends Step {
     return doNext(previousStep, packet);
   }
 
+  /**
+   * Returns true if a list call returned a page which is not the last one.
+   *
+   * @param metadata the metadata of the list page just returned
+   * @return true if the next page should be requested with {@link #doContinueList(Packet,
+   *     V1ListMeta)}
+   */
+  protected static boolean hasMorePages(V1ListMeta metadata) {
+    return metadata != null && !isNullOrEmpty(metadata.getContinue());
+  }
+
   /**
    * Returns next action when the Kubernetes API server call should be retried, null otherwise.
    *
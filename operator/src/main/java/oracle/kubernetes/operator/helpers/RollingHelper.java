@@ -6,10 +6,20 @@ package oracle.kubernetes.operator.helpers;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import oracle.kubernetes.operator.DomainStatusUpdater;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -17,6 +27,8 @@ import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -28,14 +40,13 @@ import oracle.kubernetes.weblogic.domain.v1.ServerStatus;
 /**
  * After the {@link PodHelper} identifies servers that are presently running, but that are using an
  * out-of-date specification, it defers the processing of these servers to the RollingHelper. This
- * class will ensure that a minimum number of cluster members remain up, if possible, throughout the
- * rolling process.
+ * class restarts the members of each cluster through a sliding window, keeping no more of them
+ * unavailable than the cluster's maxUnavailable allows, and reports the progress of the roll in the
+ * domain's Progressing condition.
  */
 public class RollingHelper {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
-  private static final int MINIMUM_FOR_CLUSTER = 2;
-
   private RollingHelper() {}
 
   /**
@@ -54,6 +65,42 @@ public class RollingHelper {
     return new RollingStep(rolling, next);
   }
 
+  private static Set<String> getRunningServers(DomainPresenceInfo info) {
+    Set<String> runningServers = new HashSet<>();
+    DomainStatus status = info.getDomain().getStatus();
+    List<ServerStatus> ss = status != null ? status.getServers() : null;
+    if (ss != null) {
+      for (ServerStatus s : ss) {
+        if (WebLogicConstants.RUNNING_STATE.equals(s.getState())) {
+          runningServers.add(s.getServerName());
+        }
+      }
+    }
+    return runningServers;
+  }
+
+  /**
+   * Returns the number of members of a cluster that may be restarted at the same time: the
+   * cluster's maxUnavailable, less the members that are already not running, but at least one.
+   *
+   * @param replicas the desired number of running members
+   * @param minReplicas the number of members that must remain running
+   * @param runningMembers the number of members presently running
+   * @param serversToRoll the number of members to restart
+   * @return the width of the rolling window
+   */
+  static int getWindowWidth(int replicas, int minReplicas, int runningMembers, int serversToRoll) {
+    int maxUnavailable = replicas - minReplicas;
+    int alreadyUnavailable = Math.max(0, replicas - runningMembers);
+    return Math.min(serversToRoll, Math.max(1, maxUnavailable - alreadyUnavailable));
+  }
+
+  private static String getServerName(StepAndPacket stepAndPacket, Domain dom) {
+    WlsServerConfig scan =
+        (WlsServerConfig) stepAndPacket.packet.get(ProcessingConstants.SERVER_SCAN);
+    return scan != null ? scan.getName() : dom.getSpec().getAsName();
+  }
+
   private static class RollingStep extends Step {
     private final Map<String, StepAndPacket> rolling;
 
@@ -67,17 +114,8 @@ public class RollingHelper {
       DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
 
       Domain dom = info.getDomain();
-      DomainStatus status = dom.getStatus();
       // These are presently Ready servers
-      List<String> availableServers = new ArrayList<>();
-      List<ServerStatus> ss = status.getServers();
-      if (ss != null) {
-        for (ServerStatus s : ss) {
-          if (WebLogicConstants.RUNNING_STATE.equals(s.getState())) {
-            availableServers.add(s.getServerName());
-          }
-        }
-      }
+      Set<String> availableServers = getRunningServers(info);
 
       Collection<StepAndPacket> serversThatCanRestartNow = new ArrayList<>();
       Map<String, Collection<StepAndPacket>> clusteredRestarts = new HashMap<>();
@@ -122,19 +160,30 @@ public class RollingHelper {
                 new ServersThatCanRestartNowStep(serversThatCanRestartNow, null), packet));
       }
 
-      if (!clusteredRestarts.isEmpty()) {
-        for (Map.Entry<String, Collection<StepAndPacket>> entry : clusteredRestarts.entrySet()) {
-          work.add(
-              new StepAndPacket(
-                  new RollSpecificClusterStep(entry.getKey(), entry.getValue(), null), packet));
-        }
+      if (clusteredRestarts.isEmpty()) {
+        return work.isEmpty()
+            ? doNext(packet)
+            : doNext(
+                DomainStatusUpdater.createProgressingStep(
+                    DomainStatusUpdater.MANAGED_SERVERS_STARTING_PROGRESS_REASON,
+                    false,
+                    new ServersThatCanRestartNowStep(work, getNext())),
+                packet);
       }
 
-      if (!work.isEmpty()) {
-        return doForkJoin(getNext(), packet, work);
+      // every cluster is registered before the first update, which then reports all of them
+      RollingProgress progress = new RollingProgress();
+      long startNanos = System.nanoTime();
+      for (Map.Entry<String, Collection<StepAndPacket>> entry : clusteredRestarts.entrySet()) {
+        ClusterRoll roll =
+            progress.startCluster(entry.getKey(), entry.getValue().size(), startNanos);
+        work.add(
+            new StepAndPacket(
+                new RollSpecificClusterStep(roll, entry.getValue(), progress, null), packet));
       }
-
-      return doNext(packet);
+      return doNext(
+          new PublishProgressStep(progress, new ServersThatCanRestartNowStep(work, getNext())),
+          packet);
     }
   }
 
@@ -153,87 +202,267 @@ public class RollingHelper {
     }
   }
 
-  private static class RollSpecificClusterStep extends Step {
+  /**
+   * The progress of the clusters being rolled together, from which the message of the domain's
+   * Progressing condition is created. At most one update of the condition is in flight at a time;
+   * the changes made while it is being written are reported together by a single further update.
+   */
+  static class RollingProgress {
+    private final SortedMap<String, ClusterRoll> clusters =
+        Collections.synchronizedSortedMap(new TreeMap<>());
+    private final AtomicBoolean changed = new AtomicBoolean();
+    private final AtomicBoolean publishing = new AtomicBoolean();
+
+    /**
+     * Records a change to the progress.
+     *
+     * @return true, if the caller must now start publishing, as no update is in flight
+     */
+    boolean markChanged() {
+      changed.set(true);
+      return publishing.compareAndSet(false, true);
+    }
+
+    /**
+     * Takes the change to publish next.
+     *
+     * @return true, if there is a change to publish; false, if publishing is now finished
+     */
+    boolean takeChange() {
+      while (!changed.getAndSet(false)) {
+        publishing.set(false);
+        if (!changed.get() || !publishing.compareAndSet(false, true)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    void abandonPublishing() {
+      publishing.set(false);
+    }
+
+    ClusterRoll startCluster(String clusterName, int total, long startNanos) {
+      ClusterRoll roll = new ClusterRoll(clusterName, total, startNanos);
+      clusters.put(clusterName, roll);
+      return roll;
+    }
+
+    String getMessage(long nowNanos) {
+      StringBuilder sb = new StringBuilder();
+      synchronized (clusters) {
+        for (ClusterRoll roll : clusters.values()) {
+          if (sb.length() > 0) {
+            sb.append("; ");
+          }
+          roll.appendProgress(sb, nowNanos);
+        }
+      }
+      return sb.toString();
+    }
+  }
+
+  /** The servers of one cluster that remain to be restarted, and those already restarted. */
+  static class ClusterRoll {
     private final String clusterName;
-    private final Iterator<StepAndPacket> it;
+    private final int total;
+    private final long startNanos;
+    private final Queue<StepAndPacket> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger restarted = new AtomicInteger();
+
+    ClusterRoll(String clusterName, int total, long startNanos) {
+      this.clusterName = clusterName;
+      this.total = total;
+      this.startNanos = startNanos;
+    }
+
+    void serverRestarted() {
+      restarted.incrementAndGet();
+    }
+
+    // The time remaining is estimated from the average time taken, so far, per restarted server
+    void appendProgress(StringBuilder sb, long nowNanos) {
+      int done = restarted.get();
+      sb.append("Rolling cluster ")
+          .append(clusterName)
+          .append(": ")
+          .append(done)
+          .append(" of ")
+          .append(total)
+          .append(" servers restarted");
+      if (done > 0 && done < total) {
+        long elapsedSeconds = TimeUnit.NANOSECONDS.toSeconds(nowNanos - startNanos);
+        sb.append(", about ")
+            .append(elapsedSeconds * (total - done) / done)
+            .append(" seconds remaining");
+      }
+    }
+  }
+
+  /** Starts publishing the progress of the roll, unless an update is already in flight. */
+  private static class PublishProgressStep extends Step {
+    private final RollingProgress progress;
+
+    PublishProgressStep(RollingProgress progress, Step next) {
+      super(next);
+      this.progress = progress;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      if (progress.markChanged()) {
+        Fiber f = Fiber.current().createChildFiber();
+        Packet p = new Packet();
+        p.getComponents().putAll(packet.getComponents());
+        f.start(
+            new WriteProgressStep(progress),
+            p,
+            new CompletionCallback() {
+              @Override
+              public void onCompletion(Packet packet) {}
+
+              @Override
+              public void onThrowable(Packet packet, Throwable throwable) {
+                progress.abandonPublishing();
+                LOGGER.severe(MessageKeys.EXCEPTION, throwable);
+              }
+            });
+      }
+      return doNext(packet);
+    }
+  }
+
+  private static class WriteProgressStep extends Step {
+    private final RollingProgress progress;
+
+    WriteProgressStep(RollingProgress progress) {
+      super(null);
+      this.progress = progress;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      if (!progress.takeChange()) {
+        return doNext(packet);
+      }
+      return doNext(
+          DomainStatusUpdater.createProgressingUpdateStep(
+              DomainStatusUpdater.ROLLING_CLUSTER_PROGRESS_REASON,
+              progress.getMessage(System.nanoTime()),
+              false,
+              this),
+          packet);
+    }
+  }
+
+  /**
+   * Restarts the members of a cluster through a sliding window: as many lanes as the window is wide
+   * each take the next server to restart, as soon as the restart of their previous server has
+   * completed with its new pod ready. Unlike restarting in batches, a slow server holds back only
+   * its own lane.
+   */
+  private static class RollSpecificClusterStep extends Step {
+    private final ClusterRoll roll;
+    private final Collection<StepAndPacket> clusteredServerRestarts;
+    private final RollingProgress progress;
 
     public RollSpecificClusterStep(
-        String clusterName, Collection<StepAndPacket> clusteredServerRestarts, Step next) {
+        ClusterRoll roll,
+        Collection<StepAndPacket> clusteredServerRestarts,
+        RollingProgress progress,
+        Step next) {
       super(next);
-      this.clusterName = clusterName;
-      it = clusteredServerRestarts.iterator();
+      this.roll = roll;
+      this.clusteredServerRestarts = clusteredServerRestarts;
+      this.progress = progress;
     }
 
     @Override
     public NextAction apply(Packet packet) {
-      if (it.hasNext()) {
-        DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
-
-        // Refresh as this is constantly changing
-        Domain dom = info.getDomain();
-        DomainStatus status = dom.getStatus();
-        // These are presently Ready servers
-        List<String> availableServers = new ArrayList<>();
-        List<ServerStatus> ss = status.getServers();
-        if (ss != null) {
-          for (ServerStatus s : ss) {
-            if (WebLogicConstants.RUNNING_STATE.equals(s.getState())) {
-              availableServers.add(s.getServerName());
-            }
-          }
-        }
+      DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
+      Domain dom = info.getDomain();
+      String clusterName = roll.clusterName;
+      Set<String> availableServers = getRunningServers(info);
 
-        List<String> servers = new ArrayList<>();
-        List<String> readyServers = new ArrayList<>();
-
-        Collection<StepAndPacket> serversThatCanRestartNow = new ArrayList<>();
-        // We will always restart at least one server
-        StepAndPacket current = it.next();
-        serversThatCanRestartNow.add(current);
-
-        WlsServerConfig scan =
-            (WlsServerConfig) current.packet.get(ProcessingConstants.SERVER_SCAN);
-        servers.add(scan != null ? scan.getName() : dom.getSpec().getAsName());
-
-        // See if we can restart more now
-        if (it.hasNext()) {
-          // we are already pending a restart of one server, so start count at -1
-          int countReady = -1;
-          WlsClusterConfig cluster = info.getScan().getClusterConfig(clusterName);
-          if (cluster != null) {
-            List<WlsServerConfig> serversConfigs = cluster.getServerConfigs();
-            if (serversConfigs != null) {
-              for (WlsServerConfig s : serversConfigs) {
-                // figure out how many servers are currently ready
-                if (availableServers.contains(s.getName())) {
-                  readyServers.add(s.getName());
-                  countReady++;
-                }
-              }
-            }
-          }
+      List<String> servers = new ArrayList<>();
+      for (StepAndPacket stepAndPacket : clusteredServerRestarts) {
+        servers.add(getServerName(stepAndPacket, dom));
+      }
 
-          // then add as many as possible next() entries leaving at least minimum cluster
-          // availability
-          while (countReady-- > MINIMUM_FOR_CLUSTER) {
-            current = it.next();
-            scan = (WlsServerConfig) current.packet.get(ProcessingConstants.SERVER_SCAN);
-            servers.add(scan != null ? scan.getName() : dom.getSpec().getAsName());
-            serversThatCanRestartNow.add(current);
-            if (!it.hasNext()) {
-              break;
-            }
+      List<String> readyServers = new ArrayList<>();
+      int memberCount = 0;
+      WlsClusterConfig cluster = info.getScan().getClusterConfig(clusterName);
+      if (cluster != null) {
+        List<String> serverNames = cluster.getServerNames();
+        memberCount = serverNames.size();
+        for (String serverName : serverNames) {
+          if (availableServers.contains(serverName)) {
+            readyServers.add(serverName);
           }
         }
+      }
+
+      ClusterConfig clusterConfig =
+          LifeCycleHelper.instance().getEffectiveClusterConfig(dom, clusterName);
+      int replicas = Math.min(clusterConfig.getReplicas(), memberCount);
+      int minReplicas = Math.min(clusterConfig.getMinReplicas(), replicas);
+      int width = getWindowWidth(replicas, minReplicas, readyServers.size(), servers.size());
+
+      readyServers.removeAll(servers);
+      LOGGER.info(
+          MessageKeys.ROLLING_CLUSTER,
+          dom.getSpec().getDomainUID(),
+          clusterName,
+          width,
+          servers,
+          readyServers);
+
+      roll.pending.addAll(clusteredServerRestarts);
+      Collection<StepAndPacket> lanes = new ArrayList<>();
+      for (int i = 0; i < width; i++) {
+        lanes.add(new StepAndPacket(new RollingLaneStep(roll, progress), packet));
+      }
+      return doForkJoin(getNext(), packet, lanes);
+    }
+  }
 
-        readyServers.removeAll(servers);
-        LOGGER.info(
-            MessageKeys.ROLLING_SERVERS, dom.getSpec().getDomainUID(), servers, readyServers);
+  private static class RollingLaneStep extends Step {
+    private final ClusterRoll roll;
+    private final RollingProgress progress;
 
-        return doNext(new ServersThatCanRestartNowStep(serversThatCanRestartNow, this), packet);
+    RollingLaneStep(ClusterRoll roll, RollingProgress progress) {
+      super(null);
+      this.roll = roll;
+      this.progress = progress;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      StepAndPacket current = roll.pending.poll();
+      if (current == null) {
+        return doNext(packet);
       }
+      return doForkJoin(
+          new ServerRestartedStep(roll, progress, this),
+          packet,
+          Collections.singletonList(current));
+    }
+  }
 
-      return doNext(packet);
+  private static class ServerRestartedStep extends Step {
+    private final ClusterRoll roll;
+    private final RollingProgress progress;
+
+    ServerRestartedStep(ClusterRoll roll, RollingProgress progress, Step next) {
+      super(next);
+      this.roll = roll;
+      this.progress = progress;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      roll.serverRestarted();
+      return doNext(new PublishProgressStep(progress, getNext()), packet);
     }
   }
 }
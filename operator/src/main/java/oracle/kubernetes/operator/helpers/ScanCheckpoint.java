@@ -0,0 +1,448 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
+import static oracle.kubernetes.operator.VersionConstants.DOMAIN_V1;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import io.kubernetes.client.models.V1ConfigMap;
+import io.kubernetes.client.models.V1ConfigMapList;
+import io.kubernetes.client.models.V1DeleteOptions;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1Status;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.weblogic.domain.v1.Domain;
+import org.joda.time.DateTime;
+
+/**
+ * Keeps the WebLogic configuration last read from each domain's admin server in a config map of its
+ * own in the domain's namespace, so that a restarted operator, or a replica taking over the
+ * namespace, can resume managing the domain without waiting for and inspecting its admin server. A
+ * saved configuration is used only while the domain spec and the admin server pod are those with
+ * which it was read. Checkpointing is disabled until {@link #setEnabled} is called.
+ */
+public class ScanCheckpoint {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final Gson GSON = new Gson();
+  private static final ScanCheckpoint INSTANCE = new ScanCheckpoint();
+
+  static final String CHECKPOINT_KEY = "checkpoint";
+
+  // Kubernetes rejects config maps larger than 1 MiB; leave room for the metadata.
+  static final int MAX_CHECKPOINT_BYTES = 1024 * 1024 - 16 * 1024;
+
+  // namespace -> domain UID -> saved scan
+  private final Map<String, Map<String, Entry>> entries = new ConcurrentHashMap<>();
+  // namespace -> domain UID -> resource version of the config map as last read or written
+  private final Map<String, Map<String, String>> resourceVersions = new ConcurrentHashMap<>();
+  // namespace -> domain UIDs whose config maps are to be written
+  private final Map<String, Set<String>> changedDomains = new ConcurrentHashMap<>();
+  private volatile boolean enabled;
+
+  ScanCheckpoint() {}
+
+  public static ScanCheckpoint getInstance() {
+    return INSTANCE;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Records a configuration read from a domain's admin server.
+   *
+   * @param info the domain presence, with the domain and admin server pod from which it was read
+   * @param scanJson the response of the admin server, from which the configuration was created
+   */
+  public void record(DomainPresenceInfo info, String scanJson) {
+    Domain domain = info.getDomain();
+    String adminPodUID = getAdminPodUID(info);
+    if (!enabled || domain == null || adminPodUID == null) {
+      return;
+    }
+    Entry entry = new Entry();
+    entry.specHash = AnnotationHelper.createHash(domain.getSpec());
+    entry.adminPodUID = adminPodUID;
+    entry.scanTime = System.currentTimeMillis();
+    entry.scan = scanJson;
+    String domainUID = domain.getSpec().getDomainUID();
+    getEntries(info.getNamespace()).put(domainUID, entry);
+    markChanged(info.getNamespace(), domainUID);
+  }
+
+  private static String getAdminPodUID(DomainPresenceInfo info) {
+    ServerKubernetesObjects sko = info.getDomain() == null ? null : info.getAdmin();
+    V1Pod pod = sko == null ? null : sko.getPod().get();
+    return pod == null || pod.getMetadata() == null ? null : pod.getMetadata().getUid();
+  }
+
+  /**
+   * Sets the configuration of a domain from its checkpoint, if the domain spec and the admin server
+   * pod are unchanged since the configuration was read.
+   *
+   * @param info the domain presence
+   * @return true if the configuration was restored
+   */
+  public boolean restore(DomainPresenceInfo info) {
+    Domain domain = info.getDomain();
+    if (!enabled || domain == null) {
+      return false;
+    }
+    String domainUID = domain.getSpec().getDomainUID();
+    Entry entry = getEntries(info.getNamespace()).get(domainUID);
+    if (entry == null
+        || entry.scan == null
+        || !AnnotationHelper.createHash(domain.getSpec()).equals(entry.specHash)
+        || !entry.adminPodUID.equals(getAdminPodUID(info))) {
+      return false;
+    }
+    info.setScan(WlsDomainConfig.create(entry.scan));
+    info.setLastScanTime(new DateTime(entry.scanTime));
+    LOGGER.info(MessageKeys.WLS_CONFIGURATION_RESTORED, domainUID, new DateTime(entry.scanTime));
+    return true;
+  }
+
+  /**
+   * Discards the saved configuration of a deleted domain. Its config map is deleted when the
+   * namespace is next written.
+   *
+   * @param namespace the namespace of the domain
+   * @param domainUID the UID of the domain
+   */
+  public void remove(String namespace, String domainUID) {
+    if (getEntries(namespace).remove(domainUID) != null) {
+      markChanged(namespace, domainUID);
+    }
+  }
+
+  private Map<String, Entry> getEntries(String namespace) {
+    return entries.computeIfAbsent(namespace, ns -> new ConcurrentHashMap<>());
+  }
+
+  private Map<String, String> getResourceVersions(String namespace) {
+    return resourceVersions.computeIfAbsent(namespace, ns -> new ConcurrentHashMap<>());
+  }
+
+  private Set<String> getChangedDomains(String namespace) {
+    return changedDomains.computeIfAbsent(namespace, ns -> ConcurrentHashMap.newKeySet());
+  }
+
+  private void markChanged(String namespace, String domainUID) {
+    getChangedDomains(namespace).add(domainUID);
+  }
+
+  /**
+   * Returns the namespaces in which checkpoints have changed since they were last written.
+   *
+   * @return the namespaces
+   */
+  public Collection<String> getChangedNamespaces() {
+    Collection<String> namespaces = new ArrayList<>();
+    changedDomains.forEach(
+        (namespace, domainUIDs) -> {
+          if (!domainUIDs.isEmpty()) {
+            namespaces.add(namespace);
+          }
+        });
+    return namespaces;
+  }
+
+  /**
+   * Creates a step to read the checkpoints of a namespace. Saved configurations of domains already
+   * known to this operator are not replaced. A checkpoint that cannot be read is ignored.
+   *
+   * @param namespace the namespace
+   * @return the step
+   */
+  public Step createReadStep(String namespace) {
+    if (!enabled) {
+      return new ContinueStep();
+    }
+    return new CallBuilder()
+        .withLabelSelectors(LabelConstants.CHECKPOINT_LABEL)
+        .listConfigMapAsync(namespace, new ListResponseStep(namespace));
+  }
+
+  private class ListResponseStep extends ResponseStep<V1ConfigMapList> {
+    private final String namespace;
+
+    ListResponseStep(String namespace) {
+      super(null);
+      this.namespace = namespace;
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<V1ConfigMapList> callResponse) {
+      return doNext(packet);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMapList> callResponse) {
+      V1ConfigMapList result = callResponse.getResult();
+      if (result != null) {
+        for (V1ConfigMap configMap : result.getItems()) {
+          load(namespace, configMap);
+        }
+        if (hasMorePages(result.getMetadata())) {
+          return doContinueList(packet, result.getMetadata());
+        }
+      }
+      return doNext(packet);
+    }
+  }
+
+  void load(String namespace, V1ConfigMap configMap) {
+    V1ObjectMeta metadata = configMap.getMetadata();
+    String domainUID = getDomainUID(metadata);
+    if (domainUID == null) {
+      return;
+    }
+    recordResourceVersion(namespace, domainUID, configMap);
+    String json = configMap.getData() == null ? null : configMap.getData().get(CHECKPOINT_KEY);
+    if (json == null) {
+      return;
+    }
+    try {
+      Entry entry = GSON.fromJson(json, Entry.class);
+      if (entry != null && entry.specHash != null && entry.adminPodUID != null) {
+        getEntries(namespace).putIfAbsent(domainUID, entry);
+      }
+    } catch (JsonParseException e) {
+      LOGGER.fine(MessageKeys.EXCEPTION, e);
+    }
+  }
+
+  private static String getDomainUID(V1ObjectMeta metadata) {
+    return metadata == null || metadata.getLabels() == null
+        ? null
+        : metadata.getLabels().get(LabelConstants.DOMAINUID_LABEL);
+  }
+
+  private void recordResourceVersion(String namespace, String domainUID, V1ConfigMap configMap) {
+    if (configMap != null
+        && configMap.getMetadata() != null
+        && configMap.getMetadata().getResourceVersion() != null) {
+      getResourceVersions(namespace).put(domainUID, configMap.getMetadata().getResourceVersion());
+    }
+  }
+
+  /**
+   * Creates a step to write the changed checkpoints of a namespace. A checkpoint is replaced at the
+   * resource version last read or written by this operator, so that a concurrent change is not
+   * overwritten unseen.
+   *
+   * @param namespace the namespace
+   * @param operatorNamespace the namespace of the operator
+   * @return the step
+   */
+  public Step createWriteStep(String namespace, String operatorNamespace) {
+    Set<String> changed = getChangedDomains(namespace);
+    Collection<String> domainUIDs = new ArrayList<>(changed);
+    changed.removeAll(domainUIDs);
+
+    Step next = null;
+    for (String domainUID : domainUIDs) {
+      next = createWriteStep(namespace, domainUID, operatorNamespace, next);
+    }
+    return next != null ? next : new ContinueStep();
+  }
+
+  private Step createWriteStep(
+      String namespace, String domainUID, String operatorNamespace, Step next) {
+    String resourceVersion = getResourceVersions(namespace).get(domainUID);
+    Entry entry = getEntries(namespace).get(domainUID);
+    if (entry == null) {
+      return resourceVersion == null ? next : createDeleteStep(namespace, domainUID, next);
+    }
+
+    V1ConfigMap configMap = createConfigMap(namespace, domainUID, entry, operatorNamespace);
+    int size = getDataSize(configMap);
+    if (size > MAX_CHECKPOINT_BYTES) {
+      LOGGER.warning(MessageKeys.CHECKPOINT_TOO_LARGE, domainUID, size, MAX_CHECKPOINT_BYTES);
+      // an older checkpoint would otherwise be restored in place of this configuration
+      return resourceVersion == null ? next : createDeleteStep(namespace, domainUID, next);
+    }
+
+    if (resourceVersion == null) {
+      return new CallBuilder()
+          .createConfigMapAsync(
+              namespace, configMap, new WriteResponseStep(namespace, domainUID, next));
+    }
+    configMap.getMetadata().resourceVersion(resourceVersion);
+    return new CallBuilder()
+        .replaceConfigMapAsync(
+            configMap.getMetadata().getName(),
+            namespace,
+            configMap,
+            new WriteResponseStep(namespace, domainUID, next));
+  }
+
+  private Step createDeleteStep(String namespace, String domainUID, Step next) {
+    return new CallBuilder()
+        .deleteConfigMapAsync(
+            LegalNames.toCheckpointConfigMapName(domainUID),
+            namespace,
+            new V1DeleteOptions(),
+            new DeleteResponseStep(namespace, domainUID, next));
+  }
+
+  V1ConfigMap createConfigMap(
+      String namespace, String domainUID, Entry entry, String operatorNamespace) {
+    return new V1ConfigMap()
+        .metadata(
+            new V1ObjectMeta()
+                .name(LegalNames.toCheckpointConfigMapName(domainUID))
+                .namespace(namespace)
+                .putLabelsItem(LabelConstants.RESOURCE_VERSION_LABEL, DOMAIN_V1)
+                .putLabelsItem(LabelConstants.DOMAINUID_LABEL, domainUID)
+                .putLabelsItem(LabelConstants.OPERATORNAME_LABEL, operatorNamespace)
+                .putLabelsItem(LabelConstants.CHECKPOINT_LABEL, "true"))
+        .putDataItem(CHECKPOINT_KEY, GSON.toJson(entry));
+  }
+
+  V1ConfigMap createConfigMap(String namespace, String domainUID, String operatorNamespace) {
+    Entry entry = getEntries(namespace).get(domainUID);
+    return entry == null ? null : createConfigMap(namespace, domainUID, entry, operatorNamespace);
+  }
+
+  private static int getDataSize(V1ConfigMap configMap) {
+    int size = 0;
+    for (Map.Entry<String, String> item : configMap.getData().entrySet()) {
+      size += item.getKey().getBytes(StandardCharsets.UTF_8).length;
+      size += item.getValue().getBytes(StandardCharsets.UTF_8).length;
+    }
+    return size;
+  }
+
+  // A checkpoint which is not written is written again on the next interval. After a conflict, the
+  // config map is read again so that the next write replaces the version now current.
+  private class WriteResponseStep extends ResponseStep<V1ConfigMap> {
+    private final String namespace;
+    private final String domainUID;
+
+    WriteResponseStep(String namespace, String domainUID, Step next) {
+      super(next);
+      this.namespace = namespace;
+      this.domainUID = domainUID;
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+      markChanged(namespace, domainUID);
+      if (callResponse.getStatusCode() == CallBuilder.NOT_FOUND) {
+        getResourceVersions(namespace).remove(domainUID);
+      } else if (callResponse.getStatusCode() == HTTP_CONFLICT) {
+        return doNext(createRereadStep(namespace, domainUID, getNext()), packet);
+      }
+      return doNext(packet);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+      recordResourceVersion(namespace, domainUID, callResponse.getResult());
+      return doNext(packet);
+    }
+  }
+
+  private Step createRereadStep(String namespace, String domainUID, Step next) {
+    return new CallBuilder()
+        .readConfigMapAsync(
+            LegalNames.toCheckpointConfigMapName(domainUID),
+            namespace,
+            new RereadResponseStep(namespace, domainUID, next));
+  }
+
+  private class RereadResponseStep extends ResponseStep<V1ConfigMap> {
+    private final String namespace;
+    private final String domainUID;
+
+    RereadResponseStep(String namespace, String domainUID, Step next) {
+      super(next);
+      this.namespace = namespace;
+      this.domainUID = domainUID;
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+      if (callResponse.getStatusCode() == CallBuilder.NOT_FOUND) {
+        getResourceVersions(namespace).remove(domainUID);
+      }
+      return doNext(packet);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1ConfigMap> callResponse) {
+      recordResourceVersion(namespace, domainUID, callResponse.getResult());
+      return doNext(packet);
+    }
+  }
+
+  private class DeleteResponseStep extends ResponseStep<V1Status> {
+    private final String namespace;
+    private final String domainUID;
+
+    DeleteResponseStep(String namespace, String domainUID, Step next) {
+      super(next);
+      this.namespace = namespace;
+      this.domainUID = domainUID;
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<V1Status> callResponse) {
+      if (callResponse.getStatusCode() == CallBuilder.NOT_FOUND) {
+        getResourceVersions(namespace).remove(domainUID);
+      } else {
+        markChanged(namespace, domainUID);
+      }
+      return doNext(packet);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1Status> callResponse) {
+      getResourceVersions(namespace).remove(domainUID);
+      return doNext(packet);
+    }
+  }
+
+  private static class ContinueStep extends Step {
+    ContinueStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  static class Entry {
+    String specHash;
+    String adminPodUID;
+    long scanTime;
+    String scan;
+  }
+}
@@ -10,7 +10,12 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicReference;
 
-/** Kubernetes pods and services associated with a single WebLogic server */
+/**
+ * Kubernetes pods and services associated with a single WebLogic server. The pods and services
+ * recorded here are projections made by {@link ResourceProjections}, not the objects read from
+ * Kubernetes: most of their fields are null, and a caller which needs any field that a projection
+ * does not keep must read the object itself.
+ */
 public class ServerKubernetesObjects {
   private final AtomicReference<V1Pod> pod = new AtomicReference<>(null);
   private final AtomicReference<String> lastKnownStatus = new AtomicReference<>(null);
@@ -20,7 +25,8 @@ public class ServerKubernetesObjects {
   ServerKubernetesObjects() {}
 
   /**
-   * The Pod
+   * The Pod, as a partial projection which keeps only the fields listed by {@link
+   * ResourceProjections}
    *
    * @return Pod
    */
@@ -38,7 +44,8 @@ public class ServerKubernetesObjects {
   }
 
   /**
-   * The Service
+   * The Service, as a partial projection which keeps only the fields listed by {@link
+   * ResourceProjections}
    *
    * @return Service
    */
@@ -47,7 +54,8 @@ public class ServerKubernetesObjects {
   }
 
   /**
-   * Channel map
+   * Channel map, whose services are partial projections which keep only the fields listed by {@link
+   * ResourceProjections}
    *
    * @return Map from channel name to Service
    */
@@ -13,6 +13,7 @@ import static oracle.kubernetes.operator.logging.MessageKeys.CLUSTER_SERVICE_REP
 import static oracle.kubernetes.operator.logging.MessageKeys.MANAGED_SERVICE_CREATED;
 import static oracle.kubernetes.operator.logging.MessageKeys.MANAGED_SERVICE_EXISTS;
 import static oracle.kubernetes.operator.logging.MessageKeys.MANAGED_SERVICE_REPLACED;
+import static oracle.kubernetes.operator.logging.MessageKeys.SERVICE_PATCHED;
 
 import io.kubernetes.client.models.V1DeleteOptions;
 import io.kubernetes.client.models.V1ObjectMeta;
@@ -21,7 +22,10 @@ import io.kubernetes.client.models.V1ServicePort;
 import io.kubernetes.client.models.V1ServiceSpec;
 import io.kubernetes.client.models.V1Status;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import javax.annotation.Nonnull;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.ProcessingConstants;
@@ -41,6 +45,8 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 public class ServiceHelper {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
+  private static final String MODEL_VERSION = "1";
+
   private ServiceHelper() {}
 
   /**
@@ -123,6 +129,13 @@ public class ServiceHelper {
       return version != null && version.isPublishNotReadyAddressesSupported();
     }
 
+    @Override
+    Map<String, Object> createModelInputs() {
+      Map<String, Object> inputs = super.createModelInputs();
+      inputs.put("publishNotReadyAddresses", isPublishNotReadyAddressesSupported());
+      return inputs;
+    }
+
     @Override
     protected V1ObjectMeta createMetadata() {
       return super.createMetadata()
@@ -136,28 +149,31 @@ public class ServiceHelper {
 
     @Override
     protected V1Service getServiceFromRecord() {
-      return sko.getService().get();
+      return getSko().getService().get();
     }
 
     @Override
     protected void addServiceToRecord(@Nonnull V1Service service) {
-      sko.getService().set(service);
+      getSko().getService().set(service);
     }
 
     @Override
     protected void removeServiceFromRecord() {
-      sko.getService().set(null);
+      getSko().getService().set(null);
     }
   }
 
   private abstract static class ServerServiceStepContext extends ServiceStepContext {
     protected final String serverName;
-    protected final ServerKubernetesObjects sko;
 
     ServerServiceStepContext(Step conflictStep, Packet packet) {
       super(conflictStep, packet);
       serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
-      sko = ServerKubernetesObjectsManager.getOrCreate(info, getServerName());
+    }
+
+    // Looked up only when the record is used, so that building a model has no side effects.
+    ServerKubernetesObjects getSko() {
+      return ServerKubernetesObjectsManager.getOrCreate(info, getServerName());
     }
 
     @Override
@@ -175,6 +191,13 @@ public class ServiceHelper {
       return serverName;
     }
 
+    @Override
+    Map<String, Object> createModelInputs() {
+      Map<String, Object> inputs = super.createModelInputs();
+      inputs.put("serverName", getServerName());
+      return inputs;
+    }
+
     @Override
     protected void logServiceExists() {
       LOGGER.fine(getServiceExistsMessageKey(), getDomainUID(), getServerName());
@@ -208,9 +231,10 @@ public class ServiceHelper {
     }
   }
 
-  private abstract static class ServiceStepContext {
+  abstract static class ServiceStepContext {
     private final Step conflictStep;
     DomainPresenceInfo info;
+    private String desiredHash;
 
     ServiceStepContext(Step conflictStep, Packet packet) {
       this.conflictStep = conflictStep;
@@ -249,7 +273,48 @@ public class ServiceHelper {
     }
 
     V1Service createModel() {
-      return new V1Service().spec(createServiceSpec()).metadata(createMetadata());
+      V1Service service = new V1Service().spec(createServiceSpec()).metadata(createMetadata());
+      AnnotationHelper.setHash(service.getMetadata(), getDesiredHash());
+      return service;
+    }
+
+    // The hash recorded on a service is computed from the inputs to its model, so that a service
+    // can be validated without building the model.
+    private String getDesiredHash() {
+      if (desiredHash == null) {
+        desiredHash = AnnotationHelper.createHash(createModelInputs());
+      }
+      return desiredHash;
+    }
+
+    /**
+     * Returns the values from which the service model is built. Any value that changes the model
+     * must be included, and the model version must change whenever the way the model is built from
+     * these values does.
+     *
+     * @return the inputs to the service model
+     */
+    Map<String, Object> createModelInputs() {
+      Map<String, Object> inputs = new LinkedHashMap<>();
+      inputs.put("modelVersion", MODEL_VERSION);
+      inputs.put("serviceName", createServiceName());
+      inputs.put("namespace", getNamespace());
+      inputs.put("domainUID", getDomainUID());
+      inputs.put("domainName", getDomainName());
+      inputs.put("type", getSpecType());
+      inputs.put("port", createServicePort());
+      return inputs;
+    }
+
+    // Services created by this operator record a hash of their model inputs; older services,
+    // created before the hash was introduced, are checked field by field.
+    boolean isCurrentServiceValid(V1Service current) {
+      String currentHash = AnnotationHelper.getHash(current.getMetadata());
+      if (currentHash != null) {
+        return currentHash.equals(getDesiredHash());
+      }
+
+      return validateCurrentServiceFields(createModel(), current);
     }
 
     protected V1ServiceSpec createServiceSpec() {
@@ -298,14 +363,73 @@ public class ServiceHelper {
 
     Step verifyService(Step next) {
       V1Service service = getServiceFromRecord();
-      if (service == null) {
-        return createNewService(next);
-      } else if (validateCurrentService(createModel(), service)) {
+      DomainPlan.Operation operation = getServiceOperation(service);
+      if (operation == null) {
         logServiceExists();
         return next;
+      }
+
+      switch (operation) {
+        case CREATE:
+          return createNewService(next);
+        case PATCH:
+          return patchService(createModel(), service, next);
+        default:
+          removeServiceFromRecord();
+          return deleteAndReplaceService(next);
+      }
+    }
+
+    /**
+     * Returns the change that {@link #verifyService(Step)} makes to the service, if any. The step
+     * and the {@link DomainPlanner} both decide through this method.
+     *
+     * @param current the recorded service, or null if there is none
+     * @return the change to make, or null if the current service may be kept as it is
+     */
+    DomainPlan.Operation getServiceOperation(V1Service current) {
+      if (current == null) {
+        return DomainPlan.Operation.CREATE;
+      } else if (isCurrentServiceValid(current)) {
+        return null;
+      } else if (canPatchService(createModel(), current)) {
+        return DomainPlan.Operation.PATCH;
       } else {
-        removeServiceFromRecord();
-        return deleteAndReplaceService(next);
+        return DomainPlan.Operation.REPLACE;
+      }
+    }
+
+    private Step patchService(V1Service model, V1Service current, Step next) {
+      JsonPatch patch =
+          new JsonPatch()
+              .addMetadataChanges(current.getMetadata(), model.getMetadata())
+              .add("/spec/selector", model.getSpec().getSelector())
+              .add("/spec/ports", model.getSpec().getPorts());
+      if (model.getSpec().isPublishNotReadyAddresses() != null) {
+        patch.add("/spec/publishNotReadyAddresses", model.getSpec().isPublishNotReadyAddresses());
+      }
+      LOGGER.info(SERVICE_PATCHED, getDomainUID(), createServiceName());
+      return new CallBuilder()
+          .patchServiceAsync(
+              createServiceName(), getNamespace(), patch, new PatchServiceResponse(next));
+    }
+
+    private class PatchServiceResponse extends ResponseStep<V1Service> {
+      PatchServiceResponse(Step next) {
+        super(next);
+      }
+
+      @Override
+      public NextAction onFailure(Packet packet, CallResponse<V1Service> callResponse) {
+        return onFailure(getConflictStep(), packet, callResponse);
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, CallResponse<V1Service> callResponse) {
+        Optional.ofNullable(callResponse.getResult())
+            .map(ResourceProjections::project)
+            .ifPresent(ServiceStepContext.this::addServiceToRecord);
+        return doNext(packet);
       }
     }
 
@@ -327,7 +451,7 @@ public class ServiceHelper {
         if (service == null) {
           removeServiceFromRecord();
         } else {
-          addServiceToRecord(service);
+          addServiceToRecord(ResourceProjections.project(service));
         }
         return doNext(packet);
       }
@@ -393,7 +517,7 @@ public class ServiceHelper {
       @Override
       public NextAction onSuccess(Packet packet, CallResponse<V1Service> callResponse) {
         logServiceCreated(messageKey);
-        addServiceToRecord(callResponse.getResult());
+        addServiceToRecord(ResourceProjections.project(callResponse.getResult()));
         return doNext(packet);
       }
     }
@@ -496,6 +620,13 @@ public class ServiceHelper {
       return LegalNames.toClusterServiceName(getDomainUID(), clusterName);
     }
 
+    @Override
+    Map<String, Object> createModelInputs() {
+      Map<String, Object> inputs = super.createModelInputs();
+      inputs.put("clusterName", clusterName);
+      return inputs;
+    }
+
     @Override
     protected V1Service getServiceFromRecord() {
       return info.getClusters().get(clusterName);
@@ -532,7 +663,57 @@ public class ServiceHelper {
     }
   }
 
-  private static boolean validateCurrentService(V1Service build, V1Service current) {
+  /**
+   * Creates a context describing the desired per-server service for a packet prepared for {@link
+   * #createForServerStep(Step)}.
+   *
+   * @param packet the packet
+   * @return the service context
+   */
+  static ServiceStepContext createServerServiceContext(Packet packet) {
+    return new ForServerStepContext(null, packet);
+  }
+
+  /**
+   * Creates a context describing the desired cluster service for a packet prepared for {@link
+   * #createForClusterStep(Step)}.
+   *
+   * @param packet the packet
+   * @return the service context
+   */
+  static ServiceStepContext createClusterServiceContext(Packet packet) {
+    return new ClusterStepContext(null, packet);
+  }
+
+  /**
+   * Creates a context describing the desired external channel service for a packet prepared for
+   * {@link #createForExternalChannelStep(Step)}.
+   *
+   * @param packet the packet
+   * @return the service context
+   */
+  static ServiceStepContext createExternalChannelServiceContext(Packet packet) {
+    return new ExternalStepContext(null, packet);
+  }
+
+  // Changes to the type of a service, or to whether it is headless, also change its cluster IP,
+  // which cannot be changed in place. Services created before the operator recorded hashes are
+  // always replaced.
+  static boolean canPatchService(V1Service model, V1Service current) {
+    return AnnotationHelper.getHash(current.getMetadata()) != null
+        && getType(current).equals(getType(model))
+        && isHeadless(current) == isHeadless(model);
+  }
+
+  private static String getType(V1Service service) {
+    return Optional.ofNullable(service.getSpec().getType()).orElse("ClusterIP");
+  }
+
+  private static boolean isHeadless(V1Service service) {
+    return "None".equals(service.getSpec().getClusterIP());
+  }
+
+  private static boolean validateCurrentServiceFields(V1Service build, V1Service current) {
     V1ServiceSpec buildSpec = build.getSpec();
     V1ServiceSpec currentSpec = current.getSpec();
 
@@ -618,6 +799,13 @@ public class ServiceHelper {
       return networkAccessPoint.getName();
     }
 
+    @Override
+    Map<String, Object> createModelInputs() {
+      Map<String, Object> inputs = super.createModelInputs();
+      inputs.put("channelName", getChannelName());
+      return inputs;
+    }
+
     @Override
     protected String createServiceName() {
       return LegalNames.toNAPName(getDomainUID(), getServerName(), networkAccessPoint);
@@ -625,17 +813,17 @@ public class ServiceHelper {
 
     @Override
     protected V1Service getServiceFromRecord() {
-      return sko.getChannels().get(getChannelName());
+      return getSko().getChannels().get(getChannelName());
     }
 
     @Override
     protected void addServiceToRecord(@Nonnull V1Service service) {
-      sko.getChannels().put(getChannelName(), service);
+      getSko().getChannels().put(getChannelName(), service);
     }
 
     @Override
     protected void removeServiceFromRecord() {
-      sko.getChannels().remove(getChannelName());
+      getSko().getChannels().remove(getChannelName());
     }
   }
 }
@@ -22,6 +22,10 @@ public interface SynchronousCallFactory {
   V1beta1CustomResourceDefinition createCustomResourceDefinition(
       ApiClient client, V1beta1CustomResourceDefinition body, String pretty) throws ApiException;
 
+  V1beta1CustomResourceDefinition replaceCustomResourceDefinition(
+      ApiClient client, String name, V1beta1CustomResourceDefinition body, String pretty)
+      throws ApiException;
+
   V1SelfSubjectRulesReview createSelfSubjectRulesReview(
       ApiClient client, V1SelfSubjectRulesReview body, String pretty) throws ApiException;
 
@@ -7,13 +7,16 @@ package oracle.kubernetes.operator.http;
 import io.kubernetes.client.ApiException;
 import io.kubernetes.client.models.V1Service;
 import io.kubernetes.client.models.V1ServiceSpec;
+import java.net.HttpURLConnection;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.client.WebTarget;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import oracle.kubernetes.operator.helpers.CallBuilderFactory;
 import oracle.kubernetes.operator.helpers.SecretHelper;
@@ -24,6 +27,7 @@ import oracle.kubernetes.operator.work.ContainerResolver;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import org.glassfish.jersey.client.ClientProperties;
 
 /** HTTP Client */
 public class HttpClient {
@@ -36,6 +40,14 @@ public class HttpClient {
 
   private static final String HTTP_PROTOCOL = "http://";
 
+  // Building a JAX-RS client is costly, and it holds no credentials, so every HttpClient shares one
+  // and sends its own credentials with each request.
+  private static Client SHARED_CLIENT = ClientBuilder.newClient();
+
+  // namespace/admin secret name -> a client with the credentials in that secret. A client is
+  // dropped when a server rejects its credentials, so that the secret is read again.
+  private static final Map<String, HttpClient> AUTHENTICATED_CLIENTS = new ConcurrentHashMap<>();
+
   // for debugging
   private static final String SERVICE_URL =
       System.getProperty("oracle.kubernetes.operator.http.HttpClient.SERVICE_URL");
@@ -75,6 +87,47 @@ public class HttpClient {
       }
     } else {
       LOGGER.warning(MessageKeys.HTTP_METHOD_FAILED, "GET", url, response.getStatus());
+      forgetIfRejected(status);
+    }
+    return new Result(responseString, status, successful);
+  }
+
+  /**
+   * Constructs a URL using the provided service URL and request URL, and use the resulting URL to
+   * issue a HTTP GET request for plain text, such as the metrics of the WebLogic Monitoring
+   * Exporter. The request is abandoned if the connection or the response takes too long.
+   *
+   * @param requestUrl The request URL containing the request of the REST call
+   * @param serviceURL The service URL containing the host and port of the server where the HTTP
+   *     request is to be sent to
+   * @param timeoutMillis The longest wait, in milliseconds, for the connection and for the response
+   * @return A Result object containing the respond from the REST call
+   */
+  public Result executeGetTextOnServiceClusterIP(
+      String requestUrl, String serviceURL, int timeoutMillis) {
+    String url = serviceURL + requestUrl;
+    WebTarget target =
+        httpClient
+            .target(url)
+            .property(ClientProperties.CONNECT_TIMEOUT, timeoutMillis)
+            .property(ClientProperties.READ_TIMEOUT, timeoutMillis);
+    Invocation.Builder invocationBuilder =
+        target
+            .request()
+            .accept(MediaType.TEXT_PLAIN)
+            .header("Authorization", "Basic " + encodedCredentials);
+    Response response = invocationBuilder.get();
+    String responseString = null;
+    int status = response.getStatus();
+    boolean successful = false;
+    if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
+      successful = true;
+      if (response.hasEntity()) {
+        responseString = String.valueOf(response.readEntity(String.class));
+      }
+    } else {
+      LOGGER.fine(MessageKeys.HTTP_METHOD_FAILED, "GET", url, response.getStatus());
+      forgetIfRejected(status);
     }
     return new Result(responseString, status, successful);
   }
@@ -139,6 +192,7 @@ public class HttpClient {
       }
     } else {
       LOGGER.fine(MessageKeys.HTTP_METHOD_FAILED, "POST", url, response.getStatus());
+      forgetIfRejected(status);
       if (throwOnFailure) {
         throw new HTTPException(status);
       }
@@ -146,9 +200,17 @@ public class HttpClient {
     return new Result(responseString, status, successful);
   }
 
+  private void forgetIfRejected(int status) {
+    if (status == HttpURLConnection.HTTP_UNAUTHORIZED
+        || status == HttpURLConnection.HTTP_FORBIDDEN) {
+      AUTHENTICATED_CLIENTS.values().remove(this);
+    }
+  }
+
   /**
    * Asynchronous {@link Step} for creating an authenticated HTTP client targeted at a server
-   * instance
+   * instance. The client made from an admin secret is reused until a server rejects its
+   * credentials.
    *
    * @param namespace Namespace
    * @param adminSecretName Admin secret name
@@ -157,8 +219,21 @@ public class HttpClient {
    */
   public static Step createAuthenticatedClientForServer(
       String namespace, String adminSecretName, Step next) {
-    return new AuthenticatedClientForServerStep(
-        namespace, adminSecretName, new WithSecretDataStep(next));
+    return new AuthenticatedClientForServerStep(namespace, adminSecretName, next);
+  }
+
+  /**
+   * Discards the client remembered for an admin secret, such as when its domain is deleted.
+   *
+   * @param namespace Namespace
+   * @param adminSecretName Admin secret name
+   */
+  public static void forgetAuthenticatedClient(String namespace, String adminSecretName) {
+    AUTHENTICATED_CLIENTS.remove(getClientKey(namespace, adminSecretName));
+  }
+
+  private static String getClientKey(String namespace, String adminSecretName) {
+    return namespace + "/" + adminSecretName;
   }
 
   private static class AuthenticatedClientForServerStep extends Step {
@@ -173,17 +248,29 @@ public class HttpClient {
 
     @Override
     public NextAction apply(Packet packet) {
+      String clientKey = getClientKey(namespace, adminSecretName);
+      HttpClient client = AUTHENTICATED_CLIENTS.get(clientKey);
+      if (client != null) {
+        packet.put(KEY, client);
+        return doNext(packet);
+      }
+
       Step readSecret =
           SecretHelper.getSecretData(
-              SecretHelper.SecretType.AdminCredentials, adminSecretName, namespace, getNext());
+              SecretHelper.SecretType.AdminCredentials,
+              adminSecretName,
+              namespace,
+              new WithSecretDataStep(clientKey, getNext()));
       return doNext(readSecret, packet);
     }
   }
 
   private static class WithSecretDataStep extends Step {
+    private final String clientKey;
 
-    public WithSecretDataStep(Step next) {
+    public WithSecretDataStep(String clientKey, Step next) {
       super(next);
+      this.clientKey = clientKey;
     }
 
     @Override
@@ -197,7 +284,11 @@ public class HttpClient {
         username = secretData.get(SecretHelper.ADMIN_SERVER_CREDENTIALS_USERNAME);
         password = secretData.get(SecretHelper.ADMIN_SERVER_CREDENTIALS_PASSWORD);
       }
-      packet.put(KEY, createAuthenticatedClient(username, password));
+      HttpClient client = createAuthenticatedClient(username, password);
+      if (client.encodedCredentials != null) {
+        AUTHENTICATED_CLIENTS.put(clientKey, client);
+      }
+      packet.put(KEY, client);
 
       Arrays.fill(username, (byte) 0);
       Arrays.fill(password, (byte) 0);
@@ -235,8 +326,6 @@ public class HttpClient {
    * @return authenticated client
    */
   public static HttpClient createAuthenticatedClient(final byte[] username, final byte[] password) {
-    // build client with authentication information.
-    Client client = ClientBuilder.newClient();
     String encodedCredentials = null;
     if (username != null && password != null) {
       byte[] usernameAndPassword = new byte[username.length + password.length + 1];
@@ -245,7 +334,7 @@ public class HttpClient {
       System.arraycopy(password, 0, usernameAndPassword, username.length + 1, password.length);
       encodedCredentials = java.util.Base64.getEncoder().encodeToString(usernameAndPassword);
     }
-    return new HttpClient(client, encodedCredentials);
+    return new HttpClient(SHARED_CLIENT, encodedCredentials);
   }
 
   /**
@@ -123,7 +123,6 @@ public class MessageKeys {
   public static final String RESTART_SERVERS_STARTING = "WLSKO-0116";
   public static final String ROLLING_CLUSTERS_STARTING = "WLSKO-0117";
   public static final String CYCLING_SERVERS = "WLSKO-0118";
-  public static final String ROLLING_SERVERS = "WLSKO-0119";
   public static final String REMOVING_INGRESS = "WLSKO-0120";
   public static final String LIST_INGRESS_FOR_DOMAIN = "WLSKO-0121";
   public static final String POD_DELETED = "WLSKO-0122";
@@ -139,4 +138,27 @@ public class MessageKeys {
   public static final String WLS_CLUSTER_SIZE_UPDATED = "WLSKO-0132";
   public static final String WLS_SERVER_TEMPLATE_NOT_FOUND = "WLSKO-0133";
   public static final String SCRIPT_LOADED = "WLSKO-0134";
+  public static final String POD_READY_TIMED_OUT = "WLSKO-0135";
+  public static final String NAMESPACE_STARTED = "WLSKO-0136";
+  public static final String OPERATOR_READY = "WLSKO-0137";
+  public static final String POD_PATCHED = "WLSKO-0138";
+  public static final String SERVICE_PATCHED = "WLSKO-0139";
+  public static final String INGRESS_PATCHED = "WLSKO-0140";
+  public static final String DELETING_DOMAIN_RESOURCES = "WLSKO-0141";
+  public static final String DELETING_SERVICES = "WLSKO-0142";
+  public static final String DOMAIN_RESOURCES_DELETED = "WLSKO-0143";
+  public static final String SHARD_LEADER_ELECTED = "WLSKO-0144";
+  public static final String SHARD_MEMBERS_CHANGED = "WLSKO-0145";
+  public static final String SHARD_NAMESPACES_CHANGED = "WLSKO-0146";
+  public static final String SHARD_LEASE_EXPIRED = "WLSKO-0147";
+  public static final String WLS_CONFIGURATION_RESTORED = "WLSKO-0148";
+  public static final String ROLLING_CLUSTER = "WLSKO-0149";
+  public static final String WATCH_GAP = "WLSKO-0150";
+  public static final String REPLACING_CRD = "WLSKO-0151";
+  public static final String AUTOSCALING_CLUSTER = "WLSKO-0152";
+  public static final String METRICS_UNAVAILABLE = "WLSKO-0153";
+  public static final String WLS_UPDATING_CONFIGURATION = "WLSKO-0154";
+  public static final String WLS_CONFIGURATION_UPDATED = "WLSKO-0155";
+  public static final String WLS_UPDATE_CONFIGURATION_FAILED = "WLSKO-0156";
+  public static final String CHECKPOINT_TOO_LARGE = "WLSKO-0157";
 }
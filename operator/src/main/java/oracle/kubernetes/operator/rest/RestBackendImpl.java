@@ -21,6 +21,7 @@ import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.Response.Status;
+import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.StartupControlConstants;
 import oracle.kubernetes.operator.helpers.AuthenticationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy;
@@ -28,15 +29,24 @@ import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Resource;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Scope;
 import oracle.kubernetes.operator.helpers.CallBuilderFactory;
+import oracle.kubernetes.operator.helpers.DomainPlan;
+import oracle.kubernetes.operator.helpers.DomainPlanner;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfoManager;
+import oracle.kubernetes.operator.helpers.HealthCheckHelper.KubernetesVersion;
 import oracle.kubernetes.operator.helpers.LegalNames;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
+import oracle.kubernetes.operator.rest.model.PlanModel;
+import oracle.kubernetes.operator.rest.model.PlannedActionModel;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsRetriever;
+import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.ContainerResolver;
+import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.weblogic.domain.v1.ClusterStartup;
 import oracle.kubernetes.weblogic.domain.v1.Domain;
 import oracle.kubernetes.weblogic.domain.v1.DomainList;
@@ -237,6 +247,41 @@ public class RestBackendImpl implements RestBackend {
     return result;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public PlanModel getPlan(String domainUID) {
+    LOGGER.entering(domainUID);
+    authorize(domainUID, Operation.get);
+    DomainPresenceInfo info = DomainPresenceInfoManager.lookup(domainUID);
+    if (info == null || info.getDomain() == null) {
+      WebApplicationException e = createWebApplicationException(Status.NOT_FOUND, null);
+      LOGGER.throwing(e);
+      throw e;
+    }
+
+    Packet packet = new Packet();
+    packet
+        .getComponents()
+        .put(
+            ProcessingConstants.DOMAIN_COMPONENT_NAME,
+            Component.createFor(
+                info,
+                ContainerResolver.getInstance().getContainer().getSPI(KubernetesVersion.class)));
+    DomainPlan plan = DomainPlanner.createPlan(packet);
+
+    PlanModel result = new PlanModel(plan.isComplete());
+    for (DomainPlan.Action action : plan.getActions()) {
+      PlannedActionModel item =
+          new PlannedActionModel(
+              action.getOperation().name(), action.getKind().name(), action.getName());
+      item.setServerName(action.getServerName());
+      item.setClusterName(action.getClusterName());
+      result.addAction(item);
+    }
+    LOGGER.exiting(result);
+    return result;
+  }
+
   /** {@inheritDoc} */
   @Override
   public void scaleCluster(String domainUID, String cluster, int managedServerCount) {
@@ -294,10 +339,13 @@ public class RestBackendImpl implements RestBackend {
       try {
         CallBuilderFactory factory =
             ContainerResolver.getInstance().getContainer().getSPI(CallBuilderFactory.class);
+        // The watch event for the change then starts its reconcile as a user action
+        markUserUpdatePending(domainUID, true);
         // Write out the Domain with updated replica values
         // TODO: Can we patch instead of replace?
         factory.create().replaceDomain(domainUID, namespace, domain);
       } catch (ApiException e) {
+        markUserUpdatePending(domainUID, false);
         LOGGER.finer(
             "Unexpected exception when updating Domain " + domainUID + " in namespace " + namespace,
             e);
@@ -306,6 +354,13 @@ public class RestBackendImpl implements RestBackend {
     }
   }
 
+  private void markUserUpdatePending(String domainUID, boolean pending) {
+    DomainPresenceInfo info = DomainPresenceInfoManager.lookup(domainUID);
+    if (info != null) {
+      info.getUserUpdatePending().set(pending);
+    }
+  }
+
   private void verifyWLSConfiguredClusterCapacity(
       String namespace, Domain domain, String cluster, int managedServerCount) {
     // Query WebLogic Admin Server for current configured WebLogic Cluster size
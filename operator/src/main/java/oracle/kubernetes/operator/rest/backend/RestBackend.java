@@ -5,6 +5,7 @@
 package oracle.kubernetes.operator.rest.backend;
 
 import java.util.Set;
+import oracle.kubernetes.operator.rest.model.PlanModel;
 
 /**
  * The RestBackend interface is to implement all of the WebLogic Operator REST resources that need
@@ -64,4 +65,15 @@ public interface RestBackend {
    * @param managedServerCount - the desired number of WebLogic managed servers.
    */
   public void scaleCluster(String domainUID, String cluster, int managedServerCount);
+
+  /**
+   * Computes the changes the WebLogic operator would make to bring the pods, services and ingresses
+   * of a WebLogic domain to their desired state, without making them.
+   *
+   * @param domainUID - the unique identifier assigned to the Weblogic domain when it was registered
+   *     with the WebLogic operator. The caller is responsible for calling isDomainUID first and not
+   *     calling this method if the domain has not been registered.
+   * @return the planned changes, in the order in which the operator would make them.
+   */
+  public PlanModel getPlan(String domainUID);
 }
@@ -0,0 +1,86 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PlanModel describes, in order, the changes the operator would make to bring a WebLogic domain's
+ * Kubernetes resources to their desired state. An empty plan means that nothing needs to change.
+ */
+public class PlanModel extends ItemModel {
+
+  /** Construct an empty PlanModel. */
+  public PlanModel() {}
+
+  /**
+   * Construct a populated PlanModel.
+   *
+   * @param complete - whether the plan covers the managed servers and clusters.
+   */
+  public PlanModel(boolean complete) {
+    setComplete(complete);
+  }
+
+  private boolean complete;
+  private List<PlannedActionModel> actions = new ArrayList<PlannedActionModel>();
+
+  /**
+   * Get whether the plan covers the managed servers and clusters. Until the operator has read the
+   * WebLogic domain's configuration, only the admin server is planned.
+   *
+   * @return whether the plan is complete.
+   */
+  public boolean isComplete() {
+    return complete;
+  }
+
+  /**
+   * Set whether the plan covers the managed servers and clusters.
+   *
+   * @param complete - whether the plan is complete.
+   */
+  public void setComplete(boolean complete) {
+    this.complete = complete;
+  }
+
+  /**
+   * Get the planned changes, in the order in which they would be made.
+   *
+   * @return a List of actions.
+   */
+  public List<PlannedActionModel> getActions() {
+    return actions;
+  }
+
+  /**
+   * Set the planned changes.
+   *
+   * @param actions - a List of actions.
+   */
+  public void setActions(List<PlannedActionModel> actions) {
+    this.actions = actions;
+  }
+
+  /**
+   * Add a change to the plan.
+   *
+   * @param action - the action to add.
+   */
+  public void addAction(PlannedActionModel action) {
+    actions.add(action);
+  }
+
+  @Override
+  protected String propertiesToString() {
+    return "complete="
+        + isComplete()
+        + ", actions="
+        + getActions()
+        + ", "
+        + super.propertiesToString();
+  }
+}
@@ -0,0 +1,135 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.model;
+
+/** PlannedActionModel describes a change the operator would make to a Kubernetes resource. */
+public class PlannedActionModel extends BaseModel {
+
+  /** Construct an empty PlannedActionModel. */
+  public PlannedActionModel() {}
+
+  /**
+   * Construct a populated PlannedActionModel.
+   *
+   * @param operation - what would be done: CREATE, PATCH, REPLACE or DELETE.
+   * @param kind - the kind of resource: POD, SERVICE or INGRESS.
+   * @param name - the name of the resource.
+   */
+  public PlannedActionModel(String operation, String kind, String name) {
+    setOperation(operation);
+    setKind(kind);
+    setName(name);
+  }
+
+  private String operation;
+  private String kind;
+  private String name;
+  private String serverName;
+  private String clusterName;
+
+  /**
+   * Get what would be done to the resource.
+   *
+   * @return CREATE, PATCH, REPLACE or DELETE.
+   */
+  public String getOperation() {
+    return operation;
+  }
+
+  /**
+   * Set what would be done to the resource.
+   *
+   * @param operation - CREATE, PATCH, REPLACE or DELETE.
+   */
+  public void setOperation(String operation) {
+    this.operation = operation;
+  }
+
+  /**
+   * Get the kind of the resource.
+   *
+   * @return POD, SERVICE or INGRESS.
+   */
+  public String getKind() {
+    return kind;
+  }
+
+  /**
+   * Set the kind of the resource.
+   *
+   * @param kind - POD, SERVICE or INGRESS.
+   */
+  public void setKind(String kind) {
+    this.kind = kind;
+  }
+
+  /**
+   * Get the name of the resource.
+   *
+   * @return the resource's name.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Set the name of the resource.
+   *
+   * @param name - the resource's name.
+   */
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  /**
+   * Get the name of the WebLogic server to which the resource belongs.
+   *
+   * @return the server's name, or null for a cluster resource.
+   */
+  public String getServerName() {
+    return serverName;
+  }
+
+  /**
+   * Set the name of the WebLogic server to which the resource belongs.
+   *
+   * @param serverName - the server's name.
+   */
+  public void setServerName(String serverName) {
+    this.serverName = serverName;
+  }
+
+  /**
+   * Get the name of the WebLogic cluster to which the resource belongs.
+   *
+   * @return the cluster's name, or null for a server resource.
+   */
+  public String getClusterName() {
+    return clusterName;
+  }
+
+  /**
+   * Set the name of the WebLogic cluster to which the resource belongs.
+   *
+   * @param clusterName - the cluster's name.
+   */
+  public void setClusterName(String clusterName) {
+    this.clusterName = clusterName;
+  }
+
+  @Override
+  protected String propertiesToString() {
+    return "operation="
+        + getOperation()
+        + ", kind="
+        + getKind()
+        + ", name="
+        + getName()
+        + ", serverName="
+        + getServerName()
+        + ", clusterName="
+        + getClusterName(); // super has no properties
+  }
+}
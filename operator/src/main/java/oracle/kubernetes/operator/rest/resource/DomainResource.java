@@ -43,6 +43,7 @@ public class DomainResource extends BaseResource {
     DomainModel item = new DomainModel(getDomainUID());
     addSelfAndParentLinks(item);
     addLink(item, "clusters");
+    addLink(item, "plan");
     LOGGER.exiting(item);
     return item;
   }
@@ -60,6 +61,19 @@ public class DomainResource extends BaseResource {
     return result;
   }
 
+  /**
+   * Construct and return the 'plan' jaxrs child resource.
+   *
+   * @return the plan sub resource.
+   */
+  @Path("plan")
+  public PlanResource getPlanResource() {
+    LOGGER.entering(href());
+    PlanResource result = new PlanResource(this, "plan");
+    LOGGER.exiting(result);
+    return result;
+  }
+
   private String getDomainUID() {
     return getPathSegment();
   }
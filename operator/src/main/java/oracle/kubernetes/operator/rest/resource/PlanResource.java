@@ -0,0 +1,51 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.resource;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.rest.model.PlanModel;
+
+/**
+ * PlanResource is a jaxrs resource that implements the REST api for the
+ * /operator/{version}/domains/{domainUID}/plan path. It is a dry run: it describes the changes the
+ * operator would make to the WebLogic domain's pods, services and ingresses, without making them.
+ */
+public class PlanResource extends BaseResource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /**
+   * Construct a PlanResource.
+   *
+   * @param parent - the jaxrs resource that parents this resource.
+   * @param pathSegment - the last path segment in the url to this resource.
+   */
+  public PlanResource(BaseResource parent, String pathSegment) {
+    super(parent, pathSegment);
+  }
+
+  /**
+   * Get the changes the operator would make to this WebLogic domain.
+   *
+   * @return a PlanModel describing the changes.
+   */
+  @GET
+  @Produces(MediaType.APPLICATION_JSON)
+  public PlanModel get() {
+    LOGGER.entering(href());
+    PlanModel item = getBackend().getPlan(getDomainUID());
+    addSelfAndParentLinks(item);
+    LOGGER.exiting(item);
+    return item;
+  }
+
+  private String getDomainUID() {
+    return getParent().getPathSegment();
+  }
+}
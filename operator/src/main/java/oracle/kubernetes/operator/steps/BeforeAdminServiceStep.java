@@ -24,8 +24,17 @@ public class BeforeAdminServiceStep extends Step {
     DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
 
     Domain dom = info.getDomain();
-    DomainSpec spec = dom.getSpec();
+    addToPacket(packet, dom.getSpec());
+    return doNext(packet);
+  }
 
+  /**
+   * Describes the admin server to the service and pod steps.
+   *
+   * @param packet the packet to update
+   * @param spec the domain spec
+   */
+  public static void addToPacket(Packet packet, DomainSpec spec) {
     packet.put(ProcessingConstants.SERVER_NAME, spec.getAsName());
     packet.put(ProcessingConstants.PORT, spec.getAsPort());
     List<ServerStartup> ssl = spec.getServerStartup();
@@ -37,6 +46,5 @@ public class BeforeAdminServiceStep extends Step {
         }
       }
     }
-    return doNext(packet);
   }
 }
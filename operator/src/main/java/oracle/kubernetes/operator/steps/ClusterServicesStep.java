@@ -34,15 +34,8 @@ public class ClusterServicesStep extends Step {
     WlsDomainConfig scan = info.getScan();
     if (scan != null) {
       for (Map.Entry<String, WlsClusterConfig> entry : scan.getClusterConfigs().entrySet()) {
-        Packet p = packet.clone();
         WlsClusterConfig clusterConfig = entry.getValue();
-        p.put(ProcessingConstants.CLUSTER_SCAN, clusterConfig);
-        p.put(ProcessingConstants.CLUSTER_NAME, clusterConfig.getClusterName());
-        for (WlsServerConfig serverConfig : clusterConfig.getServerConfigs()) {
-          p.put(ProcessingConstants.PORT, serverConfig.getListenPort());
-          break;
-        }
-
+        Packet p = createClusterPacket(packet, clusterConfig);
         startDetails.add(
             new StepAndPacket(
                 ServiceHelper.createForClusterStep(IngressHelper.createClusterStep(null)), p));
@@ -54,4 +47,22 @@ public class ClusterServicesStep extends Step {
     }
     return doForkJoin(getNext(), packet, startDetails);
   }
+
+  /**
+   * Creates a packet describing a cluster to the service and ingress steps.
+   *
+   * @param packet the packet to copy
+   * @param clusterConfig the WebLogic configuration of the cluster
+   * @return the new packet
+   */
+  public static Packet createClusterPacket(Packet packet, WlsClusterConfig clusterConfig) {
+    Packet p = packet.clone();
+    p.put(ProcessingConstants.CLUSTER_SCAN, clusterConfig);
+    p.put(ProcessingConstants.CLUSTER_NAME, clusterConfig.getClusterName());
+    for (WlsServerConfig serverConfig : clusterConfig.getServerConfigs()) {
+      p.put(ProcessingConstants.PORT, serverConfig.getListenPort());
+      break;
+    }
+    return p;
+  }
 }
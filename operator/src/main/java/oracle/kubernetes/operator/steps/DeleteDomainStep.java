@@ -8,7 +8,10 @@ import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.forDomainUid;
 
 import io.kubernetes.client.models.V1ServiceList;
+import io.kubernetes.client.models.V1Status;
 import io.kubernetes.client.models.V1beta1IngressList;
+import java.net.HttpURLConnection;
+import java.util.concurrent.TimeUnit;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -18,6 +21,11 @@ import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 
+/**
+ * Deletes the Kubernetes resources created by the operator for a domain. Ingresses, services and
+ * pods are deleted concurrently; ingresses and pods by label-selected collection deletes, and
+ * services, which have no collection delete, individually but several at a time.
+ */
 public class DeleteDomainStep extends Step {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
@@ -32,10 +40,21 @@ public class DeleteDomainStep extends Step {
 
   @Override
   public NextAction apply(Packet packet) {
-    return doNext(Step.chain(deleteIngresses(), deleteServices(), deletePods()), packet);
+    LOGGER.info(MessageKeys.DELETING_DOMAIN_RESOURCES, domainUID, namespace);
+    return doNext(
+        Step.chain(
+            new ParallelStep(deleteIngresses(), deleteServices(), deletePods()),
+            new DomainResourcesDeletedStep(domainUID, System.nanoTime(), getNext())),
+        packet);
   }
 
   private Step deleteIngresses() {
+    return new CallBuilder()
+        .withLabelSelectors(forDomainUid(domainUID), CREATEDBYOPERATOR_LABEL)
+        .deleteCollectionIngressAsync(namespace, new DeleteIngressCollectionResponseStep());
+  }
+
+  private Step listAndDeleteIngresses() {
     LOGGER.finer(MessageKeys.LIST_INGRESS_FOR_DOMAIN, this.domainUID, namespace);
     return new CallBuilder()
         .withLabelSelectors(forDomainUid(domainUID), CREATEDBYOPERATOR_LABEL)
@@ -56,6 +75,7 @@ public class DeleteDomainStep extends Step {
             namespace,
             new ActionResponseStep<V1ServiceList>() {
               Step createSuccessStep(V1ServiceList result, Step next) {
+                LOGGER.fine(MessageKeys.DELETING_SERVICES, domainUID, result.getItems().size());
                 return new DeleteServiceListStep(result.getItems(), next);
               }
             });
@@ -64,7 +84,45 @@ public class DeleteDomainStep extends Step {
   private Step deletePods() {
     return new CallBuilder()
         .withLabelSelectors(forDomainUid(domainUID), CREATEDBYOPERATOR_LABEL)
-        .deleteCollectionPodAsync(namespace, new DefaultResponseStep<>(getNext()));
+        .deleteCollectionPodAsync(namespace, new DefaultResponseStep<>(null));
+  }
+
+  /**
+   * Falls back to deleting ingresses one by one if the server or the operator's role does not
+   * permit deleting them as a collection.
+   */
+  private class DeleteIngressCollectionResponseStep extends DefaultResponseStep<V1Status> {
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<V1Status> callResponse) {
+      return isCollectionDeleteRefused(callResponse.getStatusCode())
+          ? doNext(listAndDeleteIngresses(), packet)
+          : super.onFailure(packet, callResponse);
+    }
+
+    private boolean isCollectionDeleteRefused(int statusCode) {
+      return statusCode == HttpURLConnection.HTTP_BAD_METHOD
+          || statusCode == HttpURLConnection.HTTP_FORBIDDEN;
+    }
+  }
+
+  private static class DomainResourcesDeletedStep extends Step {
+    private final String domainUID;
+    private final long startNanos;
+
+    DomainResourcesDeletedStep(String domainUID, long startNanos, Step next) {
+      super(next);
+      this.domainUID = domainUID;
+      this.startNanos = startNanos;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      LOGGER.info(
+          MessageKeys.DOMAIN_RESOURCES_DELETED,
+          domainUID,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+      return doNext(packet);
+    }
   }
 
   /**
@@ -8,39 +8,25 @@ import io.kubernetes.client.models.V1DeleteOptions;
 import io.kubernetes.client.models.V1ObjectMeta;
 import io.kubernetes.client.models.V1beta1Ingress;
 import java.util.Collection;
-import java.util.Iterator;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
-import oracle.kubernetes.operator.work.NextAction;
-import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 
 /**
- * A step which will delete each entry in the specified collection. It does so by chaining back to
- * itself in the response step, in order to process the next entry in the iterator.
+ * A step which will delete each ingress in the specified collection, several at a time. Used when
+ * the ingresses cannot be deleted as a collection.
  */
-public class DeleteIngressListStep extends Step {
+public class DeleteIngressListStep extends DeleteListStep<V1beta1Ingress> {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
-  private final Iterator<V1beta1Ingress> it;
-
   DeleteIngressListStep(Collection<V1beta1Ingress> c, Step next) {
-    super(next);
-    this.it = c.iterator();
+    super(c, next);
   }
 
   @Override
-  public NextAction apply(Packet packet) {
-    if (it.hasNext()) {
-      return doNext(createDeleteStep(it.next()), packet);
-    } else {
-      return doNext(packet);
-    }
-  }
-
-  private Step createDeleteStep(V1beta1Ingress v1beta1Ingress) {
+  Step createDeleteStep(V1beta1Ingress v1beta1Ingress, Step next) {
     V1ObjectMeta meta = v1beta1Ingress.getMetadata();
     LOGGER.finer(MessageKeys.REMOVING_INGRESS, meta.getName(), meta.getNamespace());
     return new CallBuilder()
@@ -48,6 +34,6 @@ public class DeleteIngressListStep extends Step {
             meta.getName(),
             meta.getNamespace(),
             new V1DeleteOptions(),
-            new DefaultResponseStep<>(this));
+            new DefaultResponseStep<>(next));
   }
 }
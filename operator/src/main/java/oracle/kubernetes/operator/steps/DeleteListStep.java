@@ -0,0 +1,86 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+
+/**
+ * A step which will delete each entry in the specified collection, for resources which cannot be
+ * deleted as a collection. The entries are divided among at most {@link #MAX_PARALLEL_DELETES}
+ * child fibers, each of which deletes its share one at a time by chaining back to itself.
+ *
+ * @param <T> the type of resource to delete
+ */
+abstract class DeleteListStep<T> extends Step {
+  static final int MAX_PARALLEL_DELETES = 8;
+
+  private final Collection<T> items;
+
+  DeleteListStep(Collection<T> c, Step next) {
+    super(next);
+    this.items = c;
+  }
+
+  /**
+   * Creates a step to delete a single entry.
+   *
+   * @param item the entry to delete
+   * @param next the step to run once the delete call completes
+   * @return the delete step
+   */
+  abstract Step createDeleteStep(T item, Step next);
+
+  @Override
+  public NextAction apply(Packet packet) {
+    List<List<T>> shares = divide(items);
+    if (shares.size() <= 1) {
+      return doNext(new DeleteEachStep(items.iterator(), getNext()), packet);
+    }
+
+    Collection<StepAndPacket> startDetails = new ArrayList<>();
+    for (List<T> share : shares) {
+      startDetails.add(
+          new StepAndPacket(new DeleteEachStep(share.iterator(), null), packet.clone()));
+    }
+    return doForkJoin(getNext(), packet, startDetails);
+  }
+
+  private static <T> List<List<T>> divide(Collection<T> items) {
+    int numShares = Math.min(items.size(), MAX_PARALLEL_DELETES);
+    List<List<T>> shares = new ArrayList<>(numShares);
+    for (int i = 0; i < numShares; i++) {
+      shares.add(new ArrayList<>());
+    }
+    int i = 0;
+    for (T item : items) {
+      shares.get(i++ % numShares).add(item);
+    }
+    return shares;
+  }
+
+  private class DeleteEachStep extends Step {
+    private final Iterator<T> it;
+
+    DeleteEachStep(Iterator<T> it, Step next) {
+      super(next);
+      this.it = it;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      if (it.hasNext()) {
+        return doNext(createDeleteStep(it.next(), this), packet);
+      } else {
+        return doNext(packet);
+      }
+    }
+  }
+}
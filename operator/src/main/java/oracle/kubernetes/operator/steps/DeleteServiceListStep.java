@@ -8,38 +8,25 @@ import io.kubernetes.client.models.V1DeleteOptions;
 import io.kubernetes.client.models.V1ObjectMeta;
 import io.kubernetes.client.models.V1Service;
 import java.util.Collection;
-import java.util.Iterator;
 import oracle.kubernetes.operator.helpers.CallBuilder;
-import oracle.kubernetes.operator.work.NextAction;
-import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 
 /**
- * A step which will delete each entry in the specified collection. It does so by chaining back to
- * itself in the response step, in order to process the next entry in the iterator.
+ * A step which will delete each service in the specified collection. The API has no collection
+ * delete for services, so they are deleted individually, several at a time.
  */
-public class DeleteServiceListStep extends Step {
-  private final Iterator<V1Service> it;
+public class DeleteServiceListStep extends DeleteListStep<V1Service> {
 
   DeleteServiceListStep(Collection<V1Service> c, Step next) {
-    super(next);
-    this.it = c.iterator();
+    super(c, next);
   }
 
   @Override
-  public NextAction apply(Packet packet) {
-    if (it.hasNext()) {
-      return doNext(createDeleteStep(it.next()), packet);
-    } else {
-      return doNext(packet);
-    }
-  }
-
-  private Step createDeleteStep(V1Service service) {
+  Step createDeleteStep(V1Service service, Step next) {
     V1ObjectMeta meta = service.getMetadata();
     V1DeleteOptions deleteOptions = new V1DeleteOptions();
     return new CallBuilder()
         .deleteServiceAsync(
-            meta.getName(), meta.getNamespace(), deleteOptions, new DefaultResponseStep<>(this));
+            meta.getName(), meta.getNamespace(), deleteOptions, new DefaultResponseStep<>(next));
   }
 }
@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Map;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.PersistentVolumeCache;
 import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
@@ -20,6 +21,10 @@ import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.v1.Domain;
 import oracle.kubernetes.weblogic.domain.v1.DomainSpec;
 
+/**
+ * Records the persistent volume claims for a domain in its DomainPresenceInfo. The claims are read
+ * from the cache once the domain's namespace is watched, and listed otherwise.
+ */
 public class ListPersistentVolumeClaimStep extends Step {
   public ListPersistentVolumeClaimStep(Step next) {
     super(next);
@@ -36,6 +41,13 @@ public class ListPersistentVolumeClaimStep extends Step {
 
     String domainUID = spec.getDomainUID();
 
+    V1PersistentVolumeClaimList cached =
+        PersistentVolumeCache.getInstance().getClaims(namespace, domainUID);
+    if (cached != null) {
+      info.setClaims(cached);
+      return doNext(packet);
+    }
+
     Step list =
         new CallBuilder()
             .withLabelSelectors(forDomainUid(domainUID))
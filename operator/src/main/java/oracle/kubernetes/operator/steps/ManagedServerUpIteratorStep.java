@@ -39,16 +39,7 @@ public class ManagedServerUpIteratorStep extends Step {
     packet.put(ProcessingConstants.SERVERS_TO_ROLL, rolling);
 
     for (ServerStartupInfo ssi : c) {
-      Packet p = packet.clone();
-      p.put(ProcessingConstants.SERVER_SCAN, ssi.serverConfig);
-      p.put(ProcessingConstants.CLUSTER_SCAN, ssi.clusterConfig);
-      p.put(ProcessingConstants.ENVVARS, ssi.envVars);
-
-      p.put(ProcessingConstants.SERVER_NAME, ssi.serverConfig.getName());
-      p.put(ProcessingConstants.PORT, ssi.serverConfig.getListenPort());
-      ServerStartup ss = ssi.serverStartup;
-      p.put(ProcessingConstants.NODE_PORT, ss != null ? ss.getNodePort() : null);
-
+      Packet p = createServerPacket(packet, ssi);
       startDetails.add(new StepAndPacket(bringManagedServerUp(ssi, null), p));
     }
 
@@ -70,11 +61,31 @@ public class ManagedServerUpIteratorStep extends Step {
     }
 
     if (startDetails.isEmpty()) {
-      return doNext(packet);
+      return doNext(new ManagedServerUpAfterStep(getNext()), packet);
     }
     return doForkJoin(new ManagedServerUpAfterStep(getNext()), packet, startDetails);
   }
 
+  /**
+   * Creates a packet describing a managed server to the pod and service steps.
+   *
+   * @param packet the packet to copy
+   * @param ssi the server to describe
+   * @return the new packet
+   */
+  public static Packet createServerPacket(Packet packet, ServerStartupInfo ssi) {
+    Packet p = packet.clone();
+    p.put(ProcessingConstants.SERVER_SCAN, ssi.serverConfig);
+    p.put(ProcessingConstants.CLUSTER_SCAN, ssi.clusterConfig);
+    p.put(ProcessingConstants.ENVVARS, ssi.envVars);
+
+    p.put(ProcessingConstants.SERVER_NAME, ssi.serverConfig.getName());
+    p.put(ProcessingConstants.PORT, ssi.serverConfig.getListenPort());
+    ServerStartup ss = ssi.serverStartup;
+    p.put(ProcessingConstants.NODE_PORT, ss != null ? ss.getNodePort() : null);
+    return p;
+  }
+
   // pre-conditions: DomainPresenceInfo SPI
   // "principal"
   // "serverScan"
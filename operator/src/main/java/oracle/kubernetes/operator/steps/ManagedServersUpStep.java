@@ -7,11 +7,14 @@ package oracle.kubernetes.operator.steps;
 import io.kubernetes.client.models.V1EnvVar;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import oracle.kubernetes.operator.DomainStatusUpdater;
 import oracle.kubernetes.operator.StartupControlConstants;
 import oracle.kubernetes.operator.WebLogicConstants;
+import oracle.kubernetes.operator.helpers.DomainPlan;
+import oracle.kubernetes.operator.helpers.DomainPlanner;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
 import oracle.kubernetes.operator.helpers.ServerKubernetesObjects;
@@ -58,28 +61,81 @@ public class ManagedServersUpStep extends Step {
               + runningList);
     }
 
-    String sc = spec.getStartupControl();
-    if (sc == null) {
-      sc = StartupControlConstants.AUTO_STARTUPCONTROL;
-    } else {
-      sc = sc.toUpperCase();
-    }
-
+    String sc = getStartupControl(spec);
     WlsDomainConfig scan = info.getScan();
-    Collection<ServerStartupInfo> ssic = new ArrayList<ServerStartupInfo>();
-
-    String asName = spec.getAsName();
 
     for (String clusterName : info.getExplicitRestartClusters()) {
       WlsClusterConfig cluster = scan.getClusterConfig(clusterName);
       if (cluster != null) {
-        for (WlsServerConfig server : cluster.getServerConfigs()) {
-          info.getExplicitRestartServers().add(server.getName());
-        }
+        info.getExplicitRestartServers().addAll(cluster.getServerNames());
       }
     }
     info.getExplicitRestartClusters().clear();
 
+    switch (sc) {
+      case StartupControlConstants.ALL_STARTUPCONTROL:
+      case StartupControlConstants.AUTO_STARTUPCONTROL:
+      case StartupControlConstants.SPECIFIED_STARTUPCONTROL:
+        Collection<ServerStartupInfo> ssic = getServersToStart(spec, scan);
+        Collection<String> servers = new ArrayList<>();
+        for (ServerStartupInfo ssi : ssic) {
+          servers.add(ssi.serverConfig.getName());
+        }
+
+        info.setServerStartupInfo(ssic);
+        logPlan(packet);
+        LOGGER.exiting();
+        return doNext(
+            scaleDownIfNecessary(
+                info,
+                servers,
+                new ClusterServicesStep(info, new ManagedServerUpIteratorStep(ssic, getNext()))),
+            packet);
+      case StartupControlConstants.ADMIN_STARTUPCONTROL:
+      case StartupControlConstants.NONE_STARTUPCONTROL:
+      default:
+        info.setServerStartupInfo(null);
+        LOGGER.exiting();
+        return doNext(
+            scaleDownIfNecessary(
+                info, Collections.emptyList(), new ClusterServicesStep(info, getNext())),
+            packet);
+    }
+  }
+
+  // The plan only describes the changes; the steps which follow verify every server and cluster.
+  private static void logPlan(Packet packet) {
+    if (LOGGER.isFineEnabled()) {
+      DomainPlan plan = DomainPlanner.createPlan(packet);
+      LOGGER.fine(
+          "Planned changes for domain with UID: "
+              + packet.getSPI(DomainPresenceInfo.class).getDomain().getSpec().getDomainUID()
+              + ", actions: "
+              + plan.getActions());
+    }
+  }
+
+  private static String getStartupControl(DomainSpec spec) {
+    String sc = spec.getStartupControl();
+    return sc == null ? StartupControlConstants.AUTO_STARTUPCONTROL : sc.toUpperCase();
+  }
+
+  /**
+   * Selects the managed servers which should be running, according to the startup control of the
+   * domain.
+   *
+   * @param spec the domain spec
+   * @param scan the WebLogic configuration of the domain
+   * @return the managed servers to start, in the order in which they were selected; empty if the
+   *     startup control runs no managed servers
+   */
+  public static Collection<ServerStartupInfo> getServersToStart(
+      DomainSpec spec, WlsDomainConfig scan) {
+    String sc = getStartupControl(spec);
+    Collection<ServerStartupInfo> ssic = new ArrayList<ServerStartupInfo>();
+
+    String asName = spec.getAsName();
+
     boolean startAll = false;
     Collection<String> servers = new ArrayList<String>();
     switch (sc) {
@@ -102,14 +158,10 @@ public class ManagedServersUpStep extends Step {
               servers.add(serverName);
               // find cluster if this server is part of one
               WlsClusterConfig cc = null;
-              find:
               for (WlsClusterConfig wlsClusterConfig : scan.getClusterConfigs().values()) {
-                for (WlsServerConfig clusterMemberServerConfig :
-                    wlsClusterConfig.getServerConfigs()) {
-                  if (serverName.equals(clusterMemberServerConfig.getName())) {
-                    cc = wlsClusterConfig;
-                    break find;
-                  }
+                if (wlsClusterConfig.containsServer(serverName)) {
+                  cc = wlsClusterConfig;
+                  break;
                 }
               }
               List<V1EnvVar> env = ss.getEnv();
@@ -204,22 +256,10 @@ public class ManagedServersUpStep extends Step {
           }
         }
 
-        info.setServerStartupInfo(ssic);
-        LOGGER.exiting();
-        return doNext(
-            scaleDownIfNecessary(
-                info,
-                servers,
-                new ClusterServicesStep(info, new ManagedServerUpIteratorStep(ssic, getNext()))),
-            packet);
-      case StartupControlConstants.ADMIN_STARTUPCONTROL:
-      case StartupControlConstants.NONE_STARTUPCONTROL:
+        break;
       default:
-        info.setServerStartupInfo(null);
-        LOGGER.exiting();
-        return doNext(
-            scaleDownIfNecessary(info, servers, new ClusterServicesStep(info, getNext())), packet);
     }
+    return ssic;
   }
 
   /**
@@ -242,26 +282,29 @@ public class ManagedServersUpStep extends Step {
     return null;
   }
 
+  // Works on a copy, since the servers may be selected more than once from the same domain spec.
   private static List<V1EnvVar> startInAdminMode(List<V1EnvVar> env) {
-    if (env == null) {
-      env = new ArrayList<>();
-    }
+    List<V1EnvVar> result = new ArrayList<>();
 
     // look for JAVA_OPTIONS
     V1EnvVar jo = null;
-    for (V1EnvVar e : env) {
-      if ("JAVA_OPTIONS".equals(e.getName())) {
-        jo = e;
-        if (jo.getValueFrom() != null) {
-          throw new IllegalStateException();
+    if (env != null) {
+      for (V1EnvVar e : env) {
+        if (jo == null && "JAVA_OPTIONS".equals(e.getName())) {
+          if (e.getValueFrom() != null) {
+            throw new IllegalStateException();
+          }
+          jo = new V1EnvVar().name(e.getName()).value(e.getValue());
+          result.add(jo);
+        } else {
+          result.add(e);
         }
-        break;
       }
     }
     if (jo == null) {
       jo = new V1EnvVar();
       jo.setName("JAVA_OPTIONS");
-      env.add(jo);
+      result.add(jo);
     }
 
     // create or update value
@@ -270,7 +313,7 @@ public class ManagedServersUpStep extends Step {
     value = (value != null) ? (startInAdmin + " " + value) : startInAdmin;
     jo.setValue(value);
 
-    return env;
+    return result;
   }
 
   private static Step scaleDownIfNecessary(
@@ -0,0 +1,35 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+
+/**
+ * A step which runs several independent step chains in child fibers, each with its own copy of the
+ * packet, and continues with the next step once all of them have completed.
+ */
+public class ParallelStep extends Step {
+  private final List<Step> branches;
+
+  public ParallelStep(Step... branches) {
+    super(null);
+    this.branches = Arrays.asList(branches);
+  }
+
+  @Override
+  public NextAction apply(Packet packet) {
+    Collection<StepAndPacket> startDetails = new ArrayList<>();
+    for (Step branch : branches) {
+      startDetails.add(new StepAndPacket(branch, packet.clone()));
+    }
+    return doForkJoin(getNext(), packet, startDetails);
+  }
+}
@@ -0,0 +1,39 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.ScanCheckpoint;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
+
+/**
+ * Skips the inspection of the admin server when the operator has not yet read the domain's WebLogic
+ * configuration and can restore it from its checkpoint.
+ */
+public class RestoreScanStep extends Step {
+  private final Step afterInspection;
+
+  /**
+   * Creates the step.
+   *
+   * @param inspection the steps that inspect the admin server
+   * @param afterInspection the steps to run instead, once the configuration is restored
+   */
+  public RestoreScanStep(Step inspection, Step afterInspection) {
+    super(inspection);
+    this.afterInspection = afterInspection;
+  }
+
+  @Override
+  public NextAction apply(Packet packet) {
+    DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
+    if (info.getScan() == null && ScanCheckpoint.getInstance().restore(info)) {
+      return doNext(afterInspection, packet);
+    }
+    return doNext(packet);
+  }
+}
@@ -0,0 +1,67 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Assigns keys to members by consistent hashing. Each member is placed at several points on a ring
+ * of hash values, and a key belongs to the member at the first point at or after the hash of the
+ * key. The assignment depends only on the set of members, not on their order, and when a member
+ * joins or leaves only the keys on its share of the ring move.
+ */
+public class ConsistentHashRing {
+  private final TreeMap<Long, String> ring = new TreeMap<>();
+
+  /**
+   * Creates a ring.
+   *
+   * @param members the members, which must be distinct
+   * @param virtualNodes the number of points on the ring for each member
+   */
+  public ConsistentHashRing(Collection<String> members, int virtualNodes) {
+    for (String member : members) {
+      for (int i = 0; i < virtualNodes; i++) {
+        ring.putIfAbsent(hash(member + "#" + i), member);
+      }
+    }
+  }
+
+  /**
+   * Returns the member to which a key belongs.
+   *
+   * @param key the key
+   * @return the member, or null if the ring has no members
+   */
+  public String getOwner(String key) {
+    if (ring.isEmpty()) {
+      return null;
+    }
+    Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+    return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+  }
+
+  private static long hash(String value) {
+    byte[] digest = getDigest().digest(value.getBytes(StandardCharsets.UTF_8));
+    long hash = 0;
+    for (int i = 0; i < Long.BYTES; i++) {
+      hash = (hash << 8) | (digest[i] & 0xff);
+    }
+    return hash;
+  }
+
+  private static MessageDigest getDigest() {
+    try {
+      return MessageDigest.getInstance("MD5");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.utils;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe histogram of durations, in milliseconds, counted into fixed buckets. Each bucket
+ * counts the recorded durations that are at most its upper bound and greater than the bound of the
+ * bucket before it; a final bucket, bounded by {@link Long#MAX_VALUE}, counts everything else.
+ */
+public class LatencyHistogram {
+  /** Bucket bounds suited to operations that take from milliseconds to minutes. */
+  public static final long[] DEFAULT_BOUNDS_MILLIS = {
+    10, 50, 100, 500, 1000, 5000, 10000, 30000, 60000, 120000, 300000
+  };
+
+  private final long[] bounds;
+  private final LongAdder[] counts;
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+
+  /** Creates a histogram with the default bucket bounds. */
+  public LatencyHistogram() {
+    this(DEFAULT_BOUNDS_MILLIS);
+  }
+
+  /**
+   * Creates a histogram.
+   *
+   * @param boundsMillis the upper bounds of the buckets, in ascending order
+   */
+  public LatencyHistogram(long... boundsMillis) {
+    bounds = Arrays.copyOf(boundsMillis, boundsMillis.length + 1);
+    bounds[boundsMillis.length] = Long.MAX_VALUE;
+    counts = new LongAdder[bounds.length];
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = new LongAdder();
+    }
+  }
+
+  /**
+   * Records a duration.
+   *
+   * @param millis the duration in milliseconds
+   */
+  public void record(long millis) {
+    int i = Arrays.binarySearch(bounds, millis);
+    counts[i >= 0 ? i : -i - 1].increment();
+    count.increment();
+    sum.add(millis);
+  }
+
+  /**
+   * Returns the number of durations recorded.
+   *
+   * @return the count
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * Returns the total of the durations recorded.
+   *
+   * @return the sum in milliseconds
+   */
+  public long getSumMillis() {
+    return sum.sum();
+  }
+
+  /**
+   * Returns a snapshot of the bucket counts.
+   *
+   * @return a map of bucket upper bound, in ascending order, to the number of durations in it
+   */
+  public Map<Long, Long> getBuckets() {
+    Map<Long, Long> buckets = new LinkedHashMap<>();
+    for (int i = 0; i < bounds.length; i++) {
+      buckets.put(bounds[i], counts[i].sum());
+    }
+    return buckets;
+  }
+}
@@ -3,19 +3,31 @@
 // http://oss.oracle.com/licenses/upl.
 package oracle.kubernetes.operator.wlsconfig;
 
-import oracle.kubernetes.operator.work.Step;
-
 /**
  * Each ConfigUpdate contains a suggested WebLogic configuration update that is necessary to make
- * the WebLogic configuration to be compatible with the DomainSpec configuration.
+ * the WebLogic configuration to be compatible with the DomainSpec configuration. The suggested
+ * updates of a domain are made together, in one edit session, by {@link
+ * WlsRetriever#updateConfigStep}.
  */
 public interface ConfigUpdate {
 
   /**
-   * Create a Step to perform the suggested WebLogic configuration update
+   * Return the URL path, in the edit tree of the WebLogic REST API, of the bean to be updated
+   *
+   * @return URL path of the bean to be updated
+   */
+  String getUpdateUrl();
+
+  /**
+   * Return the payload of the REST request that updates the bean
    *
-   * @param next Next Step to be performed after the WebLogic configuration update
-   * @return Step to perform the suggested WebLogic configuration update
+   * @return payload of the REST request that updates the bean
+   */
+  String getUpdatePayload();
+
+  /**
+   * Apply the update to the WebLogic configuration that was read from the admin server, once the
+   * update has been activated, so that the configuration need not be read again
    */
-  Step createStep(Step next);
+  void apply();
 }
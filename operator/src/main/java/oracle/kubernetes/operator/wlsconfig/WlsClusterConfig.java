@@ -4,13 +4,14 @@
 
 package oracle.kubernetes.operator.wlsconfig;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
-import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.v1.ClusterStartup;
 
 /** Contains configuration of a WLS cluster */
@@ -132,16 +133,84 @@ public class WlsClusterConfig {
    *     cluster
    */
   public synchronized List<WlsServerConfig> getServerConfigs() {
-    if (dynamicServersConfig != null) {
-      List<WlsServerConfig> result =
-          new ArrayList<>(dynamicServersConfig.getDynamicClusterSize() + serverConfigs.size());
-      result.addAll(dynamicServersConfig.getServerConfigs());
-      result.addAll(serverConfigs);
-      return result;
+    if (dynamicServersConfig != null && dynamicServersConfig.getServerConfigs() != null) {
+      return new ServerConfigs(dynamicServersConfig.getServerConfigs(), serverConfigs);
     }
     return serverConfigs;
   }
 
+  /**
+   * Returns the names of the servers that belong to this cluster, in the order of {@link
+   * #getServerConfigs()}, without deriving the configurations of dynamic servers
+   *
+   * @return A list of the names of the servers that belong to this cluster
+   */
+  public synchronized List<String> getServerNames() {
+    List<WlsServerConfig> configs = getServerConfigs();
+    return new AbstractList<String>() {
+      @Override
+      public String get(int index) {
+        return getServerName(configs, index);
+      }
+
+      @Override
+      public int size() {
+        return configs.size();
+      }
+    };
+  }
+
+  /**
+   * Whether a server belongs to this cluster
+   *
+   * @param serverName Name of the server
+   * @return True if the server is statically configured in this cluster or is one of its dynamic
+   *     servers
+   */
+  public boolean containsServer(String serverName) {
+    return getServerNames().contains(serverName);
+  }
+
+  private static String getServerName(List<WlsServerConfig> serverConfigs, int index) {
+    if (serverConfigs instanceof ServerConfigs) {
+      ServerConfigs view = (ServerConfigs) serverConfigs;
+      int dynamicSize = view.dynamicServerConfigs.size();
+      return index < dynamicSize
+          ? WlsDynamicServersConfig.getServerName(view.dynamicServerConfigs, index)
+          : view.staticServerConfigs.get(index - dynamicSize).getName();
+    }
+    return WlsDynamicServersConfig.getServerName(serverConfigs, index);
+  }
+
+  /**
+   * The dynamic servers of a cluster followed by its statically configured servers, looked up in
+   * their own lists rather than copied
+   */
+  private static final class ServerConfigs extends AbstractList<WlsServerConfig>
+      implements RandomAccess {
+    private final List<WlsServerConfig> dynamicServerConfigs;
+    private final List<WlsServerConfig> staticServerConfigs;
+
+    ServerConfigs(
+        List<WlsServerConfig> dynamicServerConfigs, List<WlsServerConfig> staticServerConfigs) {
+      this.dynamicServerConfigs = dynamicServerConfigs;
+      this.staticServerConfigs = staticServerConfigs;
+    }
+
+    @Override
+    public WlsServerConfig get(int index) {
+      int dynamicSize = dynamicServerConfigs.size();
+      return index < dynamicSize
+          ? dynamicServerConfigs.get(index)
+          : staticServerConfigs.get(index - dynamicSize);
+    }
+
+    @Override
+    public int size() {
+      return dynamicServerConfigs.size() + staticServerConfigs.size();
+    }
+  }
+
   /**
    * Whether the cluster contains any statically configured servers
    *
@@ -247,14 +316,39 @@ public class WlsClusterConfig {
       if (replicas > getDynamicClusterSize()
           && getDynamicClusterSize() < getMaxDynamicClusterSize()) {
         // increase dynamic cluster size to satisfy replicas, but only up to the configured max
-        // dynamic cluster size
-        suggestedConfigUpdates.add(
-            new DynamicClusterSizeConfigUpdate(
-                this, Math.min(replicas, getMaxDynamicClusterSize())));
+        // dynamic cluster size. The updates are made together, so a cluster whose size is also
+        // suggested by another part of the domain spec gets the larger of the sizes.
+        int targetClusterSize = Math.min(replicas, getMaxDynamicClusterSize());
+        for (ConfigUpdate suggestedConfigUpdate : suggestedConfigUpdates) {
+          if (suggestedConfigUpdate instanceof DynamicClusterSizeConfigUpdate
+              && ((DynamicClusterSizeConfigUpdate) suggestedConfigUpdate).wlsClusterConfig
+                  == this) {
+            DynamicClusterSizeConfigUpdate update =
+                (DynamicClusterSizeConfigUpdate) suggestedConfigUpdate;
+            update.targetClusterSize = Math.max(update.targetClusterSize, targetClusterSize);
+            return;
+          }
+        }
+        suggestedConfigUpdates.add(new DynamicClusterSizeConfigUpdate(this, targetClusterSize));
       }
     }
   }
 
+  /**
+   * Sets the size of the dynamic cluster after it has been updated in the WebLogic domain, along
+   * with the configurations of the dynamic servers that can be started under the new size
+   *
+   * @param targetClusterSize the new dynamic cluster size
+   */
+  synchronized void setDynamicClusterSize(int targetClusterSize) {
+    if (dynamicServersConfig != null) {
+      dynamicServersConfig.setDynamicClusterSize(
+          targetClusterSize,
+          clusterName,
+          wlsDomainConfig == null ? null : wlsDomainConfig.getName());
+    }
+  }
+
   /**
    * Verify whether the WebLogic domain already has all the machines configured for use by the
    * dynamic cluster. For example, if machineNamePrefix is "domain1-cluster1-machine" and
@@ -376,26 +470,9 @@ public class WlsClusterConfig {
         + '}';
   }
 
-  /**
-   * Checks the JSON result from the dynamic cluster size update REST request
-   *
-   * @param jsonResult The JSON String result from the dynamic server cluster size update REST
-   *     request
-   * @return true if the result means the update was successful, false otherwise
-   */
-  static boolean checkUpdateDynamicClusterSizeJsonResult(String jsonResult) {
-    final String EXPECTED_RESULT = "{}";
-
-    boolean result = false;
-    if (EXPECTED_RESULT.equals(jsonResult)) {
-      result = true;
-    }
-    return result;
-  }
-
   /** ConfigUpdate implementation for updating a dynamic cluster size */
   static class DynamicClusterSizeConfigUpdate implements ConfigUpdate {
-    final int targetClusterSize;
+    int targetClusterSize;
     final WlsClusterConfig wlsClusterConfig;
 
     public DynamicClusterSizeConfigUpdate(
@@ -404,15 +481,27 @@ public class WlsClusterConfig {
       this.wlsClusterConfig = wlsClusterConfig;
     }
 
-    /**
-     * Create a Step to update the cluster size of a WebLogic dynamic cluster
-     *
-     * @param next Next Step to be performed after the WebLogic configuration update
-     * @return Step to update the cluster size of a WebLogic dynamic cluster
-     */
     @Override
-    public Step createStep(Step next) {
-      return new WlsRetriever.UpdateDynamicClusterStep(wlsClusterConfig, targetClusterSize, next);
+    public String getUpdateUrl() {
+      return wlsClusterConfig.getUpdateDynamicClusterSizeUrl();
+    }
+
+    @Override
+    public String getUpdatePayload() {
+      return wlsClusterConfig.getUpdateDynamicClusterSizePayload(targetClusterSize);
+    }
+
+    @Override
+    public void apply() {
+      wlsClusterConfig.setDynamicClusterSize(targetClusterSize);
+    }
+
+    @Override
+    public String toString() {
+      return "dynamic cluster size of cluster "
+          + wlsClusterConfig.getClusterName()
+          + " to "
+          + targetClusterSize;
     }
   }
 }
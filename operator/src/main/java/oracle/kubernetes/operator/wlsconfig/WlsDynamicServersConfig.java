@@ -4,9 +4,12 @@
 
 package oracle.kubernetes.operator.wlsconfig;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
@@ -18,13 +21,13 @@ public class WlsDynamicServersConfig {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
-  Integer dynamicClusterSize;
+  volatile Integer dynamicClusterSize;
   Integer maxDynamicClusterSize;
   final String serverNamePrefix;
   final boolean calculatedListenPorts;
   final WlsServerConfig serverTemplate;
   final String machineNameMatchExpression;
-  List<WlsServerConfig> serverConfigs;
+  volatile List<WlsServerConfig> serverConfigs;
 
   /**
    * Creates a WlsDynamicServersConfig object using an "dynamicServers" item parsed from JSON result
@@ -117,7 +120,9 @@ public class WlsDynamicServersConfig {
 
   /**
    * Create a list of WlsServerConfig objects for dynamic servers that corresponds to the current
-   * cluster size
+   * cluster size. The configuration of each server is only derived from the template when the
+   * server is first looked up in the list, and is then kept, so that the servers of a large cluster
+   * which are never started cost no more than their names.
    *
    * @param serverNames Names of the servers corresponding to the current cluster size
    * @param serverTemplate WlsServerConfig object containing template used for creating dynamic
@@ -133,26 +138,84 @@ public class WlsDynamicServersConfig {
       String clusterName,
       String domainName,
       boolean calculatedListenPorts) {
-    List<WlsServerConfig> serverConfigs = null;
-    if (serverNames != null && !serverNames.isEmpty()) {
-      serverConfigs = new ArrayList<>(serverNames.size());
-      int index = 0;
-      int startingServerIndex =
-          1; // hard coded to 1 for the time being. This will be configurable in later version of
-      // WLS
-      for (String serverName : serverNames) {
-        serverConfigs.add(
+    if (serverNames == null || serverNames.isEmpty()) {
+      return null;
+    }
+    return new DynamicServerConfigs(
+        new ArrayList<>(serverNames),
+        serverTemplate,
+        clusterName,
+        domainName,
+        calculatedListenPorts);
+  }
+
+  /**
+   * Return the name of a server in a list of server configurations, without deriving the
+   * configuration of a dynamic server that has not been looked up yet
+   *
+   * @param serverConfigs the server configurations
+   * @param index the position of the server in the list
+   * @return the name of the server
+   */
+  static String getServerName(List<WlsServerConfig> serverConfigs, int index) {
+    return serverConfigs instanceof DynamicServerConfigs
+        ? ((DynamicServerConfigs) serverConfigs).serverNames.get(index)
+        : serverConfigs.get(index).getName();
+  }
+
+  /**
+   * The configurations of dynamic servers, each derived from the server template and the index of
+   * the server when it is first looked up
+   */
+  static final class DynamicServerConfigs extends AbstractList<WlsServerConfig>
+      implements RandomAccess {
+    // hard coded to 1 for the time being. This will be configurable in later version of WLS
+    private static final int STARTING_SERVER_INDEX = 1;
+
+    private final List<String> serverNames;
+    private final WlsServerConfig serverTemplate;
+    private final String clusterName;
+    private final String domainName;
+    private final boolean calculatedListenPorts;
+    private final AtomicReferenceArray<WlsServerConfig> created;
+
+    DynamicServerConfigs(
+        List<String> serverNames,
+        WlsServerConfig serverTemplate,
+        String clusterName,
+        String domainName,
+        boolean calculatedListenPorts) {
+      this.serverNames = serverNames;
+      this.serverTemplate = serverTemplate;
+      this.clusterName = clusterName;
+      this.domainName = domainName;
+      this.calculatedListenPorts = calculatedListenPorts;
+      this.created = new AtomicReferenceArray<>(serverNames.size());
+    }
+
+    @Override
+    public WlsServerConfig get(int index) {
+      WlsServerConfig serverConfig = created.get(index);
+      if (serverConfig == null) {
+        created.compareAndSet(
+            index,
+            null,
             WlsDynamicServerConfig.create(
-                serverName,
-                index + startingServerIndex,
+                serverNames.get(index),
+                index + STARTING_SERVER_INDEX,
                 clusterName,
                 domainName,
                 calculatedListenPorts,
                 serverTemplate));
-        index++;
+        serverConfig = created.get(index);
       }
+      return serverConfig;
+    }
+
+    @Override
+    public int size() {
+      return serverNames.size();
     }
-    return serverConfigs;
   }
 
   /**
@@ -164,6 +227,33 @@ public class WlsDynamicServersConfig {
     return dynamicClusterSize;
   }
 
+  /**
+   * Sets the current size of the dynamic cluster once it has been updated in the WebLogic domain.
+   * The configurations of the dynamic servers are extended or cut to the new size, naming added
+   * servers as WebLogic does, with the server name prefix followed by the server index.
+   *
+   * @param dynamicClusterSize new size of the dynamic cluster
+   * @param clusterName Name of the WLS cluster that this dynamic servers configuration belongs to
+   * @param domainName Name of the WLS domain that this WLS cluster belongs to
+   */
+  synchronized void setDynamicClusterSize(
+      int dynamicClusterSize, String clusterName, String domainName) {
+    if (serverTemplate != null) {
+      List<WlsServerConfig> current = serverConfigs;
+      List<String> serverNames = new ArrayList<>(dynamicClusterSize);
+      for (int index = 0; index < dynamicClusterSize; index++) {
+        serverNames.add(
+            current != null && index < current.size()
+                ? getServerName(current, index)
+                : serverNamePrefix + (index + 1));
+      }
+      serverConfigs =
+          createServerConfigsFromTemplate(
+              serverNames, serverTemplate, clusterName, domainName, calculatedListenPorts);
+    }
+    this.dynamicClusterSize = dynamicClusterSize;
+  }
+
   /**
    * Return maximum size of the dynamic cluster
    *
@@ -252,7 +342,9 @@ public class WlsDynamicServersConfig {
         + ", serverTemplate="
         + serverTemplate
         + ", serverConfigs="
-        + serverConfigs
+        + (serverConfigs instanceof DynamicServerConfigs
+            ? ((DynamicServerConfigs) serverConfigs).serverNames
+            : serverConfigs)
         + '}';
   }
 }
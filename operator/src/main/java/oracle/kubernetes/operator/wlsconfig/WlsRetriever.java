@@ -20,8 +20,10 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import oracle.kubernetes.operator.ProcessingConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.ScanCheckpoint;
 import oracle.kubernetes.operator.helpers.ServerKubernetesObjects;
 import oracle.kubernetes.operator.http.HttpClient;
+import oracle.kubernetes.operator.http.Result;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
@@ -177,61 +179,67 @@ public class WlsRetriever {
     }
   }
 
-  /** Step for updating the cluster size of a WebLogic dynamic cluster */
-  static final class UpdateDynamicClusterStep extends Step {
+  /**
+   * Creates {@link Step} to make suggested WebLogic configuration updates, together in one edit
+   * session of the admin server
+   *
+   * @param configUpdates the suggested WebLogic configuration updates
+   * @param next Next processing step
+   * @return step to update the configuration
+   */
+  public static Step updateConfigStep(List<ConfigUpdate> configUpdates, Step next) {
+    return new UpdateConfigStep(configUpdates, next);
+  }
 
-    final WlsClusterConfig wlsClusterConfig;
-    final int targetClusterSize;
+  /**
+   * Step for making suggested WebLogic configuration updates. The updates are activated together,
+   * and then applied to the configuration read earlier rather than reading it again. Should an
+   * update not have taken effect, the next read of the configuration suggests it again.
+   */
+  static final class UpdateConfigStep extends Step {
+    final List<ConfigUpdate> configUpdates;
 
     /**
      * Constructor
      *
-     * @param wlsClusterConfig The WlsClusterConfig object for the WebLogic dynamic cluster to be
-     *     updated
-     * @param targetClusterSize The target dynamic cluster size
+     * @param configUpdates The suggested WebLogic configuration updates
      * @param next The next Step to be performed
      */
-    public UpdateDynamicClusterStep(
-        WlsClusterConfig wlsClusterConfig, int targetClusterSize, Step next) {
+    public UpdateConfigStep(List<ConfigUpdate> configUpdates, Step next) {
       super(next);
-      this.wlsClusterConfig = wlsClusterConfig;
-      this.targetClusterSize = targetClusterSize;
+      this.configUpdates = configUpdates;
     }
 
     /** {@inheritDoc} */
     @Override
     public NextAction apply(Packet packet) {
+      try {
+        LOGGER.info(MessageKeys.WLS_UPDATING_CONFIGURATION, configUpdates);
+        HttpClient httpClient = (HttpClient) packet.get(HttpClient.KEY);
+        DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
 
-      String clusterName = wlsClusterConfig == null ? "null" : wlsClusterConfig.getClusterName();
+        long startTime = System.currentTimeMillis();
 
-      if (wlsClusterConfig == null || !wlsClusterConfig.hasDynamicServers()) {
-        LOGGER.warning(MessageKeys.WLS_UPDATE_CLUSTER_SIZE_INVALID_CLUSTER, clusterName);
-      } else {
-        try {
-          LOGGER.info(MessageKeys.WLS_UPDATE_CLUSTER_SIZE_STARTING, clusterName, targetClusterSize);
-          HttpClient httpClient = (HttpClient) packet.get(HttpClient.KEY);
-          DomainPresenceInfo info = packet.getSPI(DomainPresenceInfo.class);
-
-          long startTime = System.currentTimeMillis();
-
-          String serviceURL = HttpClient.getServiceURL(info.getAdmin().getService().get());
-
-          boolean successful =
-              updateDynamicClusterSizeWithServiceURL(
-                  wlsClusterConfig, targetClusterSize, httpClient, serviceURL);
-
-          if (successful) {
-            LOGGER.info(
-                MessageKeys.WLS_CLUSTER_SIZE_UPDATED,
-                clusterName,
-                targetClusterSize,
-                (System.currentTimeMillis() - startTime));
-          } else {
-            LOGGER.warning(MessageKeys.WLS_UPDATE_CLUSTER_SIZE_FAILED, clusterName, null);
+        String serviceURL = HttpClient.getServiceURL(info.getAdmin().getService().get());
+
+        boolean successful = updateConfigWithServiceURL(configUpdates, httpClient, serviceURL);
+
+        if (successful) {
+          for (ConfigUpdate configUpdate : configUpdates) {
+            configUpdate.apply();
           }
-        } catch (Throwable t) {
-          LOGGER.warning(MessageKeys.WLS_UPDATE_CLUSTER_SIZE_FAILED, clusterName, t);
+          // the saved configuration no longer matches the domain
+          ScanCheckpoint.getInstance()
+              .remove(info.getNamespace(), info.getDomain().getSpec().getDomainUID());
+          LOGGER.info(
+              MessageKeys.WLS_CONFIGURATION_UPDATED,
+              configUpdates,
+              (System.currentTimeMillis() - startTime));
+        } else {
+          LOGGER.warning(MessageKeys.WLS_UPDATE_CONFIGURATION_FAILED, configUpdates, null);
         }
+      } catch (Throwable t) {
+        LOGGER.warning(MessageKeys.WLS_UPDATE_CONFIGURATION_FAILED, configUpdates, t);
       }
       return doNext(packet);
     }
@@ -281,25 +289,17 @@ public class WlsRetriever {
 
           info.setScan(wlsDomainConfig);
           info.setLastScanTime(new DateTime());
+          ScanCheckpoint.getInstance().record(info, jsonResult);
 
           LOGGER.info(
               MessageKeys.WLS_CONFIGURATION_READ,
               (System.currentTimeMillis() - ((Long) packet.get(START_TIME))),
               wlsDomainConfig);
 
-          // If there are suggested WebLogic configuration update, perform them as the
-          // next Step, then read the updated WebLogic configuration again after the
-          // update(s) are performed.
+          // If there are suggested WebLogic configuration updates, make them as the next Step.
+          // They are applied to the configuration just read, which is not read again.
           if (!suggestedConfigUpdates.isEmpty()) {
-            Step nextStep =
-                new WithHttpClientStep(
-                    requestType,
-                    service,
-                    getNext()); // read WebLogic config again after config updates
-            for (ConfigUpdate suggestedConfigUpdate : suggestedConfigUpdates) {
-              nextStep = suggestedConfigUpdate.createStep(nextStep);
-            }
-            return doNext(nextStep, packet);
+            return doNext(updateConfigStep(suggestedConfigUpdates, getNext()), packet);
           }
 
         } else { // RequestType.HEALTH
@@ -504,39 +504,88 @@ public class WlsRetriever {
     return jsonResult;
   }
 
+  static String getStartEditUrl() {
+    return "/management/weblogic/latest/edit/changeManager/startEdit";
+  }
+
+  static String getActivateUrl() {
+    return "/management/weblogic/latest/edit/changeManager/activate";
+  }
+
+  static String getCancelEditUrl() {
+    return "/management/weblogic/latest/edit/changeManager/cancelEdit";
+  }
+
   /**
-   * Static method to update the WebLogic dynamic cluster size configuration.
+   * Static method to make WebLogic configuration updates. A single update is made with one request,
+   * in the edit session which WebLogic starts and activates for it. Several updates are made in one
+   * edit session, so that the domain is activated once for all of them, and none of them is kept if
+   * any fails.
    *
-   * @param wlsClusterConfig The WlsClusterConfig object of the WLS cluster whose cluster size needs
-   *     to be updated. The caller should make sure that the cluster is a dynamic cluster.
-   * @param targetClusterSize The target dynamic cluster size
-   * @param httpClient HttpClient object for issuing the REST request
+   * @param configUpdates The WebLogic configuration updates to be made
+   * @param httpClient HttpClient object for issuing the REST requests
    * @param serviceURL service URL of the WebLogic admin server
-   * @return true if the request to update the cluster size is successful, false if it was not
-   *     successful
+   * @return true if the updates were activated, false otherwise
    */
-  private static boolean updateDynamicClusterSizeWithServiceURL(
-      final WlsClusterConfig wlsClusterConfig,
-      final int targetClusterSize,
+  static boolean updateConfigWithServiceURL(
+      final List<ConfigUpdate> configUpdates,
       final HttpClient httpClient,
       final String serviceURL) {
     LOGGER.entering();
 
-    boolean result = false;
-    // Update the dynamic cluster size of the WebLogic cluster
-    String jsonResult =
-        httpClient
-            .executePostUrlOnServiceClusterIP(
-                wlsClusterConfig.getUpdateDynamicClusterSizeUrl(),
-                serviceURL,
-                wlsClusterConfig.getUpdateDynamicClusterSizePayload(targetClusterSize))
-            .getResponse();
-
-    result = wlsClusterConfig.checkUpdateDynamicClusterSizeJsonResult(jsonResult);
+    boolean result;
+    if (configUpdates.size() == 1) {
+      result = executeUpdate(configUpdates.get(0), httpClient, serviceURL);
+    } else {
+      result = false;
+      if (httpClient
+          .executePostUrlOnServiceClusterIP(getStartEditUrl(), serviceURL, "{}")
+          .isSuccessful()) {
+        try {
+          boolean updated = true;
+          for (ConfigUpdate configUpdate : configUpdates) {
+            if (!executeUpdate(configUpdate, httpClient, serviceURL)) {
+              updated = false;
+              break;
+            }
+          }
+          result =
+              updated
+                  && checkUpdateResult(
+                      httpClient.executePostUrlOnServiceClusterIP(
+                          getActivateUrl(), serviceURL, "{}"));
+        } finally {
+          if (!result) {
+            httpClient.executePostUrlOnServiceClusterIP(getCancelEditUrl(), serviceURL, "{}");
+          }
+        }
+      }
+    }
     LOGGER.exiting(result);
     return result;
   }
 
+  private static boolean executeUpdate(
+      ConfigUpdate configUpdate, HttpClient httpClient, String serviceURL) {
+    return checkUpdateResult(
+        httpClient.executePostUrlOnServiceClusterIP(
+            configUpdate.getUpdateUrl(), serviceURL, configUpdate.getUpdatePayload()));
+  }
+
+  /**
+   * Checks the result of a REST request which updates or activates the WebLogic configuration. The
+   * admin server may answer such a request with a successful status and yet report errors in the
+   * body, so only the empty JSON object which it returns on success is accepted.
+   *
+   * @param result The result of the REST request
+   * @return true if the result means the request was successful, false otherwise
+   */
+  static boolean checkUpdateResult(Result result) {
+    final String EXPECTED_RESULT = "{}";
+
+    return result != null && result.isSuccessful() && EXPECTED_RESULT.equals(result.getResponse());
+  }
+
   /**
    * Connect to the WebLogic Administration Server and returns the service URL
    *
@@ -21,6 +21,7 @@ public class Engine {
   }
 
   private volatile ScheduledExecutorService threadPool;
+  private final TimeoutScheduler timeoutScheduler;
 
   /**
    * Returns the executor
@@ -31,13 +32,33 @@ public class Engine {
     return threadPool;
   }
 
+  /**
+   * Returns the scheduler for timeouts
+   *
+   * @return timeout scheduler
+   */
+  public TimeoutScheduler getTimeoutScheduler() {
+    return timeoutScheduler;
+  }
+
   /**
    * Creates engine with the specified executor
    *
    * @param threadPool Executor
    */
   public Engine(ScheduledExecutorService threadPool) {
+    this(threadPool, new HashedWheelTimer(threadPool, new DaemonThreadFactory("timer")));
+  }
+
+  /**
+   * Creates engine with the specified executor and timeout scheduler
+   *
+   * @param threadPool Executor
+   * @param timeoutScheduler Timeout scheduler
+   */
+  public Engine(ScheduledExecutorService threadPool, TimeoutScheduler timeoutScheduler) {
     this.threadPool = threadPool;
+    this.timeoutScheduler = timeoutScheduler;
   }
 
   /**
@@ -0,0 +1,214 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * A timer for the timeouts of calls and waits, which are many, short and nearly always cancelled.
+ * Timeouts are kept in a ring of buckets, one per tick, so that scheduling and cancelling take
+ * constant time and a cancelled timeout is released at once, rather than being held in a delay
+ * queue until its time comes. Timeouts run on the given executor no earlier than their delay, and
+ * no more than one tick later. The thread that advances the wheel runs only while timeouts are
+ * pending.
+ */
+public class HashedWheelTimer implements TimeoutScheduler {
+  private static final long DEFAULT_TICK_MILLIS = 100;
+  private static final int DEFAULT_WHEEL_SIZE = 512;
+
+  private final Executor executor;
+  private final ThreadFactory threadFactory;
+  private final LongSupplier nanoTime;
+  private final long tickNanos;
+  private final long startNanos;
+  private final WheelTimeout[] buckets;
+  private final int mask;
+
+  // guarded by this
+  private long processedTick;
+  private int pendingCount;
+  private boolean tickerRunning;
+
+  private final LongAdder expiredCount = new LongAdder();
+
+  /**
+   * Creates a timer that runs expired timeouts on the given executor.
+   *
+   * @param executor the executor on which to run the tasks of expired timeouts
+   * @param threadFactory the factory for the thread that advances the wheel
+   */
+  public HashedWheelTimer(Executor executor, ThreadFactory threadFactory) {
+    this(executor, threadFactory, DEFAULT_TICK_MILLIS, DEFAULT_WHEEL_SIZE, System::nanoTime);
+  }
+
+  HashedWheelTimer(
+      Executor executor,
+      ThreadFactory threadFactory,
+      long tickMillis,
+      int wheelSize,
+      LongSupplier nanoTime) {
+    this.executor = executor;
+    this.threadFactory = threadFactory;
+    this.nanoTime = nanoTime;
+    this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+    this.startNanos = nanoTime.getAsLong();
+    int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+    this.buckets = new WheelTimeout[size];
+    this.mask = size - 1;
+  }
+
+  @Override
+  public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+    long deadline = nanoTime.getAsLong() - startNanos + unit.toNanos(Math.max(0, delay));
+    WheelTimeout timeout = new WheelTimeout(task);
+    boolean startTicker;
+    synchronized (this) {
+      if (pendingCount == 0) {
+        // no timeouts were waiting, so no ticks need be processed to catch up
+        processedTick = getCurrentTick();
+      }
+      timeout.deadlineTick = Math.max(processedTick + 1, (deadline + tickNanos - 1) / tickNanos);
+      add(timeout);
+      pendingCount++;
+      startTicker = !tickerRunning && threadFactory != null;
+      tickerRunning |= startTicker;
+    }
+    if (startTicker) {
+      threadFactory.newThread(this::runTicker).start();
+    }
+    return timeout;
+  }
+
+  /**
+   * Returns the number of timeouts scheduled and not yet expired or cancelled.
+   *
+   * @return the count
+   */
+  public synchronized int getPendingCount() {
+    return pendingCount;
+  }
+
+  /**
+   * Returns the number of timeouts that expired, rather than being cancelled.
+   *
+   * @return the count
+   */
+  public long getExpiredCount() {
+    return expiredCount.sum();
+  }
+
+  private long getCurrentTick() {
+    return (nanoTime.getAsLong() - startNanos) / tickNanos;
+  }
+
+  private void runTicker() {
+    while (true) {
+      long sleepNanos;
+      synchronized (this) {
+        if (pendingCount == 0) {
+          tickerRunning = false;
+          return;
+        }
+        sleepNanos = (processedTick + 1) * tickNanos - (nanoTime.getAsLong() - startNanos);
+      }
+      if (sleepNanos > 0) {
+        try {
+          TimeUnit.NANOSECONDS.sleep(sleepNanos);
+        } catch (InterruptedException e) {
+          synchronized (this) {
+            tickerRunning = false;
+          }
+          return;
+        }
+      }
+      expireTimeouts();
+    }
+  }
+
+  /** Runs the timeouts whose ticks have passed. */
+  void expireTimeouts() {
+    List<Runnable> expired = new ArrayList<>();
+    synchronized (this) {
+      long currentTick = getCurrentTick();
+      while (processedTick < currentTick && pendingCount > 0) {
+        processedTick++;
+        collectExpired(processedTick, expired);
+      }
+      if (pendingCount == 0) {
+        processedTick = currentTick;
+      }
+    }
+    for (Runnable task : expired) {
+      expiredCount.increment();
+      executor.execute(task);
+    }
+  }
+
+  private void collectExpired(long tick, List<Runnable> expired) {
+    WheelTimeout timeout = buckets[(int) (tick & mask)];
+    while (timeout != null) {
+      WheelTimeout next = timeout.next;
+      if (timeout.deadlineTick <= tick) {
+        remove(timeout);
+        pendingCount--;
+        expired.add(timeout.task);
+      }
+      timeout = next;
+    }
+  }
+
+  private void add(WheelTimeout timeout) {
+    int index = (int) (timeout.deadlineTick & mask);
+    timeout.next = buckets[index];
+    if (timeout.next != null) {
+      timeout.next.prev = timeout;
+    }
+    buckets[index] = timeout;
+    timeout.scheduled = true;
+  }
+
+  private void remove(WheelTimeout timeout) {
+    if (timeout.prev != null) {
+      timeout.prev.next = timeout.next;
+    } else {
+      buckets[(int) (timeout.deadlineTick & mask)] = timeout.next;
+    }
+    if (timeout.next != null) {
+      timeout.next.prev = timeout.prev;
+    }
+    timeout.prev = timeout.next = null;
+    timeout.scheduled = false;
+  }
+
+  private class WheelTimeout implements Timeout {
+    private final Runnable task;
+    private long deadlineTick;
+    private boolean scheduled;
+    private WheelTimeout prev;
+    private WheelTimeout next;
+
+    WheelTimeout(Runnable task) {
+      this.task = task;
+    }
+
+    @Override
+    public boolean cancel() {
+      synchronized (HashedWheelTimer.this) {
+        if (!scheduled) {
+          return false;
+        }
+        remove(this);
+        pendingCount--;
+        return true;
+      }
+    }
+  }
+}
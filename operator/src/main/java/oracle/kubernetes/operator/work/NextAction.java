@@ -102,7 +102,7 @@ public final class NextAction {
         (fiber) -> {
           fiber
               .owner
-              .getExecutor()
+              .getTimeoutScheduler()
               .schedule(
                   () -> {
                     fiber.resume(p);
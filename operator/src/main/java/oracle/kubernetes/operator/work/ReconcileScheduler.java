@@ -0,0 +1,484 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+import oracle.kubernetes.operator.utils.LatencyHistogram;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+
+/**
+ * Admits reconciles to a {@link FiberGate}, so that no more than a fixed number run at once.
+ * Waiting reconciles are taken first by priority, so that explicit user actions are not held behind
+ * watch events or periodic rechecks, and then from the namespaces in proportion to their weights,
+ * so that a namespace with many reconciles, or one retrying a failing domain, cannot delay the
+ * others.
+ *
+ * <p>As with the gate, a later reconcile of a key replaces one still waiting, and a reconcile that
+ * may not interrupt is dropped if one of the same key is waiting or running.
+ *
+ * <p>A running reconcile holds its slot only while it is working. A step that suspends the fiber to
+ * wait for an external event, such as a pod becoming ready, releases the slot through the {@link
+ * Slot} found in the packet, and the fiber resumes once a slot is again free.
+ */
+public class ReconcileScheduler {
+  /** The priorities of reconciles, highest first. */
+  public enum Priority {
+    /** A reconcile requested by a user, such as to restart servers or scale a cluster. */
+    USER_ACTION,
+    /** A reconcile in response to a watch event. */
+    EVENT,
+    /** A periodic recheck, or the retry of a failed reconcile. */
+    RECHECK
+  }
+
+  /** The slot of a running reconcile, found as an SPI of the packets of its fibers. */
+  public interface Slot {
+    /** Releases the slot, as a fiber of the reconcile is about to wait for an external event. */
+    void beginWait();
+
+    /**
+     * Resumes a fiber whose wait has ended, at once if the reconcile holds a slot, or otherwise
+     * once a slot is free. Resuming fibers are given slots ahead of reconciles yet to start.
+     *
+     * @param resume resumes the fiber
+     */
+    void endWait(Runnable resume);
+  }
+
+  private static final String SLOT_COMPONENT_NAME = "reconcileSlot";
+
+  private final FiberGate gate;
+  private final int maxConcurrent;
+  private final ToIntFunction<String> weights;
+  private final LongSupplier nanoTime;
+
+  // guarded by this
+  private final Map<String, NamespaceQueue> queues = new TreeMap<>();
+  private final Map<String, Request> waiting = new HashMap<>();
+  private final Map<String, Request> running = new HashMap<>();
+  private final Deque<Request> resuming = new ArrayDeque<>();
+  private int slotsInUse;
+  private double virtualTime;
+
+  private final Map<String, LatencyHistogram> queueWaitTimes = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a scheduler.
+   *
+   * @param gate the gate through which reconciles are started
+   * @param maxConcurrent the maximum number of reconciles running at once
+   * @param weights the weight of each namespace; a namespace with twice the weight of another is
+   *     given twice as many of the reconciles started while both have reconciles waiting
+   */
+  public ReconcileScheduler(FiberGate gate, int maxConcurrent, ToIntFunction<String> weights) {
+    this(gate, maxConcurrent, weights, System::nanoTime);
+  }
+
+  ReconcileScheduler(
+      FiberGate gate, int maxConcurrent, ToIntFunction<String> weights, LongSupplier nanoTime) {
+    this.gate = gate;
+    this.maxConcurrent = Math.max(1, maxConcurrent);
+    this.weights = weights;
+    this.nanoTime = nanoTime;
+  }
+
+  /**
+   * Schedules a reconcile.
+   *
+   * @param namespace the namespace for which the reconcile is made
+   * @param key the key of the reconcile in the gate
+   * @param priority the priority of the reconcile
+   * @param isWillInterrupt true, if the reconcile may interrupt a running reconcile of the same key
+   * @param strategy Step for Fiber to begin with
+   * @param packet Packet
+   * @param callback Completion callback, not called if the reconcile is dropped or replaced
+   */
+  public void schedule(
+      String namespace,
+      String key,
+      Priority priority,
+      boolean isWillInterrupt,
+      Step strategy,
+      Packet packet,
+      CompletionCallback callback) {
+    Request request =
+        new Request(namespace, key, priority, isWillInterrupt, strategy, packet, callback);
+    synchronized (this) {
+      Request existing = waiting.get(key);
+      if (existing != null) {
+        removeWaiting(existing);
+        Priority highest = priority.compareTo(existing.priority) < 0 ? priority : existing.priority;
+        if (isWillInterrupt) {
+          request.enqueuedNanos = existing.enqueuedNanos;
+        } else {
+          request = existing;
+        }
+        request.priority = highest;
+      } else if (!isWillInterrupt && running.containsKey(key)) {
+        return;
+      } else {
+        request.enqueuedNanos = nanoTime.getAsLong();
+      }
+      addWaiting(request);
+    }
+    dispatch();
+  }
+
+  /**
+   * Starts a Fiber at once, outside the limit on running reconciles, in place of any reconcile of
+   * the same key that is waiting or running. Use this to end the processing of a key, such as when
+   * a domain is deleted.
+   *
+   * @param key the key of the Fiber in the gate
+   * @param strategy Step for Fiber to begin with
+   * @param packet Packet
+   * @param callback Completion callback
+   * @return started Fiber
+   */
+  public Fiber startNow(String key, Step strategy, Packet packet, CompletionCallback callback) {
+    List<Runnable> resumes = new ArrayList<>();
+    synchronized (this) {
+      Request existing = waiting.get(key);
+      if (existing != null) {
+        removeWaiting(existing);
+      }
+      Request replaced = running.remove(key);
+      if (replaced != null) {
+        retire(replaced, resumes);
+      }
+    }
+    resumes.forEach(Runnable::run);
+    Fiber fiber = gate.startFiber(key, strategy, packet, callback);
+    dispatch();
+    return fiber;
+  }
+
+  /**
+   * Returns the number of reconciles running, including those waiting for an external event.
+   *
+   * @return the count
+   */
+  public synchronized int getRunningCount() {
+    return running.size();
+  }
+
+  /**
+   * Returns the number of slots held by running reconciles; those waiting for an external event
+   * hold none.
+   *
+   * @return the count
+   */
+  public synchronized int getSlotsInUse() {
+    return slotsInUse;
+  }
+
+  /**
+   * Releases the slot of the reconcile of a packet, if any, as its fiber is about to wait.
+   *
+   * @param packet the packet of the fiber
+   */
+  public static void beginWait(Packet packet) {
+    Slot slot = packet.getSPI(Slot.class);
+    if (slot != null) {
+      slot.beginWait();
+    }
+  }
+
+  /**
+   * Resumes a fiber whose wait has ended, once the reconcile of its packet, if any, holds a slot.
+   *
+   * @param packet the packet of the fiber
+   * @param resume resumes the fiber
+   */
+  public static void endWait(Packet packet, Runnable resume) {
+    Slot slot = packet.getSPI(Slot.class);
+    if (slot != null) {
+      slot.endWait(resume);
+    } else {
+      resume.run();
+    }
+  }
+
+  /**
+   * Returns the number of reconciles waiting to run for a namespace.
+   *
+   * @param namespace the namespace
+   * @return the count
+   */
+  public synchronized int getWaitingCount(String namespace) {
+    NamespaceQueue queue = queues.get(namespace);
+    return queue == null ? 0 : queue.size();
+  }
+
+  synchronized int getQueuedNamespaceCount() {
+    return queues.size();
+  }
+
+  /**
+   * Returns the times that reconciles for a namespace waited before they were started.
+   *
+   * @param namespace the namespace
+   * @return a histogram of wait times
+   */
+  public LatencyHistogram getQueueWaitTimes(String namespace) {
+    return queueWaitTimes.computeIfAbsent(namespace, ns -> new LatencyHistogram());
+  }
+
+  private void addWaiting(Request request) {
+    waiting.put(request.key, request);
+    NamespaceQueue queue = queues.computeIfAbsent(request.namespace, NamespaceQueue::new);
+    if (queue.isEmpty()) {
+      queue.startTag = Math.max(queue.lastFinish, virtualTime);
+    }
+    queue.get(request.priority).addLast(request);
+  }
+
+  private void removeWaiting(Request request) {
+    waiting.remove(request.key);
+    NamespaceQueue queue = queues.get(request.namespace);
+    queue.get(request.priority).remove(request);
+    if (waiting.isEmpty()) {
+      // As in an idle period of start-time fair queuing, the virtual time moves on to the last
+      // finish of every namespace, so that none of them need be remembered
+      for (NamespaceQueue idle : queues.values()) {
+        virtualTime = Math.max(virtualTime, idle.lastFinish);
+      }
+      queues.clear();
+    } else if (isIdle(queue)) {
+      queues.remove(request.namespace);
+    }
+  }
+
+  // A namespace with no reconciles waiting is forgotten once the virtual time has caught up with
+  // it, as it would then start again from the virtual time in any case
+  private boolean isIdle(NamespaceQueue queue) {
+    return queue.isEmpty() && queue.lastFinish <= virtualTime;
+  }
+
+  private void dispatch() {
+    List<Request> toStart = new ArrayList<>();
+    List<Runnable> resumes = new ArrayList<>();
+    synchronized (this) {
+      while (slotsInUse < maxConcurrent) {
+        Request request = resuming.pollFirst();
+        if (request != null) {
+          acquire(request);
+          resumes.addAll(request.pendingResumes);
+          request.pendingResumes.clear();
+          continue;
+        }
+        request = takeNext();
+        if (request == null) {
+          break;
+        }
+        if (!request.isWillInterrupt && running.containsKey(request.key)) {
+          continue;
+        }
+        Request replaced = running.put(request.key, request);
+        if (replaced != null) {
+          retire(replaced, resumes);
+        }
+        acquire(request);
+        toStart.add(request);
+      }
+    }
+    resumes.forEach(Runnable::run);
+    for (Request request : toStart) {
+      start(request);
+    }
+  }
+
+  private void acquire(Request request) {
+    request.holdsSlot = true;
+    slotsInUse++;
+  }
+
+  private void releaseSlot(Request request) {
+    if (request.holdsSlot) {
+      request.holdsSlot = false;
+      slotsInUse--;
+    }
+  }
+
+  // The fiber of a retired reconcile has been, or is being, replaced, so any fibers of it that
+  // await a slot are resumed at once, to end
+  private void retire(Request request, List<Runnable> resumes) {
+    request.isDone = true;
+    releaseSlot(request);
+    resuming.remove(request);
+    resumes.addAll(request.pendingResumes);
+    request.pendingResumes.clear();
+  }
+
+  // Takes the waiting request of the highest priority, using start-time fair queuing among the
+  // namespaces: each reconcile started for a namespace advances its tag by the inverse of its
+  // weight, and the namespace with the lowest tag goes next. A namespace that had no reconciles
+  // waiting starts again from the current virtual time, so is given no credit for being idle.
+  private Request takeNext() {
+    for (Iterator<NamespaceQueue> it = queues.values().iterator(); it.hasNext(); ) {
+      if (isIdle(it.next())) {
+        it.remove();
+      }
+    }
+    for (Priority priority : Priority.values()) {
+      NamespaceQueue selected = null;
+      for (NamespaceQueue queue : queues.values()) {
+        if (!queue.get(priority).isEmpty()
+            && (selected == null || queue.startTag < selected.startTag)) {
+          selected = queue;
+        }
+      }
+      if (selected != null) {
+        virtualTime = Math.max(virtualTime, selected.startTag);
+        selected.lastFinish =
+            selected.startTag + 1.0 / Math.max(1, weights.applyAsInt(selected.namespace));
+        selected.startTag = selected.lastFinish;
+        Request request = selected.get(priority).peekFirst();
+        removeWaiting(request);
+        return request;
+      }
+    }
+    return null;
+  }
+
+  private void start(Request request) {
+    request
+        .packet
+        .getComponents()
+        .put(SLOT_COMPONENT_NAME, Component.createFor(Slot.class, request));
+    getQueueWaitTimes(request.namespace)
+        .record(TimeUnit.NANOSECONDS.toMillis(nanoTime.getAsLong() - request.enqueuedNanos));
+    CompletionCallback callback =
+        new CompletionCallback() {
+          @Override
+          public void onCompletion(Packet packet) {
+            release(request);
+            request.callback.onCompletion(packet);
+          }
+
+          @Override
+          public void onThrowable(Packet packet, Throwable throwable) {
+            release(request);
+            request.callback.onThrowable(packet, throwable);
+          }
+        };
+    Fiber fiber =
+        request.isWillInterrupt
+            ? gate.startFiber(request.key, request.strategy, request.packet, callback)
+            : gate.startFiberIfNoCurrentFiber(
+                request.key, request.strategy, request.packet, callback);
+    if (fiber == null) {
+      release(request);
+    }
+  }
+
+  private void release(Request request) {
+    List<Runnable> resumes = new ArrayList<>();
+    synchronized (this) {
+      running.remove(request.key, request);
+      retire(request, resumes);
+    }
+    resumes.forEach(Runnable::run);
+    dispatch();
+  }
+
+  // Kept while the namespace has no reconciles waiting, until the virtual time has caught up with
+  // its last finish, so that it is not given a fresh share
+  private static class NamespaceQueue {
+    private final String namespace;
+    private final Map<Priority, Deque<Request>> requests = new HashMap<>();
+    private double startTag;
+    private double lastFinish;
+
+    NamespaceQueue(String namespace) {
+      this.namespace = namespace;
+    }
+
+    Deque<Request> get(Priority priority) {
+      return requests.computeIfAbsent(priority, p -> new ArrayDeque<>());
+    }
+
+    boolean isEmpty() {
+      return size() == 0;
+    }
+
+    int size() {
+      int size = 0;
+      for (Deque<Request> deque : requests.values()) {
+        size += deque.size();
+      }
+      return size;
+    }
+  }
+
+  private class Request implements Slot {
+    private final String namespace;
+    private final String key;
+    private final boolean isWillInterrupt;
+    private final Step strategy;
+    private final Packet packet;
+    private final CompletionCallback callback;
+    private Priority priority;
+    private long enqueuedNanos;
+
+    // guarded by the scheduler
+    private boolean holdsSlot;
+    private boolean isDone;
+    private final List<Runnable> pendingResumes = new ArrayList<>();
+
+    Request(
+        String namespace,
+        String key,
+        Priority priority,
+        boolean isWillInterrupt,
+        Step strategy,
+        Packet packet,
+        CompletionCallback callback) {
+      this.namespace = namespace;
+      this.key = key;
+      this.priority = priority;
+      this.isWillInterrupt = isWillInterrupt;
+      this.strategy = strategy;
+      this.packet = packet;
+      this.callback = callback;
+    }
+
+    @Override
+    public void beginWait() {
+      synchronized (ReconcileScheduler.this) {
+        releaseSlot(this);
+      }
+      dispatch();
+    }
+
+    @Override
+    public void endWait(Runnable resume) {
+      synchronized (ReconcileScheduler.this) {
+        if (!holdsSlot && !isDone) {
+          pendingResumes.add(resume);
+          if (!resuming.contains(this)) {
+            resuming.addLast(this);
+          }
+          resume = null;
+        }
+      }
+      if (resume != null) {
+        resume.run();
+      }
+      dispatch();
+    }
+  }
+}
@@ -0,0 +1,30 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.TimeUnit;
+
+/** Runs tasks after a delay, unless they are cancelled first. */
+public interface TimeoutScheduler {
+  /**
+   * Schedules a task to run after a delay.
+   *
+   * @param task the task
+   * @param delay the delay
+   * @param unit the unit of the delay
+   * @return a handle with which to cancel the task
+   */
+  Timeout schedule(Runnable task, long delay, TimeUnit unit);
+
+  /** A scheduled task. */
+  interface Timeout {
+    /**
+     * Cancels the task, if it has not yet run.
+     *
+     * @return true, if the task was cancelled
+     */
+    boolean cancel();
+  }
+}
@@ -15,12 +15,12 @@ import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.forDomainUid;
 import static oracle.kubernetes.operator.WebLogicConstants.READINESS_PROBE_NOT_READY_STATE;
 import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasValue;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
-import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 import com.meterware.simplestub.Memento;
@@ -31,6 +31,8 @@ import io.kubernetes.client.models.V1EventList;
 import io.kubernetes.client.models.V1ListMeta;
 import io.kubernetes.client.models.V1ObjectMeta;
 import io.kubernetes.client.models.V1ObjectReference;
+import io.kubernetes.client.models.V1PersistentVolumeClaim;
+import io.kubernetes.client.models.V1PersistentVolumeClaimList;
 import io.kubernetes.client.models.V1Pod;
 import io.kubernetes.client.models.V1PodList;
 import io.kubernetes.client.models.V1Service;
@@ -49,9 +51,14 @@ import oracle.kubernetes.operator.builders.StubWatchFactory;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfoManager;
 import oracle.kubernetes.operator.helpers.LegalNames;
+import oracle.kubernetes.operator.helpers.PersistentVolumeCache;
+import oracle.kubernetes.operator.helpers.PersistentVolumeCacheStub;
+import oracle.kubernetes.operator.helpers.ResourceProjections;
 import oracle.kubernetes.operator.helpers.ServerKubernetesObjects;
 import oracle.kubernetes.operator.helpers.ServerKubernetesObjectsManager;
 import oracle.kubernetes.operator.work.AsyncCallTestSupport;
+import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.ReconcileScheduler;
 import oracle.kubernetes.operator.work.ThreadFactorySingleton;
 import oracle.kubernetes.weblogic.domain.v1.Domain;
 import oracle.kubernetes.weblogic.domain.v1.DomainList;
@@ -71,6 +78,7 @@ public class DomainPresenceTest extends ThreadFactoryTestBase {
   private final V1ServiceList services = createEmptyServiceList();
   private final V1EventList events = createEmptyEventList();
   private final V1PodList pods = createEmptyPodList();
+  private final V1PersistentVolumeClaimList claims = createEmptyClaimList();
   private final V1ConfigMap domainConfigMap = createEmptyConfigMap();
 
   private List<Memento> mementos = new ArrayList<>();
@@ -85,8 +93,13 @@ public class DomainPresenceTest extends ThreadFactoryTestBase {
     mementos.add(testSupport.installRequestStepFactory());
     mementos.add(ClientFactoryStub.install());
     mementos.add(StubWatchFactory.install());
+    mementos.add(PersistentVolumeCacheStub.install());
     mementos.add(installStub(ThreadFactorySingleton.class, "INSTANCE", this));
-    mementos.add(installStub(Main.class, "FIBER_GATE", testSupport.createFiberGateStub()));
+    FiberGate fiberGate = testSupport.createFiberGateStub();
+    mementos.add(installStub(Main.class, "FIBER_GATE", fiberGate));
+    mementos.add(
+        installStub(
+            Main.class, "RECONCILE_SCHEDULER", new ReconcileScheduler(fiberGate, 64, ns -> 1)));
 
     Map<String, AtomicBoolean> isNamespaceStopping = getStoppingVariable();
     isNamespaceStopping.forEach(
@@ -131,6 +144,28 @@ public class DomainPresenceTest extends ThreadFactoryTestBase {
     testSupport.runSteps(Main.readExistingResources("operator", NS));
   }
 
+  @Test
+  public void afterReadingExistingResources_cacheReturnsDomainClaims() {
+    claims.addItemsItem(
+        new V1PersistentVolumeClaim()
+            .metadata(
+                new V1ObjectMeta()
+                    .namespace(NS)
+                    .name("claim1")
+                    .putLabelsItem(LabelConstants.DOMAINUID_LABEL, UID)));
+
+    readExistingResources();
+
+    assertThat(
+        PersistentVolumeCache.getInstance().getClaims(NS, UID).getItems(),
+        contains(claims.getItems().get(0)));
+  }
+
+  @Test
+  public void beforeReadingExistingResources_cacheDoesNotKnowClaims() {
+    assertThat(PersistentVolumeCache.getInstance().getClaims(NS, UID), nullValue());
+  }
+
   @Test
   public void whenK8sHasOneDomainWithAssociatedIngress_readIt() {
     addDomainResource(UID, NS);
@@ -185,7 +220,7 @@ public class DomainPresenceTest extends ThreadFactoryTestBase {
     String serverName = "admin";
     assertThat(
         getServerKubernetesObjects(UID, serverName).getChannels(),
-        hasEntry(equalTo("channel1"), sameInstance(serviceResource)));
+        hasEntry(equalTo("channel1"), equalTo(ResourceProjections.project(serviceResource))));
   }
 
   private ServerKubernetesObjects getServerKubernetesObjects(String uid, String serverName) {
@@ -244,6 +279,43 @@ public class DomainPresenceTest extends ThreadFactoryTestBase {
     assertThat(getServerKubernetesObjects(UID, "admin").getPod().get(), equalTo(podResource));
   }
 
+  @Test
+  public void whenCachedPodIsNoLongerListed_evictIt() {
+    cacheServer(UID, "admin").getPod().set(createPodResource(UID, NS, "admin"));
+
+    readExistingResources();
+
+    assertThat(Main.getDomainPresenceInfos(), is(anEmptyMap()));
+  }
+
+  @Test
+  public void whenCachedServicesAreNoLongerListed_evictThem() {
+    ServerKubernetesObjects sko = cacheServer(UID, "admin");
+    sko.getService().set(createService(UID, NS, "admin"));
+    sko.getChannels().put("channel1", createService(UID, NS, "admin", "channel1"));
+
+    readExistingResources();
+
+    assertThat(Main.getDomainPresenceInfos(), is(anEmptyMap()));
+  }
+
+  @Test
+  public void whenCachedPodIsNoLongerListed_keepServerWithListedService() {
+    cacheServer(UID, "admin").getPod().set(createPodResource(UID, NS, "admin"));
+    V1Service serviceResource = addServiceResource(UID, NS, "admin");
+
+    readExistingResources();
+
+    assertThat(getServerKubernetesObjects(UID, "admin").getPod().get(), nullValue());
+    assertThat(
+        getServerKubernetesObjects(UID, "admin").getService().get(), equalTo(serviceResource));
+  }
+
+  private ServerKubernetesObjects cacheServer(String uid, String serverName) {
+    DomainPresenceInfo info = DomainPresenceInfoManager.getOrCreate(NS, uid);
+    return ServerKubernetesObjectsManager.getOrCreate(info, uid, serverName);
+  }
+
   private V1Pod addPodResource(String uid, String namespace, String serverName) {
     V1Pod pod = createPodResource(uid, namespace, serverName);
     pods.getItems().add(pod);
@@ -312,6 +384,11 @@ public class DomainPresenceTest extends ThreadFactoryTestBase {
         .withNamespace(NS)
         .withLabelSelectors(LabelConstants.DOMAINUID_LABEL, CREATEDBYOPERATOR_LABEL)
         .returning(pods);
+    testSupport
+        .createCannedResponse("listPersistentVolumeClaim")
+        .withNamespace(NS)
+        .withLabelSelectors(LabelConstants.DOMAINUID_LABEL)
+        .returning(claims);
     testSupport
         .createCannedResponse("readConfigMap")
         .withNamespace(NS)
@@ -343,6 +420,10 @@ public class DomainPresenceTest extends ThreadFactoryTestBase {
     return new V1ListMeta().resourceVersion("1");
   }
 
+  private V1PersistentVolumeClaimList createEmptyClaimList() {
+    return new V1PersistentVolumeClaimList().metadata(createListMetadata());
+  }
+
   private V1beta1IngressList createEmptyIngressList() {
     return new V1beta1IngressList().metadata(createListMetadata());
   }
@@ -402,21 +483,9 @@ public class DomainPresenceTest extends ThreadFactoryTestBase {
         .returning(new V1Status());
 
     testSupport
-        .createCannedResponse("listIngress")
+        .createCannedResponse("deleteIngressCollection")
         .withNamespace(NS)
         .withLabelSelectors(forDomainUid(UID), CREATEDBYOPERATOR_LABEL)
-        .returning(ingresses);
-    testSupport
-        .createCannedResponse("deleteIngress")
-        .withNamespace(NS)
-        .withName("TEST-cluster1")
-        .ignoringBody()
-        .returning(new V1Status());
-    testSupport
-        .createCannedResponse("deleteIngress")
-        .withNamespace(NS)
-        .withName("TEST-cluster2")
-        .ignoringBody()
         .returning(new V1Status());
 
     Main.deleteStrandedResources();
@@ -0,0 +1,222 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.models.V1ObjectMeta;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import oracle.kubernetes.TestUtils;
+import oracle.kubernetes.operator.helpers.CallBuilder;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfoManager;
+import oracle.kubernetes.operator.helpers.HealthCheckHelper.KubernetesVersion;
+import oracle.kubernetes.operator.work.AsyncCallTestSupport;
+import oracle.kubernetes.operator.work.TerminalStep;
+import oracle.kubernetes.weblogic.domain.v1.ClusterStartup;
+import oracle.kubernetes.weblogic.domain.v1.Domain;
+import oracle.kubernetes.weblogic.domain.v1.DomainSpec;
+import oracle.kubernetes.weblogic.domain.v1.DomainStatus;
+import oracle.kubernetes.weblogic.domain.v1.ServerStatus;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DomainStatusUpdaterTest {
+  private static final String NS = "namespace";
+  private static final String NAME = "domain1";
+  private static final String UID = "uid1";
+
+  private AsyncCallTestSupport testSupport = new AsyncCallTestSupport();
+  private List<Memento> mementos = new ArrayList<>();
+  private Domain domain = createDomain(VersionConstants.DOMAIN_V1);
+  private DomainPresenceInfo info;
+
+  private static Domain createDomain(String resourceVersion) {
+    return new Domain()
+        .withMetadata(
+            new V1ObjectMeta()
+                .namespace(NS)
+                .name(NAME)
+                .putLabelsItem(LabelConstants.RESOURCE_VERSION_LABEL, resourceVersion))
+        .withSpec(new DomainSpec().withDomainUID(UID))
+        .withStatus(new DomainStatus());
+  }
+
+  private static ServerStatus server(String serverName, String clusterName, String state) {
+    return new ServerStatus()
+        .withServerName(serverName)
+        .withClusterName(clusterName)
+        .withState(state);
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.installRequestStepFactory());
+    info = DomainPresenceInfoManager.getOrCreate(domain);
+    testSupport.addDomainPresenceInfo(info);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    for (Memento memento : mementos) memento.revert();
+    DomainPresenceInfoManager.remove(UID);
+
+    testSupport.throwOnCompletionFailure();
+    testSupport.verifyAllDefinedResponsesInvoked();
+  }
+
+  @Test
+  public void scaleStatus_countsRunningServersOfCluster() {
+    DomainStatusUpdater.updateScaleStatus(
+        domain,
+        Collections.singletonList("cluster1"),
+        Arrays.asList(
+            server("ms1", "cluster1", WebLogicConstants.RUNNING_STATE),
+            server("ms2", "cluster1", WebLogicConstants.SHUTDOWN_STATE),
+            server("ms3", "cluster1", WebLogicConstants.RUNNING_STATE),
+            server("admin", null, WebLogicConstants.RUNNING_STATE)));
+
+    assertThat(domain.getStatus().getReplicas(), equalTo(2));
+  }
+
+  @Test
+  public void scaleStatus_selectsPodsOfCluster() {
+    DomainStatusUpdater.updateScaleStatus(
+        domain, Collections.singletonList("cluster1"), Collections.emptyList());
+
+    assertThat(
+        domain.getStatus().getSelector(),
+        equalTo("weblogic.domainUID=uid1,weblogic.clusterName=cluster1"));
+  }
+
+  @Test
+  public void scaleStatus_omitsClustersWithOwnReplicas() {
+    domain
+        .getSpec()
+        .setClusterStartup(
+            Collections.singletonList(
+                new ClusterStartup().withClusterName("cluster2").withReplicas(3)));
+
+    DomainStatusUpdater.updateScaleStatus(
+        domain,
+        Arrays.asList("cluster1", "cluster2"),
+        Collections.singletonList(server("ms3", "cluster2", WebLogicConstants.RUNNING_STATE)));
+
+    assertThat(domain.getStatus().getReplicas(), equalTo(0));
+    assertThat(
+        domain.getStatus().getSelector(),
+        equalTo("weblogic.domainUID=uid1,weblogic.clusterName=cluster1"));
+  }
+
+  @Test
+  public void whenTwoClustersScaledByDomainReplicas_scaleStatusNotPublished() {
+    domain.getStatus().setReplicas(1);
+    domain.getStatus().setSelector("weblogic.domainUID=uid1,weblogic.clusterName=cluster1");
+
+    boolean changed =
+        DomainStatusUpdater.updateScaleStatus(
+            domain,
+            Arrays.asList("cluster1", "cluster2"),
+            Arrays.asList(
+                server("ms1", "cluster1", WebLogicConstants.RUNNING_STATE),
+                server("ms2", "cluster2", WebLogicConstants.RUNNING_STATE)));
+
+    assertThat(changed, is(true));
+    assertThat(domain.getStatus().getReplicas(), nullValue());
+    assertThat(domain.getStatus().getSelector(), nullValue());
+  }
+
+  @Test
+  public void whenScaleStatusUnchanged_reportNoChange() {
+    List<ServerStatus> servers =
+        Collections.singletonList(server("ms1", "cluster1", WebLogicConstants.RUNNING_STATE));
+    DomainStatusUpdater.updateScaleStatus(domain, Collections.singletonList("cluster1"), servers);
+
+    assertThat(
+        DomainStatusUpdater.updateScaleStatus(
+            domain, Collections.singletonList("cluster1"), servers),
+        is(false));
+  }
+
+  @Test
+  public void whenDomainNotVersion1_scaleStatusNotSet() {
+    Domain domain = createDomain(VersionConstants.DOMAIN_V1DOT1);
+
+    DomainStatusUpdater.updateScaleStatus(
+        domain, Collections.singletonList("cluster1"), Collections.emptyList());
+
+    assertThat(domain.getStatus().getReplicas(), nullValue());
+  }
+
+  @Test
+  public void statusIsWrittenThroughStatusSubresource() {
+    testSupport.addVersion(new KubernetesVersion(1, 10));
+    Domain updated = createDomain(VersionConstants.DOMAIN_V1);
+    testSupport
+        .createCannedResponse("replaceDomainStatus")
+        .withNamespace(NS)
+        .withName(NAME)
+        .ignoringBody()
+        .returning(updated);
+
+    domain.setStatus(null);
+
+    testSupport.runSteps(DomainStatusUpdater.createEndProgressingStep(new TerminalStep()));
+
+    assertThat(info.getDomain(), sameInstance(updated));
+  }
+
+  @Test
+  public void whenStatusSubresourceNotFound_replaceWholeDomain() {
+    testSupport.addVersion(new KubernetesVersion(1, 10));
+    Domain updated = createDomain(VersionConstants.DOMAIN_V1);
+    testSupport
+        .createCannedResponse("replaceDomainStatus")
+        .withNamespace(NS)
+        .withName(NAME)
+        .ignoringBody()
+        .failingWithStatus(CallBuilder.NOT_FOUND);
+    testSupport
+        .createCannedResponse("replaceDomain")
+        .withNamespace(NS)
+        .withName(NAME)
+        .ignoringBody()
+        .returning(updated);
+
+    domain.setStatus(null);
+
+    testSupport.runSteps(DomainStatusUpdater.createEndProgressingStep(new TerminalStep()));
+
+    assertThat(info.getDomain(), sameInstance(updated));
+  }
+
+  @Test
+  public void whenServerLacksSubresources_replaceWholeDomain() {
+    testSupport.addVersion(new KubernetesVersion(1, 9));
+    Domain updated = createDomain(VersionConstants.DOMAIN_V1);
+    testSupport
+        .createCannedResponse("replaceDomain")
+        .withNamespace(NS)
+        .withName(NAME)
+        .ignoringBody()
+        .returning(updated);
+
+    domain.setStatus(null);
+
+    testSupport.runSteps(DomainStatusUpdater.createEndProgressingStep(new TerminalStep()));
+
+    assertThat(info.getDomain(), sameInstance(updated));
+  }
+}
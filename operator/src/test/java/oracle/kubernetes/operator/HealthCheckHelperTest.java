@@ -29,6 +29,7 @@ import static oracle.kubernetes.operator.logging.MessageKeys.VERIFY_ACCESS_DENIE
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 
 import com.google.common.collect.ImmutableMap;
 import com.meterware.simplestub.Memento;
@@ -386,6 +387,39 @@ public class HealthCheckHelperTest {
     assertThat(AccessReviewCallFactoryStub.getExpectedAccessChecks(), empty());
   }
 
+  @Test
+  public void whenRulesReviewNotSupportedAndPrincipalSpecified_checkClusterAccessOnlyOnce()
+      throws Exception {
+    mementos.add(AccessReviewCallFactoryStub.install());
+    consoleControl.ignoreMessage(VERIFY_ACCESS_DENIED);
+    expectClusterAccessChecks();
+
+    HealthCheckHelper.performSecurityChecks(
+        MINIMAL_KUBERNETES_VERSION, OPERATOR_NAMESPACE, NS1, "system:serviceaccount:test:once");
+    int clusterChecks = AccessReviewCallFactoryStub.getClusterAccessCheckCount();
+    HealthCheckHelper.performSecurityChecks(
+        MINIMAL_KUBERNETES_VERSION, OPERATOR_NAMESPACE, NS2, "system:serviceaccount:test:once");
+
+    assertThat(clusterChecks, greaterThan(0));
+    assertThat(AccessReviewCallFactoryStub.getClusterAccessCheckCount(), equalTo(clusterChecks));
+  }
+
+  @Test
+  public void whenClusterAccessDeniedForPrincipal_checkItAgain() throws Exception {
+    mementos.add(AccessReviewCallFactoryStub.install());
+    consoleControl.ignoreMessage(VERIFY_ACCESS_DENIED);
+    setMayAccessCluster(false);
+
+    HealthCheckHelper.performSecurityChecks(
+        MINIMAL_KUBERNETES_VERSION, OPERATOR_NAMESPACE, NS1, "system:serviceaccount:test:denied");
+    int clusterChecks = AccessReviewCallFactoryStub.getClusterAccessCheckCount();
+    HealthCheckHelper.performSecurityChecks(
+        MINIMAL_KUBERNETES_VERSION, OPERATOR_NAMESPACE, NS2, "system:serviceaccount:test:denied");
+
+    assertThat(
+        AccessReviewCallFactoryStub.getClusterAccessCheckCount(), equalTo(2 * clusterChecks));
+  }
+
   private void expectAccessChecks() throws NoSuchFieldException, ApiException {
     mementos.add(AccessReviewCallFactoryStub.install());
     TARGET_NAMESPACES.forEach(this::expectAccessReviewsByNamespace);
@@ -474,6 +508,7 @@ public class HealthCheckHelperTest {
     private List<V1ResourceAttributes> expectedAccessChecks = new ArrayList<>();
     private boolean mayAccessNamespace = true;
     private boolean mayAccessCluster = true;
+    private int clusterAccessCheckCount;
 
     static Memento install() throws NoSuchFieldException {
       callFactory = createStrictStub(AccessReviewCallFactoryStub.class);
@@ -493,6 +528,10 @@ public class HealthCheckHelperTest {
           createResourceAttributes(namespace, resource, operation));
     }
 
+    static int getClusterAccessCheckCount() {
+      return callFactory.clusterAccessCheckCount;
+    }
+
     static List<V1ResourceAttributes> getExpectedAccessChecks() {
       return Collections.unmodifiableList(callFactory.expectedAccessChecks);
     }
@@ -525,6 +564,7 @@ public class HealthCheckHelperTest {
     public V1SelfSubjectAccessReview createSelfSubjectAccessReview(
         ApiClient client, V1SelfSubjectAccessReview body, String pretty) throws ApiException {
       V1ResourceAttributes resourceAttributes = body.getSpec().getResourceAttributes();
+      if (resourceAttributes.getNamespace() == null) clusterAccessCheckCount++;
       boolean allowed = isAllowedByDefault(resourceAttributes);
       if (!expectedAccessChecks.remove(resourceAttributes)) allowed = false;
 
@@ -0,0 +1,51 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1PersistentVolumeClaim;
+import io.kubernetes.client.util.Watch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.watcher.WatchListener;
+import org.junit.Test;
+
+/** This test class verifies the behavior of the PersistentVolumeClaimWatcher. */
+public class PersistentVolumeClaimWatcherTest extends WatcherTestBase
+    implements WatchListener<V1PersistentVolumeClaim> {
+
+  private static final int INITIAL_RESOURCE_VERSION = 789;
+
+  @Override
+  public void receivedResponse(Watch.Response<V1PersistentVolumeClaim> response) {
+    recordCallBack(response);
+  }
+
+  @Test
+  public void initialRequest_specifiesStartingResourceVersionAndDomainUidLabelSelector() {
+    sendInitialRequest(INITIAL_RESOURCE_VERSION);
+
+    assertThat(
+        StubWatchFactory.getRequestParameters().get(0),
+        both(hasEntry("resourceVersion", Integer.toString(INITIAL_RESOURCE_VERSION)))
+            .and(hasEntry("labelSelector", DOMAINUID_LABEL)));
+  }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  protected <T> T createObjectWithMetaData(V1ObjectMeta metaData) {
+    return (T) new V1PersistentVolumeClaim().metadata(metaData);
+  }
+
+  @Override
+  protected PersistentVolumeClaimWatcher createWatcher(String ns, AtomicBoolean stopping, int rv) {
+    return PersistentVolumeClaimWatcher.create(this, ns, Integer.toString(rv), this, stopping);
+  }
+}
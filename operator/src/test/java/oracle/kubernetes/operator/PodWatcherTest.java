@@ -22,12 +22,17 @@ import io.kubernetes.client.models.V1PodStatus;
 import io.kubernetes.client.util.Watch;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import oracle.kubernetes.operator.builders.StubWatchFactory;
+import oracle.kubernetes.operator.builders.WatchEvent;
 import oracle.kubernetes.operator.watcher.WatchListener;
+import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.TerminalStep;
 import org.hamcrest.Matchers;
 import org.junit.Test;
 
@@ -35,7 +40,10 @@ import org.junit.Test;
 public class PodWatcherTest extends WatcherTestBase implements WatchListener<V1Pod> {
 
   private static final int INITIAL_RESOURCE_VERSION = 234;
+  private static final int READY_WAIT_TIMEOUT_SECONDS = 600;
   private Packet packet;
+  private FiberTestSupport testSupport = new FiberTestSupport();
+  private TerminalStep terminalStep = new TerminalStep();
   private V1Pod pod = new V1Pod().metadata(new V1ObjectMeta().name("test"));
 
   public void setUp() throws Exception {
@@ -190,6 +198,92 @@ public class PodWatcherTest extends WatcherTestBase implements WatchListener<V1P
     assertThat(listeningStep.wasPerformed, is(true));
   }
 
+  @Test
+  public void whenWaitForReadyAppliedToUnreadyPod_recordPendingWait() {
+    PodWatcher watcher = createStoppedWatcher();
+
+    testSupport.runSteps(watcher.waitForReady(pod, terminalStep));
+
+    assertThat(watcher.getPendingReadyWaitCount(), equalTo(1));
+    assertThat(terminalStep.wasRun(), is(false));
+  }
+
+  @Test
+  public void whenPodBecomesReadyWhileWaiting_performNextStep() {
+    PodWatcher watcher = createStoppedWatcher();
+    testSupport.runSteps(watcher.waitForReady(pod, terminalStep));
+
+    watcher.receivedResponse(createModifiedResponse(createReadyPod("uid1")));
+
+    assertThat(terminalStep.wasRun(), is(true));
+    assertThat(watcher.getPendingReadyWaitCount(), equalTo(0));
+    assertThat(watcher.getReadyWaitTimes().getCount(), equalTo(1L));
+  }
+
+  @Test
+  public void whenPodAlreadyReportedReady_performNextStepWithoutWaiting() {
+    PodWatcher watcher = createStoppedWatcher();
+    watcher.receivedResponse(createModifiedResponse(createReadyPod("uid1")));
+
+    testSupport.runSteps(watcher.waitForReady(createPod("uid1"), terminalStep));
+
+    assertThat(terminalStep.wasRun(), is(true));
+    assertThat(watcher.getReadyWaitTimes().getCount(), equalTo(0L));
+  }
+
+  @Test
+  public void whenReadyPodHasDifferentUid_continueWaiting() {
+    PodWatcher watcher = createStoppedWatcher();
+    testSupport.runSteps(watcher.waitForReady(createPod("uid2"), terminalStep));
+
+    watcher.receivedResponse(createModifiedResponse(createReadyPod("uid1")));
+
+    assertThat(terminalStep.wasRun(), is(false));
+    assertThat(watcher.getPendingReadyWaitCount(), equalTo(1));
+  }
+
+  @Test
+  public void whenPodNotReadyBeforeTimeout_terminateFiber() {
+    PodWatcher watcher = createStoppedWatcher();
+    testSupport.runSteps(watcher.waitForReady(createPod("uid1"), terminalStep));
+
+    testSupport.setTime(READY_WAIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+    testSupport.verifyCompletionThrowable(TimeoutException.class);
+    assertThat(watcher.getPendingReadyWaitCount(), equalTo(0));
+    assertThat(watcher.getFailedWaitTimes().getCount(), equalTo(1L));
+  }
+
+  @Test
+  public void whenPodDeletedWhileWaiting_terminateFiber() {
+    PodWatcher watcher = createStoppedWatcher();
+    testSupport.runSteps(watcher.waitForReady(createPod("uid1"), terminalStep));
+
+    watcher.receivedResponse(WatchEvent.createDeleteEvent(createPod("uid1")).toWatchResponse());
+
+    testSupport.verifyCompletionThrowable(IllegalStateException.class);
+    assertThat(watcher.getPendingReadyWaitCount(), equalTo(0));
+  }
+
+  private PodWatcher createStoppedWatcher() {
+    return PodWatcher.create(
+        this, "ns", Integer.toString(INITIAL_RESOURCE_VERSION), this, new AtomicBoolean(true));
+  }
+
+  private V1Pod createPod(String uid) {
+    return new V1Pod().metadata(new V1ObjectMeta().name("test").uid(uid));
+  }
+
+  private V1Pod createReadyPod(String uid) {
+    V1Pod readyPod = createPod(uid);
+    makePodReady(readyPod);
+    return readyPod;
+  }
+
+  private Watch.Response<V1Pod> createModifiedResponse(V1Pod pod) {
+    return WatchEvent.createModifiedEvent(pod).toWatchResponse();
+  }
+
   static class ListeningTerminalStep extends Step {
     private boolean wasPerformed = false;
 
@@ -0,0 +1,221 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+
+import com.meterware.simplestub.Memento;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import oracle.kubernetes.TestUtils;
+import oracle.kubernetes.operator.work.TimeoutScheduler;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ResyncSchedulerTest {
+  private static final long INTERVAL = 100_000;
+
+  private List<Memento> mementos = new ArrayList<>();
+  private TimerStub timer = new TimerStub();
+  private double randomValue = 0.5;
+  private List<String> resyncs = new ArrayList<>();
+  private ResyncScheduler scheduler =
+      new ResyncScheduler(
+          timer,
+          INTERVAL,
+          (ns, relist) -> resyncs.add((relist ? "relist " : "resync ") + ns + " at " + timer.now),
+          () -> randomValue);
+
+  @Before
+  public void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger());
+  }
+
+  @After
+  public void tearDown() {
+    for (Memento memento : mementos) memento.revert();
+  }
+
+  @Test
+  public void namespacesAddedTogether_areResyncedEvenlyOverInterval() {
+    scheduler.setNamespaces(Arrays.asList("ns1", "ns2", "ns3", "ns4"));
+
+    timer.advanceTo(INTERVAL - 1);
+
+    assertThat(
+        resyncs,
+        contains(
+            "resync ns1 at 12500",
+            "resync ns2 at 37500",
+            "resync ns3 at 62500",
+            "resync ns4 at 87500"));
+  }
+
+  @Test
+  public void afterResync_nextResyncIsOneIntervalLater() {
+    scheduler.setNamespaces(Collections.singletonList("ns1"));
+
+    timer.advanceTo(200_000);
+
+    assertThat(resyncs, contains("resync ns1 at 50000", "resync ns1 at 150000"));
+  }
+
+  @Test
+  public void whenRandomIsLow_resyncIntervalIsShortenedByOneTenth() {
+    randomValue = 0;
+    scheduler.setNamespaces(Collections.singletonList("ns1"));
+
+    timer.advanceTo(200_000);
+
+    assertThat(resyncs, contains("resync ns1 at 0", "resync ns1 at 90000", "resync ns1 at 180000"));
+  }
+
+  @Test
+  public void whenRandomIsHigh_resyncIntervalIsLengthenedByOneTenth() {
+    randomValue = 1;
+    scheduler.setNamespaces(Collections.singletonList("ns1"));
+
+    timer.advanceTo(300_000);
+
+    assertThat(resyncs, contains("resync ns1 at 100000", "resync ns1 at 210000"));
+  }
+
+  @Test
+  public void whenNamespaceAddedLater_existingTurnsAreUnchanged() {
+    scheduler.setNamespaces(Collections.singletonList("ns1"));
+    timer.advanceTo(10_000);
+
+    scheduler.setNamespaces(Arrays.asList("ns1", "ns2"));
+    timer.advanceTo(INTERVAL);
+
+    assertThat(resyncs, contains("resync ns1 at 50000", "resync ns2 at 60000"));
+  }
+
+  @Test
+  public void whenNamespaceRemoved_itIsNoLongerResynced() {
+    scheduler.setNamespaces(Arrays.asList("ns1", "ns2"));
+
+    scheduler.setNamespaces(Collections.singletonList("ns2"));
+    timer.advanceTo(2 * INTERVAL);
+
+    assertThat(scheduler.getNamespaces(), contains("ns2"));
+    assertThat(resyncs, contains("resync ns2 at 75000", "resync ns2 at 175000"));
+  }
+
+  @Test
+  public void withoutGap_namespaceIsNeverRelisted() {
+    scheduler.setNamespaces(Arrays.asList("ns1", "ns2"));
+
+    timer.advanceTo(5 * INTERVAL);
+
+    assertThat(scheduler.getResyncCount(), equalTo(10L));
+    assertThat(scheduler.getRelistCount(), equalTo(0L));
+  }
+
+  @Test
+  public void whenWatchReportsGap_namespaceIsRelistedSoon() {
+    scheduler.setNamespaces(Collections.singletonList("ns1"));
+
+    scheduler.reportGap("ns1");
+    timer.advanceTo(2 * INTERVAL);
+
+    assertThat(resyncs, contains("relist ns1 at 5000", "resync ns1 at 105000"));
+  }
+
+  @Test
+  public void whenSeveralGapsReported_namespaceIsRelistedOnce() {
+    scheduler.setNamespaces(Collections.singletonList("ns1"));
+
+    scheduler.reportGap("ns1");
+    scheduler.reportGap("ns1");
+    timer.advanceTo(INTERVAL);
+
+    assertThat(scheduler.getRelistCount(), equalTo(1L));
+  }
+
+  @Test
+  public void whenGapReportedForUnmanagedNamespace_nothingIsResynced() {
+    scheduler.reportGap("ns1");
+
+    timer.advanceTo(INTERVAL);
+
+    assertThat(resyncs, empty());
+  }
+
+  @Test
+  public void afterResyncs_onlyOneTurnRemainsPerNamespace() {
+    scheduler.setNamespaces(Arrays.asList("ns1", "ns2"));
+    scheduler.reportGap("ns1");
+
+    timer.advanceTo(3 * INTERVAL);
+
+    assertThat(timer.getActiveCount(), equalTo(2));
+  }
+
+  // Runs tasks when the test advances the time; cancelled tasks are kept, but never run
+  private class TimerStub implements TimeoutScheduler {
+    private long now;
+    private long sequence;
+    private PriorityQueue<ScheduledTask> tasks = new PriorityQueue<>();
+
+    @Override
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+      ScheduledTask scheduled = new ScheduledTask(now + unit.toMillis(delay), sequence++, task);
+      tasks.add(scheduled);
+      return scheduled;
+    }
+
+    void advanceTo(long time) {
+      while (!tasks.isEmpty() && tasks.peek().time <= time) {
+        ScheduledTask task = tasks.poll();
+        now = task.time;
+        if (!task.cancelled) task.task.run();
+      }
+      now = time;
+    }
+
+    int getActiveCount() {
+      int count = 0;
+      for (ScheduledTask task : tasks) {
+        if (!task.cancelled) count++;
+      }
+      return count;
+    }
+  }
+
+  private static class ScheduledTask
+      implements TimeoutScheduler.Timeout, Comparable<ScheduledTask> {
+    private final long time;
+    private final long sequence;
+    private final Runnable task;
+    private boolean cancelled;
+
+    ScheduledTask(long time, long sequence, Runnable task) {
+      this.time = time;
+      this.sequence = sequence;
+      this.task = task;
+    }
+
+    @Override
+    public boolean cancel() {
+      boolean wasCancelled = cancelled;
+      cancelled = true;
+      return !wasCancelled;
+    }
+
+    @Override
+    public int compareTo(ScheduledTask o) {
+      return time != o.time ? Long.compare(time, o.time) : Long.compare(sequence, o.sequence);
+    }
+  }
+}
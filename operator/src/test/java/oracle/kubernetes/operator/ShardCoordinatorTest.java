@@ -0,0 +1,186 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator;
+
+import static oracle.kubernetes.operator.ShardCoordinator.HEARTBEAT_PREFIX;
+import static oracle.kubernetes.operator.ShardCoordinator.LEADER_KEY;
+import static oracle.kubernetes.operator.ShardCoordinator.MEMBERS_KEY;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.not;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.models.V1ConfigMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import oracle.kubernetes.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ShardCoordinatorTest {
+  private static final long LEASE_MILLIS = 1000;
+  private static final long LEASE_NANOS = TimeUnit.MILLISECONDS.toNanos(LEASE_MILLIS);
+  private static final List<String> NAMESPACES =
+      Arrays.asList("ns1", "ns2", "ns3", "ns4", "ns5", "ns6", "ns7", "ns8");
+
+  private V1ConfigMap stored;
+  private long now;
+  private List<Memento> mementos = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger());
+  }
+
+  @After
+  public void tearDown() {
+    for (Memento memento : mementos) memento.revert();
+  }
+
+  // A replica which, like the operator, manages exactly the namespaces it owns.
+  private class Replica {
+    private final ShardCoordinator coordinator;
+    private Set<String> managed = new TreeSet<>();
+    private int ownershipChanges;
+
+    Replica(String identity) {
+      coordinator =
+          new ShardCoordinator(
+              identity,
+              "operator",
+              LEASE_MILLIS,
+              64,
+              () -> NAMESPACES,
+              () -> managed,
+              this::onOwnershipChange);
+    }
+
+    private void onOwnershipChange() {
+      ownershipChanges++;
+      managed = new TreeSet<>(coordinator.getOwnedNamespaces());
+    }
+
+    void renew() {
+      stored = coordinator.update(stored, now);
+      coordinator.recordRenewed();
+    }
+
+    Set<String> getOwned() {
+      return coordinator.getOwnedNamespaces();
+    }
+  }
+
+  private static void assertDisjoint(Replica... replicas) {
+    Set<String> seen = new HashSet<>();
+    for (Replica replica : replicas) {
+      for (String ns : replica.managed) {
+        assertThat("namespace managed twice: " + ns, seen.add(ns), equalTo(true));
+      }
+    }
+  }
+
+  private static Set<String> union(Replica... replicas) {
+    Set<String> all = new TreeSet<>();
+    for (Replica replica : replicas) {
+      all.addAll(replica.managed);
+    }
+    return all;
+  }
+
+  @Test
+  public void firstReplica_becomesLeaderAndOwnsAllNamespaces() {
+    Replica a = new Replica("a");
+
+    a.renew();
+
+    assertThat(stored.getData(), hasEntry(LEADER_KEY, "a"));
+    assertThat(stored.getData(), hasEntry(MEMBERS_KEY, "a"));
+    assertThat(a.getOwned(), equalTo(new TreeSet<>(NAMESPACES)));
+    assertThat(a.ownershipChanges, equalTo(1));
+  }
+
+  @Test
+  public void whenRenewalIsNotRecorded_noNamespacesAreOwned() {
+    Replica a = new Replica("a");
+
+    a.coordinator.update(stored, now);
+
+    assertThat(a.getOwned(), empty());
+  }
+
+  @Test
+  public void whenReplicaJoins_namespacesAreSharedWithoutOverlap() {
+    Replica a = new Replica("a");
+    Replica b = new Replica("b");
+    a.renew();
+
+    for (int i = 0; i < 4; i++) {
+      now += LEASE_NANOS / 10;
+      b.renew();
+      assertDisjoint(a, b);
+      now += LEASE_NANOS / 10;
+      a.renew();
+      assertDisjoint(a, b);
+    }
+
+    assertThat(stored.getData(), hasEntry(MEMBERS_KEY, "a,b"));
+    assertThat(a.getOwned(), not(empty()));
+    assertThat(b.getOwned(), not(empty()));
+    assertThat(union(a, b), equalTo(new TreeSet<>(NAMESPACES)));
+  }
+
+  @Test
+  public void whenLeaderStopsRenewing_anotherReplicaTakesOverItsNamespaces() {
+    Replica a = new Replica("a");
+    Replica b = new Replica("b");
+    a.renew();
+    for (int i = 0; i < 4; i++) {
+      now += LEASE_NANOS / 10;
+      b.renew();
+      now += LEASE_NANOS / 10;
+      a.renew();
+    }
+
+    for (int i = 0; i < 15; i++) {
+      now += LEASE_NANOS / 10;
+      b.renew();
+    }
+
+    assertThat(stored.getData(), hasEntry(LEADER_KEY, "b"));
+    assertThat(stored.getData(), hasEntry(MEMBERS_KEY, "b"));
+    assertThat(stored.getData().containsKey(HEARTBEAT_PREFIX + "a"), equalTo(false));
+    assertThat(b.getOwned(), equalTo(new TreeSet<>(NAMESPACES)));
+  }
+
+  @Test
+  public void whenLeaseExpiresWithoutRenewal_ownedNamespacesAreReleased() {
+    Replica a = new Replica("a");
+    a.renew();
+
+    a.coordinator.checkLease(now + LEASE_NANOS);
+
+    assertThat(a.getOwned(), empty());
+    assertThat(a.managed, equalTo(Collections.emptySet()));
+  }
+
+  @Test
+  public void whileLeaseIsCurrent_ownedNamespacesAreKept() {
+    Replica a = new Replica("a");
+    a.renew();
+
+    a.coordinator.checkLease(now + LEASE_NANOS / 2);
+
+    assertThat(a.getOwned(), equalTo(new TreeSet<>(NAMESPACES)));
+  }
+}
@@ -0,0 +1,214 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.autoscaling;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.meterware.simplestub.Memento;
+import com.sun.net.httpserver.HttpServer;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1PodCondition;
+import io.kubernetes.client.models.V1PodStatus;
+import io.kubernetes.client.models.V1Service;
+import io.kubernetes.client.models.V1ServicePort;
+import io.kubernetes.client.models.V1ServiceSpec;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import oracle.kubernetes.TestUtils;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.helpers.AnnotationHelper;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfoManager;
+import oracle.kubernetes.operator.helpers.ServerKubernetesObjects;
+import oracle.kubernetes.operator.helpers.ServerKubernetesObjectsManager;
+import oracle.kubernetes.operator.http.HttpClient;
+import oracle.kubernetes.operator.work.AsyncCallTestSupport;
+import oracle.kubernetes.weblogic.domain.v1.AutoscalingMetric;
+import oracle.kubernetes.weblogic.domain.v1.ClusterAutoscaling;
+import oracle.kubernetes.weblogic.domain.v1.ClusterStartup;
+import oracle.kubernetes.weblogic.domain.v1.Domain;
+import oracle.kubernetes.weblogic.domain.v1.DomainSpec;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ClusterAutoscalerTest {
+  private static final String NS = "namespace";
+  private static final String NAME = "domain1";
+  private static final String UID = "uid1";
+  private static final String CLUSTER = "cluster1";
+  private static final String QUEUE = "threadpool_queue_length";
+
+  private AsyncCallTestSupport testSupport = new AsyncCallTestSupport();
+  private List<Memento> mementos = new ArrayList<>();
+  private List<HttpServer> exporters = new ArrayList<>();
+  private DomainPresenceInfo info;
+  private ClusterAutoscaler autoscaler;
+
+  private static Domain createDomain(int replicas) {
+    return new Domain()
+        .withMetadata(new V1ObjectMeta().namespace(NS).name(NAME).resourceVersion("1"))
+        .withSpec(
+            new DomainSpec()
+                .withDomainUID(UID)
+                .withClusterStartup(
+                    Collections.singletonList(
+                        new ClusterStartup()
+                            .withClusterName(CLUSTER)
+                            .withReplicas(replicas)
+                            .withAutoscaling(createAutoscaling()))));
+  }
+
+  private static ClusterAutoscaling createAutoscaling() {
+    return new ClusterAutoscaling()
+        .withMaxReplicas(5)
+        .withCooldownSeconds(0)
+        .withMetrics(
+            Collections.singletonList(
+                new AutoscalingMetric().withName(QUEUE).withTargetAverageValue(4.0)));
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(testSupport.installRequestStepFactory());
+
+    info = DomainPresenceInfoManager.getOrCreate(createDomain(2));
+    testSupport.addDomainPresenceInfo(info);
+    autoscaler =
+        new ClusterAutoscaler(
+            CLUSTER, createAutoscaling(), System::currentTimeMillis, Runnable::run);
+    autoscaler.setHttpClient(HttpClient.createAuthenticatedClient(null, null));
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    for (Memento memento : mementos) memento.revert();
+    DomainPresenceInfoManager.remove(UID);
+    for (HttpServer exporter : exporters) exporter.stop(0);
+
+    testSupport.throwOnCompletionFailure();
+    testSupport.verifyAllDefinedResponsesInvoked();
+  }
+
+  // Adds a ready managed server whose service leads to a stub exporter of the given metrics
+  private void addServer(String serverName, String clusterName, String metrics) throws IOException {
+    addServer(serverName, clusterName, 200, metrics);
+  }
+
+  private void addServer(String serverName, String clusterName, int status, String metrics)
+      throws IOException {
+    HttpServer exporter = startExporter(status, metrics);
+    ServerKubernetesObjects sko = ServerKubernetesObjectsManager.getOrCreate(info, UID, serverName);
+    sko.getPod()
+        .set(
+            new V1Pod()
+                .metadata(
+                    new V1ObjectMeta()
+                        .name(serverName)
+                        .putLabelsItem(LabelConstants.CLUSTERNAME_LABEL, clusterName))
+                .status(
+                    new V1PodStatus()
+                        .phase("Running")
+                        .addConditionsItem(new V1PodCondition().type("Ready").status("True"))));
+    sko.getService()
+        .set(
+            new V1Service()
+                .metadata(new V1ObjectMeta().name(serverName).namespace(NS))
+                .spec(
+                    new V1ServiceSpec()
+                        .clusterIP("127.0.0.1")
+                        .addPortsItem(new V1ServicePort().port(exporter.getAddress().getPort()))));
+  }
+
+  private HttpServer startExporter(int status, String metrics) throws IOException {
+    HttpServer exporter = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    exporter.createContext(
+        AnnotationHelper.METRICS_PATH,
+        exchange -> {
+          byte[] body = metrics.getBytes(StandardCharsets.UTF_8);
+          exchange.sendResponseHeaders(status, body.length);
+          try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+          }
+        });
+    exporter.start();
+    exporters.add(exporter);
+    return exporter;
+  }
+
+  @Test
+  public void whenQueuesAboveTarget_scaleUpClusterStartup() throws IOException {
+    addServer("ms1", CLUSTER, QUEUE + "{name=\"default\"} 9\n");
+    addServer("ms2", CLUSTER, QUEUE + "{name=\"default\"} 7\n");
+    addServer("ms3", "other", QUEUE + "{name=\"default\"} 100\n");
+    testSupport
+        .createCannedResponse("readDomain")
+        .withNamespace(NS)
+        .withName(NAME)
+        .returning(createDomain(2));
+    testSupport
+        .createCannedResponse("replaceDomain")
+        .withNamespace(NS)
+        .withName(NAME)
+        .withBody(createDomain(4))
+        .returning(createDomain(4));
+
+    testSupport.runSteps(autoscaler.createStep(info));
+  }
+
+  @Test
+  public void whenQueuesAtTarget_doNotScale() throws IOException {
+    addServer("ms1", CLUSTER, QUEUE + " 4\n");
+    addServer("ms2", CLUSTER, QUEUE + " 4\n");
+
+    testSupport.runSteps(autoscaler.createStep(info));
+  }
+
+  @Test
+  public void afterScaling_startCooldown() throws IOException {
+    autoscaler.getRecommender().getAutoscaling().setCooldownSeconds(300);
+    addServer("ms1", CLUSTER, QUEUE + " 20\n");
+    testSupport
+        .createCannedResponse("readDomain")
+        .withNamespace(NS)
+        .withName(NAME)
+        .returning(createDomain(2));
+    testSupport
+        .createCannedResponse("replaceDomain")
+        .withNamespace(NS)
+        .withName(NAME)
+        .ignoringBody()
+        .returning(createDomain(5));
+
+    testSupport.runSteps(autoscaler.createStep(info));
+
+    assertThat(
+        autoscaler.getRecommender().recommend(System.currentTimeMillis(), 2, 0, metricsOf(20)),
+        equalTo(null));
+  }
+
+  @Test
+  public void whenExporterRejectsCredentials_dropHttpClient() throws IOException {
+    addServer("ms1", CLUSTER, 401, "");
+
+    testSupport.runSteps(autoscaler.createStep(info));
+
+    assertThat(autoscaler.getHttpClient(), nullValue());
+  }
+
+  private static Map<String, Map<String, Double>> metricsOf(double queue) {
+    return Collections.singletonMap("ms1", Collections.singletonMap(QUEUE, queue));
+  }
+}
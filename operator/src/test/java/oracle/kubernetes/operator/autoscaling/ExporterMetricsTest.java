@@ -0,0 +1,63 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.autoscaling;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+
+import java.util.Map;
+import org.junit.Test;
+
+public class ExporterMetricsTest {
+
+  @Test
+  public void valuesOfAllSeries_areSummed() {
+    Map<String, Double> metrics =
+        ExporterMetrics.parse(
+            "threadpool_queue_length{name=\"ms1\"} 3\n"
+                + "webapp_invocation_total_count{app=\"a\",servletName=\"s1\"} 10\n"
+                + "webapp_invocation_total_count{app=\"b\",servletName=\"s2\"} 15.5\n");
+
+    assertThat(metrics, hasEntry("threadpool_queue_length", 3.0));
+    assertThat(metrics, hasEntry("webapp_invocation_total_count", 25.5));
+  }
+
+  @Test
+  public void commentsAndBlankLines_areSkipped() {
+    Map<String, Double> metrics =
+        ExporterMetrics.parse(
+            "# HELP heap_used the used heap\n# TYPE heap_used gauge\n\nheap_used 512\n");
+
+    assertThat(metrics.size(), equalTo(1));
+    assertThat(metrics, hasEntry("heap_used", 512.0));
+  }
+
+  @Test
+  public void bracesWithinLabelValues_doNotEndLabels() {
+    Map<String, Double> metrics =
+        ExporterMetrics.parse("queue{name=\"a} \\\"b\\\" {c\"} 7 1526000000000\n");
+
+    assertThat(metrics, hasEntry("queue", 7.0));
+  }
+
+  @Test
+  public void valuesNotFinite_areSkipped() {
+    Map<String, Double> metrics = ExporterMetrics.parse("a NaN\nb +Inf\nc{x=\"1\"} oops\nd\n");
+
+    assertThat(metrics, not(hasKey("a")));
+    assertThat(metrics, not(hasKey("b")));
+    assertThat(metrics, not(hasKey("c")));
+    assertThat(metrics, not(hasKey("d")));
+  }
+
+  @Test
+  public void whenNoText_noMetrics() {
+    assertThat(ExporterMetrics.parse(null), anEmptyMap());
+  }
+}
@@ -0,0 +1,142 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.autoscaling;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import oracle.kubernetes.weblogic.domain.v1.AutoscalingMetric;
+import oracle.kubernetes.weblogic.domain.v1.ClusterAutoscaling;
+import org.junit.Test;
+
+public class ReplicaRecommenderTest {
+  private static final String QUEUE = "threadpool_queue_length";
+  private static final String REQUESTS = "webapp_invocation_total_count";
+
+  private ClusterAutoscaling autoscaling =
+      new ClusterAutoscaling()
+          .withMinReplicas(1)
+          .withMaxReplicas(10)
+          .withScaleUpStabilizationSeconds(0)
+          .withScaleDownStabilizationSeconds(60)
+          .withCooldownSeconds(0)
+          .withMetrics(
+              Collections.singletonList(
+                  new AutoscalingMetric().withName(QUEUE).withTargetAverageValue(5.0)));
+  private ReplicaRecommender recommender = new ReplicaRecommender(autoscaling);
+
+  private static Map<String, Map<String, Double>> servers(String name, double... values) {
+    Map<String, Map<String, Double>> servers = new HashMap<>();
+    for (int i = 0; i < values.length; i++) {
+      servers.put("ms" + (i + 1), Collections.singletonMap(name, values[i]));
+    }
+    return servers;
+  }
+
+  @Test
+  public void whenAverageAboveTarget_scaleToCarryLoadAtTarget() {
+    assertThat(recommender.recommend(0, 2, 0, servers(QUEUE, 9, 12)), equalTo(5));
+  }
+
+  @Test
+  public void whenAverageWithinTolerance_doNotScale() {
+    assertThat(recommender.recommend(0, 2, 0, servers(QUEUE, 5.4, 5.4)), nullValue());
+  }
+
+  @Test
+  public void whenNoMetricsRead_doNotScale() {
+    assertThat(recommender.recommend(0, 2, 0, new HashMap<>()), nullValue());
+  }
+
+  @Test
+  public void recommendation_isLimitedByMaxReplicas() {
+    assertThat(recommender.recommend(0, 2, 0, servers(QUEUE, 50, 50)), equalTo(10));
+  }
+
+  @Test
+  public void recommendation_isLimitedByCapacity() {
+    assertThat(recommender.recommend(0, 2, 4, servers(QUEUE, 50, 50)), equalTo(4));
+  }
+
+  @Test
+  public void recommendation_isAtLeastMinReplicas() {
+    autoscaling.setMinReplicas(2);
+
+    assertThat(recommender.recommend(0, 3, 0, servers(QUEUE, 0, 0, 0)), equalTo(2));
+  }
+
+  @Test
+  public void largestRecommendationOfAllMetrics_isUsed() {
+    autoscaling.setMetrics(
+        Arrays.asList(
+            new AutoscalingMetric().withName(QUEUE).withTargetAverageValue(5.0),
+            new AutoscalingMetric().withName("heap_used").withTargetAverageValue(100.0)));
+    Map<String, Map<String, Double>> servers = new HashMap<>();
+    Map<String, Double> metrics = new HashMap<>();
+    metrics.put(QUEUE, 10.0);
+    metrics.put("heap_used", 300.0);
+    servers.put("ms1", metrics);
+
+    assertThat(recommender.recommend(0, 1, 0, servers), equalTo(3));
+  }
+
+  @Test
+  public void rateMetric_usesIncreasePerSecond() {
+    autoscaling.setMetrics(
+        Collections.singletonList(
+            new AutoscalingMetric()
+                .withName(REQUESTS)
+                .withTargetAverageValue(50.0)
+                .withRate(true)));
+
+    assertThat(recommender.recommend(0, 1, 0, servers(REQUESTS, 1000)), nullValue());
+    assertThat(recommender.recommend(10_000, 1, 0, servers(REQUESTS, 3000)), equalTo(4));
+  }
+
+  @Test
+  public void whenCounterReset_rateNotUsed() {
+    autoscaling.setMetrics(
+        Collections.singletonList(
+            new AutoscalingMetric()
+                .withName(REQUESTS)
+                .withTargetAverageValue(50.0)
+                .withRate(true)));
+
+    recommender.recommend(0, 1, 0, servers(REQUESTS, 5000));
+
+    assertThat(recommender.recommend(10_000, 1, 0, servers(REQUESTS, 10)), nullValue());
+  }
+
+  @Test
+  public void scaleDown_waitsForHighestRecommendationInWindow() {
+    recommender.recommend(0, 4, 0, servers(QUEUE, 5, 5, 5, 5));
+
+    assertThat(recommender.recommend(30_000, 4, 0, servers(QUEUE, 1, 1, 1, 1)), nullValue());
+    assertThat(recommender.recommend(61_000, 4, 0, servers(QUEUE, 1, 1, 1, 1)), equalTo(1));
+  }
+
+  @Test
+  public void scaleUp_waitsForLowestRecommendationInWindow() {
+    autoscaling.setScaleUpStabilizationSeconds(20);
+    recommender.recommend(0, 2, 0, servers(QUEUE, 5, 5));
+
+    assertThat(recommender.recommend(10_000, 2, 0, servers(QUEUE, 20, 20)), nullValue());
+    assertThat(recommender.recommend(21_000, 2, 0, servers(QUEUE, 20, 20)), equalTo(8));
+  }
+
+  @Test
+  public void afterScaling_waitForCooldown() {
+    autoscaling.setCooldownSeconds(30);
+    recommender.scaled(0);
+
+    assertThat(recommender.recommend(10_000, 2, 0, servers(QUEUE, 20, 20)), nullValue());
+    assertThat(recommender.recommend(31_000, 2, 0, servers(QUEUE, 20, 20)), equalTo(8));
+  }
+}
@@ -6,6 +6,7 @@ package oracle.kubernetes.operator.calls;
 
 import static oracle.kubernetes.operator.calls.AsyncRequestStep.RESPONSE_COMPONENT_NAME;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.not;
@@ -16,6 +17,10 @@ import com.meterware.simplestub.Memento;
 import io.kubernetes.client.ApiCallback;
 import io.kubernetes.client.ApiClient;
 import io.kubernetes.client.ApiException;
+import io.kubernetes.client.models.V1ListMeta;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1PodList;
 import java.net.HttpURLConnection;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -124,9 +129,45 @@ public class AsyncRequestStepTest {
     assertTrue(callFactory.invokedWith(requestParams));
   }
 
+  @Test
+  public void whenListResponseHasContinueToken_requestNextPageWithIt() {
+    ListCallFactoryStub listFactory = new ListCallFactoryStub();
+    PagingStep pagingStep = new PagingStep();
+    FiberTestSupport listSupport = new FiberTestSupport();
+    listSupport.runSteps(createListRequestStep(pagingStep, listFactory));
+
+    listSupport.schedule(() -> listFactory.sendPage("page2", "pod1"));
+    listSupport.schedule(() -> listFactory.sendPage("page3", "pod2"));
+    listSupport.schedule(() -> listFactory.sendPage("", "pod3"));
+
+    assertThat(listFactory.continueTokens, contains("", "page2", "page3"));
+    assertThat(pagingStep.podNames, contains("pod1", "pod2", "pod3"));
+  }
+
+  private AsyncRequestStep<V1PodList> createListRequestStep(
+      PagingStep pagingStep, ListCallFactoryStub listFactory) {
+    return new AsyncRequestStep<>(
+        pagingStep,
+        requestParams,
+        listFactory,
+        helper,
+        TIMEOUT_SECONDS,
+        MAX_RETRY_COUNT,
+        null,
+        null,
+        null);
+  }
+
+  private static V1PodList createPage(String cont, String... podNames) {
+    V1PodList page = new V1PodList().metadata(new V1ListMeta()._continue(cont));
+    for (String podName : podNames) {
+      page.addItemsItem(new V1Pod().metadata(new V1ObjectMeta().name(podName)));
+    }
+    return page;
+  }
+
   // todo tests
   // can new request clear timeout action?
-  // what is accessContinue?
   // test CONFLICT (409) status
   // no retry if status not handled
   // test exceeded retry count
@@ -145,6 +186,48 @@ public class AsyncRequestStepTest {
     }
   }
 
+  static class PagingStep extends ResponseStep<V1PodList> {
+    private List<String> podNames = new ArrayList<>();
+
+    PagingStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1PodList> callResponse) {
+      V1PodList result = callResponse.getResult();
+      for (V1Pod pod : result.getItems()) {
+        podNames.add(pod.getMetadata().getName());
+      }
+      if (hasMorePages(result.getMetadata())) {
+        return doContinueList(packet, result.getMetadata());
+      }
+      return doNext(packet);
+    }
+  }
+
+  static class ListCallFactoryStub implements CallFactory<V1PodList> {
+    private List<String> continueTokens = new ArrayList<>();
+    private ApiCallback<V1PodList> callback;
+
+    void sendPage(String cont, String... podNames) {
+      callback.onSuccess(
+          createPage(cont, podNames), HttpURLConnection.HTTP_OK, Collections.emptyMap());
+    }
+
+    @Override
+    public CancellableCall generate(
+        RequestParams requestParams,
+        ApiClient client,
+        String cont,
+        ApiCallback<V1PodList> callback) {
+      this.continueTokens.add(cont);
+      this.callback = callback;
+
+      return new CancellableCallStub();
+    }
+  }
+
   @SuppressWarnings("SameParameterValue")
   static class CallFactoryStub implements CallFactory<Integer> {
 
@@ -5,10 +5,12 @@
 package oracle.kubernetes.operator.helpers;
 
 import static oracle.kubernetes.LogMatcher.containsInfo;
+import static oracle.kubernetes.operator.LabelConstants.DOMAINNAME_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.RESOURCE_VERSION_LABEL;
 import static oracle.kubernetes.operator.logging.MessageKeys.ADMIN_POD_CREATED;
 import static oracle.kubernetes.operator.logging.MessageKeys.ADMIN_POD_EXISTS;
 import static oracle.kubernetes.operator.logging.MessageKeys.ADMIN_POD_REPLACED;
+import static oracle.kubernetes.operator.logging.MessageKeys.POD_PATCHED;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
@@ -150,6 +152,35 @@ public class AdminPodHelperTest extends PodHelperTestBase {
         pod -> pod.getMetadata().putLabelsItem(RESOURCE_VERSION_LABEL, "??"));
   }
 
+  @Test
+  public void whenExistingAdminPodHasDifferentHash_replaceIt() {
+    verifyAdminPodReplacedWhen(
+        pod -> pod.getMetadata().putAnnotationsItem(AnnotationHelper.SHA256_ANNOTATION, "??"));
+  }
+
+  @Test
+  public void whenExistingAdminPodDiffersOnlyInLabels_patchIt() {
+    V1Pod existingPod = getCreatedPod();
+    String desiredHash = AnnotationHelper.getHash(existingPod.getMetadata());
+    existingPod.getMetadata().putLabelsItem(DOMAINNAME_LABEL, "old-name");
+    existingPod.getMetadata().putAnnotationsItem(AnnotationHelper.SHA256_ANNOTATION, "old-hash");
+    initializeExistingPod(existingPod);
+    testSupport
+        .createCannedResponse("patchPod")
+        .withNamespace(NS)
+        .withName(getPodName())
+        .withBody(
+            new JsonPatch()
+                .add("/metadata/labels/" + DOMAINNAME_LABEL, DOMAIN_NAME)
+                .add("/metadata/annotations/" + AnnotationHelper.SHA256_ANNOTATION, desiredHash)
+                .getOperations())
+        .returning(existingPod);
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    assertThat(logRecords, containsInfo(POD_PATCHED));
+  }
+
   @Test
   public void whenExistingAdminPodSpecHasNoContainers_replaceIt() {
     verifyAdminPodReplacedWhen((pod) -> pod.getSpec().setContainers(null));
@@ -0,0 +1,78 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.google.gson.JsonObject;
+import io.kubernetes.client.JSON;
+import io.kubernetes.client.models.V1beta1CustomResourceDefinition;
+import oracle.kubernetes.operator.helpers.HealthCheckHelper.KubernetesVersion;
+import org.junit.Test;
+
+public class CRDHelperTest {
+  private static final KubernetesVersion SUBRESOURCES_VERSION = new KubernetesVersion(1, 10);
+  private static final KubernetesVersion OLD_VERSION = new KubernetesVersion(1, 9);
+
+  private static JsonObject getSubresources() {
+    JSON json = new JSON();
+    return json.getGson()
+        .toJsonTree(CRDHelper.createModel(SUBRESOURCES_VERSION))
+        .getAsJsonObject()
+        .getAsJsonObject("spec")
+        .getAsJsonObject("subresources");
+  }
+
+  @Test
+  public void crd_hasStatusSubresource() {
+    assertThat(getSubresources().getAsJsonObject("status").entrySet(), empty());
+  }
+
+  @Test
+  public void crd_scaleSubresourceUsesDomainReplicas() {
+    JsonObject scale = getSubresources().getAsJsonObject("scale");
+
+    assertThat(scale.get("specReplicasPath").getAsString(), equalTo(".spec.replicas"));
+    assertThat(scale.get("statusReplicasPath").getAsString(), equalTo(".status.replicas"));
+    assertThat(scale.get("labelSelectorPath").getAsString(), equalTo(".status.selector"));
+  }
+
+  @Test
+  public void whenExistingCrdLacksSubresources_isNotCurrent() {
+    V1beta1CustomResourceDefinition existing = CRDHelper.createModel(SUBRESOURCES_VERSION);
+    existing.getSpec().setSubresources(null);
+
+    assertThat(
+        CRDHelper.isCurrent(existing, CRDHelper.createModel(SUBRESOURCES_VERSION)), is(false));
+  }
+
+  @Test
+  public void whenExistingCrdReadWithSubresources_isCurrent() {
+    JSON json = new JSON();
+    V1beta1CustomResourceDefinition existing =
+        json.deserialize(
+            json.serialize(CRDHelper.createModel(SUBRESOURCES_VERSION)),
+            V1beta1CustomResourceDefinition.class);
+
+    assertThat(
+        CRDHelper.isCurrent(existing, CRDHelper.createModel(SUBRESOURCES_VERSION)), is(true));
+  }
+
+  @Test
+  public void whenServerLacksSubresources_crdHasNone() {
+    assertThat(CRDHelper.createModel(OLD_VERSION).getSpec().getSubresources(), nullValue());
+  }
+
+  @Test
+  public void whenServerLacksSubresources_existingCrdWithoutThemIsCurrent() {
+    V1beta1CustomResourceDefinition existing = CRDHelper.createModel(OLD_VERSION);
+
+    assertThat(CRDHelper.isCurrent(existing, CRDHelper.createModel(OLD_VERSION)), is(true));
+  }
+}
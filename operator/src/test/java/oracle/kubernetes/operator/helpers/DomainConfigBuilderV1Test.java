@@ -394,6 +394,29 @@ public class DomainConfigBuilderV1Test {
     assertThat(actual, equalTo(want));
   }
 
+  @Test
+  public void getEffectiveClusterConfig_clusterStartupRollingLimitsSet_returnsMinAndMaxReplicas() {
+    List<ClusterStartup> clusterStartups = createClusterStartups(CLUSTER1);
+    clusterStartups
+        .get(0)
+        .withReplicas(10)
+        .withMaxUnavailable(newIntOrString(3))
+        .withMaxSurge(newIntOrString("15%"));
+
+    DomainSpec domainSpec = (new DomainSpec()).withClusterStartup(clusterStartups);
+
+    ClusterConfig want =
+        (new ClusterConfig())
+            .withClusterName(CLUSTER1)
+            .withReplicas(10)
+            .withMinReplicas(7)
+            .withMaxReplicas(12);
+
+    ClusterConfig actual = newBuilder(domainSpec).getEffectiveClusterConfig(CLUSTER1);
+
+    assertThat(actual, equalTo(want));
+  }
+
   @Test
   public void
       getEffectiveClusterConfig_domainSpecPropertiesSet_noClusterStartup_returnsDomainSpecProperties() {
@@ -0,0 +1,201 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1PersistentVolumeClaimList;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1SecretReference;
+import io.kubernetes.client.models.V1Service;
+import io.kubernetes.client.models.V1beta1Ingress;
+import io.kubernetes.client.models.V1beta1IngressBackend;
+import java.util.ArrayList;
+import java.util.List;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.steps.BeforeAdminServiceStep;
+import oracle.kubernetes.operator.steps.ClusterServicesStep;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.weblogic.domain.v1.Domain;
+import oracle.kubernetes.weblogic.domain.v1.DomainSpec;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DomainPlannerTest {
+  private static final String NS = "namespace";
+  private static final String UID = "uid1";
+  private static final String ADMIN_SERVER = "admin-server";
+  private static final String MANAGED_SERVER = "managed-server1";
+  private static final String SCAN_JSON =
+      "{\"servers\": {\"items\": ["
+          + "    {\"name\": \"admin-server\", \"listenPort\": 7001, \"cluster\": null,"
+          + "     \"networkAccessPoints\": {\"items\": []}}"
+          + "]}}";
+  private static final String CLUSTER = "cluster1";
+  private static final String CLUSTER_SCAN_JSON =
+      "{\"servers\": {\"items\": ["
+          + "    {\"name\": \"admin-server\", \"listenPort\": 7001, \"cluster\": null,"
+          + "     \"networkAccessPoints\": {\"items\": []}},"
+          + "    {\"name\": \"managed-server1\", \"listenPort\": 8001,"
+          + "     \"cluster\": [\"clusters\", \"cluster1\"],"
+          + "     \"networkAccessPoints\": {\"items\": []}}"
+          + "]}}";
+
+  private List<Memento> mementos = new ArrayList<>();
+  private DomainPresenceInfo info = createDomainPresenceInfo();
+
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(PodHelperTestBase.TuningParametersStub.install());
+  }
+
+  @After
+  public void tearDown() {
+    for (Memento memento : mementos) memento.revert();
+  }
+
+  private DomainPresenceInfo createDomainPresenceInfo() {
+    DomainPresenceInfo info =
+        new DomainPresenceInfo(
+            new Domain()
+                .withMetadata(new V1ObjectMeta().namespace(NS))
+                .withSpec(createDomainSpec()));
+    info.setClaims(new V1PersistentVolumeClaimList());
+    return info;
+  }
+
+  @SuppressWarnings("deprecation")
+  private DomainSpec createDomainSpec() {
+    return new DomainSpec()
+        .withDomainName("domain1")
+        .withDomainUID(UID)
+        .withAsName(ADMIN_SERVER)
+        .withAsPort(7001)
+        .withAdminSecret(new V1SecretReference().name("adminSecretName"))
+        .withImage("image:1.2.3");
+  }
+
+  private Packet createPacket() {
+    Packet packet = new Packet();
+    packet
+        .getComponents()
+        .put(ProcessingConstants.DOMAIN_COMPONENT_NAME, Component.createFor(info));
+    return packet;
+  }
+
+  private DomainPlan createPlan() {
+    return DomainPlanner.createPlan(createPacket());
+  }
+
+  private void recordAdminServer() {
+    Packet packet = createPacket();
+    BeforeAdminServiceStep.addToPacket(packet, info.getDomain().getSpec());
+    V1Pod pod = new PodHelper.AdminPodStepContext(null, packet).getPodModel();
+    V1Service service = ServiceHelper.createServerServiceContext(packet).createModel();
+
+    ServerKubernetesObjects sko = ServerKubernetesObjectsManager.getOrCreate(info, ADMIN_SERVER);
+    sko.getPod().set(pod);
+    sko.getService().set(service);
+  }
+
+  // Records the cluster service, and an ingress without the hash annotation of older operators
+  private V1beta1Ingress recordClusterWithUnhashedIngress() {
+    info.setScan(WlsDomainConfig.create(CLUSTER_SCAN_JSON));
+    info.getDomain().getSpec().setStartupControl("ADMIN");
+    recordAdminServer();
+
+    Packet packet =
+        ClusterServicesStep.createClusterPacket(
+            createPacket(), info.getScan().getClusterConfig(CLUSTER));
+    info.getClusters()
+        .put(CLUSTER, ServiceHelper.createClusterServiceContext(packet).createModel());
+    V1beta1Ingress ingress = IngressHelper.createClusterModel(packet);
+    ingress.getMetadata().getAnnotations().remove(AnnotationHelper.SHA256_ANNOTATION);
+    info.getIngresses().put(CLUSTER, ingress);
+    return ingress;
+  }
+
+  private static List<String> describe(DomainPlan plan) {
+    List<String> descriptions = new ArrayList<>();
+    for (DomainPlan.Action action : plan.getActions()) {
+      descriptions.add(action.toString());
+    }
+    return descriptions;
+  }
+
+  @Test
+  public void whenWlsConfigUnknown_planOnlyAdminServerAndReportIncomplete() {
+    DomainPlan plan = createPlan();
+
+    assertThat(plan.isComplete(), is(false));
+    assertThat(
+        describe(plan),
+        contains("CREATE POD uid1-admin-server", "CREATE SERVICE uid1-admin-server"));
+  }
+
+  @Test
+  public void whenAdminResourcesMatchModels_planIsEmpty() {
+    info.setScan(WlsDomainConfig.create(SCAN_JSON));
+    recordAdminServer();
+
+    DomainPlan plan = createPlan();
+
+    assertThat(plan.isComplete(), is(true));
+    assertThat(plan.isEmpty(), is(true));
+  }
+
+  @Test
+  public void whenAdminPodMissing_planCreatesOnlyPod() {
+    info.setScan(WlsDomainConfig.create(SCAN_JSON));
+    recordAdminServer();
+    info.getServers().get(ADMIN_SERVER).getPod().set(null);
+
+    DomainPlan plan = createPlan();
+
+    assertThat(describe(plan), contains("CREATE POD uid1-admin-server"));
+    assertThat(plan.hasActionsForServer(ADMIN_SERVER), is(true));
+  }
+
+  @Test
+  public void whenServerNoLongerDesired_planDeletesItsResources() {
+    info.setScan(WlsDomainConfig.create(SCAN_JSON));
+    recordAdminServer();
+    ServerKubernetesObjects sko = ServerKubernetesObjectsManager.getOrCreate(info, MANAGED_SERVER);
+    sko.getPod().set(new V1Pod().metadata(new V1ObjectMeta().name("uid1-managed-server1")));
+    sko.getService().set(new V1Service().metadata(new V1ObjectMeta().name("uid1-managed-server1")));
+
+    DomainPlan plan = createPlan();
+
+    assertThat(
+        describe(plan),
+        contains("DELETE POD uid1-managed-server1", "DELETE SERVICE uid1-managed-server1"));
+    assertThat(plan.hasActionsForServer(ADMIN_SERVER), is(false));
+  }
+
+  @Test
+  public void whenIngressWithoutHashMatchesModel_planIsEmpty() {
+    recordClusterWithUnhashedIngress();
+
+    DomainPlan plan = createPlan();
+
+    assertThat(plan.isEmpty(), is(true));
+  }
+
+  @Test
+  public void whenIngressWithoutHashDiffersFromModel_planPatchesIt() {
+    recordClusterWithUnhashedIngress().getSpec().setBackend(new V1beta1IngressBackend());
+
+    DomainPlan plan = createPlan();
+
+    assertThat(describe(plan), contains("PATCH INGRESS uid1-cluster1"));
+  }
+}
@@ -0,0 +1,92 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import oracle.kubernetes.weblogic.domain.v1.Domain;
+import oracle.kubernetes.weblogic.domain.v1.DomainSpec;
+import org.junit.Test;
+
+public class DomainPresenceInfoTest {
+  private static final String NS = "namespace";
+  private static final String UID = "uid1";
+
+  private DomainPresenceInfo info = new DomainPresenceInfo(NS);
+
+  @Test
+  public void beforeSpecApplied_reportNotApplied() {
+    assertThat(info.hasAppliedSpec(createDomain(1L, 2)), is(false));
+  }
+
+  @Test
+  public void whenGenerationUnchanged_reportApplied() {
+    info.setAppliedSpec(createDomain(1L, 2));
+
+    assertThat(info.hasAppliedSpec(createDomain(1L, 5)), is(true));
+  }
+
+  @Test
+  public void whenGenerationChangedButSpecNot_reportAppliedAndRecordGeneration() {
+    info.setAppliedSpec(createDomain(1L, 2));
+
+    assertThat(info.hasAppliedSpec(createDomain(2L, 2)), is(true));
+    assertThat(info.getAppliedGeneration(), equalTo(2L));
+  }
+
+  @Test
+  public void whenGenerationAndSpecChanged_reportNotApplied() {
+    info.setAppliedSpec(createDomain(1L, 2));
+
+    assertThat(info.hasAppliedSpec(createDomain(2L, 3)), is(false));
+    assertThat(info.getAppliedGeneration(), equalTo(1L));
+  }
+
+  @Test
+  public void whenNoGeneration_compareSpecs() {
+    info.setAppliedSpec(createDomain(null, 2));
+
+    assertThat(info.hasAppliedSpec(createDomain(null, 2)), is(true));
+    assertThat(info.hasAppliedSpec(createDomain(null, 3)), is(false));
+  }
+
+  @Test
+  public void whenSpecBegunButNotReconciled_reportNoReconciledGeneration() {
+    info.setAppliedSpec(createDomain(1L, 2));
+
+    assertThat(info.getReconciledGeneration(), nullValue());
+  }
+
+  @Test
+  public void whenReconciledSpecSeenWithNewGeneration_advanceReconciledGeneration() {
+    info.setAppliedSpec(createDomain(1L, 2));
+    info.setReconciledGeneration(1L);
+
+    info.hasAppliedSpec(createDomain(2L, 2));
+
+    assertThat(info.getReconciledGeneration(), equalTo(2L));
+  }
+
+  @Test
+  public void whenUnreconciledSpecSeenWithNewGeneration_keepReconciledGeneration() {
+    info.setAppliedSpec(createDomain(1L, 2));
+    info.setReconciledGeneration(1L);
+    info.setAppliedSpec(createDomain(2L, 3));
+
+    info.hasAppliedSpec(createDomain(3L, 3));
+
+    assertThat(info.getReconciledGeneration(), equalTo(1L));
+  }
+
+  private Domain createDomain(Long generation, int replicas) {
+    return new Domain()
+        .withMetadata(new V1ObjectMeta().namespace(NS).name(UID).generation(generation))
+        .withSpec(new DomainSpec().withDomainUID(UID).withReplicas(replicas));
+  }
+}
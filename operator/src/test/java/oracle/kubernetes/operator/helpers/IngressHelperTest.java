@@ -15,6 +15,8 @@ import static oracle.kubernetes.operator.ProcessingConstants.CLUSTER_NAME;
 import static oracle.kubernetes.operator.ProcessingConstants.PORT;
 import static oracle.kubernetes.operator.helpers.CallBuilder.NOT_FOUND;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.sameInstance;
 
 import com.meterware.simplestub.Memento;
@@ -28,6 +30,7 @@ import io.kubernetes.client.models.V1beta1IngressRule;
 import io.kubernetes.client.models.V1beta1IngressSpec;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import oracle.kubernetes.TestUtils;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.VersionConstants;
@@ -48,7 +51,7 @@ public class IngressHelperTest {
   private static final String UID = "uid1";
   private static final String BAD_VERSION = "bad-version";
   private static final int BAD_PORT = 9999;
-  private static final V1beta1Ingress INGRESS_RESOURCE = createIngressResource();
+  private static final V1beta1Ingress INGRESS_RESOURCE = withHash(createIngressResource());
 
   private DomainPresenceInfo domainPresenceInfo = createPresenceInfo();
   private AsyncCallTestSupport testSupport = new AsyncCallTestSupport();
@@ -71,6 +74,11 @@ public class IngressHelperTest {
         .spec(createIngressSpec());
   }
 
+  private static V1beta1Ingress withHash(V1beta1Ingress ingress) {
+    AnnotationHelper.addHash(ingress.getMetadata(), ingress);
+    return ingress;
+  }
+
   private static V1beta1IngressSpec createIngressSpec() {
     String serviceName = LegalNames.toClusterServiceName(UID, TEST_CLUSTER);
     return new V1beta1IngressSpec()
@@ -142,7 +150,7 @@ public class IngressHelperTest {
 
     runCreateClusterStep();
 
-    assertThat(getExistingIngress(), sameInstance(INGRESS_RESOURCE));
+    assertThat(getExistingIngress(), equalTo(ResourceProjections.project(INGRESS_RESOURCE)));
   }
 
   private void createCannedReadResponse() {
@@ -179,19 +187,46 @@ public class IngressHelperTest {
   }
 
   @Test
-  public void whenMatchingIngressExistsButHasDifferentVersion_replaceIt() {
+  public void whenMatchingIngressExistsButHasDifferentVersion_patchIt() {
     setExistingIngress(ingressWithDifferentResourceVersion());
     createCannedReadResponse();
+    expectPatchFrom(getExistingIngress());
+
+    runCreateClusterStep();
+
+    assertThat(getExistingIngress(), equalTo(ResourceProjections.project(INGRESS_RESOURCE)));
+  }
+
+  private void expectPatchFrom(V1beta1Ingress current) {
+    JsonPatch patch =
+        new JsonPatch()
+            .addMetadataChanges(current.getMetadata(), INGRESS_RESOURCE.getMetadata())
+            .add("/spec", INGRESS_RESOURCE.getSpec());
     testSupport
-        .createCannedResponse("replaceIngress")
+        .createCannedResponse("patchIngress")
         .withName(LegalNames.toIngressName(UID, TEST_CLUSTER))
         .withNamespace(NS)
-        .withBody(INGRESS_RESOURCE)
+        .withBody(patch.getOperations())
         .returning(INGRESS_RESOURCE);
+  }
 
-    runCreateClusterStep();
+  @Test
+  public void whenIngressHasDifferentVersion_patchOnlyChangedLabelsAndAnnotations() {
+    JsonPatch patch =
+        new JsonPatch()
+            .addMetadataChanges(
+                ingressWithDifferentResourceVersion().getMetadata(),
+                INGRESS_RESOURCE.getMetadata());
+
+    assertThat(
+        getPaths(patch),
+        containsInAnyOrder(
+            "/metadata/labels/" + JsonPatch.escape(RESOURCE_VERSION_LABEL),
+            "/metadata/annotations/" + AnnotationHelper.SHA256_ANNOTATION));
+  }
 
-    assertThat(getExistingIngress(), sameInstance(INGRESS_RESOURCE));
+  private List<Object> getPaths(JsonPatch patch) {
+    return patch.getOperations().stream().map(op -> op.get("path")).collect(Collectors.toList());
   }
 
   private V1beta1Ingress ingressWithDifferentResourceVersion() {
@@ -202,19 +237,14 @@ public class IngressHelperTest {
 
   @SuppressWarnings("unchecked")
   @Test
-  public void whenMatchingIngressExistsButHasDifferentSpec_replaceIt() {
+  public void whenMatchingIngressExistsButHasDifferentSpec_patchIt() {
     setExistingIngress(ingressWithDifferentSpec());
     createCannedReadResponse();
-    testSupport
-        .createCannedResponse("replaceIngress")
-        .withName(LegalNames.toIngressName(UID, TEST_CLUSTER))
-        .withNamespace(NS)
-        .withBody(INGRESS_RESOURCE)
-        .returning(INGRESS_RESOURCE);
+    expectPatchFrom(getExistingIngress());
 
     runCreateClusterStep();
 
-    assertThat(getExistingIngress(), sameInstance(INGRESS_RESOURCE));
+    assertThat(getExistingIngress(), equalTo(ResourceProjections.project(INGRESS_RESOURCE)));
   }
 
   private V1beta1Ingress ingressWithDifferentSpec() {
@@ -224,4 +254,28 @@ public class IngressHelperTest {
         .setBackend(new V1beta1IngressBackend().servicePort(new IntOrString(BAD_PORT)));
     return ingress;
   }
+
+  @Test
+  public void whenIngressWithoutHashMatchesSpec_leaveItAlone() {
+    V1beta1Ingress ingress = createIngressResource();
+    setExistingIngress(ingress);
+    createCannedReadResponse();
+
+    runCreateClusterStep();
+
+    assertThat(getExistingIngress(), sameInstance(ingress));
+  }
+
+  @Test
+  public void whenMatchingIngressExistsButHasDifferentHash_patchIt() {
+    V1beta1Ingress ingress = createIngressResource();
+    ingress.getMetadata().putAnnotationsItem(AnnotationHelper.SHA256_ANNOTATION, "bad-hash");
+    setExistingIngress(ingress);
+    createCannedReadResponse();
+    expectPatchFrom(getExistingIngress());
+
+    runCreateClusterStep();
+
+    assertThat(getExistingIngress(), equalTo(ResourceProjections.project(INGRESS_RESOURCE)));
+  }
 }
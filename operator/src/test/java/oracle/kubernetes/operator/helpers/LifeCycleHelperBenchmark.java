@@ -0,0 +1,74 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import static oracle.kubernetes.operator.LabelConstants.RESOURCE_VERSION_LABEL;
+import static oracle.kubernetes.operator.VersionConstants.DOMAIN_V1DOT1;
+import static oracle.kubernetes.operator.utils.KubernetesArtifactUtils.newDomain;
+import static oracle.kubernetes.operator.utils.KubernetesArtifactUtils.newObjectMeta;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import oracle.kubernetes.weblogic.domain.v1.Domain;
+import oracle.kubernetes.weblogic.domain.v1.DomainSpec;
+
+/**
+ * Measures the cost of computing the effective configurations of the servers in a 500 server
+ * cluster, with and without the memoized builder. Run with {@code mvn exec:java
+ * -Dexec.classpathScope=test
+ * -Dexec.mainClass=oracle.kubernetes.operator.helpers.LifeCycleHelperBenchmark}.
+ */
+public class LifeCycleHelperBenchmark {
+  private static final int SERVER_COUNT = 500;
+  private static final int ROUNDS = 200;
+  private static final String CLUSTER = "cluster1";
+
+  public static void main(String[] args) {
+    Domain domain =
+        newDomain()
+            .withMetadata(
+                newObjectMeta()
+                    .uid("bench")
+                    .generation(1L)
+                    .putLabelsItem(RESOURCE_VERSION_LABEL, DOMAIN_V1DOT1))
+            .withSpec(new DomainSpec().withDomainUID("bench"));
+
+    Set<String> servers = new TreeSet<>();
+    for (int i = 1; i <= SERVER_COUNT; i++) {
+      servers.add("managed-server" + i);
+    }
+    Map<String, Set<String>> clusters = new HashMap<>();
+    clusters.put(CLUSTER, servers);
+
+    LifeCycleHelper helper = LifeCycleHelper.instance();
+    run("warm-up", () -> recompute(helper, domain, servers));
+    run("recomputed", () -> recompute(helper, domain, servers));
+    run("memoized", () -> memoized(helper, domain, servers));
+    run("memoized domain config", () -> helper.getEffectiveDomainConfig(domain, servers, clusters));
+  }
+
+  private static void recompute(LifeCycleHelper helper, Domain domain, Set<String> servers) {
+    for (String server : servers) {
+      helper.getDomainConfigBuilder(domain).getEffectiveClusteredServerConfig(CLUSTER, server);
+    }
+  }
+
+  private static void memoized(LifeCycleHelper helper, Domain domain, Set<String> servers) {
+    for (String server : servers) {
+      helper.getEffectiveClusteredServerConfig(domain, CLUSTER, server);
+    }
+  }
+
+  private static void run(String name, Runnable round) {
+    long start = System.nanoTime();
+    for (int i = 0; i < ROUNDS; i++) {
+      round.run();
+    }
+    long micros = (System.nanoTime() - start) / 1000 / ROUNDS;
+    System.out.println(String.format("%-24s %8d us per %d servers", name, micros, SERVER_COUNT));
+  }
+}
@@ -18,6 +18,7 @@ import java.util.Map;
 import java.util.Set;
 import oracle.kubernetes.weblogic.domain.v1.Domain;
 import oracle.kubernetes.weblogic.domain.v1.DomainSpec;
+import oracle.kubernetes.weblogic.domain.v1.NonClusteredServer;
 import org.junit.Test;
 
 /** Tests LifeCycleHelper */
@@ -100,6 +101,87 @@ public class LifeCycleHelperTest {
     assertThat(actual, notNullValue());
   }
 
+  @Test
+  public void getEffectiveNonClusteredServerConfig_sameGeneration_returnsRememberedConfig() {
+    Domain domain = newDomainV1Dot1("uid1", 1L);
+    getHelper().getEffectiveNonClusteredServerConfig(domain, SERVER1);
+
+    domain.getSpec().withServer(SERVER1, newNonClusteredServer("image1"));
+
+    assertThat(
+        getHelper().getEffectiveNonClusteredServerConfig(domain, SERVER1).getImage(),
+        not(equalTo("image1")));
+  }
+
+  @Test
+  public void getEffectiveNonClusteredServerConfig_sameGeneration_returnsUnsharedCopies() {
+    Domain domain = newDomainV1Dot1("uid6", 1L);
+    NonClusteredServerConfig first =
+        getHelper().getEffectiveNonClusteredServerConfig(domain, SERVER1);
+    NonClusteredServerConfig second =
+        getHelper().getEffectiveNonClusteredServerConfig(domain, SERVER1);
+
+    assertThat(second, both(equalTo(first)).and(not(sameInstance(first))));
+  }
+
+  @Test
+  public void getEffectiveNonClusteredServerConfig_afterForgetDomain_recomputesConfig() {
+    Domain domain = newDomainV1Dot1("uid7", 1L);
+    getHelper().getEffectiveNonClusteredServerConfig(domain, SERVER1);
+
+    domain.getSpec().withServer(SERVER1, newNonClusteredServer("image7"));
+    getHelper().forgetDomain("uid7");
+
+    assertThat(
+        getHelper().getEffectiveNonClusteredServerConfig(domain, SERVER1).getImage(),
+        equalTo("image7"));
+  }
+
+  @Test
+  public void getEffectiveNonClusteredServerConfig_newGeneration_recomputesConfig() {
+    Domain domain = newDomainV1Dot1("uid2", 1L);
+    getHelper().getEffectiveNonClusteredServerConfig(domain, SERVER1);
+
+    domain.getSpec().withServer(SERVER1, newNonClusteredServer("image2"));
+    domain.getMetadata().setGeneration(2L);
+
+    assertThat(
+        getHelper().getEffectiveNonClusteredServerConfig(domain, SERVER1).getImage(),
+        equalTo("image2"));
+  }
+
+  @Test
+  public void getEffectiveNonClusteredServerConfig_noGenerationAndChangedSpec_recomputesConfig() {
+    Domain domain = newDomainV1Dot1("uid3", null);
+    getHelper().getEffectiveNonClusteredServerConfig(domain, SERVER1);
+
+    domain.getSpec().withServer(SERVER1, newNonClusteredServer("image3"));
+
+    assertThat(
+        getHelper().getEffectiveNonClusteredServerConfig(domain, SERVER1).getImage(),
+        equalTo("image3"));
+  }
+
+  @Test
+  public void updateDomainSpec_recomputesRememberedClusterConfig() {
+    Domain domain = newDomainV1Dot1("uid4", 1L);
+    getHelper().getEffectiveClusterConfig(domain, CLUSTER1);
+
+    getHelper()
+        .updateDomainSpec(domain, new ClusterConfig().withClusterName(CLUSTER1).withReplicas(3));
+
+    assertThat(getHelper().getEffectiveClusterConfig(domain, CLUSTER1).getReplicas(), equalTo(3));
+  }
+
+  @Test
+  public void getEffectiveClusterConfig_sameGeneration_returnsConfigWithoutPreviousServers() {
+    Domain domain = newDomainV1Dot1("uid5", 1L);
+    getHelper().getEffectiveDomainConfig(domain, getServers(), clustersWith(CLUSTER1, SERVER1));
+
+    assertThat(
+        getHelper().getEffectiveClusterConfig(domain, CLUSTER1).getServers().keySet(), empty());
+  }
+
   @Test
   public void getEffectiveNonClusteredServerConfigs_returnsExpectedConfig() {
     DomainConfig actual = new DomainConfig();
@@ -267,6 +349,24 @@ public class LifeCycleHelperTest {
         .withMetadata(newObjectMeta().putLabelsItem(RESOURCE_VERSION_LABEL, DOMAIN_V1DOT1));
   }
 
+  private Domain newDomainV1Dot1(String domainUID, Long generation) {
+    Domain domain = newDomainV1Dot1().withSpec(new DomainSpec().withDomainUID(domainUID));
+    domain.getMetadata().setGeneration(generation);
+    return domain;
+  }
+
+  private NonClusteredServer newNonClusteredServer(String image) {
+    NonClusteredServer server = new NonClusteredServer();
+    server.setImage(image);
+    return server;
+  }
+
+  private Map<String, Set<String>> clustersWith(String cluster, String... servers) {
+    Map<String, Set<String>> clusters = new HashMap<>();
+    clusters.put(cluster, getServers(servers));
+    return clusters;
+  }
+
   private Domain newDomainV1() {
     return newDomain()
         .withMetadata(newObjectMeta().putLabelsItem(RESOURCE_VERSION_LABEL, DOMAIN_V1));
@@ -0,0 +1,19 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+
+/**
+ * An empty persistent volume cache, installed in place of the operator's for the life of a test.
+ */
+public class PersistentVolumeCacheStub extends PersistentVolumeCache {
+
+  public static Memento install() throws NoSuchFieldException {
+    return StaticStubSupport.install(
+        PersistentVolumeCache.class, "INSTANCE", new PersistentVolumeCacheStub());
+  }
+}
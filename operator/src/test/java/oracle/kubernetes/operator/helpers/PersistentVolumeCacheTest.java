@@ -0,0 +1,162 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.nullValue;
+
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1PersistentVolume;
+import io.kubernetes.client.models.V1PersistentVolumeClaim;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import oracle.kubernetes.operator.builders.WatchEvent;
+import org.junit.Test;
+
+public class PersistentVolumeCacheTest {
+  private static final String NS = "namespace";
+  private static final String UID = "uid1";
+
+  private PersistentVolumeCache cache = new PersistentVolumeCache();
+
+  @Test
+  public void whenNamespaceNotWatched_claimsAreUnknown() {
+    cache.addClaims(Collections.singletonList(createClaim(NS, "claim1", UID)));
+
+    assertThat(cache.getClaims(NS, UID), nullValue());
+  }
+
+  @Test
+  public void whenNamespaceWatched_returnOnlyClaimsForDomainInNamespace() {
+    V1PersistentVolumeClaim claim = createClaim(NS, "claim1", UID);
+    cache.addClaims(
+        Arrays.asList(
+            claim, createClaim(NS, "claim2", "uid2"), createClaim("other", "claim3", UID)));
+    cache.startWatchingClaims(NS);
+
+    assertThat(cache.getClaims(NS, UID).getItems(), contains(claim));
+  }
+
+  @Test
+  public void afterClaimAddedEvent_returnNewClaim() {
+    cache.startWatchingClaims(NS);
+    V1PersistentVolumeClaim claim = createClaim(NS, "claim1", UID);
+
+    cache.onClaimWatchEvent(WatchEvent.createAddedEvent(claim).toWatchResponse());
+
+    assertThat(cache.getClaims(NS, UID).getItems(), contains(claim));
+  }
+
+  @Test
+  public void afterClaimDeletedEvent_dontReturnClaim() {
+    V1PersistentVolumeClaim claim = createClaim(NS, "claim1", UID);
+    cache.addClaims(Collections.singletonList(claim));
+    cache.startWatchingClaims(NS);
+
+    cache.onClaimWatchEvent(WatchEvent.createDeleteEvent(claim).toWatchResponse());
+
+    assertThat(cache.getClaims(NS, UID).getItems(), empty());
+  }
+
+  @Test
+  public void whenClaimRelabeled_moveItToNewDomain() {
+    cache.addClaims(Collections.singletonList(createClaim(NS, "claim1", UID)));
+    cache.startWatchingClaims(NS);
+    V1PersistentVolumeClaim relabeled = createClaim(NS, "claim1", "uid2");
+
+    cache.onClaimWatchEvent(WatchEvent.createModifiedEvent(relabeled).toWatchResponse());
+
+    assertThat(cache.getClaims(NS, UID).getItems(), empty());
+    assertThat(cache.getClaims(NS, "uid2").getItems(), contains(relabeled));
+  }
+
+  @Test
+  public void afterNamespaceStopped_claimsAreUnknown() {
+    cache.addClaims(Collections.singletonList(createClaim(NS, "claim1", UID)));
+    cache.startWatchingClaims(NS);
+
+    cache.stopWatchingClaims(NS);
+
+    assertThat(cache.getClaims(NS, UID), nullValue());
+  }
+
+  @Test
+  public void whenVolumesNotWatched_volumesAreUnknown() {
+    cache.addVolumes(Collections.singletonList(createVolume("pv1", UID)));
+
+    assertThat(cache.getVolumes(UID), nullValue());
+  }
+
+  @Test
+  public void whenVolumesWatched_returnVolumesForDomain() {
+    V1PersistentVolume volume = createVolume("pv1", UID);
+    cache.addVolumes(Arrays.asList(volume, createVolume("pv2", "uid2")));
+    cache.startWatchingVolumes();
+
+    assertThat(cache.getVolumes(UID), contains(volume));
+  }
+
+  @Test
+  public void afterVolumeDeletedEvent_dontReturnVolume() {
+    V1PersistentVolume volume = createVolume("pv1", UID);
+    cache.addVolumes(Collections.singletonList(volume));
+    cache.startWatchingVolumes();
+
+    cache.onVolumeWatchEvent(WatchEvent.createDeleteEvent(volume).toWatchResponse());
+
+    assertThat(cache.getVolumes(UID), empty());
+  }
+
+  @Test
+  public void afterRelist_evictClaimsItDidNotFind() {
+    V1PersistentVolumeClaim claim = createClaim(NS, "claim1", UID);
+    cache.addClaims(Arrays.asList(claim, createClaim(NS, "claim2", UID)));
+    cache.startWatchingClaims(NS);
+
+    cache.evictUnlistedClaims(NS, new HashSet<>(Collections.singletonList("claim1")));
+
+    assertThat(cache.getClaims(NS, UID).getItems(), contains(claim));
+  }
+
+  @Test
+  public void afterRelist_keepClaimsInOtherNamespaces() {
+    V1PersistentVolumeClaim claim = createClaim("other", "claim1", UID);
+    cache.addClaims(Collections.singletonList(claim));
+    cache.startWatchingClaims("other");
+
+    cache.evictUnlistedClaims(NS, Collections.emptySet());
+
+    assertThat(cache.getClaims("other", UID).getItems(), contains(claim));
+  }
+
+  @Test
+  public void afterRelist_evictVolumesItDidNotFind() {
+    V1PersistentVolume volume = createVolume("pv1", UID);
+    cache.addVolumes(Arrays.asList(volume, createVolume("pv2", UID)));
+    cache.startWatchingVolumes();
+
+    cache.evictUnlistedVolumes(new HashSet<>(Collections.singletonList("pv1")));
+
+    assertThat(cache.getVolumes(UID), contains(volume));
+  }
+
+  private V1PersistentVolumeClaim createClaim(String namespace, String name, String domainUID) {
+    return new V1PersistentVolumeClaim()
+        .metadata(
+            new V1ObjectMeta()
+                .namespace(namespace)
+                .name(name)
+                .putLabelsItem(DOMAINUID_LABEL, domainUID));
+  }
+
+  private V1PersistentVolume createVolume(String name, String domainUID) {
+    return new V1PersistentVolume()
+        .metadata(new V1ObjectMeta().name(name).putLabelsItem(DOMAINUID_LABEL, domainUID));
+  }
+}
@@ -16,6 +16,7 @@ import static oracle.kubernetes.operator.LabelConstants.RESOURCE_VERSION_LABEL;
 import static oracle.kubernetes.operator.helpers.PodHelperTestBase.ProbeMatcher.hasExpectedTuning;
 import static oracle.kubernetes.operator.helpers.PodHelperTestBase.VolumeMountMatcher.readOnlyVolumeMount;
 import static oracle.kubernetes.operator.helpers.PodHelperTestBase.VolumeMountMatcher.writableVolumeMount;
+import static oracle.kubernetes.operator.logging.MessageKeys.POD_PATCHED;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
@@ -23,6 +24,8 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.isEmptyOrNullString;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
@@ -92,6 +95,7 @@ public abstract class PodHelperTestBase {
   private static final int READINESS_PERIOD = 3;
   private static final int LIVENESS_INITIAL_DELAY = 4;
   private static final int LIVENESS_PERIOD = 6;
+  private static final int READY_WAIT_TIMEOUT = 60;
   private static final int LIVENESS_TIMEOUT = 5;
   private static final String DOMAIN_HOME = "/shared/domain/domain1";
   private static final String CREDENTIALS_VOLUME_NAME = "weblogic-credentials-volume";
@@ -136,7 +140,7 @@ public abstract class PodHelperTestBase {
 
   private String[] getMessageKeys() {
     return new String[] {
-      getPodCreatedMessageKey(), getPodExistsMessageKey(), getPodReplacedMessageKey()
+      getPodCreatedMessageKey(), getPodExistsMessageKey(), getPodReplacedMessageKey(), POD_PATCHED
     };
   }
 
@@ -374,6 +378,11 @@ public abstract class PodHelperTestBase {
             hasEntry("prometheus.io/scrape", "true")));
   }
 
+  @Test
+  public void whenPodCreated_hasHashAnnotation() {
+    assertThat(AnnotationHelper.getHash(getCreatedPod().getMetadata()), not(isEmptyOrNullString()));
+  }
+
   @Test
   @Ignore("getCreatedPodSpecContainer is returing null because Pod is not yet created")
   public void whenPodCreated_containerUsesListenPort() {
@@ -444,6 +453,33 @@ public abstract class PodHelperTestBase {
     assertThat(sko.getPod().get(), equalTo(createPodModel()));
   }
 
+  @Test
+  public void whenExistingPodHasDesiredHash_useItWithoutComparingFields() {
+    Domain domain = domainPresenceInfo.getDomain();
+    V1Pod existingPod = getCreatedPod();
+    domainPresenceInfo.setDomain(domain);
+    existingPod.getSpec().setContainers(null);
+    initializeExistingPod(existingPod);
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    assertThat(logRecords, containsFine(getPodExistsMessageKey()));
+  }
+
+  @Test
+  public void whenOnlyReadyWaitTimeoutChanged_existingPodHashStillMatches() {
+    Domain domain = domainPresenceInfo.getDomain();
+    V1Pod existingPod = getCreatedPod();
+    domainPresenceInfo.setDomain(domain);
+    existingPod.getSpec().setContainers(null);
+    initializeExistingPod(existingPod);
+    TuningParametersStub.readyWaitTimeout = READY_WAIT_TIMEOUT + 60;
+
+    testSupport.runSteps(getStepFactory(), terminalStep);
+
+    assertThat(logRecords, containsFine(getPodExistsMessageKey()));
+  }
+
   void initializeExistingPod(V1Pod pod) {
     ServerKubernetesObjects sko =
         ServerKubernetesObjectsManager.getOrCreate(domainPresenceInfo, getServerName());
@@ -556,9 +592,11 @@ public abstract class PodHelperTestBase {
 
   abstract static class TuningParametersStub implements TuningParameters {
     static Map<String, String> namedParameters;
+    static int readyWaitTimeout;
 
     static Memento install() throws NoSuchFieldException {
       namedParameters = new HashMap<>();
+      readyWaitTimeout = READY_WAIT_TIMEOUT;
       return StaticStubSupport.install(
           TuningParametersImpl.class, "INSTANCE", createStrictStub(TuningParametersStub.class));
     }
@@ -571,7 +609,8 @@ public abstract class PodHelperTestBase {
           READINESS_PERIOD,
           LIVENESS_INITIAL_DELAY,
           LIVENESS_TIMEOUT,
-          LIVENESS_PERIOD);
+          LIVENESS_PERIOD,
+          readyWaitTimeout);
     }
 
     @Override
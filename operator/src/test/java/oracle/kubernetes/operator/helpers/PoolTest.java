@@ -0,0 +1,106 @@
+// Copyright 2018 Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public class PoolTest {
+  private TestPool pool = new TestPool();
+
+  @Test
+  public void whenPoolEmpty_takeCreatesInstance() {
+    Object instance = pool.take();
+
+    assertThat(pool.getCreatedCount(), equalTo(1L));
+    assertThat(pool.getReusedCount(), equalTo(0L));
+    assertThat(instance, sameInstance(pool.createdInstances.get(0)));
+  }
+
+  @Test
+  public void afterRecycle_takeReturnsSameInstance() {
+    Object instance = pool.take();
+    pool.recycle(instance);
+
+    assertThat(pool.take(), sameInstance(instance));
+    assertThat(pool.getCreatedCount(), equalTo(1L));
+    assertThat(pool.getReusedCount(), equalTo(1L));
+  }
+
+  @Test
+  public void whenPoolFull_recycleDiscardsInstance() {
+    Object first = pool.take();
+    Object second = pool.take();
+    Object third = pool.take();
+
+    pool.recycle(first);
+    pool.recycle(second);
+    pool.recycle(third);
+
+    assertThat(pool.getIdleCount(), equalTo(TestPool.MAX_IDLE));
+    assertThat(pool.getDiscardedCount(), equalTo(1L));
+    assertThat(pool.discardedInstances, contains(third));
+  }
+
+  @Test
+  public void warmUp_createsMinimumIdleInstances() {
+    pool.warmUp();
+
+    assertThat(pool.getIdleCount(), equalTo(TestPool.MIN_IDLE));
+    assertThat(pool.getCreatedCount(), equalTo((long) TestPool.MIN_IDLE));
+  }
+
+  @Test
+  public void whenPoolAlreadyWarm_warmUpCreatesNothing() {
+    pool.warmUp();
+    pool.warmUp();
+
+    assertThat(pool.getCreatedCount(), equalTo((long) TestPool.MIN_IDLE));
+  }
+
+  @Test
+  public void afterDrain_poolIsEmpty() {
+    pool.warmUp();
+    pool.drain();
+
+    assertThat(pool.getIdleCount(), equalTo(0));
+  }
+
+  static class TestPool extends Pool<Object> {
+    static final int MIN_IDLE = 1;
+    static final int MAX_IDLE = 2;
+
+    private final List<Object> createdInstances = new ArrayList<>();
+    private final List<Object> discardedInstances = new ArrayList<>();
+
+    @Override
+    protected Object create() {
+      Object instance = new Object();
+      createdInstances.add(instance);
+      return instance;
+    }
+
+    @Override
+    protected void discard(Object instance) {
+      discardedInstances.add(instance);
+    }
+
+    @Override
+    protected int getMinIdle() {
+      return MIN_IDLE;
+    }
+
+    @Override
+    protected int getMaxIdle() {
+      return MAX_IDLE;
+    }
+  }
+}
@@ -0,0 +1,263 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.models.V1Container;
+import io.kubernetes.client.models.V1ContainerPort;
+import io.kubernetes.client.models.V1ContainerState;
+import io.kubernetes.client.models.V1ContainerStateRunning;
+import io.kubernetes.client.models.V1ContainerStatus;
+import io.kubernetes.client.models.V1EnvVar;
+import io.kubernetes.client.models.V1ExecAction;
+import io.kubernetes.client.models.V1HTTPGetAction;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1OwnerReference;
+import io.kubernetes.client.models.V1PersistentVolumeClaimVolumeSource;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1PodCondition;
+import io.kubernetes.client.models.V1PodSpec;
+import io.kubernetes.client.models.V1PodStatus;
+import io.kubernetes.client.models.V1Probe;
+import io.kubernetes.client.models.V1ResourceRequirements;
+import io.kubernetes.client.models.V1Service;
+import io.kubernetes.client.models.V1ServicePort;
+import io.kubernetes.client.models.V1ServiceSpec;
+import io.kubernetes.client.models.V1Volume;
+import io.kubernetes.client.models.V1VolumeMount;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+import org.joda.time.DateTime;
+
+/**
+ * Measures the heap retained by the pods and services that the operator records for its servers,
+ * whole and as {@link ResourceProjections}, and writes the results as JSON. The pods and services
+ * are built like those the operator creates for managed servers, with the status Kubernetes adds to
+ * a running pod. Run with {@code mvn exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=oracle.kubernetes.operator.helpers.ProjectionFootprintBenchmark
+ * -Dexec.args="servers outputFile"}; the defaults measure 10,000 servers and write
+ * projection-footprint.json.
+ */
+public class ProjectionFootprintBenchmark {
+  private static final String NAMESPACE = "benchmark";
+  private static final String DOMAIN_UID = "domain1";
+
+  public static void main(String[] args) throws IOException {
+    int servers = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+    Path output = Paths.get(args.length > 1 ? args[1] : "projection-footprint.json");
+
+    JsonObject results = new JsonObject();
+    results.addProperty("servers", servers);
+    results.addProperty("javaVersion", System.getProperty("java.version"));
+    results.add("whole", measure(servers, UnaryOperator.identity()));
+    results.add("projected", measure(servers, ProjectionFootprintBenchmark::project));
+
+    String json = new GsonBuilder().setPrettyPrinting().create().toJson(results);
+    Files.write(output, json.getBytes(StandardCharsets.UTF_8));
+    System.out.println(json);
+  }
+
+  private static Object[] project(Object[] podAndService) {
+    return new Object[] {
+      ResourceProjections.project((V1Pod) podAndService[0]),
+      ResourceProjections.project((V1Service) podAndService[1])
+    };
+  }
+
+  // Builds each server's objects and keeps what the recorder returns, so that only the objects
+  // recorded remain reachable when the heap is measured.
+  private static JsonObject measure(int servers, UnaryOperator<Object[]> recorder) {
+    long before = getHeapUsedAfterGc();
+    List<Object[]> recorded = new ArrayList<>(servers);
+    for (int i = 0; i < servers; i++) {
+      String serverName = "managed-server" + i;
+      recorded.add(recorder.apply(new Object[] {createPod(serverName), createService(serverName)}));
+    }
+    long retained = getHeapUsedAfterGc() - before;
+
+    JsonObject result = new JsonObject();
+    result.addProperty("retainedBytes", retained);
+    result.addProperty("bytesPerServer", retained / servers);
+    // keeps the records reachable until measured
+    result.addProperty("recorded", recorded.size());
+    return result;
+  }
+
+  private static long getHeapUsedAfterGc() {
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+
+  private static V1ObjectMeta createMetadata(String name, String serverName) {
+    V1ObjectMeta metadata =
+        new V1ObjectMeta()
+            .name(name)
+            .namespace(NAMESPACE)
+            .uid(UUID.randomUUID().toString())
+            .resourceVersion(Integer.toString(name.hashCode() & 0xffffff))
+            .creationTimestamp(DateTime.now())
+            .selfLink("/api/v1/namespaces/" + NAMESPACE + "/pods/" + name)
+            .ownerReferences(
+                Collections.singletonList(
+                    new V1OwnerReference()
+                        .apiVersion("weblogic.oracle/v1")
+                        .kind("Domain")
+                        .name(DOMAIN_UID)
+                        .uid(UUID.randomUUID().toString())))
+            .putLabelsItem("weblogic.resourceVersion", "domain-v1")
+            .putLabelsItem("weblogic.domainUID", DOMAIN_UID)
+            .putLabelsItem("weblogic.domainName", "base_domain")
+            .putLabelsItem("weblogic.serverName", serverName)
+            .putLabelsItem("weblogic.clusterName", "cluster-1")
+            .putLabelsItem("weblogic.createdByOperator", "true");
+    metadata.putAnnotationsItem(AnnotationHelper.SHA256_ANNOTATION, hash(name, 1));
+    metadata.putAnnotationsItem(AnnotationHelper.SPEC_SHA256_ANNOTATION, hash(name, 2));
+    return metadata;
+  }
+
+  private static String hash(String name, int seed) {
+    return String.format("%064x", (long) name.hashCode() * 31 + seed);
+  }
+
+  private static V1Pod createPod(String serverName) {
+    String name = DOMAIN_UID + "-" + serverName;
+    V1ObjectMeta metadata = createMetadata(name, serverName);
+    AnnotationHelper.annotateForPrometheus(metadata, 8001);
+    return new V1Pod()
+        .apiVersion("v1")
+        .kind("Pod")
+        .metadata(metadata)
+        .spec(createPodSpec(serverName))
+        .status(createPodStatus());
+  }
+
+  private static V1PodSpec createPodSpec(String serverName) {
+    List<V1EnvVar> env = new ArrayList<>();
+    env.add(new V1EnvVar().name("DOMAIN_NAME").value("base_domain"));
+    env.add(new V1EnvVar().name("DOMAIN_HOME").value("/shared/domain/base_domain"));
+    env.add(new V1EnvVar().name("ADMIN_NAME").value("admin-server"));
+    env.add(new V1EnvVar().name("ADMIN_PORT").value("7001"));
+    env.add(new V1EnvVar().name("SERVER_NAME").value(serverName));
+    env.add(new V1EnvVar().name("DOMAIN_UID").value(DOMAIN_UID));
+    env.add(new V1EnvVar().name("NODEMGR_HOME").value("/u01/nodemanager"));
+    env.add(new V1EnvVar().name("LOG_HOME").value("/shared/logs/" + DOMAIN_UID));
+    env.add(new V1EnvVar().name("SERVICE_NAME").value(DOMAIN_UID + "-" + serverName));
+    env.add(new V1EnvVar().name("USER_MEM_ARGS").value("-Xms64m -Xmx256m"));
+
+    V1Container container =
+        new V1Container()
+            .name("weblogic-server")
+            .image("store/oracle/weblogic:12.2.1.3")
+            .imagePullPolicy("IfNotPresent")
+            .command(Collections.singletonList("/weblogic-operator/scripts/startServer.sh"))
+            .args(Arrays.asList(DOMAIN_UID, serverName, "base_domain"))
+            .env(env)
+            .addPortsItem(new V1ContainerPort().containerPort(8001).protocol("TCP"))
+            .resources(
+                new V1ResourceRequirements()
+                    .putRequestsItem("cpu", Quantity.fromString("500m"))
+                    .putRequestsItem("memory", Quantity.fromString("1Gi")))
+            .readinessProbe(
+                new V1Probe()
+                    .exec(
+                        new V1ExecAction()
+                            .addCommandItem("/weblogic-operator/scripts/readinessProbe.sh")
+                            .addCommandItem(DOMAIN_UID))
+                    .initialDelaySeconds(2)
+                    .periodSeconds(10)
+                    .timeoutSeconds(5)
+                    .failureThreshold(1))
+            .livenessProbe(
+                new V1Probe()
+                    .httpGet(new V1HTTPGetAction().path("/weblogic").port(new IntOrString(8001)))
+                    .initialDelaySeconds(10)
+                    .periodSeconds(10)
+                    .timeoutSeconds(5)
+                    .failureThreshold(1))
+            .terminationMessagePath("/dev/termination-log")
+            .terminationMessagePolicy("File");
+    V1PodSpec spec =
+        new V1PodSpec()
+            .addContainersItem(container)
+            .nodeName("worker-" + (serverName.hashCode() & 0xf))
+            .restartPolicy("Always")
+            .dnsPolicy("ClusterFirst")
+            .schedulerName("default-scheduler")
+            .serviceAccountName("default")
+            .terminationGracePeriodSeconds(30L);
+    for (String volume : new String[] {"weblogic-credentials", "scripts", "storage", "token"}) {
+      container.addVolumeMountsItem(new V1VolumeMount().name(volume).mountPath("/" + volume));
+      spec.addVolumesItem(
+          new V1Volume()
+              .name(volume)
+              .persistentVolumeClaim(
+                  new V1PersistentVolumeClaimVolumeSource().claimName(DOMAIN_UID + "-" + volume)));
+    }
+    return spec;
+  }
+
+  private static V1PodStatus createPodStatus() {
+    DateTime now = DateTime.now();
+    V1PodStatus status =
+        new V1PodStatus()
+            .phase("Running")
+            .hostIP("10.0.0.1")
+            .podIP("10.244.1.17")
+            .qosClass("Burstable")
+            .startTime(now)
+            .addContainerStatusesItem(
+                new V1ContainerStatus()
+                    .name("weblogic-server")
+                    .image("store/oracle/weblogic:12.2.1.3")
+                    .imageID("docker-pullable://store/oracle/weblogic@sha256:" + hash("image", 3))
+                    .containerID("docker://" + hash(UUID.randomUUID().toString(), 4))
+                    .ready(true)
+                    .restartCount(0)
+                    .state(
+                        new V1ContainerState()
+                            .running(new V1ContainerStateRunning().startedAt(now))));
+    for (String type : new String[] {"Initialized", "Ready", "ContainersReady", "PodScheduled"}) {
+      status.addConditionsItem(
+          new V1PodCondition().type(type).status("True").lastTransitionTime(now));
+    }
+    return status;
+  }
+
+  private static V1Service createService(String serverName) {
+    String name = DOMAIN_UID + "-" + serverName;
+    return new V1Service()
+        .apiVersion("v1")
+        .kind("Service")
+        .metadata(createMetadata(name, serverName))
+        .spec(
+            new V1ServiceSpec()
+                .type("ClusterIP")
+                .clusterIP("None")
+                .sessionAffinity("None")
+                .putSelectorItem("weblogic.domainUID", DOMAIN_UID)
+                .putSelectorItem("weblogic.serverName", serverName)
+                .putSelectorItem("weblogic.createdByOperator", "true")
+                .addPortsItem(
+                    new V1ServicePort()
+                        .port(8001)
+                        .protocol("TCP")
+                        .targetPort(new IntOrString(8001))));
+  }
+}
@@ -0,0 +1,154 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import io.kubernetes.client.models.V1Container;
+import io.kubernetes.client.models.V1ContainerStatus;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1PodCondition;
+import io.kubernetes.client.models.V1PodSpec;
+import io.kubernetes.client.models.V1PodStatus;
+import io.kubernetes.client.models.V1Service;
+import io.kubernetes.client.models.V1ServicePort;
+import io.kubernetes.client.models.V1ServiceSpec;
+import io.kubernetes.client.models.V1beta1Ingress;
+import io.kubernetes.client.models.V1beta1IngressSpec;
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+public class ResourceProjectionsTest {
+  private static final String HASH = "1234abcd";
+
+  private static V1ObjectMeta createMetadata() {
+    return new V1ObjectMeta()
+        .name("uid1-server1")
+        .namespace("ns1")
+        .uid("pod-uid")
+        .resourceVersion("17")
+        .selfLink("/api/v1/namespaces/ns1/pods/uid1-server1")
+        .creationTimestamp(DateTime.now())
+        .putLabelsItem("weblogic.serverName", "server1");
+  }
+
+  private static V1ObjectMeta withHash(V1ObjectMeta metadata) {
+    return metadata.putAnnotationsItem(AnnotationHelper.SHA256_ANNOTATION, HASH);
+  }
+
+  private static V1Pod createPod(V1ObjectMeta metadata) {
+    return new V1Pod()
+        .metadata(metadata)
+        .spec(
+            new V1PodSpec()
+                .nodeName("node1")
+                .addContainersItem(new V1Container().name("weblogic-server").image("image1")))
+        .status(
+            new V1PodStatus()
+                .phase("Running")
+                .podIP("10.0.0.2")
+                .addConditionsItem(
+                    new V1PodCondition()
+                        .type("Ready")
+                        .status("True")
+                        .lastTransitionTime(DateTime.now()))
+                .addContainerStatusesItem(new V1ContainerStatus().name("weblogic-server")));
+  }
+
+  private static V1Service createService(V1ObjectMeta metadata) {
+    return new V1Service()
+        .metadata(metadata)
+        .spec(
+            new V1ServiceSpec()
+                .type("NodePort")
+                .clusterIP("10.0.0.3")
+                .putSelectorItem("weblogic.serverName", "server1")
+                .addPortsItem(new V1ServicePort().port(7001).nodePort(30701)));
+  }
+
+  @Test
+  public void podProjection_keepsIdentityAndLabelsAndAnnotations() {
+    V1Pod pod = createPod(withHash(createMetadata()));
+
+    V1ObjectMeta metadata = ResourceProjections.project(pod).getMetadata();
+
+    assertThat(metadata.getName(), equalTo("uid1-server1"));
+    assertThat(metadata.getNamespace(), equalTo("ns1"));
+    assertThat(metadata.getUid(), equalTo("pod-uid"));
+    assertThat(metadata.getResourceVersion(), equalTo("17"));
+    assertThat(metadata.getLabels(), equalTo(pod.getMetadata().getLabels()));
+    assertThat(AnnotationHelper.getHash(metadata), equalTo(HASH));
+    assertThat(metadata.getSelfLink(), nullValue());
+    assertThat(metadata.getCreationTimestamp(), nullValue());
+  }
+
+  @Test
+  public void hashedPodProjection_keepsOnlyNodeFromSpec() {
+    V1Pod projection = ResourceProjections.project(createPod(withHash(createMetadata())));
+
+    assertThat(projection.getSpec(), equalTo(new V1PodSpec().nodeName("node1")));
+  }
+
+  @Test
+  public void podProjection_keepsPhaseAndConditionTypesAndStatuses() {
+    V1Pod projection = ResourceProjections.project(createPod(withHash(createMetadata())));
+
+    assertThat(projection.getStatus().getPhase(), equalTo("Running"));
+    assertThat(
+        projection.getStatus().getConditions(),
+        contains(new V1PodCondition().type("Ready").status("True")));
+    assertThat(projection.getStatus().getContainerStatuses(), nullValue());
+    assertThat(projection.getStatus().getPodIP(), nullValue());
+  }
+
+  @Test
+  public void unhashedPodProjection_keepsWholeSpec() {
+    V1Pod pod = createPod(createMetadata());
+
+    assertThat(ResourceProjections.project(pod).getSpec(), sameInstance(pod.getSpec()));
+  }
+
+  @Test
+  public void hashedServiceProjection_keepsTypeClusterIpAndPorts() {
+    V1Service projection = ResourceProjections.project(createService(withHash(createMetadata())));
+
+    assertThat(projection.getSpec().getType(), equalTo("NodePort"));
+    assertThat(projection.getSpec().getClusterIP(), equalTo("10.0.0.3"));
+    assertThat(projection.getSpec().getPorts(), hasSize(1));
+    assertThat(projection.getSpec().getPorts().get(0).getNodePort(), equalTo(30701));
+    assertThat(projection.getSpec().getSelector(), nullValue());
+  }
+
+  @Test
+  public void unhashedServiceProjection_keepsWholeSpec() {
+    V1Service service = createService(createMetadata());
+
+    assertThat(ResourceProjections.project(service).getSpec(), sameInstance(service.getSpec()));
+  }
+
+  @Test
+  public void hashedIngressProjection_keepsOnlyMetadata() {
+    V1beta1Ingress ingress =
+        new V1beta1Ingress().metadata(withHash(createMetadata())).spec(new V1beta1IngressSpec());
+
+    V1beta1Ingress projection = ResourceProjections.project(ingress);
+
+    assertThat(AnnotationHelper.getHash(projection.getMetadata()), equalTo(HASH));
+    assertThat(projection.getSpec(), nullValue());
+  }
+
+  @Test
+  public void projectionOfNull_isNull() {
+    assertThat(ResourceProjections.project((V1Pod) null), nullValue());
+    assertThat(ResourceProjections.project((V1Service) null), nullValue());
+    assertThat(ResourceProjections.project((V1beta1Ingress) null), nullValue());
+  }
+}
@@ -0,0 +1,114 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.TimeUnit;
+import oracle.kubernetes.operator.helpers.RollingHelper.ClusterRoll;
+import oracle.kubernetes.operator.helpers.RollingHelper.RollingProgress;
+import org.junit.Test;
+
+public class RollingHelperTest {
+  private static final long START = TimeUnit.SECONDS.toNanos(100);
+
+  @Test
+  public void whenNoServersMayBeUnavailable_rollOneAtATime() {
+    assertThat(RollingHelper.getWindowWidth(4, 4, 4, 4), equalTo(1));
+  }
+
+  @Test
+  public void whenAllMembersRunning_windowIsMaxUnavailable() {
+    assertThat(RollingHelper.getWindowWidth(10, 7, 10, 10), equalTo(3));
+  }
+
+  @Test
+  public void whenMembersAlreadyUnavailable_windowIsReduced() {
+    assertThat(RollingHelper.getWindowWidth(10, 7, 8, 8), equalTo(1));
+  }
+
+  @Test
+  public void whenTooFewMembersRunning_rollOneAtATime() {
+    assertThat(RollingHelper.getWindowWidth(10, 7, 5, 5), equalTo(1));
+  }
+
+  @Test
+  public void window_isNoWiderThanServersToRoll() {
+    assertThat(RollingHelper.getWindowWidth(10, 5, 10, 2), equalTo(2));
+  }
+
+  @Test
+  public void beforeAnyServerRestarted_progressHasNoEstimate() {
+    RollingProgress progress = new RollingProgress();
+    progress.startCluster("cluster1", 4, START);
+
+    assertThat(
+        progress.getMessage(START + TimeUnit.SECONDS.toNanos(5)),
+        equalTo("Rolling cluster cluster1: 0 of 4 servers restarted"));
+  }
+
+  @Test
+  public void afterServersRestarted_progressEstimatesTimeRemaining() {
+    RollingProgress progress = new RollingProgress();
+    ClusterRoll roll = progress.startCluster("cluster1", 4, START);
+    roll.serverRestarted();
+
+    assertThat(
+        progress.getMessage(START + TimeUnit.SECONDS.toNanos(30)),
+        equalTo("Rolling cluster cluster1: 1 of 4 servers restarted, about 90 seconds remaining"));
+  }
+
+  @Test
+  public void whenClustersRollTogether_progressDescribesEachCluster() {
+    RollingProgress progress = new RollingProgress();
+    progress.startCluster("cluster2", 2, START).serverRestarted();
+    progress.startCluster("cluster1", 3, START);
+
+    assertThat(
+        progress.getMessage(START + TimeUnit.SECONDS.toNanos(20)),
+        equalTo(
+            "Rolling cluster cluster1: 0 of 3 servers restarted; "
+                + "Rolling cluster cluster2: 1 of 2 servers restarted, about 20 seconds remaining"));
+  }
+
+  @Test
+  public void whenNoUpdateInFlight_changeStartsPublishing() {
+    RollingProgress progress = new RollingProgress();
+
+    assertThat(progress.markChanged(), is(true));
+  }
+
+  @Test
+  public void whileUpdateInFlight_changesDoNotStartPublishing() {
+    RollingProgress progress = new RollingProgress();
+    progress.markChanged();
+
+    assertThat(progress.markChanged(), is(false));
+  }
+
+  @Test
+  public void changesMadeWhileUpdateInFlight_arePublishedByOneFurtherUpdate() {
+    RollingProgress progress = new RollingProgress();
+    progress.markChanged();
+    progress.takeChange();
+    progress.markChanged();
+    progress.markChanged();
+
+    assertThat(progress.takeChange(), is(true));
+    assertThat(progress.takeChange(), is(false));
+  }
+
+  @Test
+  public void afterPublishingFinished_changeStartsPublishingAgain() {
+    RollingProgress progress = new RollingProgress();
+    progress.markChanged();
+    progress.takeChange();
+    progress.takeChange();
+
+    assertThat(progress.markChanged(), is(true));
+  }
+}
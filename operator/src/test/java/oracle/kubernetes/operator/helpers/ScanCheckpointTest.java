@@ -0,0 +1,293 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import static oracle.kubernetes.LogMatcher.containsWarning;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.models.V1ConfigMap;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1Status;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.LogRecord;
+import oracle.kubernetes.TestUtils;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.AsyncCallTestSupport;
+import oracle.kubernetes.operator.work.BodyMatcher;
+import oracle.kubernetes.weblogic.domain.v1.Domain;
+import oracle.kubernetes.weblogic.domain.v1.DomainSpec;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ScanCheckpointTest {
+  private static final String NS = "namespace";
+  private static final String UID = "uid1";
+  private static final String ADMIN_SERVER = "admin-server";
+  private static final String SCAN_JSON =
+      "{\"name\": \"domain1\", \"servers\": {\"items\": ["
+          + "    {\"name\": \"admin-server\", \"listenPort\": 7001, \"cluster\": null,"
+          + "     \"networkAccessPoints\": {\"items\": []}}"
+          + "]}}";
+
+  private static final String CONFIG_MAP_NAME = "uid1-scan-checkpoint";
+
+  private List<Memento> mementos = new ArrayList<>();
+  private List<LogRecord> logRecords = new ArrayList<>();
+  private AsyncCallTestSupport testSupport = new AsyncCallTestSupport();
+  private ScanCheckpoint checkpoint = new ScanCheckpoint();
+
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(
+        TestUtils.silenceOperatorLogger()
+            .collectLogMessages(logRecords, MessageKeys.CHECKPOINT_TOO_LARGE));
+    mementos.add(testSupport.installRequestStepFactory());
+    mementos.add(
+        StaticStubSupport.install(
+            ServerKubernetesObjectsManager.class, "serverMap", new ConcurrentHashMap<>()));
+    checkpoint.setEnabled(true);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    for (Memento memento : mementos) memento.revert();
+
+    testSupport.throwOnCompletionFailure();
+    testSupport.verifyAllDefinedResponsesInvoked();
+  }
+
+  private static DomainPresenceInfo createDomainPresenceInfo(int replicas, String adminPodUID) {
+    DomainPresenceInfo info =
+        new DomainPresenceInfo(
+            new Domain()
+                .withMetadata(new V1ObjectMeta().namespace(NS))
+                .withSpec(
+                    new DomainSpec()
+                        .withDomainName("domain1")
+                        .withDomainUID(UID)
+                        .withAsName(ADMIN_SERVER)
+                        .withReplicas(replicas)));
+    ServerKubernetesObjectsManager.getOrCreate(info, ADMIN_SERVER)
+        .getPod()
+        .set(new V1Pod().metadata(new V1ObjectMeta().uid(adminPodUID)));
+    return info;
+  }
+
+  private void recordScan() {
+    checkpoint.record(createDomainPresenceInfo(2, "pod-uid-1"), SCAN_JSON);
+  }
+
+  private V1ConfigMap createWrittenConfigMap(String resourceVersion) {
+    V1ConfigMap configMap = checkpoint.createConfigMap(NS, UID, "operator");
+    configMap.getMetadata().resourceVersion(resourceVersion);
+    return configMap;
+  }
+
+  private void writeCheckpoint() {
+    testSupport.runSteps(checkpoint.createWriteStep(NS, "operator"));
+  }
+
+  private static BodyMatcher configMapAtVersion(String resourceVersion) {
+    return actualBody ->
+        actualBody instanceof V1ConfigMap
+            && resourceVersion.equals(
+                ((V1ConfigMap) actualBody).getMetadata().getResourceVersion());
+  }
+
+  @Test
+  public void whenSpecAndAdminPodUnchanged_scanIsRestored() {
+    recordScan();
+    DomainPresenceInfo info = createDomainPresenceInfo(2, "pod-uid-1");
+
+    assertThat(checkpoint.restore(info), is(true));
+    assertThat(info.getScan().getName(), equalTo("domain1"));
+    assertThat(info.getScan().getServerConfig(ADMIN_SERVER), notNullValue());
+    assertThat(info.getLastScanTime(), notNullValue());
+  }
+
+  @Test
+  public void whenSpecChanged_scanIsNotRestored() {
+    recordScan();
+    DomainPresenceInfo info = createDomainPresenceInfo(3, "pod-uid-1");
+
+    assertThat(checkpoint.restore(info), is(false));
+    assertThat(info.getScan(), nullValue());
+  }
+
+  @Test
+  public void whenAdminPodReplaced_scanIsNotRestored() {
+    recordScan();
+
+    assertThat(checkpoint.restore(createDomainPresenceInfo(2, "pod-uid-2")), is(false));
+  }
+
+  @Test
+  public void whenDisabled_scanIsNotRecorded() {
+    checkpoint.setEnabled(false);
+    recordScan();
+    checkpoint.setEnabled(true);
+
+    assertThat(checkpoint.restore(createDomainPresenceInfo(2, "pod-uid-1")), is(false));
+    assertThat(checkpoint.getChangedNamespaces(), empty());
+  }
+
+  @Test
+  public void afterRecording_namespaceIsChanged() {
+    recordScan();
+
+    assertThat(checkpoint.getChangedNamespaces(), contains(NS));
+  }
+
+  @Test
+  public void writtenCheckpoint_isRestoredByAnotherOperator() {
+    recordScan();
+    ScanCheckpoint restarted = new ScanCheckpoint();
+    restarted.setEnabled(true);
+
+    restarted.load(NS, checkpoint.createConfigMap(NS, UID, "operator"));
+
+    assertThat(restarted.restore(createDomainPresenceInfo(2, "pod-uid-1")), is(true));
+  }
+
+  @Test
+  public void whenLoadingCheckpoint_newerScansAreKept() {
+    recordScan();
+    ScanCheckpoint restarted = new ScanCheckpoint();
+    restarted.setEnabled(true);
+    restarted.record(createDomainPresenceInfo(2, "pod-uid-2"), SCAN_JSON);
+
+    restarted.load(NS, checkpoint.createConfigMap(NS, UID, "operator"));
+
+    assertThat(restarted.restore(createDomainPresenceInfo(2, "pod-uid-2")), is(true));
+  }
+
+  @Test
+  public void afterDomainRemoved_scanIsNotRestored() {
+    recordScan();
+
+    checkpoint.remove(NS, UID);
+
+    assertThat(checkpoint.restore(createDomainPresenceInfo(2, "pod-uid-1")), is(false));
+    assertThat(checkpoint.createConfigMap(NS, UID, "operator"), nullValue());
+  }
+
+  @Test
+  public void whenNoCheckpointRead_writeCreatesConfigMap() {
+    recordScan();
+    testSupport
+        .createCannedResponse("createConfigMap")
+        .withNamespace(NS)
+        .withBody(checkpoint.createConfigMap(NS, UID, "operator"))
+        .returning(createWrittenConfigMap("1"));
+
+    writeCheckpoint();
+
+    assertThat(checkpoint.getChangedNamespaces(), empty());
+  }
+
+  @Test
+  public void afterCheckpointWritten_nextWriteReplacesWrittenVersion() {
+    recordScan();
+    testSupport
+        .createCannedResponse("createConfigMap")
+        .withNamespace(NS)
+        .ignoringBody()
+        .returning(createWrittenConfigMap("1"));
+    writeCheckpoint();
+    recordScan();
+    testSupport
+        .createCannedResponse("replaceConfigMap")
+        .withNamespace(NS)
+        .withName(CONFIG_MAP_NAME)
+        .withBody(configMapAtVersion("1"))
+        .returning(createWrittenConfigMap("2"));
+
+    writeCheckpoint();
+  }
+
+  @Test
+  public void afterCheckpointRead_writeReplacesReadVersion() {
+    recordScan();
+    checkpoint.load(NS, createWrittenConfigMap("7"));
+    testSupport
+        .createCannedResponse("replaceConfigMap")
+        .withNamespace(NS)
+        .withName(CONFIG_MAP_NAME)
+        .withBody(configMapAtVersion("7"))
+        .returning(createWrittenConfigMap("8"));
+
+    writeCheckpoint();
+  }
+
+  @Test
+  public void whenReplaceConflicts_rereadVersionAndWriteAgainLater() {
+    recordScan();
+    checkpoint.load(NS, createWrittenConfigMap("7"));
+    testSupport
+        .createCannedResponse("replaceConfigMap")
+        .withNamespace(NS)
+        .withName(CONFIG_MAP_NAME)
+        .withBody(configMapAtVersion("7"))
+        .failingWithStatus(HttpURLConnection.HTTP_CONFLICT);
+    testSupport
+        .createCannedResponse("readConfigMap")
+        .withNamespace(NS)
+        .withName(CONFIG_MAP_NAME)
+        .returning(createWrittenConfigMap("9"));
+
+    writeCheckpoint();
+
+    assertThat(checkpoint.getChangedNamespaces(), contains(NS));
+    testSupport
+        .createCannedResponse("replaceConfigMap")
+        .withNamespace(NS)
+        .withName(CONFIG_MAP_NAME)
+        .withBody(configMapAtVersion("9"))
+        .returning(createWrittenConfigMap("10"));
+
+    writeCheckpoint();
+  }
+
+  @Test
+  public void whenDomainRemoved_deleteItsConfigMap() {
+    recordScan();
+    checkpoint.load(NS, createWrittenConfigMap("7"));
+    checkpoint.remove(NS, UID);
+    testSupport
+        .createCannedResponse("deleteConfigMap")
+        .withNamespace(NS)
+        .withName(CONFIG_MAP_NAME)
+        .ignoringBody()
+        .returning(new V1Status());
+
+    writeCheckpoint();
+  }
+
+  @Test
+  public void whenCheckpointTooLarge_doNotWriteIt() {
+    char[] padding = new char[ScanCheckpoint.MAX_CHECKPOINT_BYTES];
+    Arrays.fill(padding, ' ');
+    checkpoint.record(createDomainPresenceInfo(2, "pod-uid-1"), SCAN_JSON + new String(padding));
+
+    writeCheckpoint();
+
+    assertThat(logRecords, containsWarning(MessageKeys.CHECKPOINT_TOO_LARGE));
+    assertThat(checkpoint.getChangedNamespaces(), empty());
+  }
+}
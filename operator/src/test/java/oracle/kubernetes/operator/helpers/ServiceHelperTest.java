@@ -31,6 +31,7 @@ import static oracle.kubernetes.operator.logging.MessageKeys.CLUSTER_SERVICE_REP
 import static oracle.kubernetes.operator.logging.MessageKeys.MANAGED_SERVICE_CREATED;
 import static oracle.kubernetes.operator.logging.MessageKeys.MANAGED_SERVICE_EXISTS;
 import static oracle.kubernetes.operator.logging.MessageKeys.MANAGED_SERVICE_REPLACED;
+import static oracle.kubernetes.operator.logging.MessageKeys.SERVICE_PATCHED;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.is;
@@ -55,6 +56,8 @@ import oracle.kubernetes.TestUtils;
 import oracle.kubernetes.operator.VersionConstants;
 import oracle.kubernetes.operator.wlsconfig.NetworkAccessPoint;
 import oracle.kubernetes.operator.work.AsyncCallTestSupport;
+import oracle.kubernetes.operator.work.BodyMatcher;
+import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.weblogic.domain.v1.Domain;
@@ -90,7 +93,8 @@ public class ServiceHelperTest {
     ADMIN_SERVICE_EXISTS,
     MANAGED_SERVICE_EXISTS,
     ADMIN_SERVICE_REPLACED,
-    MANAGED_SERVICE_REPLACED
+    MANAGED_SERVICE_REPLACED,
+    SERVICE_PATCHED
   };
 
   private DomainPresenceInfo domainPresenceInfo = createPresenceInfo();
@@ -416,7 +420,9 @@ public class ServiceHelperTest {
 
     testSupport.runSteps(ServiceHelper.createForServerStep(terminalStep));
 
-    assertThat(getServerKubernetesObjects().getService().get(), equalTo(newService));
+    assertThat(
+        getServerKubernetesObjects().getService().get(),
+        equalTo(ResourceProjections.project(newService)));
     assertThat(logRecords, containsInfo(MANAGED_SERVICE_CREATED));
   }
 
@@ -476,6 +482,62 @@ public class ServiceHelperTest {
     assertThat(logRecords, containsFine(MANAGED_SERVICE_EXISTS));
   }
 
+  @Test
+  public void onServerStepRunWithServiceWithMatchingHash_addToSko() {
+    V1Service service = withHash(createServerService(), getDesiredServerServiceHash());
+    service.getSpec().setClusterIP("10.0.0.1");
+    initializeServiceFromRecord(service);
+
+    testSupport.runSteps(ServiceHelper.createForServerStep(terminalStep));
+
+    assertThat(getServerKubernetesObjects().getService().get(), equalTo(service));
+    assertThat(logRecords, containsFine(MANAGED_SERVICE_EXISTS));
+  }
+
+  @Test
+  public void onServerStepRunWithServiceWithDifferentHash_patchIt() {
+    verifyServerServicePatched(withBadHash(createServerService()), createServerService());
+  }
+
+  @Test
+  public void onServerStepRunWithHashedServiceWithWrongNodePort_patchIt() {
+    testSupport.addToPacket(NODE_PORT, TEST_NODE_PORT);
+
+    verifyServerServicePatched(
+        withBadHash(withNodePort(createServerService(), BAD_PORT)),
+        withNodePort(createServerService(), TEST_NODE_PORT));
+  }
+
+  @Test
+  public void onServerStepRunWithHashedServiceWithoutNodePort_replaceIt() {
+    testSupport.addToPacket(NODE_PORT, TEST_NODE_PORT);
+
+    verifyServerServiceReplaced(
+        withBadHash(createServerService()), withNodePort(createServerService(), TEST_NODE_PORT));
+  }
+
+  private void verifyServerServicePatched(V1Service oldService, V1Service newService) {
+    initializeServiceFromRecord(oldService);
+    testSupport
+        .createCannedResponse("patchService")
+        .withNamespace(NS)
+        .withName(getServerServiceName())
+        .ignoringBody()
+        .returning(newService);
+
+    testSupport.runSteps(ServiceHelper.createForServerStep(terminalStep));
+
+    assertThat(
+        getServerKubernetesObjects().getService().get(),
+        equalTo(ResourceProjections.project(newService)));
+    assertThat(logRecords, containsInfo(SERVICE_PATCHED));
+  }
+
+  private V1Service withBadHash(V1Service service) {
+    service.getMetadata().putAnnotationsItem(AnnotationHelper.SHA256_ANNOTATION, "bad-hash");
+    return service;
+  }
+
   @Test
   public void onServerStepRunWithServiceWithBadVersion_replaceIt() {
     verifyServerServiceReplaced(this::withBadVersion);
@@ -488,7 +550,9 @@ public class ServiceHelperTest {
 
     testSupport.runSteps(ServiceHelper.createForServerStep(terminalStep));
 
-    assertThat(getServerKubernetesObjects().getService().get(), equalTo(newService));
+    assertThat(
+        getServerKubernetesObjects().getService().get(),
+        equalTo(ResourceProjections.project(newService)));
     assertThat(logRecords, containsInfo(MANAGED_SERVICE_REPLACED));
   }
 
@@ -546,7 +610,36 @@ public class ServiceHelperTest {
   }
 
   private AsyncCallTestSupport.CannedResponse expectCreateService(V1Service service) {
-    return testSupport.createCannedResponse("createService").withNamespace(NS).withBody(service);
+    return testSupport
+        .createCannedResponse("createService")
+        .withNamespace(NS)
+        .withBody(serviceWithSomeHash(service));
+  }
+
+  // The hash of a new service is computed from the inputs to its model; it is checked by the tests
+  // that depend on it, so any hash is accepted here.
+  private BodyMatcher serviceWithSomeHash(V1Service service) {
+    return body -> {
+      if (!(body instanceof V1Service)) {
+        return false;
+      }
+      String hash = AnnotationHelper.getHash(((V1Service) body).getMetadata());
+      return hash != null && withHash(service, hash).equals(body);
+    };
+  }
+
+  private V1Service withHash(V1Service service, String hash) {
+    service.getMetadata().putAnnotationsItem(AnnotationHelper.SHA256_ANNOTATION, hash);
+    return service;
+  }
+
+  private String getDesiredServerServiceHash() {
+    Packet packet = new Packet();
+    packet.getComponents().putAll(testSupport.getPacketComponents());
+    packet.put(SERVER_NAME, TEST_SERVER_NAME);
+    packet.put(PORT, TEST_PORT);
+    V1Service model = ServiceHelper.createServerServiceContext(packet).createModel();
+    return AnnotationHelper.getHash(model.getMetadata());
   }
 
   private V1Service createServerService() {
@@ -581,7 +674,9 @@ public class ServiceHelperTest {
 
     testSupport.runSteps(ServiceHelper.createForExternalChannelStep(terminalStep));
 
-    assertThat(getServerKubernetesObjects().getChannels(), hasEntry(NAP_NAME, newService));
+    assertThat(
+        getServerKubernetesObjects().getChannels(),
+        hasEntry(NAP_NAME, ResourceProjections.project(newService)));
     assertThat(logRecords, containsInfo(MANAGED_SERVICE_CREATED));
   }
 
@@ -613,7 +708,9 @@ public class ServiceHelperTest {
 
     testSupport.runSteps(ServiceHelper.createForExternalChannelStep(terminalStep));
 
-    assertThat(getServerKubernetesObjects().getChannels(), hasEntry(NAP_NAME, newService));
+    assertThat(
+        getServerKubernetesObjects().getChannels(),
+        hasEntry(NAP_NAME, ResourceProjections.project(newService)));
     assertThat(logRecords, containsInfo(MANAGED_SERVICE_REPLACED));
   }
 
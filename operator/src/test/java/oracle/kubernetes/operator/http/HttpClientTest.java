@@ -6,15 +6,22 @@ package oracle.kubernetes.operator.http;
 import static oracle.kubernetes.LogMatcher.containsFine;
 import static oracle.kubernetes.operator.logging.MessageKeys.HTTP_METHOD_FAILED;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertEquals;
 
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import com.meterware.simplestub.Stub;
 import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Secret;
 import io.kubernetes.client.models.V1Service;
 import io.kubernetes.client.models.V1ServicePort;
 import io.kubernetes.client.models.V1ServiceSpec;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import javax.ws.rs.client.Client;
@@ -25,7 +32,13 @@ import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
 import oracle.kubernetes.TestUtils;
+import oracle.kubernetes.operator.helpers.CallBuilderFactory;
+import oracle.kubernetes.operator.helpers.SecretHelper;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.AsyncCallTestSupport;
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Container;
+import oracle.kubernetes.operator.work.ContainerResolver;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -34,18 +47,33 @@ public class HttpClientTest {
 
   private List<LogRecord> logRecords = new ArrayList<>();
   private TestUtils.ConsoleHandlerMemento consoleControl;
+  private List<Memento> mementos = new ArrayList<>();
+  private AsyncCallTestSupport testSupport = new AsyncCallTestSupport();
+  private Container previousContainer;
   static final String FAKE_URL = "fake/url";
+  private static final String NS = "namespace";
+  private static final String ADMIN_SECRET = "admin-secret";
 
   @Before
-  public void setup() {
+  public void setup() throws NoSuchFieldException {
     consoleControl =
         TestUtils.silenceOperatorLogger()
             .collectLogMessages(logRecords, HTTP_METHOD_FAILED)
             .withLogLevel(Level.FINE);
+    mementos.add(testSupport.installRequestStepFactory());
+
+    // the secret is read through the CallBuilderFactory that the operator registers in its
+    // container
+    Container container = new Container();
+    container.getComponents().put("test", Component.createFor(new CallBuilderFactory()));
+    previousContainer = ContainerResolver.getDefault().enterContainer(container);
   }
 
   @After
   public void tearDown() throws Exception {
+    HttpClient.forgetAuthenticatedClient(NS, ADMIN_SECRET);
+    ContainerResolver.getDefault().exitContainer(previousContainer);
+    for (Memento memento : mementos) memento.revert();
     consoleControl.revert();
   }
 
@@ -72,6 +100,53 @@ public class HttpClientTest {
         FAKE_URL, FAKE_URL, WlsDomainConfig.getRetrieveServersSearchPayload(), throwOnFailure);
   }
 
+  @Test
+  public void afterClientCreatedFromSecret_reuseItWithoutReadingSecret() {
+    defineAdminSecret();
+
+    HttpClient first = runAuthenticatedClientStep();
+    HttpClient second = runAuthenticatedClientStep();
+
+    testSupport.verifyAllDefinedResponsesInvoked();
+    assertThat(second, sameInstance(first));
+  }
+
+  @Test
+  public void afterServerRejectsCredentials_createNewClientFromSecret() throws Exception {
+    ignoreMessage(HTTP_METHOD_FAILED);
+    defineAdminSecret();
+    mementos.add(
+        StaticStubSupport.install(
+            HttpClient.class,
+            "SHARED_CLIENT",
+            Stub.createStub(ClientStub.class)
+                .withResponse(Stub.createStub(ResponseStub.class, Status.UNAUTHORIZED, null))));
+
+    HttpClient first = runAuthenticatedClientStep();
+    first.executePostUrlOnServiceClusterIP(
+        FAKE_URL, FAKE_URL, WlsDomainConfig.getRetrieveServersSearchPayload(), false);
+
+    assertThat(runAuthenticatedClientStep(), not(sameInstance(first)));
+  }
+
+  private void defineAdminSecret() {
+    Map<String, byte[]> data = new HashMap<>();
+    data.put(SecretHelper.ADMIN_SERVER_CREDENTIALS_USERNAME, "user".getBytes());
+    data.put(SecretHelper.ADMIN_SERVER_CREDENTIALS_PASSWORD, "password".getBytes());
+    testSupport
+        .createCannedResponse("readSecret")
+        .withNamespace(NS)
+        .withName(ADMIN_SECRET)
+        .returning(new V1Secret().data(data));
+  }
+
+  private HttpClient runAuthenticatedClientStep() {
+    return (HttpClient)
+        testSupport
+            .runSteps(HttpClient.createAuthenticatedClientForServer(NS, ADMIN_SECRET, null))
+            .get(HttpClient.KEY);
+  }
+
   private void ignoreMessage(String message) {
     consoleControl.ignoreMessage(message);
   }
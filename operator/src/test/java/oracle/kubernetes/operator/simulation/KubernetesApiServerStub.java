@@ -0,0 +1,1182 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.simulation;
+
+import static java.net.HttpURLConnection.HTTP_BAD_METHOD;
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
+import static java.net.HttpURLConnection.HTTP_CREATED;
+import static java.net.HttpURLConnection.HTTP_GONE;
+import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.kubernetes.client.JSON;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import oracle.kubernetes.operator.helpers.AuthorizationProxy;
+
+/**
+ * An in-memory stand-in for the Kubernetes API server, for running the operator against many
+ * simulated domains without a cluster. It serves the core, batch, extensions and CRD resources
+ * which the operator uses, and the {@code weblogic.oracle/v1} domains, supporting get, list with
+ * label and field selectors and paging, watch, create, replace, JSON patch and merge patch, delete
+ * and delete collection. Resource versions come from one counter, as from etcd, and watches replay
+ * the changes after the version they ask for, or fail with 410 Gone once those changes are no
+ * longer retained.
+ *
+ * <p>Non-headless services are given the loopback address as their cluster IP, so that the operator
+ * reaches stubs running in this process. Pods become ready a configurable time after they are
+ * created, as if a kubelet had started them. Authorization reviews grant everything the operator
+ * checks. Every request is counted by verb and resource.
+ */
+public class KubernetesApiServerStub {
+  private static final int RETAINED_EVENTS = 100_000;
+  private static final String LOOPBACK_ADDRESS = "127.0.0.1";
+
+  // Starts high so that versions have the same number of digits, as the operator's watchers
+  // compare them as strings.
+  private long resourceVersion = 1_000_000;
+
+  /** A map of resource plural name to objects, each keyed by namespace and name. */
+  private final Map<String, Map<String, JsonObject>> resources = new HashMap<>();
+
+  private final Map<String, Deque<Event>> history = new HashMap<>();
+
+  /** A map of resource plural name to the version of the latest change dropped from its history. */
+  private final Map<String, Long> compactedVersions = new HashMap<>();
+
+  private final Set<WatchStream> watches = ConcurrentHashMap.newKeySet();
+  private final Map<String, AtomicLong> requestCounts = new ConcurrentHashMap<>();
+  private final AtomicInteger nextNodePort = new AtomicInteger(30000);
+
+  private final JsonParser parser = new JsonParser();
+  private final ExecutorService requestExecutor = Executors.newCachedThreadPool(daemonThreads());
+  private final ScheduledExecutorService kubelet =
+      Executors.newSingleThreadScheduledExecutor(daemonThreads());
+
+  private HttpServer server;
+  private volatile long podReadyDelayMillis = 100;
+  private volatile long responseDelayMillis;
+
+  private static ThreadFactory daemonThreads() {
+    return r -> {
+      Thread thread = new Thread(r, "api-server-stub");
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  /**
+   * Sets the time after which a created pod is reported as ready.
+   *
+   * @param millis the delay in milliseconds
+   * @return this stub
+   */
+  public KubernetesApiServerStub withPodReadyDelay(long millis) {
+    podReadyDelayMillis = millis;
+    return this;
+  }
+
+  /**
+   * Sets a delay added to every request other than a watch, to simulate a busy API server.
+   *
+   * @param millis the delay in milliseconds
+   * @return this stub
+   */
+  public KubernetesApiServerStub withResponseDelay(long millis) {
+    responseDelayMillis = millis;
+    return this;
+  }
+
+  /**
+   * Starts serving on an ephemeral loopback port.
+   *
+   * @return this stub
+   * @throws IOException if the server cannot be started
+   */
+  public KubernetesApiServerStub start() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.setExecutor(requestExecutor);
+    server.createContext("/", this::handle);
+    server.start();
+    return this;
+  }
+
+  /** Stops serving, ending any open watches. */
+  public void stop() {
+    watches.forEach(WatchStream::close);
+    server.stop(0);
+    kubelet.shutdownNow();
+    requestExecutor.shutdownNow();
+  }
+
+  /**
+   * Returns the base path to give an API client.
+   *
+   * @return the URL of this server
+   */
+  public String getUrl() {
+    return "http://" + LOOPBACK_ADDRESS + ":" + server.getAddress().getPort();
+  }
+
+  /**
+   * Adds a resource directly, as if it had been created by another client.
+   *
+   * @param plural the plural resource name, such as "pods"
+   * @param namespace the namespace, or null for a cluster-scoped resource
+   * @param resource a Kubernetes model object
+   * @return the stored object
+   */
+  public JsonObject createResource(String plural, String namespace, Object resource) {
+    JsonObject body = parser.parse(new JSON().serialize(resource)).getAsJsonObject();
+    synchronized (this) {
+      return copy(create(plural, namespace, body));
+    }
+  }
+
+  /**
+   * Returns a resource.
+   *
+   * @param plural the plural resource name
+   * @param namespace the namespace, or null for a cluster-scoped resource
+   * @param name the name of the resource
+   * @return a copy of the object, or null if there is none
+   */
+  public synchronized JsonObject getResource(String plural, String namespace, String name) {
+    JsonObject object = getCollection(plural).get(getKey(namespace, name));
+    return object == null ? null : copy(object);
+  }
+
+  /**
+   * Changes a resource directly, as if it had been replaced by another client.
+   *
+   * @param plural the plural resource name
+   * @param namespace the namespace, or null for a cluster-scoped resource
+   * @param name the name of the resource
+   * @param change a function which modifies a copy of the resource
+   * @return the stored object
+   */
+  public synchronized JsonObject updateResource(
+      String plural, String namespace, String name, Consumer<JsonObject> change) {
+    JsonObject current = getExisting(plural, namespace, name);
+    JsonObject updated = copy(current);
+    change.accept(updated);
+    return copy(update(plural, current, updated));
+  }
+
+  /**
+   * Returns the resources of a type which match a label selector.
+   *
+   * @param plural the plural resource name
+   * @param namespace the namespace, or null for all namespaces
+   * @param labelSelector a label selector, or null
+   * @return copies of the matching objects
+   */
+  public synchronized List<JsonObject> listResources(
+      String plural, String namespace, String labelSelector) {
+    Selector selector = new Selector(labelSelector, null);
+    List<JsonObject> result = new ArrayList<>();
+    for (JsonObject object : getCollection(plural).values()) {
+      if (isInNamespace(object, namespace) && selector.matches(object)) {
+        result.add(copy(object));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns the number of requests received, keyed by verb and resource, such as "list pods".
+   *
+   * @return a sorted snapshot of the counts
+   */
+  public Map<String, Long> getRequestCounts() {
+    Map<String, Long> counts = new TreeMap<>();
+    requestCounts.forEach((key, count) -> counts.put(key, count.get()));
+    return counts;
+  }
+
+  /**
+   * Returns the total number of requests received.
+   *
+   * @return the count
+   */
+  public long getTotalRequestCount() {
+    return requestCounts.values().stream().mapToLong(AtomicLong::get).sum();
+  }
+
+  /**
+   * Returns the number of watches now open.
+   *
+   * @return the count
+   */
+  public int getOpenWatchCount() {
+    return watches.size();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try {
+      Request request = new Request(exchange);
+      if (request.isWatch()) {
+        count("watch", request.getCountedResource());
+        watch(exchange, request);
+        return;
+      }
+      delay();
+      count(request.getVerb(), request.getCountedResource());
+      Response response = dispatch(request);
+      send(exchange, response.code, response.body);
+    } catch (ApiError e) {
+      send(exchange, e.code, createStatus(e.code, e.reason, e.getMessage()));
+    } catch (RuntimeException e) {
+      send(
+          exchange,
+          HTTP_INTERNAL_ERROR,
+          createStatus(HTTP_INTERNAL_ERROR, "InternalError", e.toString()));
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private void delay() {
+    long millis = responseDelayMillis;
+    if (millis > 0) {
+      try {
+        Thread.sleep(millis);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private void count(String verb, String resource) {
+    requestCounts.computeIfAbsent(verb + " " + resource, k -> new AtomicLong()).incrementAndGet();
+  }
+
+  private Response dispatch(Request request) throws IOException {
+    if (request.isVersion()) {
+      return new Response(HTTP_OK, createVersionInfo());
+    } else if (request.plural.endsWith("reviews")) {
+      return new Response(HTTP_CREATED, review(request.plural, request.readBody()));
+    }
+
+    switch (request.method) {
+      case "GET":
+        return new Response(HTTP_OK, request.name == null ? list(request) : get(request));
+      case "POST":
+        return new Response(HTTP_CREATED, create(request));
+      case "PUT":
+        return new Response(HTTP_OK, replace(request));
+      case "PATCH":
+        return new Response(HTTP_OK, patch(request));
+      case "DELETE":
+        return new Response(
+            HTTP_OK, request.name == null ? deleteCollection(request) : delete(request));
+      default:
+        throw new ApiError(HTTP_BAD_METHOD, "MethodNotAllowed", request.method);
+    }
+  }
+
+  private synchronized JsonObject get(Request request) {
+    return copy(getExisting(request.plural, request.namespace, request.name));
+  }
+
+  private synchronized JsonObject list(Request request) {
+    Selector selector = new Selector(request.labelSelector, request.fieldSelector);
+    Map<String, JsonObject> sorted = new TreeMap<>(getCollection(request.plural));
+    String continueKey = request.continueToken;
+
+    JsonArray items = new JsonArray();
+    String lastKey = null;
+    boolean more = false;
+    for (Map.Entry<String, JsonObject> entry : sorted.entrySet()) {
+      if (continueKey != null && entry.getKey().compareTo(continueKey) <= 0) {
+        continue;
+      }
+      JsonObject object = entry.getValue();
+      if (!isInNamespace(object, request.namespace) || !selector.matches(object)) {
+        continue;
+      }
+      if (request.limit != null && items.size() >= request.limit) {
+        more = true;
+        break;
+      }
+      items.add(copy(object));
+      lastKey = entry.getKey();
+    }
+
+    JsonObject metadata = new JsonObject();
+    metadata.addProperty("resourceVersion", Long.toString(resourceVersion));
+    if (more) {
+      metadata.addProperty("continue", lastKey);
+    }
+    JsonObject result = new JsonObject();
+    result.addProperty("apiVersion", request.getApiVersion());
+    result.addProperty("kind", getKind(request.plural) + "List");
+    result.add("metadata", metadata);
+    result.add("items", items);
+    return result;
+  }
+
+  private synchronized JsonObject create(Request request) throws IOException {
+    JsonObject body = request.readBody();
+    body.addProperty("apiVersion", request.getApiVersion());
+    return copy(create(request.plural, request.namespace, body));
+  }
+
+  private JsonObject create(String plural, String namespace, JsonObject body) {
+    JsonObject metadata = getOrAddObject(body, "metadata");
+    String name = getString(metadata, "name");
+    if (name == null) {
+      String generateName = getString(metadata, "generateName");
+      if (generateName == null) {
+        throw new ApiError(HTTP_BAD_REQUEST, "Invalid", "name or generateName is required");
+      }
+      name = generateName + UUID.randomUUID().toString().substring(0, 5);
+      metadata.addProperty("name", name);
+    }
+    if (namespace != null) {
+      metadata.addProperty("namespace", namespace);
+    }
+    String key = getKey(namespace, name);
+    Map<String, JsonObject> collection = getCollection(plural);
+    if (collection.containsKey(key)) {
+      throw new ApiError(
+          HTTP_CONFLICT, "AlreadyExists", plural + " \"" + name + "\" already exists");
+    }
+
+    if (!body.has("kind")) {
+      body.addProperty("kind", getKind(plural));
+    }
+    metadata.addProperty("uid", UUID.randomUUID().toString());
+    metadata.addProperty("creationTimestamp", now());
+    metadata.addProperty("generation", 1);
+    if (plural.equals("services")) {
+      assignServiceAddresses(body);
+    } else if (plural.equals("pods")) {
+      body.add("status", createPodStatus("Pending", false));
+      schedulePodReady(namespace, name, getString(metadata, "uid"));
+    }
+
+    collection.put(key, body);
+    publish(plural, "ADDED", body);
+    return body;
+  }
+
+  private synchronized JsonObject replace(Request request) throws IOException {
+    JsonObject current = getExisting(request.plural, request.namespace, request.name);
+    JsonObject body = request.readBody();
+    JsonObject metadata = getOrAddObject(body, "metadata");
+    String expectedVersion = getString(metadata, "resourceVersion");
+    if (expectedVersion != null
+        && !expectedVersion.equals(
+            getString(current.getAsJsonObject("metadata"), "resourceVersion"))) {
+      throw new ApiError(
+          HTTP_CONFLICT, "Conflict", "the object has been modified; please apply your changes");
+    }
+
+    JsonObject updated;
+    if ("status".equals(request.subresource)) {
+      updated = copy(current);
+      updated.add("status", body.get("status"));
+    } else {
+      updated = body;
+      updated.addProperty("apiVersion", request.getApiVersion());
+      if (!updated.has("kind")) {
+        updated.addProperty("kind", getKind(request.plural));
+      }
+    }
+    return copy(update(request.plural, current, updated));
+  }
+
+  private synchronized JsonObject patch(Request request) throws IOException {
+    JsonObject current = getExisting(request.plural, request.namespace, request.name);
+    JsonElement patch = request.readJson();
+    JsonObject updated = copy(current);
+    if (request.contentType != null && request.contentType.contains("json-patch")) {
+      updated = applyJsonPatch(updated, patch.getAsJsonArray());
+    } else {
+      applyMergePatch(updated, patch.getAsJsonObject());
+    }
+    return copy(update(request.plural, current, updated));
+  }
+
+  // Preserves the fields the server owns, and advances the generation if the spec changed.
+  private JsonObject update(String plural, JsonObject current, JsonObject updated) {
+    JsonObject currentMetadata = current.getAsJsonObject("metadata");
+    JsonObject metadata = getOrAddObject(updated, "metadata");
+    for (String field : new String[] {"name", "namespace", "uid", "creationTimestamp"}) {
+      if (currentMetadata.has(field)) {
+        metadata.add(field, currentMetadata.get(field));
+      }
+    }
+    long generation =
+        currentMetadata.has("generation") ? currentMetadata.get("generation").getAsLong() : 1;
+    if (!Objects.equals(current.get("spec"), updated.get("spec"))) {
+      generation++;
+    }
+    metadata.addProperty("generation", generation);
+
+    getCollection(plural)
+        .put(getKey(getString(metadata, "namespace"), getString(metadata, "name")), updated);
+    publish(plural, "MODIFIED", updated);
+    return updated;
+  }
+
+  private synchronized JsonObject delete(Request request) {
+    JsonObject current = getExisting(request.plural, request.namespace, request.name);
+    remove(request.plural, current);
+    return createStatus(HTTP_OK, null, null);
+  }
+
+  private synchronized JsonObject deleteCollection(Request request) {
+    Selector selector = new Selector(request.labelSelector, request.fieldSelector);
+    for (JsonObject object : new ArrayList<>(getCollection(request.plural).values())) {
+      if (isInNamespace(object, request.namespace) && selector.matches(object)) {
+        remove(request.plural, object);
+      }
+    }
+    return createStatus(HTTP_OK, null, null);
+  }
+
+  private void remove(String plural, JsonObject object) {
+    JsonObject metadata = object.getAsJsonObject("metadata");
+    getCollection(plural)
+        .remove(getKey(getString(metadata, "namespace"), getString(metadata, "name")));
+    publish(plural, "DELETED", object);
+  }
+
+  private JsonObject getExisting(String plural, String namespace, String name) {
+    JsonObject object = getCollection(plural).get(getKey(namespace, name));
+    if (object == null) {
+      throw new ApiError(HTTP_NOT_FOUND, "NotFound", plural + " \"" + name + "\" not found");
+    }
+    return object;
+  }
+
+  private Map<String, JsonObject> getCollection(String plural) {
+    return resources.computeIfAbsent(plural, k -> new HashMap<>());
+  }
+
+  // Assigns a new resource version to the object and notifies the watches of its change.
+  private void publish(String plural, String type, JsonObject object) {
+    getOrAddObject(object, "metadata")
+        .addProperty("resourceVersion", Long.toString(++resourceVersion));
+    Event event = new Event(resourceVersion, type, copy(object));
+    Deque<Event> events = history.computeIfAbsent(plural, k -> new ArrayDeque<>());
+    events.addLast(event);
+    if (events.size() > RETAINED_EVENTS) {
+      compactedVersions.put(plural, events.removeFirst().resourceVersion);
+    }
+    for (WatchStream watch : watches) {
+      if (watch.plural.equals(plural)) {
+        watch.offer(event);
+      }
+    }
+  }
+
+  private void watch(HttpExchange exchange, Request request) throws IOException {
+    WatchStream watch = new WatchStream(request);
+    try {
+      synchronized (this) {
+        replayTo(watch, request.resourceVersion);
+        watches.add(watch);
+      }
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(HTTP_OK, 0);
+      watch.stream(exchange.getResponseBody());
+    } catch (ApiError e) {
+      send(exchange, e.code, createStatus(e.code, e.reason, e.getMessage()));
+    } finally {
+      watches.remove(watch);
+      exchange.close();
+    }
+  }
+
+  private void replayTo(WatchStream watch, String fromVersion) {
+    if (fromVersion == null || fromVersion.isEmpty() || fromVersion.equals("0")) {
+      for (JsonObject object : getCollection(watch.plural).values()) {
+        watch.offer(new Event(resourceVersion, "ADDED", copy(object)));
+      }
+      return;
+    }
+
+    long version = Long.parseLong(fromVersion);
+    Deque<Event> events = history.getOrDefault(watch.plural, new ArrayDeque<>());
+    long oldestVersion = compactedVersions.getOrDefault(watch.plural, 0L);
+    if (version < oldestVersion) {
+      watch.offer(
+          new Event(
+              version,
+              "ERROR",
+              createStatus(
+                  HTTP_GONE,
+                  "Gone",
+                  "too old resource version: " + version + " (" + oldestVersion + ")")));
+      watch.offer(Event.END);
+      return;
+    }
+    for (Event event : events) {
+      if (event.resourceVersion > version) {
+        watch.offer(event);
+      }
+    }
+  }
+
+  private void schedulePodReady(String namespace, String name, String uid) {
+    kubelet.schedule(
+        () -> markPodReady(namespace, name, uid), podReadyDelayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private synchronized void markPodReady(String namespace, String name, String uid) {
+    JsonObject pod = getCollection("pods").get(getKey(namespace, name));
+    if (pod == null || !uid.equals(getString(pod.getAsJsonObject("metadata"), "uid"))) {
+      return;
+    }
+    JsonObject updated = copy(pod);
+    JsonObject status = createPodStatus("Running", true);
+    JsonArray containerStatuses = new JsonArray();
+    JsonObject spec = updated.getAsJsonObject("spec");
+    if (spec != null && spec.has("containers")) {
+      for (JsonElement container : spec.getAsJsonArray("containers")) {
+        JsonObject containerStatus = new JsonObject();
+        containerStatus.add("name", container.getAsJsonObject().get("name"));
+        containerStatus.add("image", container.getAsJsonObject().get("image"));
+        containerStatus.addProperty("imageID", "");
+        containerStatus.addProperty("ready", true);
+        containerStatus.addProperty("restartCount", 0);
+        containerStatuses.add(containerStatus);
+      }
+    }
+    status.add("containerStatuses", containerStatuses);
+    updated.add("status", status);
+    update("pods", pod, updated);
+  }
+
+  private JsonObject createPodStatus(String phase, boolean ready) {
+    JsonObject condition = new JsonObject();
+    condition.addProperty("type", "Ready");
+    condition.addProperty("status", ready ? "True" : "False");
+    condition.addProperty("lastTransitionTime", now());
+    JsonArray conditions = new JsonArray();
+    conditions.add(condition);
+
+    JsonObject status = new JsonObject();
+    status.addProperty("phase", phase);
+    status.add("conditions", conditions);
+    if (ready) {
+      status.addProperty("podIP", LOOPBACK_ADDRESS);
+      status.addProperty("startTime", now());
+    }
+    return status;
+  }
+
+  private void assignServiceAddresses(JsonObject service) {
+    JsonObject spec = getOrAddObject(service, "spec");
+    String clusterIP = getString(spec, "clusterIP");
+    if (clusterIP == null || clusterIP.isEmpty()) {
+      spec.addProperty("clusterIP", LOOPBACK_ADDRESS);
+    }
+    if ("NodePort".equals(getString(spec, "type")) && spec.has("ports")) {
+      for (JsonElement port : spec.getAsJsonArray("ports")) {
+        if (!port.getAsJsonObject().has("nodePort")) {
+          port.getAsJsonObject().addProperty("nodePort", nextNodePort.getAndIncrement());
+        }
+      }
+    }
+  }
+
+  private JsonObject review(String plural, JsonObject body) {
+    JsonObject status = new JsonObject();
+    if ("selfsubjectrulesreviews".equals(plural)) {
+      status.add("resourceRules", createResourceRules());
+      status.add("nonResourceRules", new JsonArray());
+      status.addProperty("incomplete", false);
+    } else if ("tokenreviews".equals(plural)) {
+      status.addProperty("authenticated", true);
+    } else {
+      status.addProperty("allowed", true);
+    }
+    body.add("status", status);
+    return body;
+  }
+
+  // The operator matches rules by name, without expanding wildcards, so grant each resource it
+  // checks explicitly.
+  private static JsonArray createResourceRules() {
+    String[] verbs = new String[AuthorizationProxy.Operation.values().length];
+    for (AuthorizationProxy.Operation operation : AuthorizationProxy.Operation.values()) {
+      verbs[operation.ordinal()] = operation.name();
+    }
+    JsonArray rules = new JsonArray();
+    for (AuthorizationProxy.Resource resource : AuthorizationProxy.Resource.values()) {
+      String name = resource.getResource();
+      if (!resource.getSubResource().isEmpty()) {
+        name += "/" + resource.getSubResource();
+      }
+      JsonObject rule = new JsonObject();
+      rule.add("apiGroups", toArray(resource.getAPIGroup()));
+      rule.add("resources", toArray(name));
+      rule.add("verbs", toArray(verbs));
+      rules.add(rule);
+    }
+    return rules;
+  }
+
+  private static JsonArray toArray(String... values) {
+    JsonArray array = new JsonArray();
+    for (String value : values) {
+      array.add(new JsonPrimitive(value));
+    }
+    return array;
+  }
+
+  private static JsonObject createVersionInfo() {
+    JsonObject info = new JsonObject();
+    info.addProperty("major", "1");
+    info.addProperty("minor", "10");
+    info.addProperty("gitVersion", "v1.10.0");
+    info.addProperty("platform", "simulated");
+    return info;
+  }
+
+  private static JsonObject createStatus(int code, String reason, String message) {
+    JsonObject status = new JsonObject();
+    status.addProperty("kind", "Status");
+    status.addProperty("apiVersion", "v1");
+    status.add("metadata", new JsonObject());
+    status.addProperty("status", code < 300 ? "Success" : "Failure");
+    if (message != null) {
+      status.addProperty("message", message);
+    }
+    if (reason != null) {
+      status.addProperty("reason", reason);
+    }
+    status.addProperty("code", code);
+    return status;
+  }
+
+  private static void send(HttpExchange exchange, int code, JsonElement body) throws IOException {
+    byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(code, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  // RFC 6902, limited to the operations the operator sends
+  private JsonObject applyJsonPatch(JsonObject target, JsonArray operations) {
+    for (JsonElement element : operations) {
+      JsonObject operation = element.getAsJsonObject();
+      String op = getString(operation, "op");
+      List<String> path = parsePointer(getString(operation, "path"));
+      JsonElement parent = target;
+      for (String segment : path.subList(0, path.size() - 1)) {
+        parent = getChild(parent, segment);
+        if (parent == null) {
+          throw new ApiError(HTTP_BAD_REQUEST, "Invalid", "no member at " + operation.get("path"));
+        }
+      }
+      String last = path.get(path.size() - 1);
+      switch (op) {
+        case "add":
+        case "replace":
+          setChild(parent, last, operation.get("value"), op.equals("add"));
+          break;
+        case "remove":
+          removeChild(parent, last);
+          break;
+        default:
+          throw new ApiError(HTTP_BAD_REQUEST, "Invalid", "unsupported patch operation " + op);
+      }
+    }
+    return target;
+  }
+
+  private static List<String> parsePointer(String pointer) {
+    List<String> segments = new ArrayList<>();
+    for (String segment : pointer.substring(1).split("/", -1)) {
+      segments.add(segment.replace("~1", "/").replace("~0", "~"));
+    }
+    return segments;
+  }
+
+  private static JsonElement getChild(JsonElement parent, String segment) {
+    if (parent.isJsonObject()) {
+      return parent.getAsJsonObject().get(segment);
+    } else if (parent.isJsonArray()) {
+      return parent.getAsJsonArray().get(Integer.parseInt(segment));
+    }
+    return null;
+  }
+
+  private static void setChild(
+      JsonElement parent, String segment, JsonElement value, boolean insert) {
+    if (parent.isJsonObject()) {
+      parent.getAsJsonObject().add(segment, value);
+    } else if (parent.isJsonArray()) {
+      JsonArray array = parent.getAsJsonArray();
+      if (segment.equals("-")) {
+        array.add(value);
+      } else if (insert) {
+        JsonArray copy = new JsonArray();
+        int index = Integer.parseInt(segment);
+        for (int i = 0; i <= array.size(); i++) {
+          if (i == index) {
+            copy.add(value);
+          }
+          if (i < array.size()) {
+            copy.add(array.get(i));
+          }
+        }
+        while (array.size() > 0) {
+          array.remove(0);
+        }
+        array.addAll(copy);
+      } else {
+        array.set(Integer.parseInt(segment), value);
+      }
+    }
+  }
+
+  private static void removeChild(JsonElement parent, String segment) {
+    if (parent.isJsonObject()) {
+      parent.getAsJsonObject().remove(segment);
+    } else if (parent.isJsonArray()) {
+      parent.getAsJsonArray().remove(Integer.parseInt(segment));
+    }
+  }
+
+  // RFC 7386
+  private static void applyMergePatch(JsonObject target, JsonObject patch) {
+    for (Map.Entry<String, JsonElement> entry : patch.entrySet()) {
+      JsonElement value = entry.getValue();
+      if (value.isJsonNull()) {
+        target.remove(entry.getKey());
+      } else if (value.isJsonObject()
+          && target.has(entry.getKey())
+          && target.get(entry.getKey()).isJsonObject()) {
+        applyMergePatch(target.getAsJsonObject(entry.getKey()), value.getAsJsonObject());
+      } else {
+        target.add(entry.getKey(), value);
+      }
+    }
+  }
+
+  private JsonObject copy(JsonObject object) {
+    return parser.parse(object.toString()).getAsJsonObject();
+  }
+
+  private static JsonObject getOrAddObject(JsonObject parent, String name) {
+    JsonElement child = parent.get(name);
+    if (child == null || !child.isJsonObject()) {
+      child = new JsonObject();
+      parent.add(name, child);
+    }
+    return child.getAsJsonObject();
+  }
+
+  private static String getString(JsonObject object, String name) {
+    JsonElement element = object == null ? null : object.get(name);
+    return element == null || element.isJsonNull() ? null : element.getAsString();
+  }
+
+  private static boolean isInNamespace(JsonObject object, String namespace) {
+    return namespace == null
+        || namespace.equals(getString(object.getAsJsonObject("metadata"), "namespace"));
+  }
+
+  private static String getKey(String namespace, String name) {
+    return namespace == null ? name : namespace + "/" + name;
+  }
+
+  private static String getKind(String plural) {
+    switch (plural) {
+      case "configmaps":
+        return "ConfigMap";
+      case "persistentvolumes":
+        return "PersistentVolume";
+      case "persistentvolumeclaims":
+        return "PersistentVolumeClaim";
+      case "customresourcedefinitions":
+        return "CustomResourceDefinition";
+      case "ingresses":
+        return "Ingress";
+      default:
+        String singular = plural.endsWith("s") ? plural.substring(0, plural.length() - 1) : plural;
+        return Character.toUpperCase(singular.charAt(0)) + singular.substring(1);
+    }
+  }
+
+  private static String now() {
+    SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+    format.setTimeZone(TimeZone.getTimeZone("UTC"));
+    return format.format(new Date());
+  }
+
+  private static class Response {
+    private final int code;
+    private final JsonElement body;
+
+    Response(int code, JsonElement body) {
+      this.code = code;
+      this.body = body;
+    }
+  }
+
+  private static class ApiError extends RuntimeException {
+    private final int code;
+    private final String reason;
+
+    ApiError(int code, String reason, String message) {
+      super(message);
+      this.code = code;
+      this.reason = reason;
+    }
+  }
+
+  private static class Event {
+    private static final Event END = new Event(0, null, null);
+
+    private final long resourceVersion;
+    private final String type;
+    private final JsonObject object;
+
+    Event(long resourceVersion, String type, JsonObject object) {
+      this.resourceVersion = resourceVersion;
+      this.type = type;
+      this.object = object;
+    }
+
+    String toLine() {
+      JsonObject line = new JsonObject();
+      line.addProperty("type", type);
+      line.add("object", object == null ? JsonNull.INSTANCE : object);
+      return line + "\n";
+    }
+  }
+
+  private static class WatchStream {
+    private final String plural;
+    private final String namespace;
+    private final Selector selector;
+    private final long deadline;
+    private final BlockingQueue<Event> queue = new LinkedBlockingQueue<>();
+
+    WatchStream(Request request) {
+      this.plural = request.plural;
+      this.namespace = request.namespace;
+      this.selector = new Selector(request.labelSelector, request.fieldSelector);
+      long timeoutSeconds = request.timeoutSeconds == null ? 1800 : request.timeoutSeconds;
+      this.deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(timeoutSeconds);
+    }
+
+    void offer(Event event) {
+      if (event == Event.END
+          || event.type.equals("ERROR")
+          || (isInNamespace(event.object, namespace) && selector.matches(event.object))) {
+        queue.offer(event);
+      }
+    }
+
+    void close() {
+      queue.offer(Event.END);
+    }
+
+    void stream(OutputStream out) throws IOException {
+      try {
+        long remaining;
+        while ((remaining = deadline - System.currentTimeMillis()) > 0) {
+          Event event = queue.poll(remaining, TimeUnit.MILLISECONDS);
+          if (event == null || event == Event.END) {
+            break;
+          }
+          out.write(event.toLine().getBytes(StandardCharsets.UTF_8));
+          out.flush();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      } finally {
+        out.close();
+      }
+    }
+  }
+
+  /** Label and field selectors, supporting equality, inequality and existence terms. */
+  private static class Selector {
+    private final List<String[]> labelTerms;
+    private final List<String[]> fieldTerms;
+
+    Selector(String labelSelector, String fieldSelector) {
+      labelTerms = parse(labelSelector, true);
+      fieldTerms = parse(fieldSelector, false);
+    }
+
+    // Each term is {key, operator, value}, with operator one of "=", "!=", "exists" or "!exists".
+    private static List<String[]> parse(String selector, boolean allowExistence) {
+      List<String[]> terms = new ArrayList<>();
+      if (selector == null || selector.isEmpty()) {
+        return terms;
+      }
+      for (String term : selector.split(",")) {
+        term = term.trim();
+        int notEquals = term.indexOf("!=");
+        int equals = term.indexOf('=');
+        if (notEquals > 0) {
+          terms.add(
+              new String[] {term.substring(0, notEquals), "!=", term.substring(notEquals + 2)});
+        } else if (equals > 0) {
+          String value = term.substring(term.startsWith("==", equals) ? equals + 2 : equals + 1);
+          terms.add(new String[] {term.substring(0, equals), "=", value});
+        } else if (allowExistence && term.startsWith("!")) {
+          terms.add(new String[] {term.substring(1), "!exists", null});
+        } else if (allowExistence) {
+          terms.add(new String[] {term, "exists", null});
+        }
+      }
+      return terms;
+    }
+
+    boolean matches(JsonObject object) {
+      JsonObject metadata = object.getAsJsonObject("metadata");
+      JsonObject labels = metadata == null ? null : metadata.getAsJsonObject("labels");
+      for (String[] term : labelTerms) {
+        if (!matches(term, getString(labels, term[0]))) {
+          return false;
+        }
+      }
+      for (String[] term : fieldTerms) {
+        if (!matches(term, getField(object, term[0]))) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private static boolean matches(String[] term, String actual) {
+      switch (term[1]) {
+        case "=":
+          return term[2].equals(actual);
+        case "!=":
+          return !term[2].equals(actual);
+        case "exists":
+          return actual != null;
+        default:
+          return actual == null;
+      }
+    }
+
+    private static String getField(JsonObject object, String path) {
+      JsonElement element = object;
+      for (String segment : path.split("\\.")) {
+        if (element == null || !element.isJsonObject()) {
+          return null;
+        }
+        element = element.getAsJsonObject().get(segment);
+      }
+      return element == null || !element.isJsonPrimitive() ? null : element.getAsString();
+    }
+  }
+
+  /** A request, parsed into the resource it addresses and its query parameters. */
+  private class Request {
+    private final HttpExchange exchange;
+    private final String method;
+    private final String contentType;
+    private String group = "";
+    private String version = "v1";
+    private String plural = "";
+    private String namespace;
+    private String name;
+    private String subresource;
+    private boolean isVersion;
+
+    private String labelSelector;
+    private String fieldSelector;
+    private String resourceVersion;
+    private String continueToken;
+    private Integer limit;
+    private Integer timeoutSeconds;
+    private boolean watch;
+
+    Request(HttpExchange exchange) throws UnsupportedEncodingException {
+      this.exchange = exchange;
+      this.method = exchange.getRequestMethod();
+      this.contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+      parsePath(exchange.getRequestURI().getPath());
+      parseQuery(exchange.getRequestURI().getRawQuery());
+    }
+
+    private void parsePath(String path) {
+      List<String> segments = new ArrayList<>();
+      for (String segment : path.split("/")) {
+        if (!segment.isEmpty()) {
+          segments.add(segment);
+        }
+      }
+      Iterator<String> it = segments.iterator();
+      String root = it.hasNext() ? it.next() : "";
+      if (root.equals("version")) {
+        isVersion = true;
+        return;
+      } else if (root.equals("api") && it.hasNext()) {
+        version = it.next();
+      } else if (root.equals("apis") && segments.size() >= 3) {
+        group = it.next();
+        version = it.next();
+      } else {
+        throw new ApiError(HTTP_NOT_FOUND, "NotFound", path);
+      }
+
+      List<String> rest = new ArrayList<>();
+      it.forEachRemaining(rest::add);
+      if (rest.size() >= 3 && rest.get(0).equals("namespaces")) {
+        namespace = rest.get(1);
+        rest = rest.subList(2, rest.size());
+      }
+      if (rest.isEmpty()) {
+        throw new ApiError(HTTP_NOT_FOUND, "NotFound", path);
+      }
+      plural = rest.get(0);
+      name = rest.size() > 1 ? rest.get(1) : null;
+      subresource = rest.size() > 2 ? rest.get(2) : null;
+    }
+
+    private void parseQuery(String query) throws UnsupportedEncodingException {
+      if (query == null) {
+        return;
+      }
+      for (String parameter : query.split("&")) {
+        int equals = parameter.indexOf('=');
+        if (equals < 0) {
+          continue;
+        }
+        String key = parameter.substring(0, equals);
+        String value = URLDecoder.decode(parameter.substring(equals + 1), "UTF-8");
+        switch (key) {
+          case "labelSelector":
+            labelSelector = value;
+            break;
+          case "fieldSelector":
+            fieldSelector = value;
+            break;
+          case "resourceVersion":
+            resourceVersion = value;
+            break;
+          case "continue":
+            continueToken = value;
+            break;
+          case "limit":
+            limit = Integer.valueOf(value);
+            break;
+          case "timeoutSeconds":
+            timeoutSeconds = Integer.valueOf(value);
+            break;
+          case "watch":
+            watch = Boolean.parseBoolean(value);
+            break;
+          default:
+        }
+      }
+    }
+
+    boolean isVersion() {
+      return isVersion;
+    }
+
+    boolean isWatch() {
+      return watch && method.equals("GET");
+    }
+
+    String getApiVersion() {
+      return group.isEmpty() ? version : group + "/" + version;
+    }
+
+    String getCountedResource() {
+      if (isVersion) {
+        return "version";
+      }
+      return subresource == null ? plural : plural + "/" + subresource;
+    }
+
+    String getVerb() {
+      switch (method) {
+        case "GET":
+          return name == null ? "list" : "get";
+        case "POST":
+          return "create";
+        case "PUT":
+          return "update";
+        case "PATCH":
+          return "patch";
+        case "DELETE":
+          return name == null ? "deletecollection" : "delete";
+        default:
+          return method.toLowerCase();
+      }
+    }
+
+    JsonElement readJson() throws IOException {
+      try (InputStream in = exchange.getRequestBody()) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) > 0) {
+          bytes.write(buffer, 0, read);
+        }
+        return parser.parse(new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+      }
+    }
+
+    JsonObject readBody() throws IOException {
+      JsonElement body = readJson();
+      if (!body.isJsonObject()) {
+        throw new ApiError(HTTP_BAD_REQUEST, "BadRequest", "a JSON object is required");
+      }
+      return body.getAsJsonObject();
+    }
+  }
+}
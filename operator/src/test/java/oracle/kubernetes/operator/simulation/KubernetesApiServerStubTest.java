@@ -0,0 +1,225 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.simulation;
+
+import static java.net.HttpURLConnection.HTTP_CONFLICT;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import com.google.gson.JsonObject;
+import com.google.gson.reflect.TypeToken;
+import io.kubernetes.client.ApiClient;
+import io.kubernetes.client.ApiException;
+import io.kubernetes.client.apis.CoreV1Api;
+import io.kubernetes.client.models.V1Container;
+import io.kubernetes.client.models.V1DeleteOptions;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Pod;
+import io.kubernetes.client.models.V1PodCondition;
+import io.kubernetes.client.models.V1PodList;
+import io.kubernetes.client.models.V1PodSpec;
+import io.kubernetes.client.util.Watch;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class KubernetesApiServerStubTest {
+  private static final String NS = "namespace";
+  private static final int WATCH_TIMEOUT_SECONDS = 1;
+
+  private KubernetesApiServerStub apiServer = new KubernetesApiServerStub().withPodReadyDelay(0);
+  private CoreV1Api api;
+
+  @Before
+  public void setUp() throws Exception {
+    apiServer.start();
+    api = new CoreV1Api(new ApiClient().setBasePath(apiServer.getUrl()));
+  }
+
+  @After
+  public void tearDown() {
+    apiServer.stop();
+  }
+
+  private static V1Pod createPod(String name, String app) {
+    return new V1Pod()
+        .metadata(new V1ObjectMeta().name(name).putLabelsItem("app", app))
+        .spec(new V1PodSpec().addContainersItem(new V1Container().name("c").image("image")));
+  }
+
+  private V1PodList listPods(String labelSelector) throws ApiException {
+    return api.listNamespacedPod(NS, null, null, null, null, labelSelector, null, null, null, null);
+  }
+
+  @Test
+  public void createdResource_isReadWithAssignedMetadata() throws ApiException {
+    api.createNamespacedPod(NS, createPod("pod1", "a"), null);
+
+    V1Pod pod = api.readNamespacedPod("pod1", NS, null, null, null);
+
+    assertThat(pod.getMetadata().getNamespace(), equalTo(NS));
+    assertThat(pod.getMetadata().getUid(), notNullValue());
+    assertThat(pod.getMetadata().getResourceVersion(), notNullValue());
+  }
+
+  @Test
+  public void whenResourceExists_createFailsWithConflict() throws ApiException {
+    api.createNamespacedPod(NS, createPod("pod1", "a"), null);
+
+    assertThat(getCreateFailureCode(createPod("pod1", "a")), equalTo(HTTP_CONFLICT));
+  }
+
+  private int getCreateFailureCode(V1Pod pod) {
+    try {
+      api.createNamespacedPod(NS, pod, null);
+      return 0;
+    } catch (ApiException e) {
+      return e.getCode();
+    }
+  }
+
+  @Test
+  public void listWithLabelSelector_returnsOnlyMatchingResources() throws ApiException {
+    api.createNamespacedPod(NS, createPod("pod1", "a"), null);
+    api.createNamespacedPod(NS, createPod("pod2", "b"), null);
+
+    assertThat(getNames(listPods("app=b")), contains("pod2"));
+  }
+
+  private static List<String> getNames(V1PodList list) {
+    List<String> names = new ArrayList<>();
+    for (V1Pod pod : list.getItems()) {
+      names.add(pod.getMetadata().getName());
+    }
+    return names;
+  }
+
+  @Test
+  public void whenResourceVersionIsStale_replaceFailsWithConflict() throws ApiException {
+    V1Pod created = api.createNamespacedPod(NS, createPod("pod1", "a"), null);
+    api.replaceNamespacedPod("pod1", NS, createPod("pod1", "b"), null);
+
+    assertThat(getReplaceFailureCode(created), equalTo(HTTP_CONFLICT));
+  }
+
+  private int getReplaceFailureCode(V1Pod pod) {
+    try {
+      api.replaceNamespacedPod(pod.getMetadata().getName(), NS, pod, null);
+      return 0;
+    } catch (ApiException e) {
+      return e.getCode();
+    }
+  }
+
+  @Test
+  public void jsonPatch_updatesResource() throws ApiException {
+    api.createNamespacedPod(NS, createPod("pod1", "a"), null);
+    JsonObject operation = new JsonObject();
+    operation.addProperty("op", "replace");
+    operation.addProperty("path", "/metadata/labels/app");
+    operation.addProperty("value", "b");
+
+    api.patchNamespacedPod("pod1", NS, Collections.singletonList(operation), null);
+
+    assertThat(getNames(listPods("app=b")), contains("pod1"));
+  }
+
+  @Test
+  public void afterDelete_resourceIsNoLongerListed() throws ApiException {
+    api.createNamespacedPod(NS, createPod("pod1", "a"), null);
+
+    deletePod("pod1");
+
+    assertThat(listPods(null).getItems().isEmpty(), is(true));
+  }
+
+  private void deletePod(String name) throws ApiException {
+    try {
+      api.deleteNamespacedPod(name, NS, new V1DeleteOptions(), null, null, null, null);
+    } catch (RuntimeException e) {
+      // the client fails to parse the deleted pod as a status, as with a real API server
+    }
+  }
+
+  @Test
+  public void createdPod_becomesReady() throws Exception {
+    api.createNamespacedPod(NS, createPod("pod1", "a"), null);
+
+    assertThat(awaitReady("pod1"), is(true));
+  }
+
+  private boolean awaitReady(String name) throws Exception {
+    for (int i = 0; i < 100; i++) {
+      V1Pod pod = api.readNamespacedPod(name, NS, null, null, null);
+      if (pod.getStatus().getConditions() != null) {
+        for (V1PodCondition condition : pod.getStatus().getConditions()) {
+          if ("Ready".equals(condition.getType()) && "True".equals(condition.getStatus())) {
+            return true;
+          }
+        }
+      }
+      Thread.sleep(10);
+    }
+    return false;
+  }
+
+  @Test
+  public void watchFromResourceVersion_receivesOnlyLaterChanges() throws Exception {
+    apiServer.withPodReadyDelay(60_000);
+    api.createNamespacedPod(NS, createPod("pod1", "a"), null);
+    String resourceVersion = listPods(null).getMetadata().getResourceVersion();
+    api.createNamespacedPod(NS, createPod("pod2", "a"), null);
+
+    assertThat(watchPods(resourceVersion), contains("ADDED pod2"));
+  }
+
+  private List<String> watchPods(String resourceVersion) throws Exception {
+    List<String> events = new ArrayList<>();
+    try (Watch<V1Pod> watch =
+        Watch.createWatch(
+            api.getApiClient(),
+            api.listNamespacedPodCall(
+                NS,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                resourceVersion,
+                WATCH_TIMEOUT_SECONDS,
+                true,
+                null,
+                null),
+            new TypeToken<Watch.Response<V1Pod>>() {}.getType())) {
+      for (Watch.Response<V1Pod> item : watch) {
+        events.add(item.type + " " + item.object.getMetadata().getName());
+      }
+    }
+    return events;
+  }
+
+  @Test
+  public void requestsAreCountedByVerbAndResource() throws ApiException {
+    api.createNamespacedPod(NS, createPod("pod1", "a"), null);
+    listPods(null);
+    listPods(null);
+
+    Map<String, Long> counts = apiServer.getRequestCounts();
+
+    assertThat(counts, hasEntry("create pods", 1L));
+    assertThat(counts, hasEntry("list pods", 2L));
+    assertThat(apiServer.getTotalRequestCount(), greaterThan(2L));
+  }
+}
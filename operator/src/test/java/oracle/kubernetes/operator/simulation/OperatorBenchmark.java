@@ -0,0 +1,246 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.simulation;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import oracle.kubernetes.operator.Main;
+import oracle.kubernetes.operator.helpers.LegalNames;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+
+/**
+ * Measures the scalability of the operator against an {@link OperatorSimulation}, and writes the
+ * results as JSON so that operator releases may be compared. It records:
+ *
+ * <ul>
+ *   <li>the time from operator start until all domains are reconciled, with the API calls made;
+ *   <li>the API calls per minute, the CPU used and the heap retained while nothing changes;
+ *   <li>the time from a change to a domain spec, scaling up its cluster, until the operator creates
+ *       the new pod.
+ * </ul>
+ *
+ * <p>The CPU and heap include the stubs, which do little while the operator is idle. Run with
+ * {@code mvn exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=oracle.kubernetes.operator.simulation.OperatorBenchmark -Dexec.args="namespaces
+ * domainsPerNamespace serversPerDomain idleSeconds outputFile"}; the defaults measure 1,000 domains
+ * of two managed servers in ten namespaces, idle for one minute, and write operator-benchmark.json.
+ */
+public class OperatorBenchmark {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private static final int SPEC_CHANGE_SAMPLES = 5;
+  private static final long SETTLE_MILLIS = TimeUnit.SECONDS.toMillis(10);
+  private static final long POLL_MILLIS = 10;
+  private static final long SPEC_CHANGE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+  private final OperatorSimulation simulation;
+  private final int idleSeconds;
+  private final JsonObject results = new JsonObject();
+
+  private OperatorBenchmark(OperatorSimulation simulation, int idleSeconds) {
+    this.simulation = simulation;
+    this.idleSeconds = idleSeconds;
+  }
+
+  public static void main(String[] args) throws Exception {
+    int namespaces = getArg(args, 0, 10);
+    int domainsPerNamespace = getArg(args, 1, 100);
+    int serversPerDomain = getArg(args, 2, 2);
+    int idleSeconds = getArg(args, 3, 60);
+    Path output = Paths.get(args.length > 4 ? args[4] : "operator-benchmark.json");
+
+    OperatorBenchmark benchmark =
+        new OperatorBenchmark(
+            new OperatorSimulation(namespaces, domainsPerNamespace, serversPerDomain), idleSeconds);
+    int status = 0;
+    try {
+      benchmark.recordConfiguration(namespaces, domainsPerNamespace, serversPerDomain);
+      benchmark.run();
+      benchmark.write(output);
+    } catch (Exception e) {
+      LOGGER.severe(MessageKeys.EXCEPTION, e);
+      status = 1;
+    }
+    // the operator's threads would otherwise keep the process alive
+    System.exit(status);
+  }
+
+  private static int getArg(String[] args, int index, int defaultValue) {
+    return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+  }
+
+  private void recordConfiguration(int namespaces, int domainsPerNamespace, int serversPerDomain) {
+    JsonObject configuration = new JsonObject();
+    configuration.addProperty("namespaces", namespaces);
+    configuration.addProperty("domainsPerNamespace", domainsPerNamespace);
+    configuration.addProperty("serversPerDomain", serversPerDomain);
+    configuration.addProperty("idleSeconds", idleSeconds);
+    configuration.addProperty("javaVersion", System.getProperty("java.version"));
+    configuration.addProperty("processors", Runtime.getRuntime().availableProcessors());
+    configuration.addProperty("maxHeapBytes", Runtime.getRuntime().maxMemory());
+    results.add("configuration", configuration);
+  }
+
+  private void run() throws Exception {
+    simulation.start();
+    try {
+      if (measureReconcile()) {
+        measureIdle();
+        measureSpecChanges();
+      }
+    } finally {
+      simulation.stop();
+    }
+  }
+
+  private boolean measureReconcile() throws InterruptedException {
+    boolean complete = simulation.awaitReconciled();
+    List<Long> latencies = simulation.getReconcileMillis();
+
+    JsonObject reconcile = new JsonObject();
+    reconcile.addProperty("complete", complete);
+    reconcile.addProperty("domains", simulation.getDomainCount());
+    reconcile.addProperty("reconciledDomains", latencies.size());
+    reconcile.addProperty("operatorReadyMillis", Main.getTimeToReadyMillis());
+    reconcile.add("reconcileMillis", createPercentiles(latencies));
+    reconcile.add("apiCalls", createCallCounts(getApiServer().getRequestCounts()));
+    reconcile.addProperty("wlsConfigReads", simulation.getAdminServer().getConfigRequestCount());
+    results.add("reconcile", reconcile);
+    return complete;
+  }
+
+  // Watches are long-lived, so the idle call rate counts the requests begun during the window.
+  private void measureIdle() throws InterruptedException {
+    Thread.sleep(SETTLE_MILLIS);
+    Map<String, Long> callsBefore = getApiServer().getRequestCounts();
+    long cpuBefore = getProcessCpuNanos();
+    long startNanos = System.nanoTime();
+
+    Thread.sleep(TimeUnit.SECONDS.toMillis(idleSeconds));
+
+    long elapsedNanos = System.nanoTime() - startNanos;
+    long cpuNanos = getProcessCpuNanos() - cpuBefore;
+    Map<String, Long> calls = getApiServer().getRequestCounts();
+    calls.replaceAll((call, count) -> count - callsBefore.getOrDefault(call, 0L));
+    calls.values().removeIf(count -> count == 0);
+    long totalCalls = calls.values().stream().mapToLong(Long::longValue).sum();
+
+    System.gc();
+    JsonObject idle = new JsonObject();
+    idle.addProperty("seconds", idleSeconds);
+    idle.addProperty(
+        "apiCallsPerMinute", totalCalls * (double) TimeUnit.MINUTES.toNanos(1) / elapsedNanos);
+    idle.add("apiCalls", createCallCounts(calls));
+    idle.addProperty("openWatches", getApiServer().getOpenWatchCount());
+    idle.addProperty("cpuPercent", cpuNanos < 0 ? -1 : 100.0 * cpuNanos / elapsedNanos);
+    idle.addProperty(
+        "heapUsedBytes", ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+    idle.addProperty("threads", ManagementFactory.getThreadMXBean().getThreadCount());
+    results.add("idle", idle);
+  }
+
+  private static long getProcessCpuNanos() {
+    java.lang.management.OperatingSystemMXBean bean = ManagementFactory.getOperatingSystemMXBean();
+    if (bean instanceof com.sun.management.OperatingSystemMXBean) {
+      return ((com.sun.management.OperatingSystemMXBean) bean).getProcessCpuTime();
+    }
+    return -1;
+  }
+
+  // Scales up one domain in each of several namespaces, one at a time, and times the creation of
+  // the pod for the added managed server.
+  private void measureSpecChanges() throws InterruptedException {
+    List<Long> latencies = new ArrayList<>();
+    JsonArray samples = new JsonArray();
+    List<String> namespaces = simulation.getNamespaces();
+    int sampleCount = Math.min(SPEC_CHANGE_SAMPLES, simulation.getDomainCount());
+    for (int i = 0; i < sampleCount; i++) {
+      String namespace = namespaces.get(i % namespaces.size());
+      String domainUID = OperatorSimulation.getDomainUID(namespace, 1 + i / namespaces.size());
+      long millis = measureScaleUp(namespace, domainUID);
+      samples.add(new JsonPrimitive(millis));
+      if (millis >= 0) {
+        latencies.add(millis);
+      }
+    }
+    Collections.sort(latencies);
+
+    JsonObject specChange = new JsonObject();
+    specChange.add("podCreatedMillis", createPercentiles(latencies));
+    specChange.add("samples", samples);
+    results.add("specChange", specChange);
+  }
+
+  private long measureScaleUp(String namespace, String domainUID) throws InterruptedException {
+    int replicas = simulation.getServersPerDomain() + OperatorSimulation.SPARE_SERVERS;
+    String podName =
+        LegalNames.toServerName(domainUID, WlsAdminServerStub.getManagedServerName(replicas));
+
+    long startNanos = System.nanoTime();
+    getApiServer()
+        .updateResource("domains", namespace, domainUID, domain -> setReplicas(domain, replicas));
+    long deadline = System.currentTimeMillis() + SPEC_CHANGE_TIMEOUT_MILLIS;
+    while (getApiServer().getResource("pods", namespace, podName) == null) {
+      if (System.currentTimeMillis() > deadline) {
+        return -1;
+      }
+      Thread.sleep(POLL_MILLIS);
+    }
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+  }
+
+  private static void setReplicas(JsonObject domain, int replicas) {
+    JsonObject spec = domain.getAsJsonObject("spec");
+    spec.addProperty("replicas", replicas);
+    for (JsonElement cluster : spec.getAsJsonArray("clusterStartup")) {
+      cluster.getAsJsonObject().addProperty("replicas", replicas);
+    }
+  }
+
+  private KubernetesApiServerStub getApiServer() {
+    return simulation.getApiServer();
+  }
+
+  private static JsonObject createPercentiles(List<Long> sorted) {
+    JsonObject percentiles = new JsonObject();
+    percentiles.addProperty("count", sorted.size());
+    percentiles.addProperty("p50", OperatorSimulation.percentile(sorted, 50));
+    percentiles.addProperty("p90", OperatorSimulation.percentile(sorted, 90));
+    percentiles.addProperty("p99", OperatorSimulation.percentile(sorted, 99));
+    percentiles.addProperty("max", OperatorSimulation.percentile(sorted, 100));
+    return percentiles;
+  }
+
+  private static JsonObject createCallCounts(Map<String, Long> counts) {
+    JsonObject calls = new JsonObject();
+    calls.addProperty("total", counts.values().stream().mapToLong(Long::longValue).sum());
+    JsonObject byType = new JsonObject();
+    counts.forEach(byType::addProperty);
+    calls.add("byType", byType);
+    return calls;
+  }
+
+  private void write(Path output) throws IOException {
+    String json = new GsonBuilder().setPrettyPrinting().create().toJson(results);
+    Files.write(output, json.getBytes(StandardCharsets.UTF_8));
+    System.out.println(json);
+  }
+}
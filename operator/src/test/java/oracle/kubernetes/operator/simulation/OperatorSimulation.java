@@ -0,0 +1,347 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.simulation;
+
+import static oracle.kubernetes.operator.LabelConstants.DOMAINUID_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.RESOURCE_VERSION_LABEL;
+import static oracle.kubernetes.operator.VersionConstants.DOMAIN_V1;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.ApiClient;
+import io.kubernetes.client.models.V1Namespace;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Secret;
+import io.kubernetes.client.models.V1SecretReference;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import oracle.kubernetes.operator.Main;
+import oracle.kubernetes.operator.helpers.ClientFactory;
+import oracle.kubernetes.operator.helpers.ClientPool;
+import oracle.kubernetes.operator.helpers.SecretHelper;
+import oracle.kubernetes.operator.http.HttpClient;
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.weblogic.domain.v1.ClusterStartup;
+import oracle.kubernetes.weblogic.domain.v1.Domain;
+import oracle.kubernetes.weblogic.domain.v1.DomainSpec;
+import oracle.kubernetes.weblogic.domain.v1.ServerStartup;
+
+/**
+ * Runs the operator, in this process, against many simulated domains served by a {@link
+ * KubernetesApiServerStub} and a {@link WlsAdminServerStub}, and reports how long each domain took
+ * to be reconciled, and how many calls the operator made. A domain is reconciled once its admin
+ * server and all of its managed servers have ready pods. Run with {@code mvn exec:java
+ * -Dexec.classpathScope=test
+ * -Dexec.mainClass=oracle.kubernetes.operator.simulation.OperatorSimulation -Dexec.args="namespaces
+ * domainsPerNamespace serversPerDomain"}; the defaults simulate 1,000 domains of two managed
+ * servers in ten namespaces.
+ */
+public class OperatorSimulation {
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  private static final String ADMIN_SERVER = "admin-server";
+  private static final int ADMIN_NODE_PORT = 30701;
+
+  /** The number of configured managed servers beyond the replicas, to which a domain may scale. */
+  static final int SPARE_SERVERS = 1;
+
+  private static final long POLL_MILLIS = 200;
+  private static final long PROGRESS_MILLIS = TimeUnit.SECONDS.toMillis(30);
+  private static final long TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+  private final int namespaceCount;
+  private final int domainsPerNamespace;
+  private final int serversPerDomain;
+
+  private final KubernetesApiServerStub apiServer = new KubernetesApiServerStub();
+  private final WlsAdminServerStub adminServer = new WlsAdminServerStub();
+  private final List<String> namespaces = new ArrayList<>();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  /** A map of domain UID to the time, relative to operator start, that it was reconciled. */
+  private final Map<String, Long> reconcileMillis = new HashMap<>();
+
+  private long startNanos;
+
+  OperatorSimulation(int namespaceCount, int domainsPerNamespace, int serversPerDomain) {
+    this.namespaceCount = namespaceCount;
+    this.domainsPerNamespace = domainsPerNamespace;
+    this.serversPerDomain = serversPerDomain;
+  }
+
+  public static void main(String[] args) throws Exception {
+    OperatorSimulation simulation =
+        new OperatorSimulation(getArg(args, 0, 10), getArg(args, 1, 100), getArg(args, 2, 2));
+    int status = 0;
+    try {
+      simulation.run();
+    } catch (Exception e) {
+      LOGGER.severe(MessageKeys.EXCEPTION, e);
+      status = 1;
+    }
+    // the operator's threads would otherwise keep the process alive
+    System.exit(status);
+  }
+
+  private static int getArg(String[] args, int index, int defaultValue) {
+    return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+  }
+
+  void run() throws Exception {
+    start();
+    try {
+      boolean complete = awaitReconciled();
+      printReport(complete);
+    } finally {
+      stop();
+    }
+  }
+
+  /**
+   * Starts the stubs, defines the domains and starts the operator.
+   *
+   * @throws Exception if the stubs or the operator cannot be started
+   */
+  void start() throws Exception {
+    LOGGER.getUnderlyingLogger().setLevel(Level.WARNING);
+    apiServer.start();
+    adminServer.start();
+    defineDomains();
+    startOperator();
+  }
+
+  void stop() {
+    for (Memento memento : mementos) {
+      memento.revert();
+    }
+    apiServer.stop();
+    adminServer.stop();
+  }
+
+  KubernetesApiServerStub getApiServer() {
+    return apiServer;
+  }
+
+  WlsAdminServerStub getAdminServer() {
+    return adminServer;
+  }
+
+  List<String> getNamespaces() {
+    return namespaces;
+  }
+
+  int getDomainCount() {
+    return namespaceCount * domainsPerNamespace;
+  }
+
+  int getServersPerDomain() {
+    return serversPerDomain;
+  }
+
+  static String getDomainUID(String namespace, int domain) {
+    return namespace + "-domain" + domain;
+  }
+
+  /**
+   * Returns the times, relative to operator start, at which the domains were reconciled.
+   *
+   * @return the times in milliseconds, in ascending order
+   */
+  List<Long> getReconcileMillis() {
+    List<Long> latencies = new ArrayList<>(reconcileMillis.values());
+    Collections.sort(latencies);
+    return latencies;
+  }
+
+  private void defineDomains() {
+    for (int n = 1; n <= namespaceCount; n++) {
+      String namespace = "ns" + n;
+      namespaces.add(namespace);
+      apiServer.createResource(
+          "namespaces", null, new V1Namespace().metadata(new V1ObjectMeta().name(namespace)));
+      for (int d = 1; d <= domainsPerNamespace; d++) {
+        String domainUID = getDomainUID(namespace, d);
+        adminServer.defineDomain(domainUID, ADMIN_SERVER, serversPerDomain + SPARE_SERVERS);
+        apiServer.createResource("secrets", namespace, createCredentials(domainUID));
+        apiServer.createResource("domains", namespace, createDomain(namespace, domainUID));
+      }
+    }
+  }
+
+  // the user name identifies the domain to the admin server stub
+  private V1Secret createCredentials(String domainUID) {
+    return new V1Secret()
+        .metadata(new V1ObjectMeta().name(getSecretName(domainUID)))
+        .putDataItem(
+            SecretHelper.ADMIN_SERVER_CREDENTIALS_USERNAME,
+            domainUID.getBytes(StandardCharsets.UTF_8))
+        .putDataItem(
+            SecretHelper.ADMIN_SERVER_CREDENTIALS_PASSWORD,
+            "welcome1".getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String getSecretName(String domainUID) {
+    return domainUID + "-weblogic-credentials";
+  }
+
+  @SuppressWarnings("deprecation")
+  private Domain createDomain(String namespace, String domainUID) {
+    return new Domain()
+        .withApiVersion("weblogic.oracle/v1")
+        .withKind("Domain")
+        .withMetadata(
+            new V1ObjectMeta()
+                .name(domainUID)
+                .namespace(namespace)
+                .putLabelsItem(DOMAINUID_LABEL, domainUID)
+                .putLabelsItem(RESOURCE_VERSION_LABEL, DOMAIN_V1))
+        .withSpec(
+            new DomainSpec()
+                .withDomainUID(domainUID)
+                .withDomainName(domainUID)
+                .withAsName(ADMIN_SERVER)
+                .withAsPort(adminServer.getPort())
+                .withAdminSecret(new V1SecretReference().name(getSecretName(domainUID)))
+                .withImage("store/oracle/weblogic:12.2.1.3")
+                .withStartupControl("AUTO")
+                .withReplicas(serversPerDomain)
+                .withServerStartup(
+                    Collections.singletonList(
+                        new ServerStartup()
+                            .withServerName(ADMIN_SERVER)
+                            .withNodePort(ADMIN_NODE_PORT)))
+                .withClusterStartup(
+                    Collections.singletonList(
+                        new ClusterStartup()
+                            .withClusterName(WlsAdminServerStub.CLUSTER_NAME)
+                            .withReplicas(serversPerDomain))));
+  }
+
+  private void startOperator() throws IOException, NoSuchFieldException {
+    Path configDir = Files.createTempDirectory("operator-config");
+    Files.write(
+        configDir.resolve("targetNamespaces"),
+        String.join(",", namespaces).getBytes(StandardCharsets.UTF_8));
+    configDir.toFile().deleteOnExit();
+    configDir.resolve("targetNamespaces").toFile().deleteOnExit();
+    System.setProperty("oracle.kubernetes.operator.Main.CONFIG_MOUNT_POINT", configDir.toString());
+
+    // load the operator's configuration before the client pool reads its tuning
+    Main.getTimeToReadyMillis();
+    mementos.add(
+        StaticStubSupport.install(
+            ClientPool.class,
+            "FACTORY",
+            (ClientFactory) () -> new ApiClient().setBasePath(apiServer.getUrl())));
+    mementos.add(
+        StaticStubSupport.install(HttpClient.class, "SHARED_CLIENT", adminServer.createClient()));
+
+    startNanos = System.nanoTime();
+    Thread operator = new Thread(() -> Main.main(new String[0]), "operator");
+    operator.setDaemon(true);
+    operator.start();
+  }
+
+  boolean awaitReconciled() throws InterruptedException {
+    int domainCount = getDomainCount();
+    long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+    long nextProgress = System.currentTimeMillis() + PROGRESS_MILLIS;
+    while (reconcileMillis.size() < domainCount && System.currentTimeMillis() < deadline) {
+      Thread.sleep(POLL_MILLIS);
+      recordReconciledDomains();
+      if (System.currentTimeMillis() >= nextProgress) {
+        System.out.println(
+            String.format(
+                "... %d of %d domains reconciled after %d API calls",
+                reconcileMillis.size(), domainCount, apiServer.getTotalRequestCount()));
+        nextProgress += PROGRESS_MILLIS;
+      }
+    }
+    return reconcileMillis.size() == domainCount;
+  }
+
+  private void recordReconciledDomains() {
+    long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    Map<String, Integer> readyPods = new HashMap<>();
+    for (JsonObject pod : apiServer.listResources("pods", null, DOMAINUID_LABEL)) {
+      if (isReady(pod)) {
+        String domainUID =
+            pod.getAsJsonObject("metadata")
+                .getAsJsonObject("labels")
+                .get(DOMAINUID_LABEL)
+                .getAsString();
+        readyPods.merge(domainUID, 1, Integer::sum);
+      }
+    }
+    readyPods.forEach(
+        (domainUID, count) -> {
+          if (count >= serversPerDomain + 1) {
+            reconcileMillis.putIfAbsent(domainUID, elapsed);
+          }
+        });
+  }
+
+  private static boolean isReady(JsonObject pod) {
+    JsonObject status = pod.getAsJsonObject("status");
+    if (status == null || !status.has("conditions")) {
+      return false;
+    }
+    for (JsonElement condition : status.getAsJsonArray("conditions")) {
+      JsonObject c = condition.getAsJsonObject();
+      if ("Ready".equals(c.get("type").getAsString())
+          && "True".equals(c.get("status").getAsString())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void printReport(boolean complete) {
+    List<Long> latencies = getReconcileMillis();
+
+    System.out.println(
+        String.format(
+            "Simulated %d namespaces x %d domains x %d managed servers",
+            namespaceCount, domainsPerNamespace, serversPerDomain));
+    System.out.println(
+        String.format(
+            "Reconciled %d of %d domains%s",
+            latencies.size(), getDomainCount(), complete ? "" : " before timing out"));
+    System.out.println("Operator time to ready: " + Main.getTimeToReadyMillis() + " ms");
+    System.out.println(
+        String.format(
+            "Reconcile latency from operator start: p50 %d ms, p90 %d ms, p99 %d ms, max %d ms",
+            percentile(latencies, 50),
+            percentile(latencies, 90),
+            percentile(latencies, 99),
+            percentile(latencies, 100)));
+    System.out.println("Kubernetes API calls: " + apiServer.getTotalRequestCount());
+    apiServer
+        .getRequestCounts()
+        .forEach((call, count) -> System.out.println("  " + call + ": " + count));
+    System.out.println("WebLogic configuration reads: " + adminServer.getConfigRequestCount());
+  }
+
+  static long percentile(List<Long> sorted, int percent) {
+    if (sorted.isEmpty()) {
+      return -1;
+    }
+    int index = (int) Math.ceil(percent / 100.0 * sorted.size()) - 1;
+    return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+  }
+}
@@ -0,0 +1,220 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.simulation;
+
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.HttpUrlConnectorProvider;
+
+/**
+ * A stand-in for the REST management interface of the servers of many simulated WebLogic domains.
+ * The operator addresses a server through its service; the client returned by {@link
+ * #createClient()} sends every request to this one endpoint, since the DNS names of headless
+ * services do not resolve outside a cluster. Each request is matched to its domain by the user name
+ * in its credentials, which the simulation sets to the domain UID. The configuration search returns
+ * a domain with one configured cluster, in the form parsed by {@link WlsDomainConfig}.
+ */
+public class WlsAdminServerStub {
+  static final String CLUSTER_NAME = "cluster-1";
+  static final int MANAGED_SERVER_PORT = 8001;
+  private static final String LOOPBACK_ADDRESS = "127.0.0.1";
+  private static final String HEALTH_OK =
+      "{\"overallHealthState\": {\"state\": \"ok\", \"subsystemName\": null, \"symptoms\": []}}";
+
+  private final Map<String, JsonObject> domains = new ConcurrentHashMap<>();
+  private final AtomicLong configRequestCount = new AtomicLong();
+  private final AtomicLong healthRequestCount = new AtomicLong();
+
+  private HttpServer server;
+
+  /**
+   * Starts serving on an ephemeral loopback port.
+   *
+   * @return this stub
+   * @throws IOException if the server cannot be started
+   */
+  public WlsAdminServerStub start() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.setExecutor(
+        Executors.newCachedThreadPool(
+            r -> {
+              Thread thread = new Thread(r, "wls-admin-stub");
+              thread.setDaemon(true);
+              return thread;
+            }));
+    server.createContext(WlsDomainConfig.getRetrieveServersSearchUrl(), this::handleConfig);
+    server.createContext("/management/weblogic/latest/serverRuntime/search", this::handleHealth);
+    server.start();
+    return this;
+  }
+
+  public void stop() {
+    server.stop(0);
+  }
+
+  /**
+   * Returns the port to use as the admin port of each simulated domain.
+   *
+   * @return the port
+   */
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  /**
+   * Creates a JAX-RS client that sends all requests to this stub, whatever their host and port.
+   *
+   * @return the client
+   */
+  public Client createClient() {
+    HttpUrlConnectorProvider connector =
+        new HttpUrlConnectorProvider()
+            .connectionFactory(
+                url ->
+                    (HttpURLConnection)
+                        new URL("http", LOOPBACK_ADDRESS, getPort(), url.getFile())
+                            .openConnection());
+    return ClientBuilder.newClient(new ClientConfig().connectorProvider(connector));
+  }
+
+  /**
+   * Defines the WebLogic configuration of a domain.
+   *
+   * @param domainUID the domain UID, which is also the admin user name of the domain
+   * @param adminServerName the name of the admin server
+   * @param managedServerCount the number of managed servers, all in one configured cluster
+   */
+  public void defineDomain(String domainUID, String adminServerName, int managedServerCount) {
+    JsonArray servers = new JsonArray();
+    servers.add(createServer(adminServerName, getPort(), null));
+    for (int i = 1; i <= managedServerCount; i++) {
+      servers.add(createServer(getManagedServerName(i), MANAGED_SERVER_PORT, CLUSTER_NAME));
+    }
+
+    JsonObject cluster = new JsonObject();
+    cluster.addProperty("name", CLUSTER_NAME);
+    JsonArray clusters = new JsonArray();
+    clusters.add(cluster);
+
+    JsonObject config = new JsonObject();
+    config.addProperty("name", domainUID);
+    config.add("servers", createItems(servers));
+    config.add("serverTemplates", createItems(new JsonArray()));
+    config.add("clusters", createItems(clusters));
+    config.add("machines", createItems(new JsonArray()));
+    domains.put(domainUID, config);
+  }
+
+  static String getManagedServerName(int i) {
+    return "managed-server" + i;
+  }
+
+  public long getConfigRequestCount() {
+    return configRequestCount.get();
+  }
+
+  public long getHealthRequestCount() {
+    return healthRequestCount.get();
+  }
+
+  private static JsonObject createServer(String name, int listenPort, String clusterName) {
+    JsonObject server = new JsonObject();
+    server.addProperty("name", name);
+    server.addProperty("listenPort", listenPort);
+    server.addProperty("listenAddress", "");
+    if (clusterName == null) {
+      server.add("cluster", null);
+    } else {
+      JsonArray cluster = new JsonArray();
+      cluster.add(new JsonPrimitive("clusters"));
+      cluster.add(new JsonPrimitive(clusterName));
+      server.add("cluster", cluster);
+    }
+    server.add("networkAccessPoints", createItems(new JsonArray()));
+    return server;
+  }
+
+  private static JsonObject createItems(JsonArray items) {
+    JsonObject collection = new JsonObject();
+    collection.add("items", items);
+    return collection;
+  }
+
+  private void handleConfig(HttpExchange exchange) throws IOException {
+    configRequestCount.incrementAndGet();
+    drain(exchange);
+    JsonObject config = domains.get(getUserName(exchange));
+    if (config == null) {
+      send(exchange, HTTP_UNAUTHORIZED, "{}");
+    } else {
+      send(exchange, HTTP_OK, config.toString());
+    }
+  }
+
+  private void handleHealth(HttpExchange exchange) throws IOException {
+    healthRequestCount.incrementAndGet();
+    drain(exchange);
+    if (!domains.containsKey(getUserName(exchange))) {
+      send(exchange, HTTP_NOT_FOUND, "{}");
+    } else {
+      send(exchange, HTTP_OK, HEALTH_OK);
+    }
+  }
+
+  private static String getUserName(HttpExchange exchange) {
+    String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+    if (authorization == null || !authorization.startsWith("Basic ")) {
+      return null;
+    }
+    String credentials =
+        new String(
+            Base64.getDecoder().decode(authorization.substring("Basic ".length())),
+            StandardCharsets.UTF_8);
+    int colon = credentials.indexOf(':');
+    return colon < 0 ? credentials : credentials.substring(0, colon);
+  }
+
+  private static void drain(HttpExchange exchange) throws IOException {
+    try (InputStream in = exchange.getRequestBody()) {
+      byte[] buffer = new byte[8192];
+      while (in.read(buffer) > 0) {
+        // discard the search payload
+      }
+    }
+  }
+
+  private static void send(HttpExchange exchange, int code, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(code, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+}
@@ -0,0 +1,127 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.steps;
+
+import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
+import static oracle.kubernetes.operator.LabelConstants.forDomainUid;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.ApiException;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1Service;
+import io.kubernetes.client.models.V1ServiceList;
+import io.kubernetes.client.models.V1Status;
+import io.kubernetes.client.models.V1beta1Ingress;
+import io.kubernetes.client.models.V1beta1IngressList;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.List;
+import oracle.kubernetes.TestUtils;
+import oracle.kubernetes.operator.work.AsyncCallTestSupport;
+import oracle.kubernetes.operator.work.Step;
+import oracle.kubernetes.operator.work.TerminalStep;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class DeleteDomainStepTest {
+  private static final String NS = "namespace";
+  private static final String UID = "uid1";
+
+  private TerminalStep terminalStep = new TerminalStep();
+  private AsyncCallTestSupport testSupport = new AsyncCallTestSupport();
+  private List<Memento> mementos = new ArrayList<>();
+
+  @Before
+  public void setUp() throws Exception {
+    mementos.add(testSupport.installRequestStepFactory());
+    mementos.add(TestUtils.silenceOperatorLogger());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    for (Memento memento : mementos) memento.revert();
+
+    testSupport.throwOnCompletionFailure();
+    testSupport.verifyAllDefinedResponsesInvoked();
+  }
+
+  @Test
+  public void deleteIngressesAndPodsAsCollections_andServicesIndividually() {
+    defineSelectedResponse("deleteIngressCollection").returning(new V1Status());
+    defineSelectedResponse("listService").returning(createServiceList("service1", "service2"));
+    defineDeleteServiceResponse("service1").returning(new V1Status());
+    defineDeleteServiceResponse("service2").returning(new V1Status());
+    defineSelectedResponse("deleteCollection").returning(new V1Status());
+
+    runDeleteDomainStep();
+  }
+
+  @Test
+  public void whenIngressCollectionDeleteNotAllowed_deleteIngressesIndividually() {
+    defineSelectedResponse("deleteIngressCollection")
+        .failingWithStatus(HttpURLConnection.HTTP_BAD_METHOD);
+    defineSelectedResponse("listIngress").returning(createIngressList("ingress1"));
+    testSupport
+        .createCannedResponse("deleteIngress")
+        .withNamespace(NS)
+        .withName("ingress1")
+        .ignoringBody()
+        .returning(new V1Status());
+    defineSelectedResponse("listService").returning(new V1ServiceList());
+    defineSelectedResponse("deleteCollection").returning(new V1Status());
+
+    runDeleteDomainStep();
+  }
+
+  @Test
+  public void whenServiceDeleteFails_reportError() {
+    defineSelectedResponse("deleteIngressCollection").returning(new V1Status());
+    defineSelectedResponse("listService").returning(createServiceList("service1"));
+    defineDeleteServiceResponse("service1").failingWithStatus(HttpURLConnection.HTTP_FORBIDDEN);
+    defineSelectedResponse("deleteCollection").returning(new V1Status());
+
+    runDeleteDomainStep();
+
+    testSupport.verifyCompletionThrowable(ApiException.class);
+  }
+
+  private void runDeleteDomainStep() {
+    testSupport.runSteps(Step.chain(new DeleteDomainStep(NS, UID), terminalStep));
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> AsyncCallTestSupport.CannedResponse<T> defineSelectedResponse(String method) {
+    return testSupport
+        .createCannedResponse(method)
+        .withNamespace(NS)
+        .withLabelSelectors(forDomainUid(UID), CREATEDBYOPERATOR_LABEL);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> AsyncCallTestSupport.CannedResponse<T> defineDeleteServiceResponse(String name) {
+    return testSupport
+        .createCannedResponse("deleteService")
+        .withNamespace(NS)
+        .withName(name)
+        .ignoringBody();
+  }
+
+  private V1ServiceList createServiceList(String... names) {
+    V1ServiceList list = new V1ServiceList();
+    for (String name : names) {
+      list.addItemsItem(new V1Service().metadata(new V1ObjectMeta().namespace(NS).name(name)));
+    }
+    return list;
+  }
+
+  private V1beta1IngressList createIngressList(String... names) {
+    V1beta1IngressList list = new V1beta1IngressList();
+    for (String name : names) {
+      list.addItemsItem(new V1beta1Ingress().metadata(new V1ObjectMeta().namespace(NS).name(name)));
+    }
+    return list;
+  }
+}
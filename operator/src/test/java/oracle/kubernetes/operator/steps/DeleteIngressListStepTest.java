@@ -59,6 +59,21 @@ public class DeleteIngressListStepTest {
     testSupport.verifyAllDefinedResponsesInvoked();
   }
 
+  @Test
+  public void whenCollectionExceedsParallelLimit_invokeAllDeleteCalls() throws Exception {
+    List<V1beta1Ingress> items = new ArrayList<>();
+    for (int i = 0; i < 2 * DeleteListStep.MAX_PARALLEL_DELETES + 1; i++) {
+      defineResponse("namespace1", "name" + i).returning(new V1Status());
+      items.add(
+          new V1beta1Ingress()
+              .metadata(new V1ObjectMeta().namespace("namespace1").name("name" + i)));
+    }
+
+    runDeleteStep(items.toArray(new V1beta1Ingress[0]));
+
+    testSupport.verifyAllDefinedResponsesInvoked();
+  }
+
   @SuppressWarnings("unchecked")
   private <T> AsyncCallTestSupport.CannedResponse<T> defineResponse(String namespace, String name) {
     return testSupport
@@ -0,0 +1,89 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.utils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.isOneOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+
+public class ConsistentHashRingTest {
+  private static final int VIRTUAL_NODES = 64;
+  private static final int KEYS = 1000;
+
+  private static Map<String, String> assign(ConsistentHashRing ring) {
+    Map<String, String> owners = new HashMap<>();
+    for (int i = 0; i < KEYS; i++) {
+      owners.put("ns" + i, ring.getOwner("ns" + i));
+    }
+    return owners;
+  }
+
+  @Test
+  public void whenNoMembers_keysHaveNoOwner() {
+    assertThat(
+        new ConsistentHashRing(Collections.emptyList(), VIRTUAL_NODES).getOwner("ns1"),
+        nullValue());
+  }
+
+  @Test
+  public void assignment_doesNotDependOnMemberOrder() {
+    ConsistentHashRing ring1 = new ConsistentHashRing(Arrays.asList("a", "b", "c"), VIRTUAL_NODES);
+    ConsistentHashRing ring2 = new ConsistentHashRing(Arrays.asList("c", "a", "b"), VIRTUAL_NODES);
+
+    assertThat(assign(ring1), equalTo(assign(ring2)));
+  }
+
+  @Test
+  public void everyMember_receivesAShareOfKeys() {
+    Map<String, String> owners =
+        assign(new ConsistentHashRing(Arrays.asList("a", "b", "c"), VIRTUAL_NODES));
+
+    for (String member : Arrays.asList("a", "b", "c")) {
+      assertThat(Collections.frequency(owners.values(), member), greaterThan(KEYS / 6));
+    }
+  }
+
+  @Test
+  public void whenMemberJoins_onlyKeysMovedToItChangeOwner() {
+    Map<String, String> before =
+        assign(new ConsistentHashRing(Arrays.asList("a", "b", "c"), VIRTUAL_NODES));
+    Map<String, String> after =
+        assign(new ConsistentHashRing(Arrays.asList("a", "b", "c", "d"), VIRTUAL_NODES));
+
+    int moved = 0;
+    for (String key : before.keySet()) {
+      if (!before.get(key).equals(after.get(key))) {
+        assertThat(after.get(key), equalTo("d"));
+        moved++;
+      }
+    }
+    assertThat(moved, lessThan(KEYS / 2));
+  }
+
+  @Test
+  public void whenMemberLeaves_itsKeysMoveToRemainingMembers() {
+    Map<String, String> before =
+        assign(new ConsistentHashRing(Arrays.asList("a", "b", "c"), VIRTUAL_NODES));
+    Map<String, String> after =
+        assign(new ConsistentHashRing(Arrays.asList("a", "c"), VIRTUAL_NODES));
+
+    for (String key : before.keySet()) {
+      if (!before.get(key).equals("b")) {
+        assertThat(after.get(key), equalTo(before.get(key)));
+      } else {
+        assertThat(after.get(key), isOneOf("a", "c"));
+      }
+    }
+  }
+}
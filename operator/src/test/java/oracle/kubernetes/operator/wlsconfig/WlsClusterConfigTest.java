@@ -12,6 +12,7 @@ import static org.junit.Assert.*;
 import com.meterware.simplestub.Memento;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -122,6 +123,41 @@ public class WlsClusterConfigTest {
     assertEquals(5, wlsClusterConfig.getMaxDynamicClusterSize());
   }
 
+  @Test
+  public void verifyDynamicServerConfigsAreDerivedOnceWhenLookedUp() {
+    List<WlsServerConfig> serverConfigs =
+        createDynamicServersConfig(3, 5, "ms-", "cluster1").getServerConfigs();
+
+    WlsServerConfig serverConfig = serverConfigs.get(1);
+
+    assertEquals("ms-2", serverConfig.getName());
+    assertSame(serverConfig, serverConfigs.get(1));
+  }
+
+  @Test
+  public void verifyServerConfigsListDynamicServersBeforeStaticServers() {
+    WlsClusterConfig wlsClusterConfig =
+        new WlsClusterConfig("cluster1", createDynamicServersConfig(2, 5, "ms-", "cluster1"));
+    wlsClusterConfig.addServerConfig(createWlsServerConfig("static-1", 8011, null));
+
+    List<WlsServerConfig> serverConfigs = wlsClusterConfig.getServerConfigs();
+
+    assertEquals(3, serverConfigs.size());
+    assertEquals("ms-1", serverConfigs.get(0).getName());
+    assertEquals("static-1", serverConfigs.get(2).getName());
+  }
+
+  @Test
+  public void verifyServerNamesIncludeDynamicAndStaticServers() {
+    WlsClusterConfig wlsClusterConfig =
+        new WlsClusterConfig("cluster1", createDynamicServersConfig(2, 5, "ms-", "cluster1"));
+    wlsClusterConfig.addServerConfig(createWlsServerConfig("static-1", 8011, null));
+
+    assertEquals(Arrays.asList("ms-1", "ms-2", "static-1"), wlsClusterConfig.getServerNames());
+    assertTrue(wlsClusterConfig.containsServer("ms-2"));
+    assertFalse(wlsClusterConfig.containsServer("ms-3"));
+  }
+
   @Test
   public void verifyDynamicClusterSizeIsNeg1IfNoDynamicServers() {
     WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1");
@@ -400,37 +436,45 @@ public class WlsClusterConfigTest {
   }
 
   @Test
-  public void verifyStepCreatedFromDynamicClusterSizeConfigUpdate()
-      throws NoSuchFieldException, IllegalAccessException {
-    final WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("cluster1");
-    final int clusterSize = 8;
-    final Step nextStep = new MockStep(null);
-    WlsClusterConfig.DynamicClusterSizeConfigUpdate dynamicClusterSizeConfigUpdate =
-        new WlsClusterConfig.DynamicClusterSizeConfigUpdate(wlsClusterConfig, clusterSize);
+  public void verifyDynamicClusterSizeConfigUpdateUpdatesDynamicServers() {
+    WlsClusterConfig wlsClusterConfig =
+        new WlsClusterConfig("cluster1", createDynamicServersConfig(1, 5, "ms-", "cluster1"));
+    WlsClusterConfig.DynamicClusterSizeConfigUpdate configUpdate =
+        new WlsClusterConfig.DynamicClusterSizeConfigUpdate(wlsClusterConfig, 3);
 
-    WlsRetriever.UpdateDynamicClusterStep updateStep =
-        (WlsRetriever.UpdateDynamicClusterStep) dynamicClusterSizeConfigUpdate.createStep(nextStep);
-    assertSame(wlsClusterConfig, updateStep.wlsClusterConfig);
-    assertEquals(clusterSize, updateStep.targetClusterSize);
-    assertSame(nextStep, getNext(updateStep));
+    assertEquals(
+        "/management/weblogic/latest/edit/clusters/cluster1/dynamicServers",
+        configUpdate.getUpdateUrl());
+    assertEquals("{ dynamicClusterSize: 3 }", configUpdate.getUpdatePayload());
   }
 
   @Test
-  public void checkDynamicClusterSizeJsonResultReturnsFalseOnNull() {
-    WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("someCluster");
-    assertFalse(wlsClusterConfig.checkUpdateDynamicClusterSizeJsonResult(null));
-  }
+  public void verifyAppliedDynamicClusterSizeConfigUpdateAddsDynamicServers() {
+    WlsClusterConfig wlsClusterConfig =
+        new WlsClusterConfig("cluster1", createDynamicServersConfig(1, 5, "ms-", "cluster1"));
 
-  @Test
-  public void checkDynamicClusterSizeJsonResultReturnsFalseOnUnexpectedString() {
-    WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("someCluster");
-    assertFalse(wlsClusterConfig.checkUpdateDynamicClusterSizeJsonResult("{ xyz }"));
+    new WlsClusterConfig.DynamicClusterSizeConfigUpdate(wlsClusterConfig, 3).apply();
+
+    assertEquals(3, wlsClusterConfig.getDynamicClusterSize());
+    List<WlsServerConfig> serverConfigs = wlsClusterConfig.getServerConfigs();
+    assertEquals(3, serverConfigs.size());
+    assertEquals("ms-1", serverConfigs.get(0).getName());
+    assertEquals("ms-3", serverConfigs.get(2).getName());
   }
 
   @Test
-  public void checkDynamicClusterSizeJsonResultReturnsTrueWithExpectedString() {
-    WlsClusterConfig wlsClusterConfig = new WlsClusterConfig("someCluster");
-    assertTrue(wlsClusterConfig.checkUpdateDynamicClusterSizeJsonResult("{}"));
+  public void verifyValidateReplicasSuggestsOneUpdatePerDynamicCluster() {
+    WlsClusterConfig wlsClusterConfig =
+        new WlsClusterConfig("cluster1", createDynamicServersConfig(1, 5, "ms-", "cluster1"));
+    ArrayList<ConfigUpdate> suggestedConfigUpdates = new ArrayList<>();
+
+    wlsClusterConfig.validateReplicas(4, "clusterStartup", suggestedConfigUpdates);
+    wlsClusterConfig.validateReplicas(2, "domainSpec", suggestedConfigUpdates);
+
+    assertEquals(1, suggestedConfigUpdates.size());
+    WlsClusterConfig.DynamicClusterSizeConfigUpdate configUpdate =
+        (WlsClusterConfig.DynamicClusterSizeConfigUpdate) suggestedConfigUpdates.get(0);
+    assertEquals(4, configUpdate.targetClusterSize);
   }
 
   private WlsServerConfig createWlsServerConfig(
@@ -9,11 +9,18 @@ import static oracle.kubernetes.LogMatcher.containsWarning;
 import static oracle.kubernetes.operator.logging.MessageKeys.WLS_CONFIGURATION_READ_FAILED;
 import static oracle.kubernetes.operator.logging.MessageKeys.WLS_HEALTH_READ_FAILED;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
 
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.Stub;
+import com.sun.net.httpserver.HttpServer;
 import io.kubernetes.client.models.V1Service;
+import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -38,6 +45,10 @@ public class WlsRetrieverTest {
   private List<LogRecord> logRecords = new ArrayList<>();
   private Memento consoleControl;
   private static final ClassCastException CLASSCAST_EXCEPTION = new ClassCastException("");
+  private static final String EDIT_URL = "/management/weblogic/latest/edit/clusters/";
+
+  private HttpServer adminServer;
+  private List<String> requests = Collections.synchronizedList(new ArrayList<>());
 
   @Before
   public void setup() {
@@ -51,6 +62,9 @@ public class WlsRetrieverTest {
   @After
   public void tearDown() {
     consoleControl.revert();
+    if (adminServer != null) {
+      adminServer.stop(0);
+    }
   }
 
   @Test
@@ -99,6 +113,141 @@ public class WlsRetrieverTest {
     new WithHttpClientStep(RequestType.HEALTH, null, next);
   }
 
+  @Test
+  public void singleConfigUpdate_isMadeWithOneRequest() throws IOException {
+    String serviceURL = startAdminServer(null);
+
+    boolean updated =
+        WlsRetriever.updateConfigWithServiceURL(
+            Collections.singletonList(new ConfigUpdateStub("cluster1")),
+            createClient(),
+            serviceURL);
+
+    assertThat(updated, equalTo(true));
+    assertThat(requests, contains(EDIT_URL + "cluster1"));
+  }
+
+  @Test
+  public void severalConfigUpdates_areActivatedTogether() throws IOException {
+    String serviceURL = startAdminServer(null);
+
+    boolean updated =
+        WlsRetriever.updateConfigWithServiceURL(
+            Arrays.asList(new ConfigUpdateStub("cluster1"), new ConfigUpdateStub("cluster2")),
+            createClient(),
+            serviceURL);
+
+    assertThat(updated, equalTo(true));
+    assertThat(
+        requests,
+        contains(
+            WlsRetriever.getStartEditUrl(),
+            EDIT_URL + "cluster1",
+            EDIT_URL + "cluster2",
+            WlsRetriever.getActivateUrl()));
+  }
+
+  @Test
+  public void whenConfigUpdateFails_editSessionIsCancelled() throws IOException {
+    String serviceURL = startAdminServer(EDIT_URL + "cluster1");
+
+    boolean updated =
+        WlsRetriever.updateConfigWithServiceURL(
+            Arrays.asList(new ConfigUpdateStub("cluster1"), new ConfigUpdateStub("cluster2")),
+            createClient(),
+            serviceURL);
+
+    assertThat(updated, equalTo(false));
+    assertThat(
+        requests,
+        contains(
+            WlsRetriever.getStartEditUrl(),
+            EDIT_URL + "cluster1",
+            WlsRetriever.getCancelEditUrl()));
+  }
+
+  @Test
+  public void whenSingleConfigUpdateReportsErrors_updateFails() throws IOException {
+    String serviceURL = startAdminServer(EDIT_URL + "cluster1", 200);
+
+    boolean updated =
+        WlsRetriever.updateConfigWithServiceURL(
+            Collections.singletonList(new ConfigUpdateStub("cluster1")),
+            createClient(),
+            serviceURL);
+
+    assertThat(updated, equalTo(false));
+  }
+
+  @Test
+  public void whenActivationReportsErrors_editSessionIsCancelled() throws IOException {
+    String serviceURL = startAdminServer(WlsRetriever.getActivateUrl(), 200);
+
+    boolean updated =
+        WlsRetriever.updateConfigWithServiceURL(
+            Arrays.asList(new ConfigUpdateStub("cluster1"), new ConfigUpdateStub("cluster2")),
+            createClient(),
+            serviceURL);
+
+    assertThat(updated, equalTo(false));
+    assertThat(
+        requests,
+        contains(
+            WlsRetriever.getStartEditUrl(),
+            EDIT_URL + "cluster1",
+            EDIT_URL + "cluster2",
+            WlsRetriever.getActivateUrl(),
+            WlsRetriever.getCancelEditUrl()));
+  }
+
+  private String startAdminServer(String failingPath) throws IOException {
+    return startAdminServer(failingPath, 400);
+  }
+
+  // Starts an admin server stub which records the requests made to it and fails the given one,
+  // answering it with the given status and a body that reports errors
+  private String startAdminServer(String failingPath, int failingStatus) throws IOException {
+    adminServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    adminServer.createContext(
+        "/management",
+        exchange -> {
+          String path = exchange.getRequestURI().getPath();
+          requests.add(path);
+          boolean failing = path.equals(failingPath);
+          byte[] body = (failing ? "{\"errors\":[\"failed\"]}" : "{}").getBytes();
+          exchange.sendResponseHeaders(failing ? failingStatus : 200, body.length);
+          exchange.getResponseBody().write(body);
+          exchange.close();
+        });
+    adminServer.start();
+    return "http://127.0.0.1:" + adminServer.getAddress().getPort();
+  }
+
+  private static HttpClient createClient() {
+    return HttpClient.createAuthenticatedClient(null, null);
+  }
+
+  static class ConfigUpdateStub implements ConfigUpdate {
+    private final String clusterName;
+
+    ConfigUpdateStub(String clusterName) {
+      this.clusterName = clusterName;
+    }
+
+    @Override
+    public String getUpdateUrl() {
+      return EDIT_URL + clusterName;
+    }
+
+    @Override
+    public String getUpdatePayload() {
+      return "{}";
+    }
+
+    @Override
+    public void apply() {}
+  }
+
   abstract static class PacketStub extends Packet {
 
     Integer retryCount;
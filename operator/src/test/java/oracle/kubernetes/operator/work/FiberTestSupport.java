@@ -35,7 +35,13 @@ public class FiberTestSupport {
   private CompletionCallbackStub completionCallback = new CompletionCallbackStub();
   private ScheduledExecutorStub schedule = ScheduledExecutorStub.create();
 
-  private Engine engine = new Engine(schedule);
+  private Engine engine =
+      new Engine(
+          schedule,
+          (task, delay, unit) -> {
+            ScheduledFuture<?> future = schedule.schedule(task, delay, unit);
+            return () -> future.cancel(false);
+          });
   private Fiber fiber = engine.createFiber();
   private Packet packet = new Packet();
 
@@ -118,6 +124,7 @@ public class FiberTestSupport {
    * @param step the first step to run
    */
   public Packet runSteps(Step step) {
+    fiber = engine.createFiber();
     fiber.start(step, packet, completionCallback);
     return packet;
   }
@@ -128,6 +135,7 @@ public class FiberTestSupport {
    * @param nextStep the first step to run
    */
   public Packet runSteps(StepFactory factory, Step nextStep) {
+    fiber = engine.createFiber();
     fiber.start(factory.createStepList(nextStep), packet, completionCallback);
     return packet;
   }
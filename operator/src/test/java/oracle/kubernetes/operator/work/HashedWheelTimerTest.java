@@ -0,0 +1,142 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import oracle.kubernetes.operator.work.TimeoutScheduler.Timeout;
+import org.junit.Test;
+
+public class HashedWheelTimerTest {
+  private static final long TICK_MILLIS = 100;
+  private static final int WHEEL_SIZE = 8;
+
+  private long nowMillis;
+  private List<String> ran = new ArrayList<>();
+  private HashedWheelTimer timer =
+      new HashedWheelTimer(
+          Runnable::run,
+          null,
+          TICK_MILLIS,
+          WHEEL_SIZE,
+          () -> TimeUnit.MILLISECONDS.toNanos(nowMillis));
+
+  private Timeout schedule(String name, long delayMillis) {
+    return timer.schedule(() -> ran.add(name), delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private void setTime(long millis) {
+    nowMillis = millis;
+    timer.expireTimeouts();
+  }
+
+  @Test
+  public void beforeDelayPasses_timeoutDoesNotRun() {
+    schedule("a", 500);
+
+    setTime(499);
+
+    assertThat(ran, empty());
+    assertThat(timer.getPendingCount(), equalTo(1));
+  }
+
+  @Test
+  public void afterDelayPasses_timeoutRuns() {
+    schedule("a", 500);
+
+    setTime(500);
+
+    assertThat(ran, contains("a"));
+    assertThat(timer.getPendingCount(), equalTo(0));
+    assertThat(timer.getExpiredCount(), equalTo(1L));
+  }
+
+  @Test
+  public void delayNotOnTick_isRoundedUpToNextTick() {
+    schedule("a", 450);
+
+    setTime(450);
+    assertThat(ran, empty());
+
+    setTime(500);
+    assertThat(ran, contains("a"));
+  }
+
+  @Test
+  public void timeoutsRun_inOrderOfTheirDeadlines() {
+    schedule("late", 700);
+    schedule("early", 200);
+
+    setTime(1000);
+
+    assertThat(ran, contains("early", "late"));
+  }
+
+  @Test
+  public void delayLongerThanWheel_waitsForLaterRevolution() {
+    schedule("long", TICK_MILLIS * WHEEL_SIZE * 2 + 300);
+    schedule("short", 300);
+
+    setTime(400);
+    assertThat(ran, contains("short"));
+
+    setTime(TICK_MILLIS * WHEEL_SIZE * 2 + 200);
+    assertThat(ran, contains("short"));
+
+    setTime(TICK_MILLIS * WHEEL_SIZE * 2 + 300);
+    assertThat(ran, contains("short", "long"));
+  }
+
+  @Test
+  public void cancelledTimeout_doesNotRun() {
+    Timeout timeout = schedule("a", 500);
+
+    assertThat(timeout.cancel(), is(true));
+    setTime(1000);
+
+    assertThat(ran, empty());
+    assertThat(timer.getPendingCount(), equalTo(0));
+  }
+
+  @Test
+  public void afterTimeoutRuns_cancelReturnsFalse() {
+    Timeout timeout = schedule("a", 100);
+    setTime(100);
+
+    assertThat(timeout.cancel(), is(false));
+  }
+
+  @Test
+  public void whenTimerWasIdle_newTimeoutIsMeasuredFromNow() {
+    setTime(10_000);
+
+    schedule("a", 200);
+    setTime(10_100);
+    assertThat(ran, empty());
+
+    setTime(10_200);
+    assertThat(ran, contains("a"));
+  }
+
+  @Test
+  public void withTickerThread_timeoutRunsAndTickerStops() throws InterruptedException {
+    CountDownLatch latch = new CountDownLatch(1);
+    HashedWheelTimer realTimer =
+        new HashedWheelTimer(Runnable::run, Thread::new, 10, WHEEL_SIZE, System::nanoTime);
+
+    realTimer.schedule(latch::countDown, 20, TimeUnit.MILLISECONDS);
+
+    assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(realTimer.getPendingCount(), equalTo(0));
+  }
+}
@@ -0,0 +1,349 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import static oracle.kubernetes.operator.work.ReconcileScheduler.Priority.EVENT;
+import static oracle.kubernetes.operator.work.ReconcileScheduler.Priority.RECHECK;
+import static oracle.kubernetes.operator.work.ReconcileScheduler.Priority.USER_ACTION;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import oracle.kubernetes.operator.work.ReconcileScheduler.Priority;
+import org.junit.Test;
+
+public class ReconcileSchedulerTest {
+  private FiberTestSupport testSupport = new FiberTestSupport();
+  private Map<String, Integer> weights = new HashMap<>();
+  private long now;
+  private List<String> started = new ArrayList<>();
+  private Map<String, Fiber> suspended = new HashMap<>();
+  private Map<String, Runnable> waits = new HashMap<>();
+
+  private ReconcileScheduler scheduler = createScheduler(1);
+
+  private ReconcileScheduler createScheduler(int maxConcurrent) {
+    return new ReconcileScheduler(
+        testSupport.createFiberGateStub(),
+        maxConcurrent,
+        ns -> weights.getOrDefault(ns, 1),
+        () -> now);
+  }
+
+  // Records its start, then waits until completed by the test
+  private class HoldStep extends Step {
+    private final String key;
+
+    HoldStep(String key) {
+      super(null);
+      this.key = key;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      started.add(key);
+      return doSuspend(fiber -> suspended.put(key, fiber));
+    }
+  }
+
+  // Records its start, then ends
+  private class RecordStep extends Step {
+    private final String key;
+
+    RecordStep(String key) {
+      super(null);
+      this.key = key;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      started.add(key);
+      return doNext(packet);
+    }
+  }
+
+  // Records its start, then waits, without its slot, until the wait is ended by the test
+  private class WaitStep extends Step {
+    private final String key;
+
+    WaitStep(String key, Step next) {
+      super(next);
+      this.key = key;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      started.add(key);
+      return doSuspend(
+          fiber -> {
+            ReconcileScheduler.beginWait(packet);
+            waits.put(key, () -> ReconcileScheduler.endWait(packet, () -> fiber.resume(packet)));
+          });
+    }
+  }
+
+  private void scheduleWaiting(String namespace, String key) {
+    scheduler.schedule(
+        namespace,
+        key,
+        EVENT,
+        false,
+        new WaitStep(key, new RecordStep(key + "-resumed")),
+        new Packet(),
+        new FiberTestSupport.CompletionCallbackStub());
+  }
+
+  private void endWait(String key) {
+    waits.remove(key).run();
+  }
+
+  private void schedule(String namespace, String key, Priority priority) {
+    scheduler.schedule(
+        namespace,
+        key,
+        priority,
+        false,
+        new HoldStep(key),
+        new Packet(),
+        new FiberTestSupport.CompletionCallbackStub());
+  }
+
+  private void complete(String key) {
+    suspended.remove(key).resume(new Packet());
+  }
+
+  private void completeAll(int count) {
+    for (int i = 0; i < count; i++) {
+      complete(started.get(started.size() - 1));
+    }
+  }
+
+  @Test
+  public void whenCapReached_laterReconcilesWait() {
+    scheduler = createScheduler(2);
+
+    schedule("ns1", "a", EVENT);
+    schedule("ns1", "b", EVENT);
+    schedule("ns1", "c", EVENT);
+
+    assertThat(started, contains("a", "b"));
+    assertThat(scheduler.getRunningCount(), equalTo(2));
+    assertThat(scheduler.getWaitingCount("ns1"), equalTo(1));
+  }
+
+  @Test
+  public void whenReconcileCompletes_nextWaitingReconcileStarts() {
+    scheduler = createScheduler(2);
+    schedule("ns1", "a", EVENT);
+    schedule("ns1", "b", EVENT);
+    schedule("ns1", "c", EVENT);
+
+    complete("a");
+
+    assertThat(started, contains("a", "b", "c"));
+  }
+
+  @Test
+  public void userActions_startBeforeEventsAndRechecks() {
+    schedule("ns0", "blocker", EVENT);
+    schedule("ns1", "recheck", RECHECK);
+    schedule("ns1", "event", EVENT);
+    schedule("ns2", "user", USER_ACTION);
+
+    completeAll(3);
+
+    assertThat(started, contains("blocker", "user", "event", "recheck"));
+  }
+
+  @Test
+  public void namespacesWithEqualWeights_takeTurns() {
+    schedule("ns0", "blocker", EVENT);
+    for (int i = 1; i <= 3; i++) {
+      schedule("ns1", "a" + i, EVENT);
+    }
+    for (int i = 1; i <= 3; i++) {
+      schedule("ns2", "b" + i, EVENT);
+    }
+
+    completeAll(6);
+
+    assertThat(started, contains("blocker", "a1", "b1", "a2", "b2", "a3", "b3"));
+  }
+
+  @Test
+  public void namespaceWithGreaterWeight_isGivenMoreReconciles() {
+    weights.put("ns1", 2);
+    schedule("ns0", "blocker", EVENT);
+    for (int i = 1; i <= 4; i++) {
+      schedule("ns1", "ns1-" + i, EVENT);
+    }
+    for (int i = 1; i <= 4; i++) {
+      schedule("ns2", "ns2-" + i, EVENT);
+    }
+
+    completeAll(6);
+
+    assertThat(countStartedWithPrefix("ns1-"), equalTo(4));
+    assertThat(countStartedWithPrefix("ns2-"), equalTo(2));
+  }
+
+  private int countStartedWithPrefix(String prefix) {
+    int count = 0;
+    for (String key : started) {
+      if (key.startsWith(prefix)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Test
+  public void whenNamespaceHasBacklog_newNamespaceIsNotHeldBehindIt() {
+    schedule("ns0", "blocker", EVENT);
+    for (int i = 1; i <= 10; i++) {
+      schedule("ns1", "retry" + i, RECHECK);
+    }
+    schedule("ns2", "other", RECHECK);
+
+    completeAll(2);
+
+    assertThat(started.indexOf("other"), equalTo(2));
+  }
+
+  @Test
+  public void whenReconcileOfKeyIsWaiting_laterReconcileReplacesIt() {
+    schedule("ns0", "blocker", EVENT);
+    scheduler.schedule(
+        "ns1",
+        "domain",
+        RECHECK,
+        false,
+        new HoldStep("first"),
+        new Packet(),
+        new FiberTestSupport.CompletionCallbackStub());
+    scheduler.schedule(
+        "ns1",
+        "domain",
+        EVENT,
+        true,
+        new HoldStep("second"),
+        new Packet(),
+        new FiberTestSupport.CompletionCallbackStub());
+
+    complete("blocker");
+
+    assertThat(started, contains("blocker", "second"));
+  }
+
+  @Test
+  public void whenKeyIsRunning_reconcileThatMayNotInterruptIsDropped() {
+    schedule("ns1", "domain", EVENT);
+
+    schedule("ns1", "domain", RECHECK);
+
+    assertThat(scheduler.getWaitingCount("ns1"), equalTo(0));
+  }
+
+  @Test
+  public void whenKeyStartedNow_waitingReconcileIsDiscarded() {
+    schedule("ns0", "blocker", EVENT);
+    schedule("ns1", "domain", EVENT);
+
+    scheduler.startNow(
+        "domain",
+        new HoldStep("delete"),
+        new Packet(),
+        new FiberTestSupport.CompletionCallbackStub());
+    complete("blocker");
+
+    assertThat(started, contains("blocker", "delete"));
+  }
+
+  @Test
+  public void queueWaitTimes_areRecordedPerNamespace() {
+    schedule("ns0", "blocker", EVENT);
+    schedule("ns1", "a", EVENT);
+    now += TimeUnit.MILLISECONDS.toNanos(250);
+
+    complete("blocker");
+
+    assertThat(scheduler.getQueueWaitTimes("ns1").getCount(), equalTo(1L));
+    assertThat(scheduler.getQueueWaitTimes("ns1").getSumMillis(), equalTo(250L));
+    assertThat(scheduler.getQueueWaitTimes("ns2").getCount(), equalTo(0L));
+  }
+
+  @Test
+  public void afterReconcilesComplete_noneAreRunning() {
+    schedule("ns1", "a", EVENT);
+    schedule("ns1", "b", EVENT);
+
+    completeAll(2);
+
+    assertThat(started, contains("a", "b"));
+    assertThat(scheduler.getRunningCount(), equalTo(0));
+  }
+
+  @Test
+  public void whileReconcileWaits_otherReconcilesUseItsSlot() {
+    scheduleWaiting("ns1", "a");
+    schedule("ns1", "b", EVENT);
+
+    assertThat(started, contains("a", "b"));
+    assertThat(scheduler.getRunningCount(), equalTo(2));
+    assertThat(scheduler.getSlotsInUse(), equalTo(1));
+  }
+
+  @Test
+  public void whenWaitEndsWithNoSlotFree_fiberResumesOnceSlotIsFree() {
+    scheduleWaiting("ns1", "a");
+    schedule("ns1", "b", EVENT);
+
+    endWait("a");
+    assertThat(started, contains("a", "b"));
+
+    complete("b");
+    assertThat(started, contains("a", "b", "a-resumed"));
+  }
+
+  @Test
+  public void whenWaitEndsWithSlotFree_fiberResumesAtOnce() {
+    scheduler = createScheduler(2);
+    scheduleWaiting("ns1", "a");
+
+    endWait("a");
+
+    assertThat(started, contains("a", "a-resumed"));
+    assertThat(scheduler.getRunningCount(), equalTo(0));
+  }
+
+  @Test
+  public void resumingFibers_goAheadOfReconcilesYetToStart() {
+    scheduleWaiting("ns1", "a");
+    schedule("ns1", "b", EVENT);
+    schedule("ns2", "c", USER_ACTION);
+
+    endWait("a");
+    complete("b");
+
+    assertThat(started, contains("a", "b", "a-resumed", "c"));
+  }
+
+  @Test
+  public void afterNamespacesDrained_theirQueuesAreRemoved() {
+    schedule("ns0", "blocker", EVENT);
+    schedule("ns1", "a", EVENT);
+    schedule("ns2", "b", EVENT);
+
+    completeAll(3);
+    schedule("ns3", "c", EVENT);
+
+    assertThat(scheduler.getQueuedNamespaceCount(), equalTo(0));
+  }
+}
@@ -0,0 +1,175 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.v1;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import io.kubernetes.client.JSON;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.models.V1EnvVar;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1SecretReference;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import org.joda.time.DateTime;
+
+/**
+ * Measures how long a domain takes to decode and encode, by reflection and with the generated type
+ * adapters, for domains of about 1KB, 50KB and 500KB of JSON, and writes the results as JSON. Each
+ * measurement is preceded by a warm-up of the same length. Run with {@code mvn exec:java
+ * -Dexec.classpathScope=test
+ * -Dexec.mainClass=oracle.kubernetes.weblogic.domain.v1.DomainCodecBenchmark -Dexec.args="seconds
+ * outputFile"}; the defaults measure for 2 seconds each and write domain-codec.json.
+ */
+public class DomainCodecBenchmark {
+  private static final int[] TARGET_SIZES = {1_000, 50_000, 500_000};
+
+  // keeps the results reachable, so that the work measured cannot be discarded
+  private static Object sink;
+
+  public static void main(String[] args) throws IOException {
+    long nanos = (long) (Double.parseDouble(args.length > 0 ? args[0] : "2") * 1e9);
+    Path output = Paths.get(args.length > 1 ? args[1] : "domain-codec.json");
+
+    JSON reflective = new JSON();
+    JSON generated = DomainModelJSON.create();
+
+    JsonArray sizes = new JsonArray();
+    for (int target : TARGET_SIZES) {
+      Domain domain = createDomainOfSize(reflective, target);
+      String json = reflective.serialize(domain);
+
+      JsonObject size = new JsonObject();
+      size.addProperty("bytes", json.length());
+      size.addProperty("servers", domain.getStatus().getServers().size());
+      size.add(
+          "decode",
+          compare(
+              nanos,
+              () -> reflective.deserialize(json, Domain.class),
+              () -> generated.deserialize(json, Domain.class)));
+      size.add(
+          "encode",
+          compare(nanos, () -> reflective.serialize(domain), () -> generated.serialize(domain)));
+      sizes.add(size);
+    }
+
+    JsonObject results = new JsonObject();
+    results.addProperty("javaVersion", System.getProperty("java.version"));
+    results.add("sizes", sizes);
+
+    String json = new GsonBuilder().setPrettyPrinting().create().toJson(results);
+    Files.write(output, json.getBytes(StandardCharsets.UTF_8));
+    System.out.println(json);
+  }
+
+  private static JsonObject compare(long nanos, Supplier<?> reflective, Supplier<?> generated) {
+    JsonObject result = new JsonObject();
+    double reflectiveMicros = measure(nanos, reflective);
+    double generatedMicros = measure(nanos, generated);
+    result.addProperty("reflectiveMicros", reflectiveMicros);
+    result.addProperty("generatedMicros", generatedMicros);
+    result.addProperty("speedup", reflectiveMicros / generatedMicros);
+    return result;
+  }
+
+  // returns the mean time of an operation in microseconds
+  private static double measure(long nanos, Supplier<?> operation) {
+    run(nanos, operation);
+    return run(nanos, operation) / 1000.0;
+  }
+
+  private static double run(long nanos, Supplier<?> operation) {
+    long start = System.nanoTime();
+    long end = start + nanos;
+    long count = 0;
+    long now;
+    do {
+      sink = operation.get();
+      count++;
+    } while ((now = System.nanoTime()) < end);
+    return (double) (now - start) / count;
+  }
+
+  // Adds servers, with a spec entry and a status for each, until the domain reaches the target size
+  private static Domain createDomainOfSize(JSON json, int targetSize) {
+    Domain domain = createDomain();
+    for (int i = 0; json.serialize(domain).length() < targetSize; i++) {
+      addServer(domain, "managed-server" + i);
+    }
+    return domain;
+  }
+
+  private static Domain createDomain() {
+    DomainSpec spec =
+        new DomainSpec()
+            .withDomainUID("domain1")
+            .withDomainName("base_domain")
+            .withImage("store/oracle/weblogic:12.2.1.3")
+            .withImagePullPolicy("IfNotPresent")
+            .withAdminSecret(new V1SecretReference().name("domain1-weblogic-credentials"))
+            .withAsName("admin-server")
+            .withAsPort(7001)
+            .withStartupControl("AUTO")
+            .withCluster(
+                "cluster-1", new Cluster().withReplicas(2).withMaxUnavailable(new IntOrString(1)));
+    return new Domain()
+        .withApiVersion("weblogic.oracle/v1")
+        .withKind("Domain")
+        .withMetadata(
+            new V1ObjectMeta()
+                .name("domain1")
+                .namespace("benchmark")
+                .uid("0d5c8b0e-4d2e-11e8-9c2d-fa7ae01bbebc")
+                .resourceVersion("123456")
+                .creationTimestamp(DateTime.now())
+                .putLabelsItem("weblogic.domainUID", "domain1"))
+        .withSpec(spec)
+        .withStatus(new DomainStatus().withStartTime(DateTime.now()));
+  }
+
+  private static void addServer(Domain domain, String serverName) {
+    List<V1EnvVar> env = new ArrayList<>();
+    env.add(new V1EnvVar().name("JAVA_OPTIONS").value("-Dweblogic.StdoutDebugEnabled=false"));
+    env.add(new V1EnvVar().name("USER_MEM_ARGS").value("-Xms64m -Xmx256m"));
+    domain
+        .getSpec()
+        .getClusters()
+        .get("cluster-1")
+        .withServer(
+            serverName,
+            new ClusteredServer()
+                .withClusteredServerStartPolicy("IF_NEEDED")
+                .withStartedServerState("RUNNING")
+                .withEnv(env));
+    domain
+        .getStatus()
+        .getServers()
+        .add(
+            new ServerStatus()
+                .withServerName(serverName)
+                .withState("RUNNING")
+                .withClusterName("cluster-1")
+                .withNodeName("worker-" + (serverName.hashCode() & 0xf))
+                .withHealth(
+                    new ServerHealth()
+                        .withActivationTime(DateTime.now())
+                        .withOverallHealth("ok")
+                        .withSubsystems(
+                            Arrays.asList(
+                                new SubsystemHealth().withSubsystemName("jms").withHealth("ok"),
+                                new SubsystemHealth()
+                                    .withSubsystemName("jdbc")
+                                    .withHealth("ok")))));
+  }
+}
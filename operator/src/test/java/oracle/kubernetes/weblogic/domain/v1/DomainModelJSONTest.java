@@ -0,0 +1,241 @@
+// Copyright 2018, Oracle Corporation and/or its affiliates.  All rights reserved.
+// Licensed under the Universal Permissive License v 1.0 as shown at
+// http://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.weblogic.domain.v1;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import com.google.gson.reflect.TypeToken;
+import io.kubernetes.client.JSON;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.models.V1EnvVar;
+import io.kubernetes.client.models.V1ListMeta;
+import io.kubernetes.client.models.V1LocalObjectReference;
+import io.kubernetes.client.models.V1ObjectMeta;
+import io.kubernetes.client.models.V1SecretReference;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+
+public class DomainModelJSONTest {
+  private static final DateTime TIME = new DateTime(2018, 5, 1, 12, 30, DateTimeZone.UTC);
+
+  private JSON reflective = new JSON();
+  private JSON generated = DomainModelJSON.create();
+
+  private static V1EnvVar createEnvVar() {
+    return new V1EnvVar().name("JAVA_OPTIONS").value("-Dweblogic.StdoutDebugEnabled=false");
+  }
+
+  private static NonClusteredServer createNonClusteredServer() {
+    return new NonClusteredServer()
+        .withNonClusteredServerStartPolicy("ALWAYS")
+        .withStartedServerState("RUNNING")
+        .withRestartedLabel("restart1")
+        .withNodePort(30701)
+        .withEnv(Collections.singletonList(createEnvVar()))
+        .withImage("store/oracle/weblogic:12.2.1.3")
+        .withImagePullPolicy("IfNotPresent")
+        .withImagePullSecrets(Collections.singletonList(new V1LocalObjectReference().name("s1")))
+        .withShutdownPolicy("GRACEFUL_SHUTDOWN")
+        .withGracefulShutdownTimeout(30)
+        .withGracefulShutdownIgnoreSessions(true)
+        .withGracefulShutdownWaitForSessions(false);
+  }
+
+  private static ClusteredServer createClusteredServer() {
+    return new ClusteredServer()
+        .withClusteredServerStartPolicy("IF_NEEDED")
+        .withStartedServerState("ADMIN")
+        .withNodePort(30801)
+        .withEnv(Collections.singletonList(createEnvVar()));
+  }
+
+  private static Domain createDomain() {
+    Server serverDefaults = new Server();
+    serverDefaults.setImage("store/oracle/weblogic:12.2.1.3");
+    serverDefaults.setGracefulShutdownTimeout(60);
+
+    DomainSpec spec =
+        new DomainSpec()
+            .withDomainUID("uid1")
+            .withDomainName("base_domain")
+            .withImage("store/oracle/weblogic:12.2.1.3")
+            .withImagePullPolicy("IfNotPresent")
+            .withImagePullSecretName("pull-secret")
+            .withAdminSecret(new V1SecretReference().name("admin-secret").namespace("ns1"))
+            .withAsName("admin-server")
+            .withAsPort(7001)
+            .withStartupControl("AUTO")
+            .withServerStartup(
+                Collections.singletonList(
+                    new ServerStartup()
+                        .withDesiredState("RUNNING")
+                        .withServerName("admin-server")
+                        .withNodePort(30701)
+                        .withEnv(Collections.singletonList(createEnvVar()))))
+            .withClusterStartup(
+                Collections.singletonList(
+                    new ClusterStartup()
+                        .withDesiredState("RUNNING")
+                        .withClusterName("cluster-1")
+                        .withReplicas(3)
+                        .withMaxUnavailable(new IntOrString(1))
+                        .withMaxSurge(new IntOrString("25%"))
+                        .withEnv(Collections.singletonList(createEnvVar()))))
+            .withReplicas(2)
+            .withServerDefaults(serverDefaults)
+            .withNonClusteredServerDefaults(createNonClusteredServer())
+            .withServer("admin-server", createNonClusteredServer())
+            .withClusterDefaults(
+                new ClusterParams()
+                    .withReplicas(2)
+                    .withMaxSurge(new IntOrString(1))
+                    .withMaxUnavailable(new IntOrString("10%"))
+                    .withServerDefaults(createClusteredServer()))
+            .withCluster(
+                "cluster-1",
+                new Cluster()
+                    .withReplicas(3)
+                    .withMaxUnavailable(new IntOrString(1))
+                    .withServerDefaults(createClusteredServer())
+                    .withServer("managed-server1", createClusteredServer()));
+    spec.setExportT3Channels(Arrays.asList("channel1", "channel2"));
+
+    DomainStatus status =
+        new DomainStatus()
+            .withConditions(
+                Collections.singletonList(
+                    new DomainCondition()
+                        .withType("Available")
+                        .withStatus("True")
+                        .withReason("ServersReady")
+                        .withMessage("All servers are ready")
+                        .withLastProbeTime(TIME)
+                        .withLastTransitionTime(TIME)))
+            .withObservedGeneration(4L)
+            .withMessage("running")
+            .withReason("Ready")
+            .withServers(
+                Collections.singletonList(
+                    new ServerStatus()
+                        .withServerName("managed-server1")
+                        .withState("RUNNING")
+                        .withClusterName("cluster-1")
+                        .withNodeName("node1")
+                        .withHealth(
+                            new ServerHealth()
+                                .withActivationTime(TIME)
+                                .withOverallHealth("ok")
+                                .withSubsystems(
+                                    Collections.singletonList(
+                                        new SubsystemHealth()
+                                            .withSubsystemName("jms")
+                                            .withHealth("ok")
+                                            .withSymptoms(Arrays.asList("a", "b")))))))
+            .withStartTime(TIME);
+
+    return new Domain()
+        .withApiVersion("weblogic.oracle/v1")
+        .withKind("Domain")
+        .withMetadata(
+            new V1ObjectMeta()
+                .name("domain1")
+                .namespace("ns1")
+                .resourceVersion("17")
+                .creationTimestamp(TIME)
+                .putLabelsItem("weblogic.domainUID", "uid1"))
+        .withSpec(spec)
+        .withStatus(status);
+  }
+
+  @Test
+  public void generatedAdapter_isUsedForDomain() {
+    assertThat(
+        generated.getGson().getAdapter(Domain.class).getClass().getEnclosingClass(),
+        equalTo(DomainModelTypeAdapterFactory.class));
+  }
+
+  @Test
+  public void encodedDomain_matchesReflectiveEncoding() {
+    Domain domain = createDomain();
+
+    assertThat(generated.serialize(domain), equalTo(reflective.serialize(domain)));
+  }
+
+  @Test
+  public void decodedDomain_matchesReflectiveDecoding() {
+    String json = reflective.serialize(createDomain());
+
+    Domain decoded = generated.deserialize(json, Domain.class);
+
+    assertThat(decoded, equalTo(reflective.deserialize(json, Domain.class)));
+  }
+
+  @Test
+  public void decodedDomainList_matchesReflectiveDecoding() {
+    DomainList list =
+        new DomainList()
+            .withApiVersion("weblogic.oracle/v1")
+            .withKind("DomainList")
+            .withMetadata(new V1ListMeta().resourceVersion("21"))
+            .withItems(Arrays.asList(createDomain(), createDomain()));
+    String json = reflective.serialize(list);
+
+    DomainList decoded = generated.deserialize(json, DomainList.class);
+
+    assertThat(decoded, equalTo(reflective.deserialize(json, DomainList.class)));
+    assertThat(generated.serialize(decoded), equalTo(json));
+  }
+
+  @Test
+  public void whenDecodingDomain_unknownFieldsAreIgnored() {
+    Domain decoded =
+        generated.deserialize(
+            "{\"kind\":\"Domain\",\"extra\":{\"a\":[1,2]},\"spec\":{\"asPort\":7001,\"x\":null}}",
+            Domain.class);
+
+    assertThat(decoded.getKind(), equalTo("Domain"));
+    assertThat(decoded.getSpec().getAsPort(), equalTo(7001));
+  }
+
+  @Test
+  public void whenDecodingDomain_nullFieldsAreNull() {
+    Domain decoded =
+        generated.deserialize("{\"kind\":null,\"spec\":{\"asName\":null}}", Domain.class);
+
+    assertThat(decoded.getKind(), nullValue());
+    assertThat(decoded.getSpec().getAsName(), nullValue());
+  }
+
+  @Test
+  public void decodedServerMaps_holdSubclassFields() {
+    String json = reflective.serialize(createDomain());
+
+    Domain decoded = generated.deserialize(json, Domain.class);
+    DomainSpec spec = decoded.getSpec();
+
+    assertThat(
+        spec.getServers().get("admin-server").getNonClusteredServerStartPolicy(),
+        equalTo("ALWAYS"));
+    assertThat(
+        spec.getClusters().get("cluster-1").getServers().get("managed-server1").getNodePort(),
+        equalTo(30801));
+  }
+
+  @Test
+  public void listOfModelObjects_isDecodedWithGeneratedAdapters() {
+    String json = "[{\"serverName\":\"ms1\",\"state\":\"RUNNING\"}]";
+
+    assertThat(
+        generated.deserialize(json, new TypeToken<List<ServerStatus>>() {}.getType()),
+        contains(new ServerStatus().withServerName("ms1").withState("RUNNING")));
+  }
+}